@@ -62,13 +62,27 @@ testModuleInfo {
 
 jmhModuleInfo {
     requires("com.hedera.node.app")
+    requires("com.hedera.node.app.hapi.fees")
     requires("com.hedera.node.app.hapi.utils")
+    requires("com.hedera.node.app.service.contract.impl")
+    requires("com.hedera.node.app.service.file.impl")
+    requires("com.hedera.node.app.service.token")
+    requires("com.hedera.node.app.service.token.impl")
+    requires("com.hedera.node.app.spi")
     requires("com.hedera.node.app.spi.test.fixtures")
     requires("com.hedera.node.app.test.fixtures")
+    requires("com.hedera.node.config")
+    requires("com.hedera.node.config.test.fixtures")
     requires("com.hedera.node.hapi")
     requires("com.hedera.pbj.runtime")
     requires("com.swirlds.common")
+    requires("com.swirlds.config.api")
+    requires("com.swirlds.state.api")
+    requires("com.swirlds.state.api.test.fixtures")
+    requires("headlong")
     requires("jmh.core")
+    requires("org.hyperledger.besu.datatypes")
+    requires("tuweni.bytes")
 }
 
 // Add all the libs dependencies into the jar manifest!
@@ -0,0 +1,356 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.contract;
+
+import com.esaulpaugh.headlong.abi.Address;
+import com.esaulpaugh.headlong.abi.Function;
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.transaction.ExchangeRate;
+import com.hedera.node.app.hapi.fees.pricing.AssetsLoader;
+import com.hedera.node.app.service.contract.impl.exec.gas.CanonicalDispatchPrices;
+import com.hedera.node.app.service.contract.impl.exec.gas.CustomGasCalculator;
+import com.hedera.node.app.service.contract.impl.exec.gas.SystemContractGasCalculator;
+import com.hedera.node.app.service.contract.impl.exec.gas.TinybarValues;
+import com.hedera.node.app.service.contract.impl.exec.scope.HederaNativeOperations;
+import com.hedera.node.app.service.contract.impl.exec.scope.HederaOperations;
+import com.hedera.node.app.service.contract.impl.exec.scope.SystemContractOperations;
+import com.hedera.node.app.service.contract.impl.exec.scope.VerificationStrategies;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.AbstractCallAttempt;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslatorTable;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.HasCallAttempt;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.getevmaddressalias.EvmAddressAliasTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.hbarallowance.HbarAllowanceTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.hbarapprove.HbarApproveTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.hederaaccountnumalias.HederaAccountNumAliasTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.isauthorizedraw.IsAuthorizedRawTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.isvalidalias.IsValidAliasTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.AddressIdConverter;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.allowance.GetAllowanceTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.associations.AssociationsDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.associations.AssociationsTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.balanceof.BalanceOfTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.burn.BurnDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.burn.BurnTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.create.CreateDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.create.CreateTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.customfees.TokenCustomFeesTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.decimals.DecimalsTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.defaultfreezestatus.DefaultFreezeStatusTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.defaultkycstatus.DefaultKycStatusTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.delete.DeleteTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.freeze.FreezeUnfreezeDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.freeze.FreezeUnfreezeTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.fungibletokeninfo.FungibleTokenInfoTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.getapproved.GetApprovedTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.grantapproval.GrantApprovalDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.grantapproval.GrantApprovalTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.grantrevokekyc.GrantRevokeKycDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.grantrevokekyc.GrantRevokeKycTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.isapprovedforall.IsApprovedForAllTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.isassociated.IsAssociatedTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.isfrozen.IsFrozenTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.iskyc.IsKycTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.istoken.IsTokenTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.mint.MintDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.mint.MintTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.name.NameTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.nfttokeninfo.NftTokenInfoTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ownerof.OwnerOfTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.pauses.PausesDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.pauses.PausesTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.setapproval.SetApprovalForAllDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.setapproval.SetApprovalForAllTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.symbol.SymbolTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.tokenexpiry.TokenExpiryTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.tokeninfo.TokenInfoTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.tokenkey.TokenKeyTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.tokentype.TokenTypeTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.tokenuri.TokenUriTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.totalsupply.TotalSupplyTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.transfer.ClassicTransfersDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.transfer.ClassicTransfersTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.transfer.Erc20TransfersTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.transfer.Erc721TransferFromTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.update.UpdateDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.update.UpdateExpiryTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.update.UpdateKeysTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.update.UpdateTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.updatetokencustomfees.UpdateTokenCustomFeesDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.updatetokencustomfees.UpdateTokenCustomFeesTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.wipe.WipeDecoder;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.wipe.WipeTranslator;
+import com.hedera.node.app.service.contract.impl.exec.v051.Version051FeatureFlags;
+import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.swirlds.config.api.Configuration;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures finding the translator of an HTS or HAS system contract call, both by offering the call attempt to every
+ * registered translator in turn, as the call attempts used to, and by offering it only to the candidates that a
+ * {@link CallTranslatorTable} returns for its selector. The translators are registered in the same order as in the
+ * HTS and HAS translator modules, and the {@code function} parameter picks a call whose translator comes early,
+ * midway or last in that order.
+ *
+ * <p>The attempts are direct calls to the system contracts rather than token or account redirects, so that matching
+ * them only needs their selector and the configuration.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class CallTranslatorDispatchBenchmark {
+    private static final org.hyperledger.besu.datatypes.Address SENDER =
+            org.hyperledger.besu.datatypes.Address.fromHexString("0x00000000000000000000000000000000000003e9");
+
+    public static void main(String... args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] {"com.hedera.node.app.contract.CallTranslatorDispatchBenchmark"});
+    }
+
+    @Param({
+        "associateToken",
+        "mintToken",
+        "getTokenInfo",
+        "updateFungibleTokenCustomFees",
+        "hbarApprove",
+        "isAuthorizedRaw"
+    })
+    private String function;
+
+    private Dispatch<?> dispatch;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var config = HederaTestConfigBuilder.createConfig();
+        final var enhancement = new HederaWorldUpdater.Enhancement(
+                unsupported(HederaOperations.class),
+                unsupported(HederaNativeOperations.class),
+                unsupported(SystemContractOperations.class));
+        final var gasCalculator = new SystemContractGasCalculator(
+                TinybarValues.forQueryWith(new ExchangeRate(1, 12, null)),
+                new CanonicalDispatchPrices(new AssetsLoader()),
+                (body, payerId) -> 0L);
+        final var verificationStrategies = new VerificationStrategies();
+        dispatch = switch (function) {
+            case "associateToken" -> htsDispatch(
+                    AssociationsTranslator.ASSOCIATE_ONE, config, enhancement, verificationStrategies, gasCalculator);
+            case "mintToken" -> htsDispatch(
+                    MintTranslator.MINT_V2, config, enhancement, verificationStrategies, gasCalculator);
+            case "getTokenInfo" -> htsDispatch(
+                    TokenInfoTranslator.TOKEN_INFO, config, enhancement, verificationStrategies, gasCalculator);
+            case "updateFungibleTokenCustomFees" -> htsDispatch(
+                    UpdateTokenCustomFeesTranslator.UPDATE_FUNGIBLE_TOKEN_CUSTOM_FEES_FUNCTION,
+                    config,
+                    enhancement,
+                    verificationStrategies,
+                    gasCalculator);
+            case "hbarApprove" -> hasDispatch(
+                    HbarApproveTranslator.HBAR_APPROVE, config, enhancement, verificationStrategies, gasCalculator);
+            case "isAuthorizedRaw" -> hasDispatch(
+                    IsAuthorizedRawTranslator.IS_AUTHORIZED_RAW,
+                    config,
+                    enhancement,
+                    verificationStrategies,
+                    gasCalculator);
+            default -> throw new IllegalArgumentException("Unknown function " + function);
+        };
+        if (dispatch.linearScan() != dispatch.selectorTable()) {
+            throw new IllegalStateException("The selector table chose a different translator for " + function);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void linearScan(@NonNull final Blackhole blackhole) {
+        blackhole.consume(dispatch.linearScan());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void selectorTable(@NonNull final Blackhole blackhole) {
+        blackhole.consume(dispatch.selectorTable());
+    }
+
+    /**
+     * The translators of one system contract, in registration order, and an attempt to call it.
+     */
+    private record Dispatch<T extends AbstractCallAttempt<T>>(
+            @NonNull List<CallTranslator<T>> translators, @NonNull CallTranslatorTable<T> table, @NonNull T attempt) {
+        @Nullable
+        CallTranslator<T> linearScan() {
+            for (final var translator : translators) {
+                if (translator.matches(attempt)) {
+                    return translator;
+                }
+            }
+            return null;
+        }
+
+        @Nullable
+        CallTranslator<T> selectorTable() {
+            for (final var translator : table.candidatesFor(attempt.selector())) {
+                if (translator.matches(attempt)) {
+                    return translator;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static Dispatch<HtsCallAttempt> htsDispatch(
+            @NonNull final Function function,
+            @NonNull final Configuration config,
+            @NonNull final HederaWorldUpdater.Enhancement enhancement,
+            @NonNull final VerificationStrategies verificationStrategies,
+            @NonNull final SystemContractGasCalculator gasCalculator) {
+        final List<CallTranslator<HtsCallAttempt>> translators = List.of(
+                new AssociationsTranslator(new AssociationsDecoder()),
+                new IsAssociatedTranslator(),
+                new Erc20TransfersTranslator(),
+                new Erc721TransferFromTranslator(),
+                new ClassicTransfersTranslator(new ClassicTransfersDecoder()),
+                new MintTranslator(new MintDecoder()),
+                new BurnTranslator(new BurnDecoder()),
+                new CreateTranslator(new CreateDecoder()),
+                new BalanceOfTranslator(),
+                new IsApprovedForAllTranslator(),
+                new NameTranslator(),
+                new SymbolTranslator(),
+                new TotalSupplyTranslator(),
+                new OwnerOfTranslator(),
+                new SetApprovalForAllTranslator(new SetApprovalForAllDecoder()),
+                new DecimalsTranslator(),
+                new TokenUriTranslator(),
+                new GetAllowanceTranslator(),
+                new GrantApprovalTranslator(new GrantApprovalDecoder()),
+                new PausesTranslator(new PausesDecoder()),
+                new GrantRevokeKycTranslator(new GrantRevokeKycDecoder()),
+                new GetApprovedTranslator(),
+                new WipeTranslator(new WipeDecoder()),
+                new IsFrozenTranslator(),
+                new IsKycTranslator(),
+                new IsTokenTranslator(),
+                new TokenTypeTranslator(),
+                new DefaultFreezeStatusTranslator(),
+                new DefaultKycStatusTranslator(),
+                new FreezeUnfreezeTranslator(new FreezeUnfreezeDecoder()),
+                new DeleteTranslator(),
+                new TokenExpiryTranslator(),
+                new TokenKeyTranslator(),
+                new UpdateTranslator(new UpdateDecoder()),
+                new TokenCustomFeesTranslator(),
+                new TokenInfoTranslator(),
+                new UpdateExpiryTranslator(new UpdateDecoder()),
+                new FungibleTokenInfoTranslator(),
+                new NftTokenInfoTranslator(),
+                new UpdateKeysTranslator(new UpdateDecoder()),
+                new UpdateTokenCustomFeesTranslator(new UpdateTokenCustomFeesDecoder()));
+        final var table = new CallTranslatorTable<>(translators);
+        final var attempt = new HtsCallAttempt(
+                Bytes.wrap(function.selector()),
+                SENDER,
+                SENDER,
+                false,
+                enhancement,
+                config,
+                new FixedIdConverter(),
+                verificationStrategies,
+                gasCalculator,
+                table,
+                false);
+        return new Dispatch<>(translators, table, attempt);
+    }
+
+    private static Dispatch<HasCallAttempt> hasDispatch(
+            @NonNull final Function function,
+            @NonNull final Configuration config,
+            @NonNull final HederaWorldUpdater.Enhancement enhancement,
+            @NonNull final VerificationStrategies verificationStrategies,
+            @NonNull final SystemContractGasCalculator gasCalculator) {
+        final List<CallTranslator<HasCallAttempt>> translators = List.of(
+                new HbarAllowanceTranslator(),
+                new HbarApproveTranslator(),
+                new EvmAddressAliasTranslator(),
+                new HederaAccountNumAliasTranslator(),
+                new IsValidAliasTranslator(),
+                new IsAuthorizedRawTranslator(new Version051FeatureFlags(), new CustomGasCalculator()));
+        final var table = new CallTranslatorTable<>(translators);
+        final var attempt = new HasCallAttempt(
+                Bytes.wrap(function.selector()),
+                SENDER,
+                SENDER,
+                false,
+                enhancement,
+                config,
+                new FixedIdConverter(),
+                verificationStrategies,
+                gasCalculator,
+                table,
+                false);
+        return new Dispatch<>(translators, table, attempt);
+    }
+
+    /**
+     * Returns an implementation of the given interface that fails on every call, for the collaborators that
+     * matching a direct call to a system contract never uses.
+     */
+    private static <T> T unsupported(@NonNull final Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            throw new UnsupportedOperationException(method.getName());
+        }));
+    }
+
+    /**
+     * Converts every address to the same account id, as only the sender's id is looked up when creating an attempt.
+     */
+    private static class FixedIdConverter implements AddressIdConverter {
+        private static final AccountID SENDER_ID =
+                AccountID.newBuilder().accountNum(1001L).build();
+
+        @Override
+        public AccountID convert(@NonNull final Address address) {
+            return SENDER_ID;
+        }
+
+        @Override
+        public AccountID convertCredit(@NonNull final Address address) {
+            return SENDER_ID;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.fees;
+
+import static com.hedera.hapi.node.base.TokenType.FUNGIBLE_COMMON;
+import static com.hedera.hapi.node.base.TokenType.NON_FUNGIBLE_UNIQUE;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ACCOUNTS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ALIASES_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.TOKENS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.TOKEN_RELS_KEY;
+
+import com.hedera.hapi.node.base.AccountAmount;
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.Fraction;
+import com.hedera.hapi.node.base.NftTransfer;
+import com.hedera.hapi.node.base.TokenID;
+import com.hedera.hapi.node.base.TokenTransferList;
+import com.hedera.hapi.node.base.TokenType;
+import com.hedera.hapi.node.base.TransferList;
+import com.hedera.hapi.node.state.common.EntityIDPair;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.hapi.node.state.token.Token;
+import com.hedera.hapi.node.state.token.TokenRelation;
+import com.hedera.hapi.node.token.CryptoTransferTransactionBody;
+import com.hedera.hapi.node.transaction.CustomFee;
+import com.hedera.hapi.node.transaction.FixedFee;
+import com.hedera.hapi.node.transaction.FractionalFee;
+import com.hedera.hapi.node.transaction.RoyaltyFee;
+import com.hedera.node.app.service.token.ReadableAccountStore;
+import com.hedera.node.app.service.token.ReadableTokenRelationStore;
+import com.hedera.node.app.service.token.ReadableTokenStore;
+import com.hedera.node.app.service.token.impl.ReadableAccountStoreImpl;
+import com.hedera.node.app.service.token.impl.ReadableTokenRelationStoreImpl;
+import com.hedera.node.app.service.token.impl.ReadableTokenStoreImpl;
+import com.hedera.node.app.service.token.impl.handlers.transfer.CustomFeeAssessmentStep;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.state.test.fixtures.MapReadableKVState;
+import com.swirlds.state.test.fixtures.MapReadableStates;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures custom fee assessment for a CryptoTransfer that moves a fungible token with a fractional fee and an NFT
+ * with a royalty fee, where the fungible token also charges a fixed fee that triggers {@code levels} levels of
+ * nested custom fees.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class CustomFeeAssessmentBenchmark {
+    private static final AccountID TREASURY = accountId(2);
+    private static final AccountID SENDER = accountId(1001);
+    private static final AccountID RECEIVER = accountId(1002);
+    private static final long FIRST_COLLECTOR_NUM = 1100;
+    private static final long FIRST_FUNGIBLE_TOKEN_NUM = 3001;
+    private static final TokenID NFT_TOKEN = tokenId(4001);
+    private static final long BALANCE = 1_000_000_000L;
+
+    public static void main(String... args) throws Exception {
+        org.openjdk.jmh.Main.main(
+                new String[] {"com.hedera.node.app.fees.CustomFeeAssessmentBenchmark.assessCustomFees"});
+    }
+
+    @Param({"1", "2", "3"})
+    private int levels;
+
+    private Configuration config;
+    private ReadableTokenStore tokenStore;
+    private ReadableTokenRelationStore tokenRelStore;
+    private ReadableAccountStore accountStore;
+    private CryptoTransferTransactionBody op;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        config = HederaTestConfigBuilder.createConfig();
+
+        // The fungible token being transferred is first in the chain; the fixed fee of each token in the chain is
+        // denominated in the next one, and the last one charges a fixed hbar fee
+        final Map<TokenID, Token> tokens = new HashMap<>();
+        final List<TokenID> chain = new ArrayList<>();
+        for (int i = 0; i < levels; i++) {
+            chain.add(tokenId(FIRST_FUNGIBLE_TOKEN_NUM + i));
+        }
+        for (int i = 0; i < levels; i++) {
+            final var collector = accountId(FIRST_COLLECTOR_NUM + i);
+            final var denomination = i + 1 < levels ? chain.get(i + 1) : null;
+            final List<CustomFee> fees = new ArrayList<>();
+            fees.add(fixedFee(10, denomination, collector));
+            if (i == 0) {
+                fees.add(CustomFee.newBuilder()
+                        .fractionalFee(FractionalFee.newBuilder()
+                                .fractionalAmount(new Fraction(1, 100))
+                                .minimumAmount(1)
+                                .build())
+                        .feeCollectorAccountId(collector)
+                        .build());
+            }
+            tokens.put(chain.get(i), token(chain.get(i), FUNGIBLE_COMMON, fees));
+        }
+        final var royaltyCollector = accountId(FIRST_COLLECTOR_NUM + levels);
+        tokens.put(
+                NFT_TOKEN,
+                token(
+                        NFT_TOKEN,
+                        NON_FUNGIBLE_UNIQUE,
+                        List.of(CustomFee.newBuilder()
+                                .royaltyFee(RoyaltyFee.newBuilder()
+                                        .exchangeValueFraction(new Fraction(1, 10))
+                                        .fallbackFee(FixedFee.newBuilder().amount(100).build())
+                                        .build())
+                                .feeCollectorAccountId(royaltyCollector)
+                                .build())));
+
+        final List<AccountID> accountIds = new ArrayList<>(List.of(TREASURY, SENDER, RECEIVER));
+        for (int i = 0; i <= levels; i++) {
+            accountIds.add(accountId(FIRST_COLLECTOR_NUM + i));
+        }
+        final Map<AccountID, Account> accounts = new HashMap<>();
+        final Map<EntityIDPair, TokenRelation> tokenRels = new HashMap<>();
+        for (final var accountId : accountIds) {
+            accounts.put(
+                    accountId,
+                    Account.newBuilder()
+                            .accountId(accountId)
+                            .tinybarBalance(BALANCE)
+                            .build());
+            for (final var tokenId : tokens.keySet()) {
+                tokenRels.put(
+                        new EntityIDPair(accountId, tokenId),
+                        TokenRelation.newBuilder()
+                                .accountId(accountId)
+                                .tokenId(tokenId)
+                                .balance(BALANCE)
+                                .kycGranted(true)
+                                .build());
+            }
+        }
+        final var states = MapReadableStates.builder()
+                .state(new MapReadableKVState<>(TOKENS_KEY, tokens))
+                .state(new MapReadableKVState<>(TOKEN_RELS_KEY, tokenRels))
+                .state(new MapReadableKVState<>(ACCOUNTS_KEY, accounts))
+                .state(new MapReadableKVState<>(ALIASES_KEY, new HashMap<>()))
+                .build();
+        tokenStore = new ReadableTokenStoreImpl(states);
+        tokenRelStore = new ReadableTokenRelationStoreImpl(states);
+        accountStore = new ReadableAccountStoreImpl(states);
+
+        op = CryptoTransferTransactionBody.newBuilder()
+                .transfers(TransferList.newBuilder()
+                        .accountAmounts(adjust(RECEIVER, -5_000), adjust(SENDER, 5_000))
+                        .build())
+                .tokenTransfers(
+                        TokenTransferList.newBuilder()
+                                .token(chain.getFirst())
+                                .transfers(adjust(SENDER, -10_000), adjust(RECEIVER, 10_000))
+                                .build(),
+                        TokenTransferList.newBuilder()
+                                .token(NFT_TOKEN)
+                                .nftTransfers(NftTransfer.newBuilder()
+                                        .senderAccountID(SENDER)
+                                        .receiverAccountID(RECEIVER)
+                                        .serialNumber(1)
+                                        .build())
+                                .build())
+                .build();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void assessCustomFees(@NonNull final Blackhole blackhole) {
+        final var result = new CustomFeeAssessmentStep(op)
+                .assessFees(tokenStore, tokenRelStore, config, accountStore, accountId -> false);
+        if (result.assessedTxns().size() != levels + 1) {
+            throw new IllegalStateException("Expected " + (levels + 1) + " levels but got " + result.assessedTxns());
+        }
+        blackhole.consume(result);
+    }
+
+    private static CustomFee fixedFee(final long amount, final TokenID denomination, final AccountID collector) {
+        final var fixedFee = FixedFee.newBuilder().amount(amount);
+        if (denomination != null) {
+            fixedFee.denominatingTokenId(denomination);
+        }
+        return CustomFee.newBuilder()
+                .fixedFee(fixedFee.build())
+                .feeCollectorAccountId(collector)
+                .build();
+    }
+
+    private static Token token(final TokenID tokenId, final TokenType type, final List<CustomFee> fees) {
+        return Token.newBuilder()
+                .tokenId(tokenId)
+                .tokenType(type)
+                .treasuryAccountId(TREASURY)
+                .totalSupply(BALANCE)
+                .customFees(fees)
+                .build();
+    }
+
+    private static AccountAmount adjust(final AccountID accountId, final long amount) {
+        return AccountAmount.newBuilder().accountID(accountId).amount(amount).build();
+    }
+
+    private static AccountID accountId(final long num) {
+        return AccountID.newBuilder().accountNum(num).build();
+    }
+
+    private static TokenID tokenId(final long num) {
+        return TokenID.newBuilder().tokenNum(num).build();
+    }
+}
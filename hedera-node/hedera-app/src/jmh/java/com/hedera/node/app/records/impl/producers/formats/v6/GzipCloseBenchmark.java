@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.records.impl.producers.formats.v6;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how long it takes to close a compressing record or sidecar file stream, which happens on the block
+ * boundary. The file contents are written before each measured call, so only the work left for {@code close()} is
+ * measured. A chunk size of 0 is the single-threaded {@link java.util.zip.GZIPOutputStream}.
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class GzipCloseBenchmark {
+    public static void main(String... args) throws Exception {
+        org.openjdk.jmh.Main.main(
+                new String[] {"com.hedera.node.app.records.impl.producers.formats.v6.GzipCloseBenchmark.close"});
+    }
+
+    @Param({"0", "64", "1024"})
+    private int chunkSizeKb;
+
+    @Param({"20", "200", "2000"})
+    private int fileSizeKb;
+
+    private byte[] record;
+    private ByteArrayOutputStream file;
+    private OutputStream gzip;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        record = new byte[500];
+        final Random random = new Random(42);
+        // compressible, but not trivially so
+        for (int i = 0; i < record.length; i++) {
+            record[i] = (byte) random.nextInt(16);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void writeFile() throws IOException {
+        file = new ByteArrayOutputStream(fileSizeKb * 1024);
+        gzip = ParallelGzipOutputStream.gzip(file, chunkSizeKb * 1024);
+        for (int written = 0; written < fileSizeKb * 1024; written += record.length) {
+            gzip.write(record);
+        }
+        // records are written over the whole block period, so chunks that filled up are compressed by the time the
+        // file is closed
+        gzip.flush();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void close(@NonNull final Blackhole blackhole) throws IOException {
+        gzip.close();
+        blackhole.consume(file.size());
+    }
+}
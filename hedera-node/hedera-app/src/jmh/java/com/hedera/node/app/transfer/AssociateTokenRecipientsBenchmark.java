@@ -0,0 +1,334 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.transfer;
+
+import static com.hedera.hapi.node.base.ResponseCodeEnum.OK;
+import static com.hedera.hapi.node.base.TokenType.FUNGIBLE_COMMON;
+import static com.hedera.hapi.node.base.TokenType.NON_FUNGIBLE_UNIQUE;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ACCOUNTS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ALIASES_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.NFTS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.TOKENS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.TOKEN_RELS_KEY;
+
+import com.hedera.hapi.node.base.AccountAmount;
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.NftID;
+import com.hedera.hapi.node.base.NftTransfer;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.base.TokenID;
+import com.hedera.hapi.node.base.TokenTransferList;
+import com.hedera.hapi.node.base.TokenType;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.state.common.EntityIDPair;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.hapi.node.state.token.Nft;
+import com.hedera.hapi.node.state.token.Token;
+import com.hedera.hapi.node.state.token.TokenRelation;
+import com.hedera.hapi.node.token.CryptoTransferTransactionBody;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.node.app.fees.ChildFeeContextImpl;
+import com.hedera.node.app.fees.ExchangeRateManager;
+import com.hedera.node.app.fees.FeeManager;
+import com.hedera.node.app.fees.congestion.CongestionMultipliers;
+import com.hedera.node.app.fees.congestion.ThrottleMultiplier;
+import com.hedera.node.app.fees.congestion.UtilizationScaledThrottleMultiplier;
+import com.hedera.node.app.service.file.impl.schemas.V0490FileSchema;
+import com.hedera.node.app.service.token.impl.WritableAccountStore;
+import com.hedera.node.app.service.token.impl.WritableNftStore;
+import com.hedera.node.app.service.token.impl.WritableTokenRelationStore;
+import com.hedera.node.app.service.token.impl.WritableTokenStore;
+import com.hedera.node.app.service.token.impl.handlers.TokenAssociateToAccountHandler;
+import com.hedera.node.app.service.token.impl.handlers.transfer.AssociateTokenRecipientsStep;
+import com.hedera.node.app.service.token.impl.handlers.transfer.TransferContextImpl;
+import com.hedera.node.app.spi.authorization.Authorizer;
+import com.hedera.node.app.spi.fees.FeeContext;
+import com.hedera.node.app.spi.fixtures.state.MapWritableStates;
+import com.hedera.node.app.spi.metrics.StoreMetricsService;
+import com.hedera.node.app.spi.store.StoreFactory;
+import com.hedera.node.app.spi.validation.ExpiryValidator;
+import com.hedera.node.app.spi.workflows.ComputeDispatchFeesAsTopLevel;
+import com.hedera.node.app.spi.workflows.HandleContext;
+import com.hedera.node.app.spi.workflows.record.StreamBuilder;
+import com.hedera.node.app.store.ReadableStoreFactory;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.data.FeesConfig;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.state.State;
+import com.swirlds.state.test.fixtures.MapWritableKVState;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the auto-association step of a CryptoTransfer that airdrops a fungible token and one NFT serial to each
+ * of {@code numRecipients} accounts, none of which is associated with either token yet but all of which have
+ * unlimited auto-associations. The auto-association fee is computed as in a real handle context, by dispatching the
+ * token association handler's fee calculation against the genesis fee schedules and exchange rates.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class AssociateTokenRecipientsBenchmark {
+    private static final AccountID TREASURY = accountId(2);
+    private static final AccountID SENDER = accountId(1001);
+    private static final long FIRST_RECIPIENT_NUM = 2001;
+    private static final TokenID FUNGIBLE_TOKEN = tokenId(3001);
+    private static final TokenID NFT_TOKEN = tokenId(3002);
+    private static final long BALANCE = 1_000_000_000L;
+    private static final Instant CONSENSUS_NOW = Instant.ofEpochSecond(1_234_567L);
+
+    public static void main(String... args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] {
+            "com.hedera.node.app.transfer.AssociateTokenRecipientsBenchmark.associateRecipients"
+        });
+    }
+
+    @Param({"1", "10", "50"})
+    private int numRecipients;
+
+    private Configuration config;
+    private CryptoTransferTransactionBody op;
+    private Map<AccountID, Account> accounts;
+    private Map<TokenID, Token> tokens;
+    private Map<EntityIDPair, TokenRelation> tokenRels;
+    private Map<NftID, Nft> nfts;
+    private FeeManager feeManager;
+    private TokenAssociateToAccountHandler associateHandler;
+    private HandleContext context;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        config = HederaTestConfigBuilder.createConfig();
+        final ConfigProvider configProvider = () -> new VersionedConfigImpl(config, 1L);
+        final var fileSchema = new V0490FileSchema();
+        final var exchangeRateManager = new ExchangeRateManager(configProvider);
+        exchangeRateManager.systemUpdate(fileSchema.genesisExchangeRates(config));
+        feeManager = new FeeManager(
+                exchangeRateManager,
+                new CongestionMultipliers(
+                        new UtilizationScaledThrottleMultiplier(uncongested(configProvider), configProvider),
+                        uncongested(configProvider)));
+        feeManager.update(fileSchema.genesisFeeSchedules(config));
+        associateHandler = new TokenAssociateToAccountHandler();
+
+        accounts = new HashMap<>();
+        accounts.put(TREASURY, account(TREASURY));
+        accounts.put(SENDER, account(SENDER));
+        tokens = Map.of(
+                FUNGIBLE_TOKEN,
+                token(FUNGIBLE_TOKEN, FUNGIBLE_COMMON),
+                NFT_TOKEN,
+                token(NFT_TOKEN, NON_FUNGIBLE_UNIQUE));
+        tokenRels = new HashMap<>();
+        nfts = new HashMap<>();
+        for (final var tokenId : tokens.keySet()) {
+            tokenRels.put(
+                    new EntityIDPair(SENDER, tokenId),
+                    TokenRelation.newBuilder()
+                            .accountId(SENDER)
+                            .tokenId(tokenId)
+                            .balance(BALANCE)
+                            .kycGranted(true)
+                            .build());
+        }
+
+        final List<AccountAmount> adjusts = new ArrayList<>();
+        final List<NftTransfer> nftTransfers = new ArrayList<>();
+        adjusts.add(adjust(SENDER, -numRecipients));
+        for (int i = 0; i < numRecipients; i++) {
+            final var recipient = accountId(FIRST_RECIPIENT_NUM + i);
+            accounts.put(recipient, account(recipient).copyBuilder().maxAutoAssociations(-1).build());
+            adjusts.add(adjust(recipient, 1));
+            final var nftId = new NftID(NFT_TOKEN, i + 1);
+            nfts.put(nftId, Nft.newBuilder().nftId(nftId).ownerId(SENDER).build());
+            nftTransfers.add(NftTransfer.newBuilder()
+                    .senderAccountID(SENDER)
+                    .receiverAccountID(recipient)
+                    .serialNumber(i + 1)
+                    .build());
+        }
+        op = CryptoTransferTransactionBody.newBuilder()
+                .tokenTransfers(
+                        TokenTransferList.newBuilder()
+                                .token(FUNGIBLE_TOKEN)
+                                .transfers(adjusts)
+                                .build(),
+                        TokenTransferList.newBuilder()
+                                .token(NFT_TOKEN)
+                                .nftTransfers(nftTransfers)
+                                .build())
+                .build();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetState() {
+        final var states = MapWritableStates.builder()
+                .state(new MapWritableKVState<>(ACCOUNTS_KEY, new HashMap<>(accounts)))
+                .state(new MapWritableKVState<>(ALIASES_KEY, new HashMap<>()))
+                .state(new MapWritableKVState<>(TOKENS_KEY, new HashMap<>(tokens)))
+                .state(new MapWritableKVState<>(TOKEN_RELS_KEY, new HashMap<>(tokenRels)))
+                .state(new MapWritableKVState<>(NFTS_KEY, new HashMap<>(nfts)))
+                .build();
+        final StoreMetricsService storeMetricsService = (storeType, capacity) -> newValue -> {};
+        final Map<Class<?>, Object> stores = Map.of(
+                WritableAccountStore.class, new WritableAccountStore(states, config, storeMetricsService),
+                WritableTokenStore.class, new WritableTokenStore(states, config, storeMetricsService),
+                WritableTokenRelationStore.class, new WritableTokenRelationStore(states, config, storeMetricsService),
+                WritableNftStore.class, new WritableNftStore(states, config, storeMetricsService));
+        final StoreFactory storeFactory = stub(StoreFactory.class, (name, args) -> stores.get((Class<?>) args[0]));
+        final var readableStoreFactory = new ReadableStoreFactory(stub(State.class, (name, args) -> states));
+        final FeeContext feeContext = stub(FeeContext.class, (name, args) -> switch (name) {
+            case "configuration" -> config;
+            default -> throw new UnsupportedOperationException(name);
+        });
+        final Authorizer authorizer = stub(Authorizer.class, (name, args) -> {
+            throw new UnsupportedOperationException(name);
+        });
+        final ExpiryValidator expiryValidator = stub(ExpiryValidator.class, (name, args) -> OK);
+        final StreamBuilder baseBuilder =
+                stub(StreamBuilder.class, (name, args) -> name.equals("isUserDispatch") ? true : null);
+        final HandleContext.SavepointStack stack =
+                stub(HandleContext.SavepointStack.class, (name, args) -> baseBuilder);
+        context = stub(HandleContext.class, (name, args) -> switch (name) {
+            case "storeFactory" -> storeFactory;
+            case "configuration" -> config;
+            case "expiryValidator" -> expiryValidator;
+            case "savepointStack" -> stack;
+            case "payer" -> SENDER;
+            case "tryToChargePayer" -> true;
+            // The sender is not a privileged account, so as in DispatchHandleContext its fees are never waived
+            case "dispatchComputeFees" -> associateHandler.calculateFees(new ChildFeeContextImpl(
+                    feeManager,
+                    feeContext,
+                    withTransactionId((TransactionBody) args[0]),
+                    (AccountID) args[1],
+                    args[2] == ComputeDispatchFeesAsTopLevel.NO,
+                    authorizer,
+                    readableStoreFactory,
+                    CONSENSUS_NOW));
+            default -> throw new UnsupportedOperationException(name);
+        });
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void associateRecipients(@NonNull final Blackhole blackhole) {
+        final var transferContext = new TransferContextImpl(context);
+        new AssociateTokenRecipientsStep(op).doIn(transferContext);
+        if (transferContext.getAutomaticAssociations().size() != 2 * numRecipients) {
+            throw new IllegalStateException("Expected " + (2 * numRecipients) + " auto-associations but got "
+                    + transferContext.getAutomaticAssociations());
+        }
+        blackhole.consume(transferContext);
+    }
+
+    /**
+     * Minimal stand-in for the few methods of a context interface the step calls.
+     */
+    private interface StubMethods {
+        Object invoke(String name, Object[] args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(@NonNull final Class<T> type, @NonNull final StubMethods methods) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) ->
+                methods.invoke(method.getName(), args));
+    }
+
+    /**
+     * A throttle multiplier without any throttles, so the congestion multiplier of every fee stays at one.
+     */
+    private static ThrottleMultiplier uncongested(@NonNull final ConfigProvider configProvider) {
+        return new ThrottleMultiplier(
+                "logical TPS",
+                "TPS",
+                "CryptoTransfer throughput",
+                () -> configProvider
+                        .getConfiguration()
+                        .getConfigData(FeesConfig.class)
+                        .minCongestionPeriod(),
+                () -> configProvider
+                        .getConfiguration()
+                        .getConfigData(FeesConfig.class)
+                        .percentCongestionMultipliers(),
+                List::of);
+    }
+
+    private static TransactionBody withTransactionId(@NonNull final TransactionBody body) {
+        if (body.hasTransactionID()) {
+            return body;
+        }
+        return body.copyBuilder()
+                .transactionID(TransactionID.newBuilder()
+                        .accountID(SENDER)
+                        .transactionValidStart(Timestamp.newBuilder()
+                                .seconds(CONSENSUS_NOW.getEpochSecond())
+                                .nanos(CONSENSUS_NOW.getNano())))
+                .build();
+    }
+
+    private static Account account(final AccountID accountId) {
+        return Account.newBuilder()
+                .accountId(accountId)
+                .tinybarBalance(BALANCE)
+                .build();
+    }
+
+    private static Token token(final TokenID tokenId, final TokenType type) {
+        return Token.newBuilder()
+                .tokenId(tokenId)
+                .tokenType(type)
+                .treasuryAccountId(TREASURY)
+                .totalSupply(BALANCE)
+                .build();
+    }
+
+    private static AccountAmount adjust(final AccountID accountId, final long amount) {
+        return AccountAmount.newBuilder().accountID(accountId).amount(amount).build();
+    }
+
+    private static AccountID accountId(final long num) {
+        return AccountID.newBuilder().accountNum(num).build();
+    }
+
+    private static TokenID tokenId(final long num) {
+        return TokenID.newBuilder().tokenNum(num).build();
+    }
+}
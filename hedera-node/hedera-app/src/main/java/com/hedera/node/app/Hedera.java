@@ -437,6 +437,7 @@ public final class Hedera implements SwirldMain, PlatformStatusChangeListener {
         }
         this.platform = requireNonNull(platform);
         this.metrics = platform.getContext().getMetrics();
+        contractServiceImpl.registerMetrics(metrics);
         this.configProvider = new ConfigProviderImpl(trigger == GENESIS, metrics);
         logger.info(
                 "Initializing Hedera state version {} in {} mode with trigger {} and previous version {}",
@@ -16,6 +16,8 @@
 
 package com.hedera.node.app.blocks;
 
+import com.hedera.node.app.blocks.impl.AsyncBlockItemWriter;
+import com.hedera.node.app.blocks.impl.BlockItemWriteQueue;
 import com.hedera.node.app.blocks.impl.BlockStreamManagerImpl;
 import com.hedera.node.app.blocks.impl.FileBlockItemWriter;
 import com.hedera.node.config.ConfigProvider;
@@ -40,11 +42,15 @@ public interface BlockStreamModule {
     static Supplier<BlockItemWriter> bindBlockItemWriterSupplier(
             @NonNull final ConfigProvider configProvider,
             @NonNull final SelfNodeInfo selfNodeInfo,
-            @NonNull final FileSystem fileSystem) {
+            @NonNull final FileSystem fileSystem,
+            @NonNull final BlockItemWriteQueue writeQueue) {
         final var config = configProvider.getConfiguration();
         final var blockStreamConfig = config.getConfigData(BlockStreamConfig.class);
         return switch (blockStreamConfig.writerMode()) {
-            case FILE -> () -> new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem);
+            case FILE -> blockStreamConfig.asyncFileWrites()
+                    ? () -> new AsyncBlockItemWriter(
+                            new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem), writeQueue)
+                    : () -> new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem);
             case GRPC -> throw new IllegalArgumentException("gRPC block writer not yet implemented");
         };
     }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.blocks.BlockItemWriter;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * A {@link BlockItemWriter} that hands every operation to a {@link BlockItemWriteQueue}, so the caller only pays for
+ * a queue offer while the delegate writer does the serialization, compression, and I/O on the queue's background
+ * thread. {@link #closeBlock()} waits until the delegate has closed the block, i.e. until all its items are durable.
+ *
+ * <p>If a write fails on the background thread, the remaining writes of the block are skipped and the failure is
+ * rethrown from {@link #closeBlock()}.
+ */
+public class AsyncBlockItemWriter implements BlockItemWriter {
+    private final BlockItemWriter delegate;
+    private final BlockItemWriteQueue writeQueue;
+    private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
+
+    /** The first failure of the delegate; only accessed from the writer thread */
+    private RuntimeException failure;
+
+    /**
+     * Creates a new asynchronous writer.
+     *
+     * @param delegate the writer doing the actual work on the queue's background thread
+     * @param writeQueue the queue of pending writes
+     */
+    public AsyncBlockItemWriter(
+            @NonNull final BlockItemWriter delegate, @NonNull final BlockItemWriteQueue writeQueue) {
+        this.delegate = requireNonNull(delegate);
+        this.writeQueue = requireNonNull(writeQueue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void openBlock(final long blockNumber) {
+        if (blockNumber < 0) throw new IllegalArgumentException("Block number must be non-negative");
+        writeQueue.submit(() -> runUnlessFailed(() -> delegate.openBlock(blockNumber)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AsyncBlockItemWriter writeItem(@NonNull final Bytes serializedItem) {
+        requireNonNull(serializedItem, "The supplied argument 'serializedItem' cannot be null!");
+        if (serializedItem.length() <= 0) throw new IllegalArgumentException("Item must be non-empty");
+        writeQueue.submit(() -> runUnlessFailed(() -> delegate.writeItem(serializedItem)));
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Blocks until every item previously passed to {@link #writeItem(Bytes)} has been written and the block is
+     * closed.
+     */
+    @Override
+    public void closeBlock() {
+        writeQueue.submit(() -> {
+            runUnlessFailed(delegate::closeBlock);
+            if (failure == null) {
+                closeFuture.complete(null);
+            } else {
+                closeFuture.completeExceptionally(failure);
+            }
+        });
+        try {
+            closeFuture.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void runUnlessFailed(@NonNull final Runnable write) {
+        if (failure == null) {
+            try {
+                write.run();
+            } catch (final RuntimeException e) {
+                failure = e;
+            }
+        }
+    }
+}
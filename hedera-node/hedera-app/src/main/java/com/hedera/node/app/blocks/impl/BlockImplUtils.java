@@ -25,6 +25,7 @@ import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_CONTR
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_CONTRACT_STORAGE;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_ENTITY_ID;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_FILES;
+import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_FILE_CHUNKS;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_FREEZE_TIME;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_MIDNIGHT_RATES;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_NETWORK_REWARDS;
@@ -38,10 +39,13 @@ import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_RUNNI
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_SCHEDULES_BY_EQUALITY;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_SCHEDULES_BY_EXPIRY;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_SCHEDULES_BY_ID;
+import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_SCHEDULE_EXPIRY_CURSOR;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_STAKING_INFO;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_THROTTLE_USAGE;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_TOKENS;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_TOKEN_RELATIONS;
+import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_TOKEN_RELATION_INDEX_CURSOR;
+import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_TOKEN_RELATION_PAGES;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_TOPICS;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_TRANSACTION_RECEIPTS_QUEUE;
 import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_UPGRADE_DATA_150;
@@ -124,6 +128,7 @@ public class BlockImplUtils {
                     };
                     case "FileService" -> switch (stateKey) {
                         case "FILES" -> STATE_ID_FILES.protoOrdinal();
+                        case "FILE_CHUNKS" -> STATE_ID_FILE_CHUNKS.protoOrdinal();
                         case "UPGRADE_DATA[FileID[shardNum=0, realmNum=0, fileNum=150]]" -> STATE_ID_UPGRADE_DATA_150
                                 .protoOrdinal();
                         case "UPGRADE_DATA[FileID[shardNum=0, realmNum=0, fileNum=151]]" -> STATE_ID_UPGRADE_DATA_151
@@ -169,6 +174,7 @@ public class BlockImplUtils {
                         case "SCHEDULES_BY_EQUALITY" -> STATE_ID_SCHEDULES_BY_EQUALITY.protoOrdinal();
                         case "SCHEDULES_BY_EXPIRY_SEC" -> STATE_ID_SCHEDULES_BY_EXPIRY.protoOrdinal();
                         case "SCHEDULES_BY_ID" -> STATE_ID_SCHEDULES_BY_ID.protoOrdinal();
+                        case "SCHEDULE_EXPIRY_CURSOR" -> STATE_ID_SCHEDULE_EXPIRY_CURSOR.protoOrdinal();
                         default -> UNKNOWN_STATE_ID;
                     };
                     case "TokenService" -> switch (stateKey) {
@@ -179,6 +185,8 @@ public class BlockImplUtils {
                         case "STAKING_INFOS" -> STATE_ID_STAKING_INFO.protoOrdinal();
                         case "STAKING_NETWORK_REWARDS" -> STATE_ID_NETWORK_REWARDS.protoOrdinal();
                         case "TOKEN_RELS" -> STATE_ID_TOKEN_RELATIONS.protoOrdinal();
+                        case "TOKEN_RELATION_PAGES" -> STATE_ID_TOKEN_RELATION_PAGES.protoOrdinal();
+                        case "TOKEN_RELATION_INDEX_CURSOR" -> STATE_ID_TOKEN_RELATION_INDEX_CURSOR.protoOrdinal();
                         case "TOKENS" -> STATE_ID_TOKENS.protoOrdinal();
                         default -> UNKNOWN_STATE_ID;
                     };
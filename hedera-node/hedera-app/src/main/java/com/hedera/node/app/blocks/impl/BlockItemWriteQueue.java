@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.BlockStreamConfig;
+import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.metrics.api.Histogram;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A bounded queue of block file writes, drained in order by a single background thread. Submitting a write only
+ * blocks if the writer thread has fallen behind by more than the configured
+ * {@link BlockStreamConfig#fileWriteQueueCapacity()} writes.
+ *
+ * <p>The writer thread is started with the first submitted write, so nodes that do not write block files never
+ * start it.
+ */
+@Singleton
+public class BlockItemWriteQueue {
+    private static final Logger logger = LogManager.getLogger(BlockItemWriteQueue.class);
+
+    private static final Histogram.Config LAG_CONFIG = new Histogram.Config("app", "blockWriteLag")
+            .withDescription("The time a block file write waits in the queue before it is executed, in microseconds")
+            .withUnit("us");
+
+    private final BlockingQueue<PendingWrite> pendingWrites;
+    private final Histogram lag;
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private record PendingWrite(long submittedNanos, @NonNull Runnable write) {}
+
+    /**
+     * Creates a new queue of block file writes.
+     *
+     * @param configProvider the configuration provider
+     * @param metrics the metrics to register the queue depth and lag with
+     */
+    @Inject
+    public BlockItemWriteQueue(@NonNull final ConfigProvider configProvider, @NonNull final Metrics metrics) {
+        requireNonNull(configProvider, "configProvider must not be null");
+        requireNonNull(metrics, "metrics must not be null");
+        final var capacity = configProvider
+                .getConfiguration()
+                .getConfigData(BlockStreamConfig.class)
+                .fileWriteQueueCapacity();
+        pendingWrites = new ArrayBlockingQueue<>(capacity);
+        final var depthConfig = new FunctionGauge.Config<>(
+                        "app", "blockWriteQueueDepth", Integer.class, pendingWrites::size)
+                .withDescription("The number of block file writes waiting for the writer thread")
+                .withFormat("%,d");
+        metrics.getOrCreate(depthConfig);
+        lag = metrics.getOrCreate(LAG_CONFIG);
+    }
+
+    /**
+     * Queues a write for the writer thread. Writes are executed in the order they were submitted.
+     *
+     * @param write the write to execute
+     * @throws IllegalStateException if the calling thread is interrupted while waiting for queue capacity
+     */
+    public void submit(@NonNull final Runnable write) {
+        requireNonNull(write);
+        if (started.compareAndSet(false, true)) {
+            final var writerThread = new Thread(this::drain, "block-item-writer");
+            writerThread.setDaemon(true);
+            writerThread.start();
+        }
+        try {
+            pendingWrites.put(new PendingWrite(System.nanoTime(), write));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing a block file write", e);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            final PendingWrite pendingWrite;
+            try {
+                pendingWrite = pendingWrites.take();
+            } catch (final InterruptedException e) {
+                logger.warn("Block item writer thread interrupted with {} pending writes", pendingWrites.size());
+                Thread.currentThread().interrupt();
+                return;
+            }
+            lag.update(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - pendingWrite.submittedNanos()));
+            try {
+                pendingWrite.write().run();
+            } catch (final RuntimeException e) {
+                // Writes report their own failures to the block they belong to; never let one kill the thread
+                logger.error("Unexpected failure of a block file write", e);
+            }
+        }
+    }
+}
@@ -39,6 +39,7 @@ import com.hedera.hapi.node.state.recordcache.TransactionReceiptEntries;
 import com.hedera.hapi.node.state.roster.RosterState;
 import com.hedera.hapi.node.state.throttles.ThrottleUsageSnapshots;
 import com.hedera.hapi.node.state.token.NetworkStakingRewards;
+import com.hedera.hapi.node.state.token.TokenRelationIndexCursor;
 import com.hedera.hapi.node.transaction.ExchangeRateSet;
 import com.hedera.hapi.platform.state.PlatformState;
 import com.hedera.pbj.runtime.OneOf;
@@ -216,6 +217,11 @@ public class BoundaryStateChangeListener implements StateChangeListener {
             case PlatformState platformState -> {
                 return new OneOf<>(SingletonUpdateChange.NewValueOneOfType.PLATFORM_STATE_VALUE, platformState);
             }
+            case TokenRelationIndexCursor tokenRelationIndexCursor -> {
+                return new OneOf<>(
+                        SingletonUpdateChange.NewValueOneOfType.TOKEN_RELATION_INDEX_CURSOR_VALUE,
+                        tokenRelationIndexCursor);
+            }
             default -> throw new IllegalArgumentException(
                     "Unknown value type " + value.getClass().getName());
         }
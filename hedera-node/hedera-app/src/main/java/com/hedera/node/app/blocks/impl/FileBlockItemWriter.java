@@ -16,6 +16,9 @@
 
 package com.hedera.node.app.blocks.impl;
 
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.block.stream.schema.BlockSchema;
@@ -33,6 +36,8 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -122,7 +127,7 @@ public class FileBlockItemWriter implements BlockItemWriter {
         final var blockFilePath = getBlockFilePath(blockNumber);
         OutputStream out = null;
         try {
-            out = Files.newOutputStream(blockFilePath);
+            out = new SyncOnCloseOutputStream(FileChannel.open(blockFilePath, CREATE, TRUNCATE_EXISTING, WRITE));
             out = new BufferedOutputStream(out, 1024 * 1024); // 1 MB
             if (compressFiles) {
                 out = new GZIPOutputStream(out, 1024 * 256); // 256 KB
@@ -184,7 +189,8 @@ public class FileBlockItemWriter implements BlockItemWriter {
             throw new IllegalStateException("Cannot close a FileBlockItemWriter that is already closed");
         }
 
-        // Close the writableStreamingData.
+        // Close the writableStreamingData; this also forces the block file to storage, so once this method
+        // returns every item of the block is durable.
         try {
             writableStreamingData.close();
             state = State.CLOSED;
@@ -221,4 +227,36 @@ public class FileBlockItemWriter implements BlockItemWriter {
         // for an unsigned long. However, to allow for future expansion, we use 36 characters as that's what UUID uses.
         return String.format("%036d", unsignedValue);
     }
+
+    /**
+     * The innermost stream of the chain written by this writer. It writes straight to the file channel and forces
+     * the written bytes to storage before closing the channel.
+     */
+    private static final class SyncOnCloseOutputStream extends OutputStream {
+        private final FileChannel channel;
+
+        private SyncOnCloseOutputStream(@NonNull final FileChannel channel) {
+            this.channel = requireNonNull(channel);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(@NonNull final byte[] b, final int off, final int len) throws IOException {
+            final var buffer = ByteBuffer.wrap(b, off, len);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (channel) {
+                channel.force(false);
+            }
+        }
+    }
 }
@@ -40,6 +40,7 @@ import com.hedera.hapi.node.state.contract.Bytecode;
 import com.hedera.hapi.node.state.contract.SlotKey;
 import com.hedera.hapi.node.state.contract.SlotValue;
 import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.file.FileChunkId;
 import com.hedera.hapi.node.state.primitives.ProtoBytes;
 import com.hedera.hapi.node.state.primitives.ProtoLong;
 import com.hedera.hapi.node.state.primitives.ProtoString;
@@ -52,6 +53,8 @@ import com.hedera.hapi.node.state.token.Nft;
 import com.hedera.hapi.node.state.token.StakingNodeInfo;
 import com.hedera.hapi.node.state.token.Token;
 import com.hedera.hapi.node.state.token.TokenRelation;
+import com.hedera.hapi.node.state.token.TokenRelationPage;
+import com.hedera.hapi.node.state.token.TokenRelationPageId;
 import com.swirlds.state.StateChangeListener;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.ArrayList;
@@ -134,6 +137,9 @@ public class KVStateChangeListener implements StateChangeListener {
                     .entityNumberKey(entityNumber.number())
                     .build();
             case FileID fileID -> MapChangeKey.newBuilder().fileIdKey(fileID).build();
+            case FileChunkId fileChunkId -> MapChangeKey.newBuilder()
+                    .fileChunkIdKey(fileChunkId)
+                    .build();
             case NftID nftID -> MapChangeKey.newBuilder().nftIdKey(nftID).build();
             case ProtoBytes protoBytes -> MapChangeKey.newBuilder()
                     .protoBytesKey(protoBytes.value())
@@ -162,6 +168,9 @@ public class KVStateChangeListener implements StateChangeListener {
             case PendingAirdropId pendingAirdropId -> MapChangeKey.newBuilder()
                     .pendingAirdropIdKey(pendingAirdropId)
                     .build();
+            case TokenRelationPageId tokenRelationPageId -> MapChangeKey.newBuilder()
+                    .tokenRelationPageIdKey(tokenRelationPageId)
+                    .build();
             default -> throw new IllegalStateException(
                     "Unrecognized key type " + key.getClass().getSimpleName());
         };
@@ -181,6 +190,9 @@ public class KVStateChangeListener implements StateChangeListener {
                     .build();
             case File file -> MapChangeValue.newBuilder().fileValue(file).build();
             case Nft nft -> MapChangeValue.newBuilder().nftValue(nft).build();
+            case ProtoBytes protoBytes -> MapChangeValue.newBuilder()
+                    .protoBytesValue(protoBytes.value())
+                    .build();
             case ProtoString protoString -> MapChangeValue.newBuilder()
                     .protoStringValue(protoString.value())
                     .build();
@@ -203,6 +215,9 @@ public class KVStateChangeListener implements StateChangeListener {
             case TokenRelation tokenRelation -> MapChangeValue.newBuilder()
                     .tokenRelationValue(tokenRelation)
                     .build();
+            case TokenRelationPage tokenRelationPage -> MapChangeValue.newBuilder()
+                    .tokenRelationPageValue(tokenRelationPage)
+                    .build();
             case Topic topic -> MapChangeValue.newBuilder().topicValue(topic).build();
             case AccountPendingAirdrop accountPendingAirdrop -> MapChangeValue.newBuilder()
                     .accountPendingAirdropValue(accountPendingAirdrop)
@@ -104,11 +104,38 @@ public class FeeCalculatorImpl implements FeeCalculator {
             final boolean isInternalDispatch,
             final CongestionMultipliers congestionMultipliers,
             final ReadableStoreFactory storeFactory) {
-        //  Perform basic validations, and convert the PBJ objects to Google protobuf objects for `hapi-fees`.
+        //  Convert the PBJ objects to Google protobuf objects for `hapi-fees`.
+        this(
+                txBody,
+                payerKey,
+                numVerifications,
+                signatureMapSize,
+                fromPbj(feeData),
+                fromPbj(currentRate),
+                isInternalDispatch,
+                congestionMultipliers,
+                storeFactory);
+    }
+
+    /**
+     * Create a new instance from fee data and an exchange rate already converted to the Google Protobuf types used
+     * by `hapi-fees`, as cached by the {@link FeeManager}.
+     */
+    FeeCalculatorImpl(
+            @NonNull TransactionBody txBody,
+            @NonNull Key payerKey,
+            final int numVerifications,
+            final int signatureMapSize,
+            @NonNull final com.hederahashgraph.api.proto.java.FeeData feeData,
+            @NonNull final com.hederahashgraph.api.proto.java.ExchangeRate currentRate,
+            final boolean isInternalDispatch,
+            final CongestionMultipliers congestionMultipliers,
+            final ReadableStoreFactory storeFactory) {
+        //  Perform basic validations
         requireNonNull(txBody);
         requireNonNull(payerKey);
-        this.feeData = fromPbj(feeData);
-        this.currentRate = fromPbj(currentRate);
+        this.feeData = requireNonNull(feeData);
+        this.currentRate = requireNonNull(currentRate);
         if (numVerifications < 0) {
             throw new IllegalArgumentException("numVerifications must be >= 0");
         }
@@ -153,17 +180,35 @@ public class FeeCalculatorImpl implements FeeCalculator {
             final CongestionMultipliers congestionMultipliers,
             final ReadableStoreFactory storeFactory,
             final HederaFunctionality functionality) {
+        this(
+                feeData == null ? null : fromPbj(feeData),
+                fromPbj(currentRate),
+                congestionMultipliers,
+                storeFactory,
+                functionality);
+    }
+
+    /**
+     * Create a new instance for a query from fee data and an exchange rate already converted to the Google
+     * Protobuf types used by `hapi-fees`, as cached by the {@link FeeManager}.
+     */
+    FeeCalculatorImpl(
+            @Nullable final com.hederahashgraph.api.proto.java.FeeData feeData,
+            @NonNull final com.hederahashgraph.api.proto.java.ExchangeRate currentRate,
+            final CongestionMultipliers congestionMultipliers,
+            final ReadableStoreFactory storeFactory,
+            final HederaFunctionality functionality) {
         if (feeData == null) {
             this.feeData = null;
             this.usage = null;
         } else {
-            this.feeData = fromPbj(feeData);
+            this.feeData = feeData;
             this.usage = UsageAccumulator.fromGrpc(this.feeData);
             usage.reset();
             usage.addBpt(BASIC_QUERY_HEADER + BASIC_TX_ID_SIZE);
             usage.addBpr(BASIC_QUERY_RES_HEADER);
         }
-        this.currentRate = fromPbj(currentRate);
+        this.currentRate = requireNonNull(currentRate);
         this.sigUsage = new SigUsage(0, 0, 0);
 
         this.congestionMultipliers = congestionMultipliers;
@@ -23,6 +23,7 @@ import static com.hedera.hapi.node.base.HederaFunctionality.TOKEN_GET_ACCOUNT_NF
 import static com.hedera.hapi.node.base.HederaFunctionality.TOKEN_GET_NFT_INFOS;
 import static com.hedera.hapi.node.base.HederaFunctionality.TRANSACTION_GET_FAST_RECORD;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.SUCCESS;
+import static com.hedera.node.app.hapi.utils.CommonPbjConverters.fromPbj;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.CurrentAndNextFeeSchedule;
@@ -34,6 +35,7 @@ import com.hedera.hapi.node.base.Key;
 import com.hedera.hapi.node.base.ResponseCodeEnum;
 import com.hedera.hapi.node.base.SubType;
 import com.hedera.hapi.node.base.TransactionFeeSchedule;
+import com.hedera.hapi.node.transaction.ExchangeRate;
 import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.node.app.fees.congestion.CongestionMultipliers;
 import com.hedera.node.app.spi.fees.FeeCalculator;
@@ -45,8 +47,8 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.BufferUnderflowException;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -65,7 +67,21 @@ import org.apache.logging.log4j.Logger;
 public final class FeeManager {
     private static final Logger logger = LogManager.getLogger(FeeManager.class);
 
-    private record Entry(HederaFunctionality function, SubType subType) {}
+    /**
+     * The prices for a functionality and subtype, along with their conversion to the protobuf type used by
+     * {@link FeeCalculatorImpl}, so it is done once per fee schedule update instead of once per transaction.
+     */
+    private record Prices(@NonNull FeeData feeData, @NonNull com.hederahashgraph.api.proto.java.FeeData grpcFeeData) {
+        private Prices(@NonNull final FeeData feeData) {
+            this(feeData, fromPbj(feeData));
+        }
+    }
+
+    /**
+     * An exchange rate along with its conversion to the protobuf type used by {@link FeeCalculatorImpl}.
+     */
+    private record Rate(
+            @NonNull ExchangeRate rate, @NonNull com.hederahashgraph.api.proto.java.ExchangeRate grpcRate) {}
 
     private static final long DEFAULT_FEE = 100_000L;
     /**
@@ -88,11 +104,14 @@ public final class FeeManager {
             .nodedata(DEFAULT_FEE_COMPONENTS)
             .servicedata(DEFAULT_FEE_COMPONENTS)
             .build();
+    private static final Prices DEFAULT_PRICES = new Prices(DEFAULT_FEE_DATA);
 
     /** The current fee schedule, cached for speed. */
-    private Map<Entry, FeeData> currentFeeDataMap = Collections.emptyMap();
+    private Map<HederaFunctionality, Map<SubType, Prices>> currentFeeDataMap = Collections.emptyMap();
     /** The next fee schedule, cached for speed. */
-    private Map<Entry, FeeData> nextFeeDataMap = Collections.emptyMap();
+    private Map<HederaFunctionality, Map<SubType, Prices>> nextFeeDataMap = Collections.emptyMap();
+    /** The most recently used exchange rate and its conversion; replaced whenever the active rate changes. */
+    private volatile Rate lastRate = new Rate(ExchangeRate.DEFAULT, fromPbj(ExchangeRate.DEFAULT));
     /** The expiration time of the "current" fee schedule, in consensus seconds since the epoch, cached for speed. */
     private long currentScheduleExpirationSeconds;
     /** The exchange rate manager to use for the current rate */
@@ -136,8 +155,10 @@ public final class FeeManager {
         }
 
         // Populate the map of HederaFunctionality -> FeeData for the current schedule
-        this.currentFeeDataMap = new HashMap<>();
-        populateFeeDataMap(currentFeeDataMap, currentSchedule.transactionFeeSchedule());
+        final var newCurrentFeeDataMap =
+                new EnumMap<HederaFunctionality, Map<SubType, Prices>>(HederaFunctionality.class);
+        populateFeeDataMap(newCurrentFeeDataMap, currentSchedule.transactionFeeSchedule());
+        this.currentFeeDataMap = newCurrentFeeDataMap;
 
         // Get the expiration time of the current schedule
         if (currentSchedule.hasExpiryTime()) {
@@ -158,11 +179,13 @@ public final class FeeManager {
             // schedule either, then basically we have an empty schedule with an expiration time of 0, which will
             // still get used since we continue to use the next schedule even if the expiration time has passed.
             logger.warn("Unable to parse next fee schedule, will default to the current fee schedule.");
-            nextFeeDataMap = new HashMap<>(currentFeeDataMap);
+            nextFeeDataMap = currentFeeDataMap;
         } else {
             // Populate the map of HederaFunctionality -> FeeData for the current schedule
-            this.nextFeeDataMap = new HashMap<>();
-            populateFeeDataMap(nextFeeDataMap, nextSchedule.transactionFeeSchedule());
+            final var newNextFeeDataMap =
+                    new EnumMap<HederaFunctionality, Map<SubType, Prices>>(HederaFunctionality.class);
+            populateFeeDataMap(newNextFeeDataMap, nextSchedule.transactionFeeSchedule());
+            this.nextFeeDataMap = newNextFeeDataMap;
         }
 
         return SUCCESS;
@@ -190,7 +213,7 @@ public final class FeeManager {
         // Determine which fee schedule to use, based on the consensus time
         // If it is not known, that is, if we have no fee data for that transaction, then we MUST NOT execute that
         // transaction! We will not be able to charge appropriately for it.
-        final var feeData = getFeeData(functionality, consensusTime, subType);
+        final var prices = getPrices(functionality, consensusTime, subType);
 
         // Create the fee calculator
         return new FeeCalculatorImpl(
@@ -198,8 +221,8 @@ public final class FeeManager {
                 payerKey,
                 numVerifications,
                 signatureMapSize,
-                feeData,
-                exchangeRateManager.activeRate(consensusTime),
+                prices.grpcFeeData(),
+                grpcRateAt(consensusTime),
                 isInternalDispatch,
                 congestionMultipliers,
                 storeFactory);
@@ -219,12 +242,12 @@ public final class FeeManager {
             @NonNull final Instant consensusTime,
             @NonNull final ReadableStoreFactory storeFactory) {
         // Determine which fee schedule to use, based on the consensus time
-        final var feeData = getFeeData(functionality, consensusTime, SubType.DEFAULT);
+        final var prices = getPrices(functionality, consensusTime, SubType.DEFAULT);
 
         // Create the fee calculator
         return new FeeCalculatorImpl(
-                feeData,
-                exchangeRateManager.activeRate(consensusTime),
+                prices.grpcFeeData(),
+                grpcRateAt(consensusTime),
                 congestionMultipliers,
                 storeFactory,
                 functionality);
@@ -236,34 +259,59 @@ public final class FeeManager {
     @NonNull
     public FeeData getFeeData(
             @NonNull HederaFunctionality functionality, @NonNull Instant consensusTime, @NonNull SubType subType) {
+        return getPrices(functionality, consensusTime, subType).feeData();
+    }
+
+    @NonNull
+    private Prices getPrices(
+            @NonNull final HederaFunctionality functionality,
+            @NonNull final Instant consensusTime,
+            @NonNull final SubType subType) {
         final var feeDataMap =
                 consensusTime.getEpochSecond() > currentScheduleExpirationSeconds ? nextFeeDataMap : currentFeeDataMap;
 
         // Now, lookup the fee data for the transaction type.
-        final var result = feeDataMap.get(new Entry(functionality, subType));
+        final var pricesBySubType = feeDataMap.get(functionality);
+        final var result = pricesBySubType == null ? null : pricesBySubType.get(subType);
         if (result == null) {
             if (!INAPPLICABLE_OPERATIONS.contains(functionality)) {
                 logger.warn("Using default usage prices to calculate fees for {}!", functionality);
             }
-            return DEFAULT_FEE_DATA;
+            return DEFAULT_PRICES;
         }
         return result;
     }
 
+    /**
+     * Returns the exchange rate active at the given consensus time, converted for {@link FeeCalculatorImpl}. The
+     * active rate only changes when the rates are updated or a rate expires, so the last conversion is reused.
+     */
+    @NonNull
+    private com.hederahashgraph.api.proto.java.ExchangeRate grpcRateAt(@NonNull final Instant consensusTime) {
+        final var rate = exchangeRateManager.activeRate(consensusTime);
+        var cached = lastRate;
+        if (!cached.rate().equals(rate)) {
+            cached = new Rate(rate, fromPbj(rate));
+            lastRate = cached;
+        }
+        return cached.grpcRate();
+    }
+
     /**
      * Used during {@link #update(Bytes)} to populate the fee data map based on the configuration.
      * @param feeDataMap The map to populate.
      * @param feeSchedule The fee schedule to use.
      */
     private void populateFeeDataMap(
-            @NonNull final Map<Entry, FeeData> feeDataMap, @NonNull final List<TransactionFeeSchedule> feeSchedule) {
+            @NonNull final Map<HederaFunctionality, Map<SubType, Prices>> feeDataMap,
+            @NonNull final List<TransactionFeeSchedule> feeSchedule) {
         feeSchedule.forEach(t -> {
             if (!t.fees().isEmpty()) {
                 for (final var feeData : t.fees()) {
-                    feeDataMap.put(new Entry(t.hederaFunctionality(), feeData.subType()), feeData);
+                    pricesFor(feeDataMap, t.hederaFunctionality()).put(feeData.subType(), new Prices(feeData));
                 }
             } else if (t.hasFeeData()) {
-                feeDataMap.put(new Entry(t.hederaFunctionality(), SubType.DEFAULT), t.feeDataOrThrow());
+                pricesFor(feeDataMap, t.hederaFunctionality()).put(SubType.DEFAULT, new Prices(t.feeDataOrThrow()));
             } else {
                 logger.warn(
                         "Neither `fees` nor `feeData` specified for transaction type {}, ignoring it.",
@@ -271,4 +319,10 @@ public final class FeeManager {
             }
         });
     }
+
+    private static Map<SubType, Prices> pricesFor(
+            @NonNull final Map<HederaFunctionality, Map<SubType, Prices>> feeDataMap,
+            @NonNull final HederaFunctionality functionality) {
+        return feeDataMap.computeIfAbsent(functionality, ignore -> new EnumMap<>(SubType.class));
+    }
 }
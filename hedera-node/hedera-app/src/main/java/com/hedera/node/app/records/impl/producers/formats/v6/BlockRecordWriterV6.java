@@ -60,7 +60,6 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.zip.GZIPOutputStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -90,6 +89,8 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
     private final int maxSideCarSizeInBytes;
     /** Whether to compress the record file and sidecar files. */
     private final boolean compressFiles;
+    /** The uncompressed size of the chunks that are compressed in parallel, or 0 to compress on the writing thread */
+    private final int compressionChunkSize;
     /** The node-specific path to the directory where record files are written */
     private final Path nodeScopedRecordDir;
     /**
@@ -134,7 +135,7 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
     /** The file output stream we are writing to, which writes to {@link #recordFilePath} */
     private OutputStream fileOutputStream;
     /** The gzip output stream we are writing to, wraps {@link #fileOutputStream} */
-    private GZIPOutputStream gzipOutputStream = null;
+    private OutputStream gzipOutputStream = null;
     /** HashingOutputStream for hashing the file contents, wraps {@link #gzipOutputStream} or {@link #fileOutputStream} */
     private HashingOutputStream hashingOutputStream;
     /** The buffered output stream we are writing to, wraps {@link #hashingOutputStream} */
@@ -178,6 +179,7 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
         this.signer = requireNonNull(signer);
         this.compressFiles = config.compressFilesOnCreation();
         this.maxSideCarSizeInBytes = config.sidecarMaxSizeMb() * 1024 * 1024;
+        this.compressionChunkSize = config.compressionChunkSizeKb() * 1024;
 
         // Compute directories for record and sidecar files
         final Path recordDir = fileSystem.getPath(config.logDir());
@@ -223,7 +225,7 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
         try {
             fileOutputStream = Files.newOutputStream(recordFilePath);
             if (compressFiles) {
-                gzipOutputStream = new GZIPOutputStream(fileOutputStream);
+                gzipOutputStream = ParallelGzipOutputStream.gzip(fileOutputStream, compressionChunkSize);
                 hashingOutputStream = new HashingOutputStream(createWholeFileMessageDigest(), gzipOutputStream);
             } else {
                 hashingOutputStream = new HashingOutputStream(createWholeFileMessageDigest(), fileOutputStream);
@@ -402,7 +404,8 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
 
     @NonNull
     private SidecarWriterV6 createSidecarFileWriter(final int id) throws IOException {
-        return new SidecarWriterV6(getSidecarFilePath(id), compressFiles, maxSideCarSizeInBytes, id);
+        return new SidecarWriterV6(
+                getSidecarFilePath(id), compressFiles, compressionChunkSize, maxSideCarSizeInBytes, id);
     }
 
     private void closeSidecarFileWriter() {
@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.records.impl.producers.formats.v6;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An {@link OutputStream} that gzip compresses the data written to it on an {@link Executor}. The data is cut into
+ * chunks of a fixed uncompressed size, and every chunk is compressed independently into a complete gzip member. The
+ * members are written to the delegate stream in order. A gzip file may consist of several members (RFC 1952, section
+ * 2.2), and readers such as {@link java.util.zip.GZIPInputStream} return the concatenated data of all members, so the
+ * result reads the same as the output of a single {@link GZIPOutputStream}.
+ *
+ * <p>The thread writing to this stream only copies bytes into the current chunk, so it is not slowed down by
+ * compression. At most {@code maxPendingChunks} chunks are compressed at the same time; when that many are pending,
+ * writing blocks until the oldest one is done.
+ *
+ * <p>Like {@link GZIPOutputStream}, {@link #flush()} does not compress the partially filled current chunk. This class
+ * is not thread safe, all methods are expected to be called on a single thread.
+ */
+final class ParallelGzipOutputStream extends OutputStream {
+    /** The stream that compressed members are written to */
+    private final OutputStream out;
+    /** The executor that compresses chunks */
+    private final Executor executor;
+    /** The uncompressed size of each chunk, except for the last one */
+    private final int chunkSize;
+    /** The maximum number of chunks that are compressed but not yet written */
+    private final int maxPendingChunks;
+    /** Compressed members not yet written to {@link #out}, in the order of their data */
+    private final ArrayDeque<CompletableFuture<byte[]>> pendingMembers = new ArrayDeque<>();
+    /** The current chunk, which is filled by the write methods */
+    private byte[] chunk;
+    /** The number of bytes in {@link #chunk} */
+    private int chunkLength;
+    /** Whether at least one chunk has been submitted for compression */
+    private boolean anyChunkSubmitted;
+    /** Whether this stream is closed */
+    private boolean closed;
+
+    /**
+     * Creates a new stream.
+     *
+     * @param out the stream to write the compressed data to
+     * @param chunkSize the uncompressed size of each gzip member
+     * @param maxPendingChunks the maximum number of chunks that are compressed at the same time
+     * @param executor the executor to compress chunks on
+     */
+    ParallelGzipOutputStream(
+            @NonNull final OutputStream out,
+            final int chunkSize,
+            final int maxPendingChunks,
+            @NonNull final Executor executor) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (maxPendingChunks <= 0) {
+            throw new IllegalArgumentException("Max pending chunks must be positive");
+        }
+        this.out = requireNonNull(out);
+        this.executor = requireNonNull(executor);
+        this.chunkSize = chunkSize;
+        this.maxPendingChunks = maxPendingChunks;
+        this.chunk = new byte[chunkSize];
+    }
+
+    /**
+     * Wraps a stream so that data written to it is gzip compressed. If {@code chunkSize} is positive, the data is
+     * compressed in chunks of that size on the common fork-join pool, otherwise it is compressed on the writing thread
+     * by a plain {@link GZIPOutputStream}.
+     *
+     * @param out the stream to write the compressed data to
+     * @param chunkSize the uncompressed size of each gzip member, or 0 to use a single member
+     * @return the compressing stream
+     * @throws IOException if the gzip header can't be written
+     */
+    @NonNull
+    static OutputStream gzip(@NonNull final OutputStream out, final int chunkSize) throws IOException {
+        if (chunkSize <= 0) {
+            return new GZIPOutputStream(out);
+        }
+        return new ParallelGzipOutputStream(
+                out, chunkSize, Runtime.getRuntime().availableProcessors(), ForkJoinPool.commonPool());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final int b) throws IOException {
+        ensureOpen();
+        if (chunkLength == chunkSize) {
+            submitChunk();
+        }
+        chunk[chunkLength++] = (byte) b;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(@NonNull final byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        ensureOpen();
+        while (len > 0) {
+            if (chunkLength == chunkSize) {
+                submitChunk();
+            }
+            final int n = Math.min(len, chunkSize - chunkLength);
+            System.arraycopy(b, off, chunk, chunkLength, n);
+            chunkLength += n;
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Waits for all chunks submitted so far to be compressed, writes them, and flushes the delegate stream. The
+     * current, partially filled chunk is not compressed.
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        writeMembers(0);
+        out.flush();
+    }
+
+    /**
+     * Compresses the remaining data, writes all members, and closes the delegate stream. If no data was written at
+     * all, a single empty member is written, so the result is still a valid gzip file.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (chunkLength > 0 || !anyChunkSubmitted) {
+                submitChunk();
+            }
+            writeMembers(0);
+        } finally {
+            out.close();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    /**
+     * Submits the current chunk for compression and starts a new one. Members that are already compressed are
+     * written, and if too many chunks are pending, this method waits for the oldest.
+     */
+    private void submitChunk() throws IOException {
+        final byte[] data = chunk;
+        final int length = chunkLength;
+        pendingMembers.add(CompletableFuture.supplyAsync(() -> compress(data, length), executor));
+        anyChunkSubmitted = true;
+        chunk = new byte[chunkSize];
+        chunkLength = 0;
+        writeMembers(maxPendingChunks);
+    }
+
+    /**
+     * Writes compressed members in order, while the oldest pending member is already compressed or more than
+     * {@code maxPending} members are pending.
+     *
+     * @param maxPending the number of members that may be left pending
+     */
+    private void writeMembers(final int maxPending) throws IOException {
+        while (!pendingMembers.isEmpty()
+                && (pendingMembers.size() > maxPending || pendingMembers.peek().isDone())) {
+            final CompletableFuture<byte[]> member = pendingMembers.poll();
+            try {
+                out.write(member.join());
+            } catch (final CompletionException e) {
+                throw new IOException("Failed to compress data", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Compresses data into a complete gzip member.
+     *
+     * @param data the data to compress
+     * @param length the number of bytes of {@code data} to compress
+     * @return the gzip member
+     */
+    @NonNull
+    private static byte[] compress(@NonNull final byte[] data, final int length) {
+        final ByteArrayOutputStream member = new ByteArrayOutputStream(length / 4 + 64);
+        try (final GZIPOutputStream gzip = new GZIPOutputStream(member)) {
+            gzip.write(data, 0, length);
+        } catch (final IOException e) {
+            // cannot happen, a ByteArrayOutputStream does not throw
+            throw new UncheckedIOException(e);
+        }
+        return member.toByteArray();
+    }
+}
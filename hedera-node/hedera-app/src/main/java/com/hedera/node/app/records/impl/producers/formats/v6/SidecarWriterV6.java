@@ -35,7 +35,6 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * An incremental sidecar file writer that writes a single {@link TransactionSidecarRecord} at a time. It also maintains
@@ -66,10 +65,17 @@ final class SidecarWriterV6 implements AutoCloseable {
      *
      * @param file path to the file to write
      * @param compressFile true if the file should be gzip compressed
+     * @param compressionChunkSize the uncompressed size of the chunks that are compressed in parallel, or 0 to
+     *                             compress on the writing thread
      * @param maxSideCarSizeInBytes the maximum size of a sidecar file in bytes before compression
      * @throws IOException If there was a problem creating the file
      */
-    SidecarWriterV6(@NonNull final Path file, final boolean compressFile, final int maxSideCarSizeInBytes, final int id)
+    SidecarWriterV6(
+            @NonNull final Path file,
+            final boolean compressFile,
+            final int compressionChunkSize,
+            final int maxSideCarSizeInBytes,
+            final int id)
             throws IOException {
         this.id = id;
         this.maxSideCarSizeInBytes = maxSideCarSizeInBytes;
@@ -85,7 +91,7 @@ final class SidecarWriterV6 implements AutoCloseable {
         // create streams
         final var fout = Files.newOutputStream(file);
         if (compressFile) {
-            GZIPOutputStream gout = new GZIPOutputStream(fout);
+            OutputStream gout = ParallelGzipOutputStream.gzip(fout, compressionChunkSize);
             hashingDelegateStream = gout;
             hashingOutputStream = new HashingOutputStream(wholeFileDigest, gout);
             BufferedOutputStream bout = new BufferedOutputStream(hashingOutputStream);
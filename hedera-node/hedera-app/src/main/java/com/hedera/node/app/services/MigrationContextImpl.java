@@ -64,6 +64,12 @@ public record MigrationContextImpl(
                 .incrementAndGet();
     }
 
+    @Override
+    public long peekAtNewEntityNum() {
+        return requireNonNull(writableEntityIdStore, "Entity ID store needs to exist first")
+                .peekAtNextNumber();
+    }
+
     @Override
     public void copyAndReleaseOnDiskState(@NonNull final String stateKey) {
         requireNonNull(stateKey);
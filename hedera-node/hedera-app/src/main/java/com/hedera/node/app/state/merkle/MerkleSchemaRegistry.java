@@ -30,6 +30,7 @@ import com.hedera.node.app.services.MigrationContextImpl;
 import com.hedera.node.app.services.MigrationStateChanges;
 import com.hedera.node.app.spi.state.FilteredReadableStates;
 import com.hedera.node.app.spi.state.FilteredWritableStates;
+import com.hedera.node.config.data.HederaConfig;
 import com.swirlds.common.constructable.ClassConstructorPair;
 import com.swirlds.common.constructable.ConstructableRegistry;
 import com.swirlds.common.constructable.ConstructableRegistryException;
@@ -311,7 +312,10 @@ public class MerkleSchemaRegistry implements SchemaRegistry {
                                         md.stateDefinition().stateKey(),
                                         md.queueNodeClassId(),
                                         md.singletonClassId(),
-                                        md.stateDefinition().valueCodec()));
+                                        md.stateDefinition().valueCodec(),
+                                        bootstrapConfig
+                                                .getConfigData(HederaConfig.class)
+                                                .offHeapQueueStates()));
 
                     } else if (!def.onDisk()) {
                         stateRoot.putServiceStateIfAbsent(md, () -> {
@@ -373,6 +377,7 @@ public class MerkleSchemaRegistry implements SchemaRegistry {
         // multiple id's associated with InMemoryValue. The secret is that the supplier captures the
         // various delegate writers and parsers, and so can parse/write different types of data
         // based on the id.
+        final var offHeapQueues = bootstrapConfig.getConfigData(HederaConfig.class).offHeapQueueStates();
         try {
             constructableRegistry.registerConstructable(new ClassConstructorPair(
                     InMemoryValue.class,
@@ -415,7 +420,8 @@ public class MerkleSchemaRegistry implements SchemaRegistry {
                             md.stateDefinition().stateKey(),
                             md.queueNodeClassId(),
                             md.singletonClassId(),
-                            md.stateDefinition().valueCodec())));
+                            md.stateDefinition().valueCodec(),
+                            offHeapQueues)));
             constructableRegistry.registerConstructable(new ClassConstructorPair(StringLeaf.class, StringLeaf::new));
             constructableRegistry.registerConstructable(new ClassConstructorPair(
                     ValueLeaf.class,
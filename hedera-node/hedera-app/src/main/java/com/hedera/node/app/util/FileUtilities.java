@@ -16,12 +16,11 @@
 
 package com.hedera.node.app.util;
 
-import static com.hedera.node.app.service.file.impl.schemas.V0490FileSchema.BLOBS_KEY;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.FileID;
-import com.hedera.hapi.node.state.file.File;
 import com.hedera.node.app.service.file.FileService;
+import com.hedera.node.app.service.file.impl.ReadableFileStoreImpl;
 import com.hedera.node.config.data.FilesConfig;
 import com.hedera.node.config.data.HederaConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
@@ -38,8 +37,7 @@ public class FileUtilities {
     @NonNull
     public static Bytes getFileContent(@NonNull final State state, @NonNull final FileID fileID) {
         final var states = state.getReadableStates(FileService.NAME);
-        final var filesMap = states.<FileID, File>get(BLOBS_KEY);
-        final var file = filesMap.get(fileID);
+        final var file = new ReadableFileStoreImpl(states).getFileLeaf(fileID);
         return file != null ? file.contents() : Bytes.EMPTY;
     }
 
@@ -18,6 +18,7 @@ package com.hedera.node.app.workflows.handle;
 
 import static com.hedera.hapi.node.base.ResponseCodeEnum.BUSY;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.FAIL_INVALID;
+import static com.hedera.node.app.service.token.impl.schemas.V0550TokenSchema.TOKEN_RELATION_INDEX_CURSOR_KEY;
 import static com.hedera.node.app.spi.workflows.HandleContext.TransactionCategory.USER;
 import static com.hedera.node.app.spi.workflows.record.ExternalizedRecordCustomizer.NOOP_RECORD_CUSTOMIZER;
 import static com.hedera.node.app.spi.workflows.record.StreamBuilder.ReversingBehavior.REVERSIBLE;
@@ -39,6 +40,7 @@ import com.hedera.hapi.block.stream.output.StateChanges;
 import com.hedera.hapi.node.base.ResponseCodeEnum;
 import com.hedera.hapi.node.base.SemanticVersion;
 import com.hedera.hapi.node.base.Transaction;
+import com.hedera.hapi.node.state.token.TokenRelationIndexCursor;
 import com.hedera.hapi.node.transaction.ExchangeRateSet;
 import com.hedera.node.app.blocks.BlockStreamManager;
 import com.hedera.node.app.blocks.impl.BlockStreamBuilder;
@@ -49,6 +51,9 @@ import com.hedera.node.app.fees.FeeManager;
 import com.hedera.node.app.records.BlockRecordManager;
 import com.hedera.node.app.service.schedule.ScheduleService;
 import com.hedera.node.app.service.schedule.WritableScheduleStore;
+import com.hedera.node.app.service.token.TokenService;
+import com.hedera.node.app.service.token.impl.WritableAccountStore;
+import com.hedera.node.app.service.token.impl.WritableTokenRelationStore;
 import com.hedera.node.app.service.token.impl.handlers.staking.StakePeriodManager;
 import com.hedera.node.app.services.ServiceScopeLookup;
 import com.hedera.node.app.spi.authorization.Authorizer;
@@ -71,6 +76,8 @@ import com.hedera.node.app.workflows.handle.steps.UserTxn;
 import com.hedera.node.app.workflows.prehandle.PreHandleWorkflow;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.BlockStreamConfig;
+import com.hedera.node.config.data.SchedulingConfig;
+import com.hedera.node.config.data.TokensConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.platform.system.InitTrigger;
 import com.swirlds.platform.system.Round;
@@ -352,6 +359,7 @@ public class HandleWorkflow {
                     blockRecordManager.advanceConsensusClock(userTxn.consensusNow(), userTxn.state());
                 }
                 expireSchedules(userTxn);
+                indexTokenRelations(userTxn);
                 logPreDispatch(userTxn);
                 final var dispatch = dispatchFor(userTxn, blockStreamConfig);
                 if (userTxn.type() == GENESIS_TRANSACTION) {
@@ -515,7 +523,9 @@ public class HandleWorkflow {
 
     /**
      * Expire schedules that are due to be executed between the last handled
-     * transaction time and the current consensus time.
+     * transaction time and the current consensus time. The work done per user
+     * transaction is bounded by {@link SchedulingConfig#maxExpiryWorkPerTxn()};
+     * any remaining expired schedules are purged by the following transactions.
      *
      * @param userTxn the user transaction
      */
@@ -523,14 +533,40 @@ public class HandleWorkflow {
         if (userTxn.type() == GENESIS_TRANSACTION) {
             return;
         }
-        final var lastHandledTxnTime = userTxn.lastHandledConsensusTime();
-        if (userTxn.consensusNow().getEpochSecond() > lastHandledTxnTime.getEpochSecond()) {
-            final var firstSecondToExpire = lastHandledTxnTime.getEpochSecond();
-            final var lastSecondToExpire = userTxn.consensusNow().getEpochSecond() - 1;
-            final var scheduleStore = new WritableStoreFactory(
-                            userTxn.stack(), ScheduleService.NAME, userTxn.config(), storeMetricsService)
-                    .getStore(WritableScheduleStore.class);
-            scheduleStore.purgeExpiredSchedulesBetween(firstSecondToExpire, lastSecondToExpire);
+        final var firstSecondToExpire = userTxn.lastHandledConsensusTime().getEpochSecond();
+        final var lastSecondToExpire = userTxn.consensusNow().getEpochSecond() - 1;
+        final var maxWork = userTxn.config().getConfigData(SchedulingConfig.class).maxExpiryWorkPerTxn();
+        final var scheduleStore = new WritableStoreFactory(
+                        userTxn.stack(), ScheduleService.NAME, userTxn.config(), storeMetricsService)
+                .getStore(WritableScheduleStore.class);
+        if (scheduleStore.purgeExpiredSchedulesBetween(firstSecondToExpire, lastSecondToExpire, maxWork)) {
+            userTxn.stack().commitSystemStateChanges();
+        }
+    }
+
+    /**
+     * Indexes the next few token relations of the accounts that existed before the index of each account's token
+     * relations, until all of them are indexed; after that, this only reads the index cursor.
+     *
+     * @param userTxn the user transaction
+     */
+    private void indexTokenRelations(@NonNull final UserTxn userTxn) {
+        if (userTxn.type() == GENESIS_TRANSACTION) {
+            return;
+        }
+        final var cursor = userTxn.stack()
+                .getReadableStates(TokenService.NAME)
+                .<TokenRelationIndexCursor>getSingleton(TOKEN_RELATION_INDEX_CURSOR_KEY)
+                .get();
+        if (cursor == null || cursor.nextAccountNumber() > cursor.lastAccountNumber()) {
+            return;
+        }
+        final var maxWork = userTxn.config().getConfigData(TokensConfig.class).maxRelsIndexedPerTxn();
+        final var tokenStoreFactory =
+                new WritableStoreFactory(userTxn.stack(), TokenService.NAME, userTxn.config(), storeMetricsService);
+        final var accountStore = tokenStoreFactory.getStore(WritableAccountStore.class);
+        final var tokenRelationStore = tokenStoreFactory.getStore(WritableTokenRelationStore.class);
+        if (tokenRelationStore.indexExistingRelations(accountStore, maxWork)) {
             userTxn.stack().commitSystemStateChanges();
         }
     }
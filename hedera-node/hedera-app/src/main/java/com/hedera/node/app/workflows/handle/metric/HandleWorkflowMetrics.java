@@ -24,7 +24,9 @@ import com.hedera.node.config.data.StatsConfig;
 import com.swirlds.common.metrics.IntegerPairAccumulator;
 import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.RunningAverageMetric.Config;
+import com.swirlds.metrics.api.Histogram;
 import com.swirlds.metrics.api.IntegerAccumulator;
+import com.swirlds.metrics.api.LongGauge;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.EnumMap;
@@ -45,9 +47,22 @@ public class HandleWorkflowMetrics {
             .withDescription("average EVM gas used per second of consensus time")
             .withFormat("%,13.6f");
 
+    private static final Histogram.Config TXN_DURATION_CONFIG = new Histogram.Config("app", "transactionDuration")
+            .withDescription("The distribution of the duration of all transactions in nanoseconds")
+            .withUnit("ns");
+
+    private static final LongGauge.Config STAKING_PERIOD_UPDATE_DURATION_CONFIG = new LongGauge.Config(
+                    "app", "stakingPeriodUpdateDuration")
+            .withDescription("The duration of the most recent end-of-staking-period update in nanoseconds")
+            .withUnit("ns");
+
     private final Map<HederaFunctionality, TransactionMetric> transactionMetrics =
             new EnumMap<>(HederaFunctionality.class);
 
+    private final Histogram transactionDuration;
+
+    private final LongGauge stakingPeriodUpdateDuration;
+
     private final RunningAverageMetric gasPerConsSec;
 
     private long gasUsedThisConsensusSecond = 0L;
@@ -79,6 +94,8 @@ public class HandleWorkflowMetrics {
             final var avgMetric = metrics.getOrCreate(avgConfig);
             transactionMetrics.put(functionality, new TransactionMetric(maxMetric, avgMetric));
         }
+        transactionDuration = metrics.getOrCreate(TXN_DURATION_CONFIG);
+        stakingPeriodUpdateDuration = metrics.getOrCreate(STAKING_PERIOD_UPDATE_DURATION_CONFIG);
 
         final StatsConfig statsConfig = configProvider.getConfiguration().getConfigData(StatsConfig.class);
         gasPerConsSec = metrics.getOrCreate(GAS_PER_CONS_SEC_CONFIG.withHalfLife(statsConfig.runningAvgHalfLifeSecs()));
@@ -103,6 +120,17 @@ public class HandleWorkflowMetrics {
             metric.max.update(duration);
             metric.avg.update(duration, 1);
         }
+        transactionDuration.update(duration);
+    }
+
+    /**
+     * Update the duration of the end-of-staking-period update, which runs with the first transaction of a new
+     * staking period
+     *
+     * @param duration the duration of the update in {@code ns}
+     */
+    public void updateStakingPeriodUpdateDuration(final long duration) {
+        stakingPeriodUpdateDuration.set(duration);
     }
 
     public void switchConsensusSecond() {
@@ -25,6 +25,7 @@ import com.hedera.node.app.fees.ExchangeRateManager;
 import com.hedera.node.app.records.ReadableBlockRecordStore;
 import com.hedera.node.app.service.token.impl.handlers.staking.EndOfStakingPeriodUpdater;
 import com.hedera.node.app.service.token.records.TokenContext;
+import com.hedera.node.app.workflows.handle.metric.HandleWorkflowMetrics;
 import com.hedera.node.app.workflows.handle.stack.SavepointStackImpl;
 import com.hedera.node.config.data.StakingConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -47,13 +48,16 @@ public class NodeStakeUpdates {
 
     private final EndOfStakingPeriodUpdater stakingCalculator;
     private final ExchangeRateManager exchangeRateManager;
+    private final HandleWorkflowMetrics handleWorkflowMetrics;
 
     @Inject
     public NodeStakeUpdates(
             @NonNull final EndOfStakingPeriodUpdater stakingPeriodCalculator,
-            @NonNull final ExchangeRateManager exchangeRateManager) {
+            @NonNull final ExchangeRateManager exchangeRateManager,
+            @NonNull final HandleWorkflowMetrics handleWorkflowMetrics) {
         this.stakingCalculator = requireNonNull(stakingPeriodCalculator);
         this.exchangeRateManager = requireNonNull(exchangeRateManager);
+        this.handleWorkflowMetrics = requireNonNull(handleWorkflowMetrics);
     }
 
     /**
@@ -97,6 +101,7 @@ public class NodeStakeUpdates {
                 logger.error("CATASTROPHIC failure updating midnight rates", e);
                 stack.rollbackFullStack();
             }
+            final long start = System.nanoTime();
             try {
                 // handle staking updates
                 final var streamBuilder =
@@ -109,6 +114,7 @@ public class NodeStakeUpdates {
                 logger.error("CATASTROPHIC failure updating end-of-day stakes", e);
                 stack.rollbackFullStack();
             }
+            handleWorkflowMetrics.updateStakingPeriodUpdateDuration(System.nanoTime() - start);
         }
     }
 
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks.impl;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.node.app.blocks.BlockItemWriter;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.VersionedConfiguration;
+import com.hedera.node.config.data.BlockStreamConfig;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
+import com.swirlds.state.spi.info.SelfNodeInfo;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncBlockItemWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private ConfigProvider configProvider;
+
+    @Mock
+    private SelfNodeInfo selfNodeInfo;
+
+    @Mock
+    private BlockStreamConfig blockStreamConfig;
+
+    @Mock
+    private VersionedConfiguration versionedConfiguration;
+
+    @Mock
+    private FileSystem fileSystem;
+
+    @Mock
+    private BlockItemWriter delegate;
+
+    private BlockItemWriteQueue writeQueue;
+
+    @BeforeEach
+    void setUp() {
+        when(configProvider.getConfiguration()).thenReturn(versionedConfiguration);
+        when(versionedConfiguration.getConfigData(BlockStreamConfig.class)).thenReturn(blockStreamConfig);
+        // a tiny queue makes the caller wait for the writer thread
+        when(blockStreamConfig.fileWriteQueueCapacity()).thenReturn(2);
+        writeQueue = new BlockItemWriteQueue(configProvider, new NoOpMetrics());
+    }
+
+    @Test
+    void closedBlockContainsAllItemsInOrder() throws IOException {
+        when(blockStreamConfig.compressFilesOnCreation()).thenReturn(true);
+        when(blockStreamConfig.blockFileDir()).thenReturn("N/A");
+        when(fileSystem.getPath(anyString())).thenReturn(tempDir);
+        when(selfNodeInfo.memo()).thenReturn("0");
+        final var subject = new AsyncBlockItemWriter(
+                new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem), writeQueue);
+
+        subject.openBlock(1);
+        final int numItems = 100;
+        for (int i = 1; i <= numItems; i++) {
+            subject.writeItem(Bytes.wrap(new byte[] {(byte) i}));
+        }
+        subject.closeBlock();
+
+        final var expectedBytes = new byte[3 * numItems];
+        for (int i = 0; i < numItems; i++) {
+            expectedBytes[3 * i] = 10;
+            expectedBytes[3 * i + 1] = 1;
+            expectedBytes[3 * i + 2] = (byte) (i + 1);
+        }
+        final var blockFile = tempDir.resolve("block-0").resolve("000000000000000000000000000000000001.blk.gz");
+        try (final var in = new GZIPInputStream(Files.newInputStream(blockFile))) {
+            assertArrayEquals(expectedBytes, in.readAllBytes(), "Items were not written in order");
+        }
+    }
+
+    @Test
+    void failedWriteIsRethrownOnClose() {
+        final var failure = new IllegalStateException("Disk full");
+        given(delegate.writeItem(any())).willThrow(failure);
+        final var subject = new AsyncBlockItemWriter(delegate, writeQueue);
+
+        subject.openBlock(1);
+        subject.writeItem(Bytes.wrap(new byte[] {1}));
+        subject.writeItem(Bytes.wrap(new byte[] {2}));
+
+        assertThatThrownBy(subject::closeBlock).isSameAs(failure);
+        verify(delegate).writeItem(Bytes.wrap(new byte[] {1}));
+        verify(delegate, never()).writeItem(Bytes.wrap(new byte[] {2}));
+        verify(delegate, never()).closeBlock();
+    }
+
+    @Test
+    void rejectsInvalidArgumentsWithoutQueueing() {
+        final var subject = new AsyncBlockItemWriter(delegate, writeQueue);
+
+        assertThatThrownBy(() -> subject.openBlock(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> subject.writeItem(Bytes.EMPTY)).isInstanceOf(IllegalArgumentException.class);
+        subject.closeBlock();
+
+        verify(delegate, never()).openBlock(-1);
+        verify(delegate).closeBlock();
+    }
+}
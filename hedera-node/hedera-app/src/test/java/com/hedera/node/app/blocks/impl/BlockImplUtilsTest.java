@@ -96,6 +96,7 @@ class BlockImplUtilsTest {
             case STATE_ID_ENTITY_ID -> "EntityIdService.ENTITY_ID";
             case STATE_ID_MIDNIGHT_RATES -> "FeeService.MIDNIGHT_RATES";
             case STATE_ID_FILES -> "FileService.FILES";
+            case STATE_ID_FILE_CHUNKS -> "FileService.FILE_CHUNKS";
             case STATE_ID_UPGRADE_DATA_150 -> "FileService.UPGRADE_DATA[FileID[shardNum=0, realmNum=0, fileNum=150]]";
             case STATE_ID_UPGRADE_DATA_151 -> "FileService.UPGRADE_DATA[FileID[shardNum=0, realmNum=0, fileNum=151]]";
             case STATE_ID_UPGRADE_DATA_152 -> "FileService.UPGRADE_DATA[FileID[shardNum=0, realmNum=0, fileNum=152]]";
@@ -116,6 +117,7 @@ class BlockImplUtilsTest {
             case STATE_ID_SCHEDULES_BY_EQUALITY -> "ScheduleService.SCHEDULES_BY_EQUALITY";
             case STATE_ID_SCHEDULES_BY_EXPIRY -> "ScheduleService.SCHEDULES_BY_EXPIRY_SEC";
             case STATE_ID_SCHEDULES_BY_ID -> "ScheduleService.SCHEDULES_BY_ID";
+            case STATE_ID_SCHEDULE_EXPIRY_CURSOR -> "ScheduleService.SCHEDULE_EXPIRY_CURSOR";
             case STATE_ID_ACCOUNTS -> "TokenService.ACCOUNTS";
             case STATE_ID_ALIASES -> "TokenService.ALIASES";
             case STATE_ID_NFTS -> "TokenService.NFTS";
@@ -123,6 +125,8 @@ class BlockImplUtilsTest {
             case STATE_ID_STAKING_INFO -> "TokenService.STAKING_INFOS";
             case STATE_ID_NETWORK_REWARDS -> "TokenService.STAKING_NETWORK_REWARDS";
             case STATE_ID_TOKEN_RELATIONS -> "TokenService.TOKEN_RELS";
+            case STATE_ID_TOKEN_RELATION_PAGES -> "TokenService.TOKEN_RELATION_PAGES";
+            case STATE_ID_TOKEN_RELATION_INDEX_CURSOR -> "TokenService.TOKEN_RELATION_INDEX_CURSOR";
             case STATE_ID_TOKENS -> "TokenService.TOKENS";
         };
     }
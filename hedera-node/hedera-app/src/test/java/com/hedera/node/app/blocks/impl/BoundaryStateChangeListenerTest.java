@@ -31,6 +31,7 @@ import com.hedera.hapi.block.stream.BlockItem;
 import com.hedera.hapi.block.stream.output.StateChange;
 import com.hedera.hapi.node.state.primitives.ProtoBytes;
 import com.hedera.hapi.node.state.primitives.ProtoString;
+import com.hedera.hapi.node.state.token.TokenRelationIndexCursor;
 import com.hedera.node.app.blocks.BlockStreamService;
 import com.hedera.node.app.blocks.schemas.V0540BlockStreamSchema;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
@@ -118,4 +119,17 @@ class BoundaryStateChangeListenerTest {
         assertEquals(STATE_ID, stateChange.stateId());
         assertEquals(PROTO_STRING.value(), stateChange.singletonUpdate().stringValue());
     }
+
+    @Test
+    void testTokenRelationIndexCursorSingletonUpdateChange() {
+        final var cursor = TokenRelationIndexCursor.newBuilder()
+                .nextAccountNumber(2L)
+                .lastAccountNumber(3L)
+                .build();
+        listener.singletonUpdateChange(STATE_ID, cursor);
+
+        StateChange stateChange = listener.allStateChanges().getFirst();
+        assertEquals(SINGLETON_UPDATE, stateChange.changeOperation().kind());
+        assertEquals(cursor, stateChange.singletonUpdate().tokenRelationIndexCursorValue());
+    }
 }
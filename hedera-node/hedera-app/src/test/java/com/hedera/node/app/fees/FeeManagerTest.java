@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.fees;
+
+import static com.hedera.hapi.node.base.HederaFunctionality.CONSENSUS_SUBMIT_MESSAGE;
+import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTO_GET_INFO;
+import static com.hedera.hapi.node.base.HederaFunctionality.CRYPTO_TRANSFER;
+import static com.hedera.hapi.node.base.HederaFunctionality.TOKEN_MINT;
+import static com.hedera.hapi.node.base.ResponseCodeEnum.SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.hedera.hapi.node.base.CurrentAndNextFeeSchedule;
+import com.hedera.hapi.node.base.FeeComponents;
+import com.hedera.hapi.node.base.FeeData;
+import com.hedera.hapi.node.base.FeeSchedule;
+import com.hedera.hapi.node.base.SubType;
+import com.hedera.hapi.node.base.TimestampSeconds;
+import com.hedera.hapi.node.base.TransactionFeeSchedule;
+import com.hedera.hapi.node.transaction.ExchangeRate;
+import com.hedera.node.app.fees.congestion.CongestionMultipliers;
+import com.hedera.node.app.fixtures.state.FakeState;
+import com.hedera.node.app.store.ReadableStoreFactory;
+import com.hedera.node.app.workflows.TransactionInfo;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FeeManagerTest {
+    private static final long EXPIRY = 1_234_567L;
+    private static final Instant BEFORE_EXPIRY = Instant.ofEpochSecond(EXPIRY - 1);
+    private static final Instant AFTER_EXPIRY = Instant.ofEpochSecond(EXPIRY + 1);
+
+    @Mock
+    private ExchangeRateManager exchangeRateManager;
+
+    @Mock
+    private CongestionMultipliers congestionMultipliers;
+
+    private FeeManager subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new FeeManager(exchangeRateManager, congestionMultipliers);
+    }
+
+    @Test
+    void looksUpPricesByFunctionalityAndSubType() {
+        final var transferPrices = feeDataWithConstant(1, SubType.DEFAULT);
+        final var fungibleMintPrices = feeDataWithConstant(2, SubType.TOKEN_FUNGIBLE_COMMON);
+        final var uniqueMintPrices = feeDataWithConstant(3, SubType.TOKEN_NON_FUNGIBLE_UNIQUE);
+        final var nextTransferPrices = feeDataWithConstant(4, SubType.DEFAULT);
+        final var schedules = CurrentAndNextFeeSchedule.newBuilder()
+                .currentFeeSchedule(FeeSchedule.newBuilder()
+                        .transactionFeeSchedule(
+                                TransactionFeeSchedule.newBuilder()
+                                        .hederaFunctionality(CRYPTO_TRANSFER)
+                                        .feeData(transferPrices)
+                                        .build(),
+                                TransactionFeeSchedule.newBuilder()
+                                        .hederaFunctionality(TOKEN_MINT)
+                                        .fees(fungibleMintPrices, uniqueMintPrices)
+                                        .build())
+                        .expiryTime(new TimestampSeconds(EXPIRY))
+                        .build())
+                .nextFeeSchedule(FeeSchedule.newBuilder()
+                        .transactionFeeSchedule(TransactionFeeSchedule.newBuilder()
+                                .hederaFunctionality(CRYPTO_TRANSFER)
+                                .feeData(nextTransferPrices)
+                                .build())
+                        .build())
+                .build();
+
+        assertEquals(SUCCESS, subject.update(CurrentAndNextFeeSchedule.PROTOBUF.toBytes(schedules)));
+
+        assertEquals(transferPrices, subject.getFeeData(CRYPTO_TRANSFER, BEFORE_EXPIRY, SubType.DEFAULT));
+        assertEquals(
+                fungibleMintPrices, subject.getFeeData(TOKEN_MINT, BEFORE_EXPIRY, SubType.TOKEN_FUNGIBLE_COMMON));
+        assertEquals(
+                uniqueMintPrices, subject.getFeeData(TOKEN_MINT, BEFORE_EXPIRY, SubType.TOKEN_NON_FUNGIBLE_UNIQUE));
+        assertEquals(nextTransferPrices, subject.getFeeData(CRYPTO_TRANSFER, AFTER_EXPIRY, SubType.DEFAULT));
+        final var defaultPrices = subject.getFeeData(CONSENSUS_SUBMIT_MESSAGE, BEFORE_EXPIRY, SubType.DEFAULT);
+        assertEquals(100_000L, defaultPrices.nodedataOrThrow().min());
+        assertSame(defaultPrices, subject.getFeeData(TOKEN_MINT, BEFORE_EXPIRY, SubType.DEFAULT));
+    }
+
+    @Test
+    void calculatesQueryFeesWithCachedConversions() {
+        final var schedules = CurrentAndNextFeeSchedule.newBuilder()
+                .currentFeeSchedule(FeeSchedule.newBuilder()
+                        .transactionFeeSchedule(TransactionFeeSchedule.newBuilder()
+                                .hederaFunctionality(CRYPTO_GET_INFO)
+                                .feeData(feeDataWithConstant(10_000, SubType.DEFAULT))
+                                .build())
+                        .expiryTime(new TimestampSeconds(EXPIRY))
+                        .build())
+                .build();
+        subject.update(CurrentAndNextFeeSchedule.PROTOBUF.toBytes(schedules));
+        final var storeFactory = new ReadableStoreFactory(new FakeState());
+        given(exchangeRateManager.activeRate(BEFORE_EXPIRY))
+                .willReturn(new ExchangeRate(2, 1, null))
+                .willReturn(new ExchangeRate(3, 1, null));
+        given(congestionMultipliers.maxCurrentMultiplier(any(TransactionInfo.class), eq(storeFactory)))
+                .willReturn(1L);
+
+        final var fees = subject.createFeeCalculator(CRYPTO_GET_INFO, BEFORE_EXPIRY, storeFactory).calculate();
+        final var feesAtNewRate = subject.createFeeCalculator(CRYPTO_GET_INFO, BEFORE_EXPIRY, storeFactory).calculate();
+
+        assertEquals(20L, fees.nodeFee());
+        assertEquals(30L, feesAtNewRate.nodeFee());
+    }
+
+    private static FeeData feeDataWithConstant(final long constant, final SubType subType) {
+        final var components = FeeComponents.newBuilder()
+                .constant(constant)
+                .min(0)
+                .max(Long.MAX_VALUE)
+                .build();
+        return FeeData.newBuilder()
+                .nodedata(components)
+                .networkdata(components)
+                .servicedata(components)
+                .subType(subType)
+                .build();
+    }
+}
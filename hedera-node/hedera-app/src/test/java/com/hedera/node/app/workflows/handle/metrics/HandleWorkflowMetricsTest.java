@@ -27,6 +27,7 @@ import com.hedera.node.app.workflows.handle.metric.HandleWorkflowMetrics;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.VersionedConfigImpl;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.swirlds.metrics.api.Histogram;
 import com.swirlds.metrics.api.Metrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -56,7 +57,7 @@ class HandleWorkflowMetricsTest {
 
         // then
         final int transactionMetricsCount = (HederaFunctionality.values().length - 1) * 2;
-        assertThat(metrics.findMetricsByCategory("app")).hasSize(transactionMetricsCount + 1);
+        assertThat(metrics.findMetricsByCategory("app")).hasSize(transactionMetricsCount + 3);
     }
 
     @Test
@@ -71,6 +72,19 @@ class HandleWorkflowMetricsTest {
                 .isEqualTo(0);
     }
 
+    @Test
+    void testUpdateStakingPeriodUpdateDuration() {
+        // given
+        final var handleWorkflowMetrics = new HandleWorkflowMetrics(metrics, configProvider);
+
+        // when
+        handleWorkflowMetrics.updateStakingPeriodUpdateDuration(1_234L);
+
+        // then
+        assertThat(metrics.getMetric("app", "stakingPeriodUpdateDuration").get(VALUE))
+                .isEqualTo(1_234L);
+    }
+
     @SuppressWarnings("DataFlowIssue")
     @Test
     void testUpdateTransactionDurationWithInvalidArguments() {
@@ -130,6 +144,23 @@ class HandleWorkflowMetricsTest {
                 .isEqualTo(7);
     }
 
+    @Test
+    void testUpdateTransactionDurationHistogram() {
+        // given
+        final var handleWorkflowMetrics = new HandleWorkflowMetrics(metrics, configProvider);
+
+        // when
+        handleWorkflowMetrics.updateTransactionDuration(HederaFunctionality.CRYPTO_CREATE, 10);
+        handleWorkflowMetrics.updateTransactionDuration(HederaFunctionality.CRYPTO_TRANSFER, 12);
+        handleWorkflowMetrics.updateTransactionDuration(HederaFunctionality.CRYPTO_TRANSFER, 14);
+
+        // then
+        final var histogram = (Histogram) metrics.getMetric("app", "transactionDuration");
+        assertThat(histogram.getCount()).isEqualTo(3);
+        assertThat(histogram.getMean()).isCloseTo(12.0, offset(1e-6));
+        assertThat(histogram.getValueAtPercentile(50.0)).isEqualTo(12);
+    }
+
     @Test
     void testInitialStartConsensusRound() {
         // given
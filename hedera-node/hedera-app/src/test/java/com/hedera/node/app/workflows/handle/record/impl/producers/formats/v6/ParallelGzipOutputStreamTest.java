@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.records.impl.producers.formats.v6;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class ParallelGzipOutputStreamTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 1000, 4096, 100_000})
+    void compressedDataReadsBackAsWritten(final int dataLength) throws IOException {
+        final byte[] data = new byte[dataLength];
+        final Random random = new Random(dataLength);
+        // compressible, but not trivially so
+        for (int i = 0; i < dataLength; i++) {
+            data[i] = (byte) random.nextInt(16);
+        }
+
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (final ParallelGzipOutputStream out =
+                new ParallelGzipOutputStream(compressed, 1024, 2, ForkJoinPool.commonPool())) {
+            // mix single byte and array writes, and flush in between
+            int i = 0;
+            while (i < dataLength) {
+                if (i % 7 == 0) {
+                    out.write(data[i++]);
+                } else {
+                    final int len = Math.min(dataLength - i, 777);
+                    out.write(data, i, len);
+                    i += len;
+                }
+                if (i % 10 == 0) {
+                    out.flush();
+                }
+            }
+        }
+
+        try (final GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(data);
+        }
+    }
+
+    @Test
+    void closeOnlyCompressesTheLastPartialChunk() throws IOException {
+        final int chunkSize = 64 * 1024;
+        final AtomicInteger compressedChunks = new AtomicInteger();
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        final ParallelGzipOutputStream out = new ParallelGzipOutputStream(compressed, chunkSize, 4, task -> {
+            compressedChunks.incrementAndGet();
+            task.run();
+        });
+
+        // a record file of ten chunks minus a bit, written in record sized pieces
+        final byte[] record = new byte[1000];
+        for (int i = 0; i < 10 * chunkSize / record.length; i++) {
+            out.write(record);
+        }
+        // every full chunk was compressed while the data was written
+        assertThat(compressedChunks.get()).isEqualTo(9);
+
+        out.close();
+        // so closing compresses only the last, partially filled chunk
+        assertThat(compressedChunks.get()).isEqualTo(10);
+        try (final GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertThat(in.readAllBytes()).hasSize(10 * chunkSize / record.length * record.length);
+        }
+    }
+
+    @Test
+    void singleMemberWhenChunkSizeIsZero() throws IOException {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (final var out = ParallelGzipOutputStream.gzip(compressed, 0)) {
+            assertThat(out).isNotInstanceOf(ParallelGzipOutputStream.class);
+            out.write(new byte[] {1, 2, 3});
+        }
+        try (final GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertThat(in.readAllBytes()).containsExactly(1, 2, 3);
+        }
+    }
+}
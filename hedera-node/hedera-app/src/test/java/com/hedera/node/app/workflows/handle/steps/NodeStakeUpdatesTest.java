@@ -19,6 +19,7 @@ package com.hedera.node.app.workflows.handle.steps;
 import static com.hedera.node.app.fixtures.AppTestBase.DEFAULT_CONFIG;
 import static com.hedera.node.app.service.token.impl.handlers.staking.StakePeriodManager.DEFAULT_STAKING_PERIOD_MINS;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -33,6 +34,7 @@ import com.hedera.node.app.fees.ExchangeRateManager;
 import com.hedera.node.app.records.ReadableBlockRecordStore;
 import com.hedera.node.app.service.token.impl.handlers.staking.EndOfStakingPeriodUpdater;
 import com.hedera.node.app.service.token.records.TokenContext;
+import com.hedera.node.app.workflows.handle.metric.HandleWorkflowMetrics;
 import com.hedera.node.app.workflows.handle.stack.SavepointStackImpl;
 import com.hedera.node.config.data.StakingConfig;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
@@ -65,21 +67,26 @@ class NodeStakeUpdatesTest {
     @Mock
     private SavepointStackImpl stack;
 
+    @Mock
+    private HandleWorkflowMetrics handleWorkflowMetrics;
+
     private NodeStakeUpdates subject;
 
     @BeforeEach
     void setUp() {
         given(context.readableStore(ReadableBlockRecordStore.class)).willReturn(blockStore);
 
-        subject = new NodeStakeUpdates(stakingPeriodCalculator, exchangeRateManager);
+        subject = new NodeStakeUpdates(stakingPeriodCalculator, exchangeRateManager, handleWorkflowMetrics);
     }
 
     @SuppressWarnings("DataFlowIssue")
     @Test
     void nullArgConstructor() {
-        Assertions.assertThatThrownBy(() -> new NodeStakeUpdates(null, exchangeRateManager))
+        Assertions.assertThatThrownBy(() -> new NodeStakeUpdates(null, exchangeRateManager, handleWorkflowMetrics))
+                .isInstanceOf(NullPointerException.class);
+        Assertions.assertThatThrownBy(() -> new NodeStakeUpdates(stakingPeriodCalculator, null, handleWorkflowMetrics))
                 .isInstanceOf(NullPointerException.class);
-        Assertions.assertThatThrownBy(() -> new NodeStakeUpdates(stakingPeriodCalculator, null))
+        Assertions.assertThatThrownBy(() -> new NodeStakeUpdates(stakingPeriodCalculator, exchangeRateManager, null))
                 .isInstanceOf(NullPointerException.class);
     }
 
@@ -97,6 +104,7 @@ class NodeStakeUpdatesTest {
 
         verify(stakingPeriodCalculator).updateNodes(context, ExchangeRateSet.DEFAULT);
         verify(exchangeRateManager).updateMidnightRates(stack);
+        verify(handleWorkflowMetrics).updateStakingPeriodUpdateDuration(anyLong());
     }
 
     @Test
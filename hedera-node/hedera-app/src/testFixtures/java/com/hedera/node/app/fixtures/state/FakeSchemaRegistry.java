@@ -213,6 +213,11 @@ public class FakeSchemaRegistry implements SchemaRegistry {
                 return nextEntityNum.getAndIncrement();
             }
 
+            @Override
+            public long peekAtNewEntityNum() {
+                return nextEntityNum.get();
+            }
+
             @Override
             public Map<String, Object> sharedValues() {
                 return sharedValues;
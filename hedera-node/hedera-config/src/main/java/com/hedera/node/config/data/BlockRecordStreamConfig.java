@@ -37,6 +37,11 @@ import com.swirlds.config.api.validation.annotation.Min;
  * @param compressFilesOnCreation when true record and sidecar files are compressed with GZip when created
  * @param numOfBlockHashesInState the number of block hashes to keep in state for block history
  * @param streamFileProducer the type of stream file producer to use. Currently only "concurrent" is supported
+ * @param compressionChunkSizeKb the uncompressed size in KB of the chunks that record and sidecar files are cut into
+ *                               when compressed; chunks are compressed in parallel as separate gzip members. Only
+ *                               the last, partially filled chunk is compressed when a file is closed, so this should
+ *                               stay small compared to a typical file. If 0, files are compressed on the writing
+ *                               thread as a single gzip member
  */
 @ConfigData("hedera.recordStream")
 public record BlockRecordStreamConfig(
@@ -51,4 +56,5 @@ public record BlockRecordStreamConfig(
         @ConfigProperty(defaultValue = "false") @NetworkProperty boolean logEveryTransaction,
         @ConfigProperty(defaultValue = "true") @NetworkProperty boolean compressFilesOnCreation, // NOT SURE
         @ConfigProperty(defaultValue = "256") @Min(1) @Max(4096) @NetworkProperty int numOfBlockHashesInState,
-        @ConfigProperty(defaultValue = "concurrent") @NetworkProperty String streamFileProducer) {}
+        @ConfigProperty(defaultValue = "concurrent") @NetworkProperty String streamFileProducer,
+        @ConfigProperty(defaultValue = "64") @Min(0) @NodeProperty int compressionChunkSizeKb) {}
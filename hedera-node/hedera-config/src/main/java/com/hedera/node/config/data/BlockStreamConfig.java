@@ -24,6 +24,7 @@ import com.hedera.node.config.types.BlockStreamWriterMode;
 import com.hedera.node.config.types.StreamMode;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
 
 /**
  * Configuration for the block stream.
@@ -31,6 +32,9 @@ import com.swirlds.config.api.ConfigProperty;
  * @param writerMode if we are writing to a file or gRPC stream
  * @param blockFileDir directory to store block files
  * @param compressFilesOnCreation whether to compress files on creation
+ * @param roundsPerBlock the number of rounds to include in each block
+ * @param asyncFileWrites whether block files are written by a background thread instead of the caller
+ * @param fileWriteQueueCapacity the maximum number of pending writes queued for the background writer thread
  */
 @ConfigData("blockStream")
 public record BlockStreamConfig(
@@ -38,7 +42,9 @@ public record BlockStreamConfig(
         @ConfigProperty(defaultValue = "FILE") @NodeProperty BlockStreamWriterMode writerMode,
         @ConfigProperty(defaultValue = "data/block-streams") @NodeProperty String blockFileDir,
         @ConfigProperty(defaultValue = "true") @NetworkProperty boolean compressFilesOnCreation,
-        @ConfigProperty(defaultValue = "1") @NetworkProperty int roundsPerBlock) {
+        @ConfigProperty(defaultValue = "1") @NetworkProperty int roundsPerBlock,
+        @ConfigProperty(defaultValue = "true") @NodeProperty boolean asyncFileWrites,
+        @ConfigProperty(defaultValue = "8192") @Min(1) @NodeProperty int fileWriteQueueCapacity) {
     public boolean streamBlocks() {
         return streamMode == BOTH;
     }
@@ -18,6 +18,7 @@ package com.hedera.node.config.data;
 
 import com.hedera.hapi.streams.SidecarType;
 import com.hedera.node.config.NetworkProperty;
+import com.hedera.node.config.NodeProperty;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
 import java.util.Set;
@@ -91,4 +92,6 @@ public record ContractsConfig(
                 boolean chargeGasOnPreEvmException,
         @ConfigProperty(value = "evm.nonExtantContractsFail", defaultValue = "0") @NetworkProperty
                 Set<Long> evmNonExtantContractsFail,
-        @ConfigProperty(value = "evm.version", defaultValue = "v0.50") @NetworkProperty String evmVersion) {}
+        @ConfigProperty(value = "evm.version", defaultValue = "v0.50") @NetworkProperty String evmVersion,
+        @ConfigProperty(value = "storageSlotCache.maxSize", defaultValue = "100000") @NodeProperty
+                int storageSlotCacheMaxSize) {}
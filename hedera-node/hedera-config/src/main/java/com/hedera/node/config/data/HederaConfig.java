@@ -57,4 +57,7 @@ public record HederaConfig(
         // FUTURE: Set<HederaFunctionality>.
         @ConfigProperty(value = "workflows.enabled", defaultValue = "true") @NetworkProperty String workflowsEnabled,
         @ConfigProperty(value = "ingestThrottle.enabled", defaultValue = "true") @NetworkProperty
-                boolean ingestThrottleEnabled) {}
+                boolean ingestThrottleEnabled,
+        // Queue states have the same hash on- and off-heap, so each node can choose independently
+        @ConfigProperty(value = "state.offHeapQueues", defaultValue = "false") @NodeProperty
+                boolean offHeapQueueStates) {}
@@ -29,6 +29,7 @@ public record SchedulingConfig(
         @ConfigProperty(defaultValue = "100") @NetworkProperty long maxTxnPerSec,
         @ConfigProperty(defaultValue = "10000000") @NetworkProperty long maxNumber,
         @ConfigProperty(defaultValue = "5356800") @NetworkProperty long maxExpirationFutureSeconds,
+        @ConfigProperty(defaultValue = "200") @NetworkProperty int maxExpiryWorkPerTxn,
         @ConfigProperty(defaultValue =
                 "CryptoTransfer,ConsensusSubmitMessage,TokenBurn,TokenMint,CryptoApproveAllowance")
                 @NetworkProperty HederaFunctionalitySet whitelist) {}
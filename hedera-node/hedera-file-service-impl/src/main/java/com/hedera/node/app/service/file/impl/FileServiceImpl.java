@@ -19,6 +19,7 @@ package com.hedera.node.app.service.file.impl;
 import com.hedera.node.app.service.addressbook.ReadableNodeStore;
 import com.hedera.node.app.service.file.FileService;
 import com.hedera.node.app.service.file.impl.schemas.V0490FileSchema;
+import com.hedera.node.app.service.file.impl.schemas.V0550FileSchema;
 import com.hedera.node.app.spi.RpcService;
 import com.hedera.node.app.spi.workflows.SystemContext;
 import com.swirlds.state.spi.SchemaRegistry;
@@ -46,6 +47,7 @@ public final class FileServiceImpl implements FileService {
     @Override
     public void registerSchemas(@NonNull final SchemaRegistry registry) {
         registry.register(fileSchema);
+        registry.register(new V0550FileSchema());
     }
 
     /**
@@ -16,8 +16,12 @@
 
 package com.hedera.node.app.service.file.impl;
 
+import static com.hedera.node.app.service.file.impl.schemas.V0550FileSchema.FILE_CHUNK_SIZE;
+
+import com.hedera.hapi.node.base.FileID;
 import com.hedera.hapi.node.base.Timestamp;
 import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.file.FileChunkId;
 import com.hedera.node.app.service.file.FileMetadata;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.Objects;
@@ -50,4 +54,27 @@ public abstract class FileStore {
                         .seconds(file.preSystemDeleteExpirationSecond())
                         .build());
     }
+
+    /**
+     * Returns the length of the full contents of a {@link File} as it is stored in state, i.e. including the
+     * contents of all its chunks, without reading the chunks.
+     *
+     * @param file the stored file
+     * @return the length of the file's full contents
+     */
+    public static long contentsLengthOf(@NonNull final File file) {
+        Objects.requireNonNull(file);
+        return file.chunkCount() * FILE_CHUNK_SIZE + file.contents().length();
+    }
+
+    /**
+     * Returns the id of the chunk with the given number of the given file.
+     *
+     * @param fileId the file id
+     * @param chunkNumber the zero-based chunk number
+     * @return the chunk id
+     */
+    protected static @NonNull FileChunkId chunkIdFor(@NonNull final FileID fileId, final long chunkNumber) {
+        return new FileChunkId(fileId, chunkNumber);
+    }
 }
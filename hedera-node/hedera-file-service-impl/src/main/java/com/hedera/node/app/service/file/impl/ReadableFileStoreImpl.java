@@ -17,11 +17,16 @@
 package com.hedera.node.app.service.file.impl;
 
 import static com.hedera.node.app.service.file.impl.schemas.V0490FileSchema.BLOBS_KEY;
+import static com.hedera.node.app.service.file.impl.schemas.V0550FileSchema.FILE_CHUNKS_KEY;
+import static com.hedera.node.app.service.file.impl.schemas.V0550FileSchema.FILE_CHUNK_SIZE;
 
 import com.hedera.hapi.node.base.FileID;
 import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.file.FileChunkId;
+import com.hedera.hapi.node.state.primitives.ProtoBytes;
 import com.hedera.node.app.service.file.FileMetadata;
 import com.hedera.node.app.service.file.ReadableFileStore;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.state.spi.ReadableKVState;
 import com.swirlds.state.spi.ReadableStates;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -37,6 +42,10 @@ import java.util.Objects;
 public class ReadableFileStoreImpl extends FileStore implements ReadableFileStore {
     /** The underlying data storage class that holds the file data. */
     private final ReadableKVState<FileID, File> fileState;
+    /** The states of the file service, used to look up the file chunks when they are first needed. */
+    private final ReadableStates states;
+    /** The underlying data storage class that holds the leading chunks of large files. */
+    private ReadableKVState<FileChunkId, ProtoBytes> chunksState;
 
     /**
      * Create a new {@link ReadableFileStoreImpl} instance.
@@ -45,6 +54,7 @@ public class ReadableFileStoreImpl extends FileStore implements ReadableFileStor
      */
     public ReadableFileStoreImpl(@NonNull final ReadableStates states) {
         this.fileState = Objects.requireNonNull(states.get(BLOBS_KEY));
+        this.states = states;
     }
 
     /**
@@ -60,12 +70,21 @@ public class ReadableFileStoreImpl extends FileStore implements ReadableFileStor
     }
 
     /**
-     * Returns the file leaf for the given file id.
+     * Returns the file leaf for the given file id, with the full contents of the file.
      *
      * @param id the file id
      * @return the file for the given file id
      */
     public @Nullable File getFileLeaf(@NonNull FileID id) {
+        final var file = fileState.get(id);
+        return (file == null || file.chunkCount() == 0) ? file : withFullContents(file);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable File getFileLeafWithoutChunks(@NonNull final FileID id) {
         return fileState.get(id);
     }
 
@@ -77,4 +96,40 @@ public class ReadableFileStoreImpl extends FileStore implements ReadableFileStor
     public long sizeOfState() {
         return fileState.size();
     }
+
+    /**
+     * Returns the state holding the chunks of large files.
+     *
+     * @return the file chunks state
+     */
+    protected @NonNull ReadableKVState<FileChunkId, ProtoBytes> chunksState() {
+        if (chunksState == null) {
+            chunksState = Objects.requireNonNull(states.get(FILE_CHUNKS_KEY));
+        }
+        return chunksState;
+    }
+
+    /**
+     * Returns a copy of the given stored file whose contents are the concatenation of all its chunks and its own
+     * contents, copied into a single array.
+     */
+    private @NonNull File withFullContents(@NonNull final File file) {
+        final var chunks = chunksState();
+        final var tail = file.contents();
+        final var contents = new byte[Math.toIntExact(contentsLengthOf(file))];
+        int offset = 0;
+        for (long i = 0; i < file.chunkCount(); i++) {
+            final var chunk = chunks.get(chunkIdFor(file.fileId(), i));
+            if (chunk == null) {
+                throw new IllegalStateException("Missing chunk " + i + " of file " + file.fileId());
+            }
+            chunk.value().getBytes(0, contents, offset, FILE_CHUNK_SIZE);
+            offset += FILE_CHUNK_SIZE;
+        }
+        tail.getBytes(0, contents, offset, (int) tail.length());
+        return file.copyBuilder()
+                .contents(Bytes.wrap(contents))
+                .chunkCount(0)
+                .build();
+    }
 }
@@ -17,17 +17,23 @@
 package com.hedera.node.app.service.file.impl;
 
 import static com.hedera.node.app.service.file.impl.schemas.V0490FileSchema.BLOBS_KEY;
+import static com.hedera.node.app.service.file.impl.schemas.V0550FileSchema.FILE_CHUNKS_KEY;
+import static com.hedera.node.app.service.file.impl.schemas.V0550FileSchema.FILE_CHUNK_SIZE;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.FileID;
 import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.file.FileChunkId;
+import com.hedera.hapi.node.state.primitives.ProtoBytes;
 import com.hedera.node.app.spi.metrics.StoreMetricsService;
 import com.hedera.node.app.spi.metrics.StoreMetricsService.StoreType;
 import com.hedera.node.config.data.FilesConfig;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.state.spi.WritableKVState;
 import com.swirlds.state.spi.WritableStates;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.Set;
 
@@ -40,6 +46,10 @@ import java.util.Set;
 public class WritableFileStore extends ReadableFileStoreImpl {
     /** The underlying data storage class that holds the file data. */
     private final WritableKVState<FileID, File> filesState;
+    /** The states of the file service, used to look up the file chunks when they are first needed. */
+    private final WritableStates states;
+    /** The underlying data storage class that holds the leading chunks of large files. */
+    private WritableKVState<FileChunkId, ProtoBytes> writableChunksState;
 
     /**
      * Create a new {@link WritableFileStore} instance.
@@ -54,6 +64,7 @@ public class WritableFileStore extends ReadableFileStoreImpl {
             @NonNull final StoreMetricsService storeMetricsService) {
         super(states);
         this.filesState = requireNonNull(states.get(BLOBS_KEY));
+        this.states = states;
 
         final long maxCapacity = configuration.getConfigData(FilesConfig.class).maxNumber();
         final var storeMetrics = storeMetricsService.get(StoreType.FILE, maxCapacity);
@@ -62,27 +73,63 @@ public class WritableFileStore extends ReadableFileStoreImpl {
 
     /**
      * Persists a new {@link File} into the state, as well as exporting its ID to the transaction
-     * receipt.
+     * receipt. Any chunks of a previous version of the file that are not part of the given file
+     * are removed; so a file with the full contents, as returned by {@link #get(FileID)}, replaces
+     * all the contents previously stored.
      *
      * @param file - the file to be persisted.
      */
     public void put(@NonNull final File file) {
-        filesState.put(requireNonNull(file).fileId(), file);
+        requireNonNull(file);
+        removeChunks(file.fileId(), file.chunkCount());
+        filesState.put(file.fileId(), file);
     }
 
     /**
-     * Returns the {@link File} with the given number. If no such file exists, returns {@code
-     * Optional.empty()}
+     * Appends the given bytes to the contents of a file. All the bytes that fill a whole chunk are
+     * moved into new chunks, which are never rewritten by later appends; only the remaining bytes
+     * are kept in the file itself. So the cost of an append does not grow with the size of the file.
+     *
+     * @param file - the file as it is stored, i.e. as returned by {@link #getFileLeafWithoutChunks(FileID)}
+     * @param data - the bytes to append
+     */
+    public void append(@NonNull final File file, @NonNull final Bytes data) {
+        requireNonNull(file);
+        requireNonNull(data);
+        final var tail = file.contents();
+        final var bytes = new byte[Math.toIntExact(tail.length() + data.length())];
+        tail.getBytes(0, bytes, 0, (int) tail.length());
+        data.getBytes(0, bytes, (int) tail.length(), (int) data.length());
+
+        long chunkCount = file.chunkCount();
+        int offset = 0;
+        for (; bytes.length - offset >= FILE_CHUNK_SIZE; offset += FILE_CHUNK_SIZE) {
+            final var chunk = Bytes.wrap(Arrays.copyOfRange(bytes, offset, offset + FILE_CHUNK_SIZE));
+            writableChunksState().put(chunkIdFor(file.fileId(), chunkCount++), new ProtoBytes(chunk));
+        }
+        final var newTail = offset == 0 ? bytes : Arrays.copyOfRange(bytes, offset, bytes.length);
+        filesState.put(
+                file.fileId(),
+                file.copyBuilder()
+                        .contents(Bytes.wrap(newTail))
+                        .chunkCount(chunkCount)
+                        .build());
+    }
+
+    /**
+     * Returns the {@link File} with the given number, with the full contents of the file. If no such
+     * file exists, returns {@code Optional.empty()}
      *
      * @param fileId - the id of the file to be retrieved.
      */
     public @NonNull Optional<File> get(final FileID fileId) {
-        final var file = filesState.get(fileId);
+        final var file = getFileLeaf(requireNonNull(fileId));
         return Optional.ofNullable(file);
     }
 
     /**
-     * Returns the {@link File} with the given number using {@link WritableKVState}. If no such file
+     * Returns the {@link File} with the given number using {@link WritableKVState}, as it is stored.
+     * That is, for a large file only the bytes that follow its chunks are returned as contents. If no such file
      * exists, returns {@code Optional.empty()}
      *
      * @param fileId - the id of the file to be retrieved.
@@ -116,6 +163,30 @@ public class WritableFileStore extends ReadableFileStoreImpl {
      * @param fileId - the id of the file to be removed from state.
      */
     public void removeFile(final FileID fileId) {
+        removeChunks(fileId, 0);
         filesState.remove(fileId);
     }
+
+    /**
+     * Removes the chunks of the stored version of the given file, starting at the given chunk number.
+     *
+     * @param fileId - the id of the file
+     * @param firstRemoved - the number of the first chunk to remove
+     */
+    private void removeChunks(@NonNull final FileID fileId, final long firstRemoved) {
+        final var stored = filesState.get(fileId);
+        if (stored == null) {
+            return;
+        }
+        for (long i = firstRemoved; i < stored.chunkCount(); i++) {
+            writableChunksState().remove(chunkIdFor(fileId, i));
+        }
+    }
+
+    private @NonNull WritableKVState<FileChunkId, ProtoBytes> writableChunksState() {
+        if (writableChunksState == null) {
+            writableChunksState = requireNonNull(states.get(FILE_CHUNKS_KEY));
+        }
+        return writableChunksState;
+    }
 }
@@ -21,9 +21,10 @@ import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_FILE_ID;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.UNAUTHORIZED;
 import static com.hedera.node.app.hapi.utils.fee.FeeBuilder.BASIC_ENTITY_ID_SIZE;
 import static com.hedera.node.app.service.file.impl.FileServiceImpl.THREE_MONTHS_IN_SECONDS;
+import static com.hedera.node.app.service.file.impl.FileStore.contentsLengthOf;
 import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.preValidate;
 import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.validateAndAddRequiredKeys;
-import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.validateContent;
+import static com.hedera.node.app.service.file.impl.utils.FileServiceUtils.validateContentLength;
 import static com.hedera.node.app.spi.workflows.HandleException.validateFalse;
 import static java.util.Objects.requireNonNull;
 
@@ -32,7 +33,6 @@ import com.hedera.hapi.node.base.SubType;
 import com.hedera.hapi.node.file.FileAppendTransactionBody;
 import com.hedera.hapi.node.state.file.File;
 import com.hedera.hapi.node.transaction.TransactionBody;
-import com.hedera.node.app.hapi.utils.CommonPbjConverters;
 import com.hedera.node.app.service.file.FileSignatureWaivers;
 import com.hedera.node.app.service.file.ReadableFileStore;
 import com.hedera.node.app.service.file.impl.WritableFileStore;
@@ -45,11 +45,9 @@ import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
 import com.hedera.node.config.data.FilesConfig;
-import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -106,7 +104,7 @@ public class FileAppendHandler implements TransactionHandler {
             return;
         }
 
-        var file = fileStore.getFileLeaf(transactionFileId);
+        var file = fileStore.getFileLeafWithoutChunks(transactionFileId);
         validateAndAddRequiredKeys(file, null, context);
     }
 
@@ -131,12 +129,12 @@ public class FileAppendHandler implements TransactionHandler {
         }
 
         final var fileStore = handleContext.storeFactory().writableStore(WritableFileStore.class);
-        final var optionalFile = fileStore.get(target);
+        // Only the bytes after the file's last full chunk are read and rewritten, never the whole file
+        final var file = fileStore.getFileLeafWithoutChunks(target);
 
-        if (optionalFile.isEmpty()) {
+        if (file == null) {
             throw new HandleException(INVALID_FILE_ID);
         }
-        final var file = optionalFile.get();
 
         // First validate this file is mutable; and the pending mutations are allowed
         validateFalse(file.keys() == null, UNAUTHORIZED);
@@ -145,22 +143,11 @@ public class FileAppendHandler implements TransactionHandler {
             throw new HandleException(FILE_DELETED);
         }
 
-        var contents = CommonPbjConverters.asBytes(file.contents());
-
-        var newContents = ArrayUtils.addAll(contents, CommonPbjConverters.asBytes(data));
-        validateContent(newContents, fileServiceConfig);
-        /* Copy all the fields from existing file and change deleted flag */
-        final var fileBuilder = new File.Builder()
-                .fileId(file.fileId())
-                .expirationSecond(file.expirationSecond())
-                .keys(file.keys())
-                .contents(Bytes.wrap(newContents))
-                .memo(file.memo())
-                .deleted(file.deleted());
-
-        /* --- Put the modified file. It will be in underlying state's modifications map.
-        It will not be committed to state until commit is called on the state.--- */
-        fileStore.put(fileBuilder.build());
+        validateContentLength(contentsLengthOf(file) + data.length(), fileServiceConfig);
+
+        /* --- Append the new bytes. They will be in underlying state's modifications map.
+        They will not be committed to state until commit is called on the state.--- */
+        fileStore.append(file, data);
     }
 
     @NonNull
@@ -180,7 +167,7 @@ public class FileAppendHandler implements TransactionHandler {
          * PR conversation: 8089
          */
         final long effectiveLifeTime;
-        final var file = fileStore.getFileLeaf(fileID);
+        final var file = fileStore.getFileLeafWithoutChunks(fileID);
 
         if (file == null) {
             return feeContext
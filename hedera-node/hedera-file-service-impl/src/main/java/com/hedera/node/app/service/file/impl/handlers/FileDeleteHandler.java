@@ -95,7 +95,7 @@ public class FileDeleteHandler implements TransactionHandler {
         final var transactionFileId = requireNonNull(transactionBody.fileID());
         preValidate(transactionFileId, fileStore, context);
 
-        var file = fileStore.getFileLeaf(transactionFileId);
+        var file = fileStore.getFileLeafWithoutChunks(transactionFileId);
         validateAndAddRequiredKeysForDelete(file, context);
     }
 
@@ -39,6 +39,7 @@ import com.hedera.node.app.hapi.utils.CommonPbjConverters;
 import com.hedera.node.app.service.file.FileMetadata;
 import com.hedera.node.app.service.file.ReadableFileStore;
 import com.hedera.node.app.service.file.ReadableUpgradeFileStore;
+import com.hedera.node.app.service.file.impl.FileStore;
 import com.hedera.node.app.service.file.impl.base.FileQueryBase;
 import com.hedera.node.app.spi.fees.Fees;
 import com.hedera.node.app.spi.workflows.PreCheckException;
@@ -100,7 +101,7 @@ public class FileGetInfoHandler extends FileQueryBase {
         final var fileStore = queryContext.createStore(ReadableFileStore.class);
         final var op = query.fileGetInfoOrThrow();
         final var fileId = op.fileIDOrElse(FileID.DEFAULT);
-        final File file = fileStore.getFileLeaf(fileId);
+        final File file = fileStore.getFileLeafWithoutChunks(fileId);
 
         return queryContext
                 .feeCalculator()
@@ -181,7 +182,21 @@ public class FileGetInfoHandler extends FileQueryBase {
                                 .build());
             }
         } else {
-            meta = fileStore.getFileMetadata(fileID);
+            // Only the size of the contents is reported, so there is no need to reassemble a chunked file
+            final var file = fileStore.getFileLeafWithoutChunks(fileID);
+            if (file != null) {
+                contentSize = FileStore.contentsLengthOf(file);
+                meta = new FileMetadata(
+                        file.fileId(),
+                        Timestamp.newBuilder().seconds(file.expirationSecond()).build(),
+                        file.keys(),
+                        Bytes.EMPTY,
+                        file.memo(),
+                        file.deleted(),
+                        Timestamp.newBuilder()
+                                .seconds(file.preSystemDeleteExpirationSecond())
+                                .build());
+            }
         }
 
         if (meta == null) {
@@ -207,7 +222,7 @@ public class FileGetInfoHandler extends FileQueryBase {
         }
         final com.hederahashgraph.api.proto.java.File details = CommonPbjConverters.fromPbj(file);
         final var ctx = ExtantFileContext.newBuilder()
-                .setCurrentSize(details.getContents().toByteArray().length)
+                .setCurrentSize(FileStore.contentsLengthOf(file))
                 .setCurrentWacl(details.getKeys())
                 .setCurrentMemo(details.getMemo())
                 .setCurrentExpiry(details.getExpirationSecond())
@@ -123,7 +123,7 @@ public class FileUpdateHandler implements TransactionHandler {
             return;
         }
 
-        var file = fileStore.getFileLeaf(transactionFileId);
+        var file = fileStore.getFileLeafWithoutChunks(transactionFileId);
         if (wantsToMutateNonExpiryField(op)) {
             validateAndAddRequiredKeys(file, op.keys(), context);
         }
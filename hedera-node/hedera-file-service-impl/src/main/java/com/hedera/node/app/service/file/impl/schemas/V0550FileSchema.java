@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.file.impl.schemas;
+
+import com.hedera.hapi.node.base.SemanticVersion;
+import com.hedera.hapi.node.state.file.FileChunkId;
+import com.hedera.hapi.node.state.primitives.ProtoBytes;
+import com.swirlds.state.spi.Schema;
+import com.swirlds.state.spi.StateDefinition;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Set;
+
+/**
+ * Adds the state that holds the contents of large files as a sequence of fixed-size chunks, so that appending to a
+ * file only writes the bytes that changed instead of the whole file.
+ */
+public class V0550FileSchema extends Schema {
+    public static final String FILE_CHUNKS_KEY = "FILE_CHUNKS";
+
+    /**
+     * The number of bytes in every chunk of a file. This MUST NOT BE CHANGED. If it is changed, then the contents of
+     * files already stored in chunks can no longer be sized correctly.
+     */
+    public static final int FILE_CHUNK_SIZE = 4096;
+
+    /**
+     * A hint to the database system of the maximum number of file chunks we will store. This MUST NOT BE CHANGED. If
+     * it is changed, then the database has to be rebuilt.
+     */
+    private static final long MAX_FILE_CHUNKS_HINT = 50_000_000L;
+
+    /**
+     * The version of the schema.
+     */
+    private static final SemanticVersion VERSION =
+            SemanticVersion.newBuilder().major(0).minor(55).patch(0).build();
+
+    /**
+     * Constructs a new {@link V0550FileSchema} instance.
+     */
+    public V0550FileSchema() {
+        super(VERSION);
+    }
+
+    @SuppressWarnings("rawtypes")
+    @NonNull
+    @Override
+    public Set<StateDefinition> statesToCreate() {
+        return Set.of(StateDefinition.onDisk(
+                FILE_CHUNKS_KEY, FileChunkId.PROTOBUF, ProtoBytes.PROTOBUF, MAX_FILE_CHUNKS_HINT));
+    }
+}
@@ -56,8 +56,16 @@ public class FileServiceUtils {
      * @param fileServiceConfig the file service configuration
      */
     public static void validateContent(@NonNull byte[] content, @NonNull FilesConfig fileServiceConfig) {
-        var contentLength = content.length;
+        validateContentLength(content.length, fileServiceConfig);
+    }
 
+    /**
+     * The function validates that the given length of a file's contents is within the max file size.
+     *
+     * @param contentLength the length of the file's contents
+     * @param fileServiceConfig the file service configuration
+     */
+    public static void validateContentLength(final long contentLength, @NonNull FilesConfig fileServiceConfig) {
         if (contentLength > fileServiceConfig.maxSizeKb() * 1024L) {
             throw new HandleException(MAX_FILE_SIZE_EXCEEDED);
         }
@@ -81,7 +89,7 @@ public class FileServiceUtils {
         // System files are created as a side effect of handling the genesis transaction, so by the time any
         // handler is invoked at consensus, they will necessarily exist
         if (notGenesisCreation(fileId, context.configuration())) {
-            mustExist(fileStore.getFileMetadata(fileId), INVALID_FILE_ID);
+            mustExist(fileStore.getFileLeafWithoutChunks(fileId), INVALID_FILE_ID);
         }
     }
 
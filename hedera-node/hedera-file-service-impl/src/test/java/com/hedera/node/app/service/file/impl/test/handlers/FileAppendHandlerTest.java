@@ -18,6 +18,8 @@ package com.hedera.node.app.service.file.impl.test.handlers;
 
 import static com.hedera.hapi.node.base.ResponseCodeEnum.FILE_DELETED;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_FILE_ID;
+import static com.hedera.node.app.service.file.impl.schemas.V0550FileSchema.FILE_CHUNKS_KEY;
+import static com.hedera.node.app.service.file.impl.schemas.V0550FileSchema.FILE_CHUNK_SIZE;
 import static com.hedera.node.app.spi.fixtures.workflows.ExceptionConditions.responseCode;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -38,6 +40,7 @@ import com.hedera.hapi.node.base.Timestamp;
 import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.hapi.node.file.FileAppendTransactionBody;
 import com.hedera.hapi.node.state.file.File;
+import com.hedera.hapi.node.state.file.FileChunkId;
 import com.hedera.hapi.node.state.primitives.ProtoBytes;
 import com.hedera.hapi.node.state.token.Account;
 import com.hedera.hapi.node.transaction.TransactionBody;
@@ -62,6 +65,9 @@ import com.hedera.node.app.workflows.prehandle.PreHandleContextImpl;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.config.api.Configuration;
+import com.swirlds.state.test.fixtures.MapWritableKVState;
+import java.util.Arrays;
+import java.util.List;
 import org.apache.commons.lang3.ArrayUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -266,6 +272,39 @@ class FileAppendHandlerTest extends FileTestBase {
         assertEquals(bytesNewContentExpected, appendedFile.contents());
     }
 
+    @Test
+    void storesFullChunksSeparatelyFromTheRemainingContent() {
+        givenValidFile(false);
+        refreshStoresWithCurrentFileInBothReadableAndWritable();
+        final var chunksState = MapWritableKVState.<FileChunkId, ProtoBytes>builder(FILE_CHUNKS_KEY)
+                .build();
+        given(writableStates.<FileChunkId, ProtoBytes>get(FILE_CHUNKS_KEY)).willReturn(chunksState);
+
+        final var firstAppend = new byte[FILE_CHUNK_SIZE];
+        Arrays.fill(firstAppend, (byte) 1);
+        final var secondAppend = "STUFF".getBytes();
+        final var expectedContents =
+                Bytes.wrap(ArrayUtils.addAll(ArrayUtils.addAll(contents, firstAppend), secondAppend));
+        for (final var data : List.of(firstAppend, secondAppend)) {
+            final var txBody = TransactionBody.newBuilder()
+                    .fileAppend(OP_BUILDER.fileID(wellKnownId()).contents(Bytes.wrap(data)))
+                    .transactionID(TransactionID.newBuilder()
+                            .transactionValidStart(
+                                    Timestamp.newBuilder().seconds(111111).build())
+                            .build())
+                    .build();
+            given(handleContext.body()).willReturn(txBody);
+            subject.handle(handleContext);
+        }
+
+        final var storedFile = writableFileState.get(fileId);
+        assertEquals(1L, storedFile.chunkCount());
+        assertEquals(contents.length + secondAppend.length, storedFile.contents().length());
+        assertEquals(1, chunksState.size());
+        assertEquals(expectedContents, writableStore.get(fileId).orElseThrow().contents());
+        assertEquals(expectedContents, writableStore.getFileLeaf(fileId).contents());
+    }
+
     @Test
     void nothingHappensIfUpdateIsNoop() {
         refreshStoresWithCurrentFileInBothReadableAndWritable();
@@ -327,7 +366,7 @@ class FileAppendHandlerTest extends FileTestBase {
                         .build())
                 .build();
 
-        file = new File(fileId, expirationTime, null, Bytes.wrap(contents), memo, false, 0L);
+        file = new File(fileId, expirationTime, null, Bytes.wrap(contents), memo, false, 0L, 0L);
 
         given(handleContext.body()).willReturn(txBody);
         writableFileState = writableFileStateWithOneKey();
@@ -158,7 +158,7 @@ class FileDeleteTest extends FileTestBase {
     void fileIdNotFound() throws PreCheckException {
         // given:
         mockPayerLookup();
-        given(mockStore.getFileMetadata(notNull())).willReturn(null);
+        given(mockStore.getFileLeafWithoutChunks(notNull())).willReturn(null);
         final var context = new PreHandleContextImpl(mockStoreFactory, newDeleteTxn(), testConfig, mockDispatcher);
 
         // when:
@@ -233,7 +233,7 @@ class FileDeleteTest extends FileTestBase {
     void keysDoesntExist() {
         final var txn = newDeleteTxn().fileDeleteOrThrow();
 
-        file = new File(fileId, expirationTime, null, Bytes.wrap(contents), memo, false, 0L);
+        file = new File(fileId, expirationTime, null, Bytes.wrap(contents), memo, false, 0L, 0L);
 
         writableFileState = writableFileStateWithOneKey();
         given(writableStates.<FileID, File>get(FILES)).willReturn(writableFileState);
@@ -271,7 +271,7 @@ class FileDeleteTest extends FileTestBase {
     @Test
     @DisplayName("File without keys returns error")
     void noFileKeys() {
-        file = new File(fileId, expirationTime, null, Bytes.wrap(contents), memo, false, 0L);
+        file = new File(fileId, expirationTime, null, Bytes.wrap(contents), memo, false, 0L, 0L);
         refreshStoresWithCurrentFileInBothReadableAndWritable();
 
         final var txn = newDeleteTxn().fileDeleteOrThrow();
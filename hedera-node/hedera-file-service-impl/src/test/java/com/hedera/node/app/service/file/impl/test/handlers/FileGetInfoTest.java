@@ -17,6 +17,8 @@
 package com.hedera.node.app.service.file.impl.test.handlers;
 
 import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_FILE_ID;
+import static com.hedera.node.app.service.file.impl.schemas.V0550FileSchema.FILE_CHUNKS_KEY;
+import static com.hedera.node.app.service.file.impl.schemas.V0550FileSchema.FILE_CHUNK_SIZE;
 import static com.hedera.node.app.spi.fixtures.Assertions.assertThrowsPreCheck;
 import static com.swirlds.common.utility.CommonUtils.hex;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -28,6 +30,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.hedera.hapi.node.base.FileID;
@@ -52,6 +56,7 @@ import com.hedera.node.app.service.file.impl.test.FileTestBase;
 import com.hedera.node.app.spi.workflows.QueryContext;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.swirlds.common.crypto.CryptographyHolder;
+import com.swirlds.state.test.fixtures.MapReadableKVState;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -179,6 +184,28 @@ class FileGetInfoTest extends FileTestBase {
         assertEquals(expectedInfo, fileInfoResponse.fileInfo());
     }
 
+    @Test
+    void reportsSizeOfChunkedFileWithoutReadingChunks() {
+        final var chunkedFile = file.copyBuilder().chunkCount(2).build();
+        readableFileState =
+                MapReadableKVState.<FileID, File>builder(FILES).value(fileId, chunkedFile).build();
+        given(readableStates.<FileID, File>get(FILES)).willReturn(readableFileState);
+        readableStore = new ReadableFileStoreImpl(readableStates);
+        final var responseHeader = ResponseHeader.newBuilder()
+                .nodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                .build();
+
+        final var query = createGetFileInfoQuery(fileId.fileNum());
+        when(context.query()).thenReturn(query);
+        when(context.createStore(ReadableFileStore.class)).thenReturn(readableStore);
+
+        final var response = subject.findResponse(context, responseHeader);
+        final var fileInfoResponse = response.fileGetInfoOrThrow();
+        assertEquals(ResponseCodeEnum.OK, fileInfoResponse.header().nodeTransactionPrecheckCode());
+        assertEquals(2L * FILE_CHUNK_SIZE + 8, fileInfoResponse.fileInfoOrThrow().size());
+        verify(readableStates, never()).get(FILE_CHUNKS_KEY);
+    }
+
     @Test
     void getsResponseIfInvalidFileID() {
         givenValidFile();
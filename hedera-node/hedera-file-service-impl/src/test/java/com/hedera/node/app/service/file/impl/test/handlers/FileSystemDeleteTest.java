@@ -163,7 +163,7 @@ class FileSystemDeleteTest extends FileTestBase {
     void fileIdNotFound() throws PreCheckException {
         // given:
         mockPayerLookup();
-        given(mockStore.getFileMetadata(notNull())).willReturn(null);
+        given(mockStore.getFileLeafWithoutChunks(notNull())).willReturn(null);
         final var context = new PreHandleContextImpl(mockStoreFactory, newFileDeleteTxn(), testConfig, mockDispatcher);
 
         // when:
@@ -203,7 +203,7 @@ class FileSystemDeleteTest extends FileTestBase {
     @DisplayName("Fails handle if keys doesn't exist on file system to be deleted")
     void keysDoesntExist() {
         given(handleContext.body()).willReturn(newFileDeleteTxn());
-        file = new File(fileId, expirationTime, null, Bytes.wrap(contents), memo, false, 0L);
+        file = new File(fileId, expirationTime, null, Bytes.wrap(contents), memo, false, 0L, 0L);
 
         writableFileState = writableFileStateWithOneKey();
         given(writableStates.<FileID, File>get(FILES)).willReturn(writableFileState);
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.file.impl.test.schemas;
+
+import static com.hedera.node.app.service.file.impl.schemas.V0550FileSchema.FILE_CHUNKS_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.hapi.node.base.SemanticVersion;
+import com.hedera.hapi.node.state.file.FileChunkId;
+import com.hedera.hapi.node.state.primitives.ProtoBytes;
+import com.hedera.node.app.service.file.impl.schemas.V0550FileSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class V0550FileSchemaTest {
+    private V0550FileSchema subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new V0550FileSchema();
+    }
+
+    @Test
+    void hasExpectedVersion() {
+        assertThat(subject.getVersion())
+                .isEqualTo(SemanticVersion.newBuilder().minor(55).build());
+    }
+
+    @Test
+    void registersOnDiskChunksState() {
+        final var statesToCreate = subject.statesToCreate();
+        assertThat(statesToCreate).hasSize(1);
+        final var chunksDef = statesToCreate.iterator().next();
+        assertThat(chunksDef.stateKey()).isEqualTo(FILE_CHUNKS_KEY);
+        assertThat(chunksDef.onDisk()).isTrue();
+        assertThat(chunksDef.singleton()).isFalse();
+        assertThat(chunksDef.keyCodec()).isSameAs(FileChunkId.PROTOBUF);
+        assertThat(chunksDef.valueCodec()).isSameAs(ProtoBytes.PROTOBUF);
+    }
+
+    @Test
+    void removesNoStates() {
+        assertThat(subject.statesToRemove()).isEmpty();
+    }
+}
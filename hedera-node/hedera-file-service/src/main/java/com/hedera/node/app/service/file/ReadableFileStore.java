@@ -48,6 +48,16 @@ public interface ReadableFileStore {
     @Nullable
     File getFileLeaf(@NonNull FileID id);
 
+    /**
+     * Returns the file needed from state as it is stored, if not exist will return null. For a large file, the
+     * contents of the returned file are only the bytes that follow its chunks; so callers that need the full
+     * contents must use {@link #getFileLeaf(FileID)} instead.
+     * @param id file id being looked up
+     * @return file if found, null otherwise
+     */
+    @Nullable
+    File getFileLeafWithoutChunks(@NonNull FileID id);
+
     /**
      * Returns the number of files in the state.
      *
@@ -27,6 +27,7 @@ import static com.hedera.hapi.node.base.TokenKycStatus.GRANTED;
 import static com.hedera.hapi.node.base.TokenKycStatus.KYC_NOT_APPLICABLE;
 import static com.hedera.hapi.node.base.TokenKycStatus.REVOKED;
 import static com.hedera.node.app.hapi.utils.CommonPbjConverters.fromPbj;
+import static com.hedera.node.app.service.token.api.AccountSummariesApi.tokenRelationsOf;
 import static com.hedera.node.app.spi.fees.Fees.CONSTANT_FEE_DATA;
 import static com.hedera.node.app.spi.validation.Validations.mustExist;
 import static java.util.Objects.requireNonNull;
@@ -213,24 +214,12 @@ public class NetworkGetAccountDetailsHandler extends PaidQueryHandler {
         requireNonNull(readableTokenStore);
 
         final var ret = new ArrayList<TokenRelationship>();
-        var tokenId = account.headTokenId();
-        int count = 0;
-        TokenRelation tokenRelation;
-        Token token; // token from readableToken store by tokenID
-        AccountID accountID; // build from accountNumber
-        while (tokenId != null && count < maxRelsPerInfoQuery) {
-            accountID = account.accountId();
-            tokenRelation = tokenRelationStore.get(accountID, tokenId);
-            if (tokenRelation != null) {
-                token = readableTokenStore.get(tokenId);
-                if (token != null) {
-                    addTokenRelation(ret, token, tokenRelation, tokenId);
-                }
-                tokenId = tokenRelation.nextToken();
-            } else {
-                break;
+        for (final var tokenRelation : tokenRelationsOf(account, tokenRelationStore, maxRelsPerInfoQuery)) {
+            final var tokenId = tokenRelation.tokenIdOrThrow();
+            final var token = readableTokenStore.get(tokenId);
+            if (token != null) {
+                addTokenRelation(ret, token, tokenRelation, tokenId);
             }
-            count++;
         }
         return ret;
     }
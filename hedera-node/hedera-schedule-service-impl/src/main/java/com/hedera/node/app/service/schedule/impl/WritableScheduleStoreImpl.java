@@ -26,15 +26,18 @@ import com.hedera.hapi.node.state.schedule.Schedule;
 import com.hedera.hapi.node.state.schedule.ScheduleList;
 import com.hedera.node.app.service.schedule.WritableScheduleStore;
 import com.hedera.node.app.service.schedule.impl.schemas.V0490ScheduleSchema;
+import com.hedera.node.app.service.schedule.impl.schemas.V0550ScheduleSchema;
 import com.hedera.node.app.spi.metrics.StoreMetricsService;
 import com.hedera.node.app.spi.metrics.StoreMetricsService.StoreType;
 import com.hedera.node.config.data.SchedulingConfig;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.state.spi.WritableKVState;
+import com.swirlds.state.spi.WritableSingletonState;
 import com.swirlds.state.spi.WritableStates;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -53,6 +56,7 @@ public class WritableScheduleStoreImpl extends ReadableScheduleStoreImpl impleme
     private final WritableKVState<ScheduleID, Schedule> schedulesByIdMutable;
     private final WritableKVState<ProtoBytes, ScheduleList> schedulesByEqualityMutable;
     private final WritableKVState<ProtoLong, ScheduleList> schedulesByExpirationMutable;
+    private final WritableSingletonState<Timestamp> expiryCursor;
 
     /**
      * Create a new {@link WritableScheduleStoreImpl} instance.
@@ -69,6 +73,7 @@ public class WritableScheduleStoreImpl extends ReadableScheduleStoreImpl impleme
         schedulesByIdMutable = states.get(V0490ScheduleSchema.SCHEDULES_BY_ID_KEY);
         schedulesByEqualityMutable = states.get(V0490ScheduleSchema.SCHEDULES_BY_EQUALITY_KEY);
         schedulesByExpirationMutable = states.get(V0490ScheduleSchema.SCHEDULES_BY_EXPIRY_SEC_KEY);
+        expiryCursor = states.getSingleton(V0550ScheduleSchema.SCHEDULE_EXPIRY_CURSOR_KEY);
 
         final long maxCapacity =
                 configuration.getConfigData(SchedulingConfig.class).maxNumber();
@@ -158,20 +163,57 @@ public class WritableScheduleStoreImpl extends ReadableScheduleStoreImpl impleme
      * {@inheritDoc}
      */
     @Override
-    public void purgeExpiredSchedulesBetween(long firstSecondToExpire, long lastSecondToExpire) {
-        for (long i = firstSecondToExpire; i <= lastSecondToExpire; i++) {
-            final var second = new ProtoLong(i);
-            final var scheduleList = schedulesByExpirationMutable.get(second);
-            if (scheduleList != null) {
-                for (final var schedule : scheduleList.schedules()) {
-                    schedulesByIdMutable.remove(schedule.scheduleIdOrThrow());
-
-                    final ProtoBytes hash = new ProtoBytes(ScheduleStoreUtility.calculateBytesHash(schedule));
-                    schedulesByEqualityMutable.remove(hash);
-                    logger.info("Purging expired schedule {} from state.", schedule.scheduleIdOrThrow());
-                }
-                schedulesByExpirationMutable.remove(second);
+    public boolean purgeExpiredSchedulesBetween(
+            final long firstSecondToExpire, final long lastSecondToExpire, final int maxWork) {
+        final var cursor = expiryCursor.get();
+        long second = (cursor == null || cursor.seconds() == 0) ? firstSecondToExpire : cursor.seconds();
+        if (second > lastSecondToExpire) {
+            return false;
+        }
+        int work = 0;
+        while (second <= lastSecondToExpire && work < maxWork) {
+            final var key = new ProtoLong(second);
+            final var scheduleList = schedulesByExpirationMutable.get(key);
+            if (scheduleList == null) {
+                work++;
+                second++;
+                continue;
+            }
+            final List<Schedule> schedules = scheduleList.schedules();
+            final int numToPurge = Math.min(schedules.size(), maxWork - work);
+            for (int i = 0; i < numToPurge; i++) {
+                purge(schedules.get(i));
+            }
+            work += numToPurge;
+            if (numToPurge < schedules.size()) {
+                // the budget ran out in the middle of this second, keep the rest of its schedules for the next purge
+                schedulesByExpirationMutable.put(
+                        key, new ScheduleList(schedules.subList(numToPurge, schedules.size())));
+                break;
+            }
+            schedulesByExpirationMutable.remove(key);
+            second++;
+        }
+        expiryCursor.put(new Timestamp(second, 0));
+        return true;
+    }
+
+    private void purge(@NonNull final Schedule schedule) {
+        schedulesByIdMutable.remove(schedule.scheduleIdOrThrow());
+
+        final ProtoBytes hash = new ProtoBytes(ScheduleStoreUtility.calculateBytesHash(schedule));
+        final ScheduleList inStateEquality = schedulesByEqualityMutable.get(hash);
+        if (inStateEquality != null) {
+            // a newer identical schedule may share this entry, so only remove the purged schedule from it
+            final var remaining = inStateEquality.schedules().stream()
+                    .filter(s -> !schedule.scheduleIdOrThrow().equals(s.scheduleId()))
+                    .toList();
+            if (remaining.isEmpty()) {
+                schedulesByEqualityMutable.remove(hash);
+            } else {
+                schedulesByEqualityMutable.put(hash, new ScheduleList(remaining));
             }
         }
+        logger.info("Purging expired schedule {} from state.", schedule.scheduleIdOrThrow());
     }
 }
@@ -169,7 +169,7 @@ public class ScheduleCreateHandler extends AbstractScheduleHandler implements Tr
                     validate(provisionalSchedule, currentConsensusTime, isLongTermEnabled);
             if (validationOk(validationResult)) {
                 final List<Schedule> possibleDuplicates = scheduleStore.getByEquality(provisionalSchedule);
-                if (isPresentIn(context, possibleDuplicates, provisionalSchedule)) {
+                if (isPresentIn(context, possibleDuplicates, provisionalSchedule, currentConsensusTime)) {
                     throw new HandleException(ResponseCodeEnum.IDENTICAL_SCHEDULE_ALREADY_CREATED);
                 }
                 if (scheduleStore.numSchedulesInState() + 1 > schedulingConfig.maxNumber()) {
@@ -208,9 +208,14 @@ public class ScheduleCreateHandler extends AbstractScheduleHandler implements Tr
     private boolean isPresentIn(
             @NonNull final HandleContext context,
             @Nullable final List<Schedule> possibleDuplicates,
-            @NonNull final Schedule provisionalSchedule) {
+            @NonNull final Schedule provisionalSchedule,
+            @NonNull final Instant consensusNow) {
         if (possibleDuplicates != null) {
             for (final Schedule candidate : possibleDuplicates) {
+                // The purge of expired schedules may lag behind, so an expired candidate is not a duplicate
+                if (candidate.calculatedExpirationSecond() < consensusNow.getEpochSecond()) {
+                    continue;
+                }
                 if (compareForDuplicates(candidate, provisionalSchedule)) {
                     // Do not forget to set the ID of the existing duplicate in the receipt...
                     TransactionID scheduledTransactionID = candidate
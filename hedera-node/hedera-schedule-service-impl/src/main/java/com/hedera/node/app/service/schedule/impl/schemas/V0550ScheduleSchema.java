@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.schedule.impl.schemas;
+
+import com.hedera.hapi.node.base.SemanticVersion;
+import com.hedera.hapi.node.base.Timestamp;
+import com.swirlds.state.spi.MigrationContext;
+import com.swirlds.state.spi.Schema;
+import com.swirlds.state.spi.StateDefinition;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Set;
+
+/**
+ * Adds the cursor of the expired schedule purge, so that purging the schedules expiring in a busy second can be
+ * spread over several transactions and resumed exactly where the previous transaction stopped.
+ */
+public final class V0550ScheduleSchema extends Schema {
+    public static final String SCHEDULE_EXPIRY_CURSOR_KEY = "SCHEDULE_EXPIRY_CURSOR";
+
+    /**
+     * The version of the schema.
+     */
+    private static final SemanticVersion VERSION =
+            SemanticVersion.newBuilder().major(0).minor(55).patch(0).build();
+
+    /**
+     * Instantiates a new V0550 (version 0.55.0) schedule schema.
+     */
+    public V0550ScheduleSchema() {
+        super(VERSION);
+    }
+
+    @SuppressWarnings("rawtypes")
+    @NonNull
+    @Override
+    public Set<StateDefinition> statesToCreate() {
+        return Set.of(StateDefinition.singleton(SCHEDULE_EXPIRY_CURSOR_KEY, Timestamp.PROTOBUF));
+    }
+
+    @Override
+    public void migrate(@NonNull final MigrationContext ctx) {
+        final var cursorState = ctx.newStates().<Timestamp>getSingleton(SCHEDULE_EXPIRY_CURSOR_KEY);
+        if (cursorState.get() == null) {
+            // An unset cursor makes the first purge start from the last handled consensus second
+            cursorState.put(Timestamp.DEFAULT);
+        }
+    }
+}
@@ -18,6 +18,7 @@ package com.hedera.node.app.service.schedule.impl;
 
 import com.hedera.node.app.service.schedule.ScheduleService;
 import com.hedera.node.app.service.schedule.impl.schemas.V0490ScheduleSchema;
+import com.hedera.node.app.service.schedule.impl.schemas.V0550ScheduleSchema;
 import com.swirlds.state.spi.Schema;
 import com.swirlds.state.spi.SchemaRegistry;
 import com.swirlds.state.spi.StateDefinition;
@@ -50,9 +51,9 @@ class ScheduleServiceImplTest {
         final ScheduleServiceImpl subject = new ScheduleServiceImpl();
         ArgumentCaptor<Schema> schemaCaptor = ArgumentCaptor.forClass(Schema.class);
         subject.registerSchemas(registry);
-        Mockito.verify(registry).register(schemaCaptor.capture());
+        Mockito.verify(registry, Mockito.times(2)).register(schemaCaptor.capture());
 
-        final Schema schema = schemaCaptor.getValue();
+        final Schema schema = schemaCaptor.getAllValues().getFirst();
         final Set<StateDefinition> statesToCreate = schema.statesToCreate();
         BDDAssertions.assertThat(statesToCreate).isNotNull();
         final List<String> statesList =
@@ -61,5 +62,11 @@ class ScheduleServiceImplTest {
         BDDAssertions.assertThat(statesList.get(0)).isEqualTo(V0490ScheduleSchema.SCHEDULES_BY_EQUALITY_KEY);
         BDDAssertions.assertThat(statesList.get(1)).isEqualTo(V0490ScheduleSchema.SCHEDULES_BY_EXPIRY_SEC_KEY);
         BDDAssertions.assertThat(statesList.get(2)).isEqualTo(V0490ScheduleSchema.SCHEDULES_BY_ID_KEY);
+
+        final Schema cursorSchema = schemaCaptor.getAllValues().getLast();
+        BDDAssertions.assertThat(cursorSchema).isInstanceOf(V0550ScheduleSchema.class);
+        BDDAssertions.assertThat(cursorSchema.statesToCreate())
+                .extracting(StateDefinition::stateKey)
+                .containsExactly(V0550ScheduleSchema.SCHEDULE_EXPIRY_CURSOR_KEY);
     }
 }
@@ -19,6 +19,7 @@ package com.hedera.node.app.service.schedule.impl;
 import static com.hedera.node.app.service.schedule.impl.schemas.V0490ScheduleSchema.SCHEDULES_BY_EQUALITY_KEY;
 import static com.hedera.node.app.service.schedule.impl.schemas.V0490ScheduleSchema.SCHEDULES_BY_EXPIRY_SEC_KEY;
 import static com.hedera.node.app.service.schedule.impl.schemas.V0490ScheduleSchema.SCHEDULES_BY_ID_KEY;
+import static com.hedera.node.app.service.schedule.impl.schemas.V0550ScheduleSchema.SCHEDULE_EXPIRY_CURSOR_KEY;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
@@ -92,6 +93,8 @@ import com.swirlds.state.spi.ReadableKVStateBase;
 import com.swirlds.state.spi.ReadableStates;
 import com.swirlds.state.spi.WritableKVState;
 import com.swirlds.state.spi.WritableKVStateBase;
+import com.swirlds.state.spi.WritableSingletonState;
+import com.swirlds.state.spi.WritableSingletonStateBase;
 import com.swirlds.state.spi.WritableStates;
 import com.swirlds.state.test.fixtures.MapReadableStates;
 import com.swirlds.state.test.fixtures.MapWritableKVState;
@@ -104,6 +107,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -193,7 +197,8 @@ public class ScheduleTestBase {
     protected WritableKVState<ScheduleID, Schedule> writableById;
     protected WritableKVState<ProtoBytes, ScheduleList> writableByEquality;
     protected WritableKVState<ProtoLong, ScheduleList> writableByExpiration;
-    protected Map<String, WritableKVState<?, ?>> writableStatesMap;
+    protected WritableSingletonState<Timestamp> writableExpiryCursor;
+    protected Map<String, Object> writableStatesMap;
     protected ReadableStates states;
     protected WritableStates scheduleStates;
 
@@ -452,10 +457,14 @@ public class ScheduleTestBase {
         writableByExpiration = new MapWritableKVState<>(SCHEDULES_BY_EXPIRY_SEC_KEY, scheduleMapByExpiration);
         accountById = new MapWritableKVState<>(ACCOUNT_STATE_KEY, accountsMapById);
         accountAliases = new MapWritableKVState<>(ACCOUNT_ALIAS_STATE_KEY, new HashMap<>(0));
+        final AtomicReference<Timestamp> expiryCursor = new AtomicReference<>(Timestamp.DEFAULT);
+        writableExpiryCursor =
+                new WritableSingletonStateBase<>(SCHEDULE_EXPIRY_CURSOR_KEY, expiryCursor::get, expiryCursor::set);
         writableStatesMap = new TreeMap<>();
         writableStatesMap.put(SCHEDULES_BY_ID_KEY, writableById);
         writableStatesMap.put(SCHEDULES_BY_EQUALITY_KEY, writableByEquality);
         writableStatesMap.put(SCHEDULES_BY_EXPIRY_SEC_KEY, writableByExpiration);
+        writableStatesMap.put(SCHEDULE_EXPIRY_CURSOR_KEY, writableExpiryCursor);
         writableStatesMap.put(ACCOUNT_STATE_KEY, accountById);
         writableStatesMap.put(ACCOUNT_ALIAS_STATE_KEY, accountAliases);
         scheduleStates = new MapWritableStates(writableStatesMap);
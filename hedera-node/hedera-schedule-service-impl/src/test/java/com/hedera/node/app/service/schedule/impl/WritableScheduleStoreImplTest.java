@@ -134,7 +134,7 @@ class WritableScheduleStoreImplTest extends ScheduleTestBase {
         final var expirationTime = actual.calculatedExpirationSecond();
         assertThat(actual).isNotNull();
         assertThat(actual.signatories()).containsExactlyInAnyOrderElementsOf(scheduleInState.signatories());
-        writableSchedules.purgeExpiredSchedulesBetween(expirationTime - 1, expirationTime + 1);
+        assertThat(writableSchedules.purgeExpiredSchedulesBetween(expirationTime - 1, expirationTime + 1, 10)).isTrue();
 
         final var purged = writableSchedules.get(idToDelete);
         assertThat(purged).isNull();
@@ -144,6 +144,61 @@ class WritableScheduleStoreImplTest extends ScheduleTestBase {
 
         final var byExpiry = writableSchedules.getByExpirationSecond(expirationTime);
         assertThat(byExpiry).isNull();
+        assertThat(writableExpiryCursor.get()).isEqualTo(new Timestamp(expirationTime + 2, 0));
+    }
+
+    @Test
+    void purgeKeepsIdenticalSchedulesThatAreNotExpired() {
+        final var expirationTime = scheduleInState.calculatedExpirationSecond();
+        final var laterId = scheduleInState.scheduleId().copyBuilder().scheduleNum(1001L).build();
+        final var laterSchedule = scheduleInState
+                .copyBuilder()
+                .scheduleId(laterId)
+                .calculatedExpirationSecond(expirationTime + 10)
+                .build();
+        writableSchedules.put(laterSchedule);
+        assertThat(writableSchedules.getByEquality(scheduleInState)).hasSize(2);
+
+        assertThat(writableSchedules.purgeExpiredSchedulesBetween(expirationTime, expirationTime, 10)).isTrue();
+        assertThat(writableSchedules.get(scheduleInState.scheduleId())).isNull();
+        assertThat(writableSchedules.getByEquality(scheduleInState))
+                .extracting(Schedule::scheduleId)
+                .containsExactly(laterId);
+    }
+
+    @Test
+    void purgeStopsWhenWorkBudgetIsSpentAndResumesFromCursor() {
+        final var expirationTime = scheduleInState.calculatedExpirationSecond();
+        final var secondId = scheduleInState.scheduleId().copyBuilder().scheduleNum(1001L).build();
+        final var thirdId = scheduleInState.scheduleId().copyBuilder().scheduleNum(1002L).build();
+        writableSchedules.put(scheduleInState.copyBuilder().scheduleId(secondId).build());
+        writableSchedules.put(scheduleInState.copyBuilder().scheduleId(thirdId).build());
+
+        assertThat(writableSchedules.purgeExpiredSchedulesBetween(expirationTime, expirationTime, 2)).isTrue();
+        assertThat(writableSchedules.get(scheduleInState.scheduleId())).isNull();
+        assertThat(writableSchedules.get(secondId)).isNull();
+        assertThat(writableSchedules.get(thirdId)).isNotNull();
+        assertThat(writableSchedules.getByExpirationSecond(expirationTime))
+                .extracting(Schedule::scheduleId)
+                .containsExactly(thirdId);
+        assertThat(writableExpiryCursor.get()).isEqualTo(new Timestamp(expirationTime, 0));
+
+        // the cursor takes precedence over the first second given by the caller
+        assertThat(writableSchedules.purgeExpiredSchedulesBetween(expirationTime + 1, expirationTime, 2)).isTrue();
+        assertThat(writableSchedules.get(thirdId)).isNull();
+        assertThat(writableSchedules.getByExpirationSecond(expirationTime)).isNull();
+        assertThat(writableExpiryCursor.get()).isEqualTo(new Timestamp(expirationTime + 1, 0));
+
+        assertThat(writableSchedules.purgeExpiredSchedulesBetween(expirationTime, expirationTime, 2)).isFalse();
+    }
+
+    @Test
+    void emptySecondsCountTowardsWorkBudget() {
+        final var expirationTime = scheduleInState.calculatedExpirationSecond();
+
+        assertThat(writableSchedules.purgeExpiredSchedulesBetween(expirationTime - 3, expirationTime, 2)).isTrue();
+        assertThat(writableSchedules.get(scheduleInState.scheduleId())).isNotNull();
+        assertThat(writableExpiryCursor.get()).isEqualTo(new Timestamp(expirationTime - 1, 0));
     }
 
     @NonNull
@@ -145,6 +145,26 @@ class ScheduleCreateHandlerTest extends ScheduleHandlerTestBase {
         throwsHandleException(() -> subject.handle(mockContext), ResponseCodeEnum.IDENTICAL_SCHEDULE_ALREADY_CREATED);
     }
 
+    @Test
+    void handleIgnoresExpiredDuplicateNotYetPurged() throws PreCheckException {
+        // the purge of expired schedules is behind, so an expired duplicate is still in state
+        final Schedule expiredDuplicate = otherScheduleInState
+                .copyBuilder()
+                .calculatedExpirationSecond(testConsensusTime.getEpochSecond() - 1)
+                .build();
+        writableSchedules.put(expiredDuplicate);
+        commitScheduleStores();
+        final int startCount = scheduleMapById.size();
+
+        final TransactionBody createTransaction = otherScheduleInState.originalCreateTransaction();
+        prepareContext(createTransaction, otherScheduleInState.scheduleId().scheduleNum() + 1);
+        subject.handle(mockContext);
+
+        commit(writableById);
+        assertThat(scheduleMapById.size()).isEqualTo(startCount + 1);
+        assertThat(writableSchedules.getByEquality(expiredDuplicate)).hasSize(2);
+    }
+
     @Test
     void verifyPureChecks() throws PreCheckException {
         final TransactionBody.Builder failures = alternateCreateTransaction.copyBuilder();
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.schedule.impl.schemas;
+
+import static com.hedera.node.app.service.schedule.impl.schemas.V0550ScheduleSchema.SCHEDULE_EXPIRY_CURSOR_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.hedera.hapi.node.base.SemanticVersion;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.node.app.spi.fixtures.state.MapWritableStates;
+import com.swirlds.state.spi.MigrationContext;
+import com.swirlds.state.spi.StateDefinition;
+import com.swirlds.state.spi.WritableSingletonStateBase;
+import com.swirlds.state.spi.WritableStates;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+
+class V0550ScheduleSchemaTest {
+    private final AtomicReference<Timestamp> cursor = new AtomicReference<>();
+
+    private V0550ScheduleSchema subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new V0550ScheduleSchema();
+    }
+
+    @Test
+    void constructorHappyPath() {
+        assertThat(subject.getVersion())
+                .isEqualTo(
+                        SemanticVersion.newBuilder().major(0).minor(55).patch(0).build());
+    }
+
+    @Test
+    void createsExpiryCursorSingleton() {
+        final var stateDefs = subject.statesToCreate();
+        assertThat(stateDefs).hasSize(1);
+        final StateDefinition<?, ?> stateDef = stateDefs.iterator().next();
+        assertThat(stateDef.stateKey()).isEqualTo(SCHEDULE_EXPIRY_CURSOR_KEY);
+        assertThat(stateDef.singleton()).isTrue();
+        assertThat(stateDef.valueCodec()).isEqualTo(Timestamp.PROTOBUF);
+    }
+
+    @Test
+    void migrationInitializesUnsetCursor() {
+        final var writableStates = newCursorWritableStates();
+
+        subject.migrate(newMockCtx(writableStates));
+        ((WritableSingletonStateBase<?>) writableStates.getSingleton(SCHEDULE_EXPIRY_CURSOR_KEY)).commit();
+
+        assertThat(cursor.get()).isEqualTo(Timestamp.DEFAULT);
+    }
+
+    @Test
+    void migrationKeepsExistingCursor() {
+        final var existing = new Timestamp(1_234_567L, 0);
+        cursor.set(existing);
+        final var writableStates = newCursorWritableStates();
+
+        subject.migrate(newMockCtx(writableStates));
+        ((WritableSingletonStateBase<?>) writableStates.getSingleton(SCHEDULE_EXPIRY_CURSOR_KEY)).commit();
+
+        assertThat(cursor.get()).isEqualTo(existing);
+    }
+
+    private WritableStates newCursorWritableStates() {
+        return MapWritableStates.builder()
+                .state(new WritableSingletonStateBase<>(SCHEDULE_EXPIRY_CURSOR_KEY, cursor::get, cursor::set))
+                .build();
+    }
+
+    private MigrationContext newMockCtx(final WritableStates ws) {
+        final var ctx = mock(MigrationContext.class);
+        BDDMockito.given(ctx.newStates()).willReturn(ws);
+        return ctx;
+    }
+}
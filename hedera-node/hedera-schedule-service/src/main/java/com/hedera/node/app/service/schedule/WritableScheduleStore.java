@@ -57,10 +57,18 @@ public interface WritableScheduleStore extends ReadableScheduleStore {
     void put(Schedule scheduleToAdd);
 
     /**
-     * Purges expired schedules from the store.
+     * Purges expired schedules from the store, doing at most {@code maxWork} units of work. Purging one schedule and
+     * visiting one second without expiring schedules each cost one unit.
+     * <p>
+     * The purge resumes from the cursor left in state by the previous purge, or starts from
+     * {@code firstSecondToExpire} if there was no previous purge. If the work budget runs out before all schedules
+     * expiring up to {@code lastSecondToExpire} are purged, the cursor is left at the first second still holding
+     * expired schedules, so the next call picks up from there.
      *
-     * @param firstSecondToExpire The consensus second of the first schedule to expire.
+     * @param firstSecondToExpire The consensus second of the first schedule to expire, if no purge is in progress.
      * @param lastSecondToExpire  The consensus second of the last schedule to expire.
+     * @param maxWork             The maximum number of units of work to do.
+     * @return whether any work was done, i.e. whether the store was changed
      */
-    void purgeExpiredSchedulesBetween(long firstSecondToExpire, long lastSecondToExpire);
+    boolean purgeExpiredSchedulesBetween(long firstSecondToExpire, long lastSecondToExpire, int maxWork);
 }
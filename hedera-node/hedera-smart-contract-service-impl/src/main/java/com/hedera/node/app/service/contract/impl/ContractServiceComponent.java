@@ -17,6 +17,7 @@
 package com.hedera.node.app.service.contract.impl;
 
 import com.hedera.node.app.service.contract.impl.handlers.ContractHandlers;
+import com.hedera.node.app.service.contract.impl.infra.ContractStorageCache;
 import com.hedera.node.app.spi.signatures.SignatureVerifier;
 import dagger.BindsInstance;
 import dagger.Component;
@@ -38,4 +39,6 @@ public interface ContractServiceComponent {
     }
 
     ContractHandlers handlers();
+
+    ContractStorageCache storageCache();
 }
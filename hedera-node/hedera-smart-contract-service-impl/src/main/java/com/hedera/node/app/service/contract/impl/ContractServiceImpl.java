@@ -23,6 +23,7 @@ import com.hedera.node.app.service.contract.impl.handlers.ContractHandlers;
 import com.hedera.node.app.service.contract.impl.schemas.V0490ContractSchema;
 import com.hedera.node.app.service.contract.impl.schemas.V0500ContractSchema;
 import com.hedera.node.app.spi.AppContext;
+import com.swirlds.metrics.api.Metrics;
 import com.swirlds.state.spi.SchemaRegistry;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -64,4 +65,14 @@ public class ContractServiceImpl implements ContractService {
     public ContractHandlers handlers() {
         return component.handlers();
     }
+
+    /**
+     * Registers the metrics of this service with the given metrics, once they are available.
+     *
+     * @param metrics the metrics to register with
+     */
+    public void registerMetrics(@NonNull final Metrics metrics) {
+        requireNonNull(metrics);
+        component.storageCache().registerMetrics(metrics);
+    }
 }
@@ -36,8 +36,10 @@ import com.hedera.node.app.service.contract.impl.exec.gas.SystemContractGasCalcu
 import com.hedera.node.app.service.contract.impl.exec.gas.TinybarValues;
 import com.hedera.node.app.service.contract.impl.exec.utils.PendingCreationMetadata;
 import com.hedera.node.app.service.contract.impl.exec.utils.PendingCreationMetadataRef;
+import com.hedera.node.app.service.contract.impl.infra.ContractStorageCache;
 import com.hedera.node.app.service.contract.impl.records.ContractCreateStreamBuilder;
 import com.hedera.node.app.service.contract.impl.records.ContractOperationStreamBuilder;
+import com.hedera.node.app.service.contract.impl.state.CachingContractStateStore;
 import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
 import com.hedera.node.app.service.contract.impl.state.WritableContractStateStore;
 import com.hedera.node.app.service.token.ReadableAccountStore;
@@ -85,6 +87,7 @@ public class HandleHederaOperations implements HederaOperations {
     private final HederaFunctionality functionality;
     private final PendingCreationMetadataRef pendingCreationMetadataRef;
     private final AccountsConfig accountsConfig;
+    private final ContractStorageCache storageCache;
 
     @Inject
     public HandleHederaOperations(
@@ -96,7 +99,8 @@ public class HandleHederaOperations implements HederaOperations {
             @NonNull final HederaConfig hederaConfig,
             @NonNull final HederaFunctionality functionality,
             @NonNull final PendingCreationMetadataRef pendingCreationMetadataRef,
-            @NonNull final AccountsConfig accountsConfig) {
+            @NonNull final AccountsConfig accountsConfig,
+            @NonNull final ContractStorageCache storageCache) {
         this.ledgerConfig = requireNonNull(ledgerConfig);
         this.contractsConfig = requireNonNull(contractsConfig);
         this.context = requireNonNull(context);
@@ -106,6 +110,7 @@ public class HandleHederaOperations implements HederaOperations {
         this.functionality = requireNonNull(functionality);
         this.pendingCreationMetadataRef = requireNonNull(pendingCreationMetadataRef);
         this.accountsConfig = requireNonNull(accountsConfig);
+        this.storageCache = requireNonNull(storageCache);
     }
 
     /**
@@ -138,7 +143,13 @@ public class HandleHederaOperations implements HederaOperations {
      */
     @Override
     public ContractStateStore getStore() {
-        return context.storeFactory().writableStore(WritableContractStateStore.class);
+        final var store = context.storeFactory().writableStore(WritableContractStateStore.class);
+        final var maxCachedSlots = contractsConfig.storageSlotCacheMaxSize();
+        if (maxCachedSlots <= 0) {
+            return store;
+        }
+        storageCache.useInBlock(context.blockRecordInfo().blockNo(), maxCachedSlots);
+        return new CachingContractStateStore(store, storageCache);
     }
 
     /**
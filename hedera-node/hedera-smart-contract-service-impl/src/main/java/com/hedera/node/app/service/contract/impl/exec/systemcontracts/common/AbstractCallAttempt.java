@@ -32,7 +32,6 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.BufferUnderflowException;
 import java.util.Arrays;
-import java.util.List;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
 
@@ -52,7 +51,7 @@ public abstract class AbstractCallAttempt<T extends AbstractCallAttempt<T>> {
     private final AddressIdConverter addressIdConverter;
     private final VerificationStrategies verificationStrategies;
     private final SystemContractGasCalculator gasCalculator;
-    private final List<CallTranslator<T>> callTranslators;
+    private final CallTranslatorTable<T> callTranslators;
     private final boolean isStaticCall;
 
     // If non-null, the address of a non-contract entity (e.g., account or token) whose
@@ -72,7 +71,7 @@ public abstract class AbstractCallAttempt<T extends AbstractCallAttempt<T>> {
             @NonNull final AddressIdConverter addressIdConverter,
             @NonNull final VerificationStrategies verificationStrategies,
             @NonNull final SystemContractGasCalculator gasCalculator,
-            @NonNull final List<CallTranslator<T>> callTranslators,
+            @NonNull final CallTranslatorTable<T> callTranslators,
             final boolean isStaticCall,
             @NonNull final com.esaulpaugh.headlong.abi.Function redirectFunction) {
         requireNonNull(input);
@@ -159,7 +158,7 @@ public abstract class AbstractCallAttempt<T extends AbstractCallAttempt<T>> {
      */
     public @Nullable Call asExecutableCall() {
         final var self = self();
-        for (final var translator : callTranslators) {
+        for (final var translator : callTranslators.candidatesFor(selector)) {
             final var call = translator.translateCallAttempt(self);
             if (call != null) {
                 return call;
@@ -16,9 +16,11 @@
 
 package com.hedera.node.app.service.contract.impl.exec.systemcontracts.common;
 
+import com.esaulpaugh.headlong.abi.Function;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.List;
 
 /**
  * Strategy interface for translating {@link HtsCallAttempt}s into {@link Call}s.
@@ -42,6 +44,17 @@ public interface CallTranslator<T> {
      */
     boolean matches(@NonNull T attempt);
 
+    /**
+     * Returns the functions whose selectors this translator can match. A {@link CallTranslatorTable} only offers
+     * an attempt to the translators whose functions include the attempt's selector; and offers every attempt to
+     * the translators that return an empty list, which is the default.
+     *
+     * @return the functions whose selectors this translator can match, or an empty list if it may match any selector
+     */
+    default @NonNull List<Function> matchedFunctions() {
+        return List.of();
+    }
+
     /**
      * Returns a call from the given attempt.
      *
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.exec.systemcontracts.common;
+
+import static java.util.Objects.requireNonNull;
+
+import com.esaulpaugh.headlong.abi.Function;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * An immutable table of {@link CallTranslator}s indexed by the 4-byte selectors of the functions they declare in
+ * {@link CallTranslator#matchedFunctions()}, so that a call attempt is only offered to the few translators that can
+ * match its selector instead of to every registered translator.
+ *
+ * <p>For each selector, the candidates are the translators declaring a function with that selector together with
+ * the translators that declare no functions at all, in the order they were registered; so the first translator
+ * returning a call is the same as when trying all the translators in order.
+ *
+ * @param <T> the type of call attempt
+ */
+public final class CallTranslatorTable<T extends AbstractCallAttempt<T>> {
+    private final List<CallTranslator<T>> fallbackCandidates;
+    private final int[] selectors;
+    private final List<List<CallTranslator<T>>> candidates;
+
+    /**
+     * Creates a table for the given translators, in priority order.
+     *
+     * @param callTranslators the translators to index
+     */
+    public CallTranslatorTable(@NonNull final List<CallTranslator<T>> callTranslators) {
+        requireNonNull(callTranslators);
+        final var declared = new ArrayList<int[]>(callTranslators.size());
+        final var allSelectors = new TreeSet<Integer>();
+        for (final var translator : callTranslators) {
+            final var functions = translator.matchedFunctions();
+            final var translatorSelectors = new int[functions.size()];
+            for (int i = 0; i < translatorSelectors.length; i++) {
+                translatorSelectors[i] = selectorOf(functions.get(i));
+                allSelectors.add(translatorSelectors[i]);
+            }
+            declared.add(translatorSelectors);
+        }
+
+        this.fallbackCandidates = candidatesMatching(callTranslators, declared, null);
+        this.selectors = allSelectors.stream().mapToInt(Integer::intValue).toArray();
+        final var candidatesBySelector = new ArrayList<List<CallTranslator<T>>>(selectors.length);
+        for (final var selector : selectors) {
+            candidatesBySelector.add(candidatesMatching(callTranslators, declared, selector));
+        }
+        this.candidates = List.copyOf(candidatesBySelector);
+    }
+
+    /**
+     * Returns the translators, in priority order, that may be able to translate a call attempt with the given
+     * selector.
+     *
+     * @param selector the selector of the call attempt
+     * @return the candidate translators
+     */
+    public @NonNull List<CallTranslator<T>> candidatesFor(@NonNull final byte[] selector) {
+        if (selector.length < 4) {
+            return fallbackCandidates;
+        }
+        final var i = Arrays.binarySearch(selectors, selectorOf(selector));
+        return i >= 0 ? candidates.get(i) : fallbackCandidates;
+    }
+
+    private static <T extends AbstractCallAttempt<T>> List<CallTranslator<T>> candidatesMatching(
+            @NonNull final List<CallTranslator<T>> callTranslators,
+            @NonNull final List<int[]> declared,
+            @Nullable final Integer selector) {
+        final var matching = new ArrayList<CallTranslator<T>>();
+        for (int i = 0, n = callTranslators.size(); i < n; i++) {
+            final var translatorSelectors = declared.get(i);
+            if (translatorSelectors.length == 0
+                    || (selector != null && Arrays.stream(translatorSelectors).anyMatch(s -> s == selector))) {
+                matching.add(callTranslators.get(i));
+            }
+        }
+        return List.copyOf(matching);
+    }
+
+    private static int selectorOf(@NonNull final Function function) {
+        return selectorOf(function.selector());
+    }
+
+    private static int selectorOf(@NonNull final byte[] selector) {
+        return (selector[0] & 0xFF) << 24 | (selector[1] & 0xFF) << 16 | (selector[2] & 0xFF) << 8 | selector[3] & 0xFF;
+    }
+}
@@ -25,6 +25,7 @@ import com.hedera.node.app.service.contract.impl.exec.scope.VerificationStrategi
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallAddressChecks;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallFactory;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslatorTable;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.SyntheticIds;
 import com.hedera.node.app.service.contract.impl.exec.utils.FrameUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -43,7 +44,7 @@ public class HasCallFactory implements CallFactory<HasCallAttempt> {
     private final SyntheticIds syntheticIds;
     private final CallAddressChecks addressChecks;
     private final VerificationStrategies verificationStrategies;
-    private final List<CallTranslator<HasCallAttempt>> callTranslators;
+    private final CallTranslatorTable<HasCallAttempt> callTranslators;
 
     @Inject
     public HasCallFactory(
@@ -54,7 +55,7 @@ public class HasCallFactory implements CallFactory<HasCallAttempt> {
         this.syntheticIds = requireNonNull(syntheticIds);
         this.addressChecks = requireNonNull(addressChecks);
         this.verificationStrategies = requireNonNull(verificationStrategies);
-        this.callTranslators = requireNonNull(callTranslators);
+        this.callTranslators = new CallTranslatorTable<>(requireNonNull(callTranslators));
     }
 
     /**
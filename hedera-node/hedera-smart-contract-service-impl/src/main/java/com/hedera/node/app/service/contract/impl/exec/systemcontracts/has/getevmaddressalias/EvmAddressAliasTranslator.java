@@ -24,6 +24,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Abs
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.HasCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -59,4 +60,12 @@ public class EvmAddressAliasTranslator extends AbstractCallTranslator<HasCallAtt
         requireNonNull(attempt, "attempt");
         return attempt.isSelector(EVM_ADDRESS_ALIAS);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull List<Function> matchedFunctions() {
+        return List.of(EVM_ADDRESS_ALIAS);
+    }
 }
@@ -26,6 +26,7 @@ import com.hedera.node.app.service.contract.impl.exec.scope.VerificationStrategi
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallAddressChecks;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallFactory;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslatorTable;
 import com.hedera.node.app.service.contract.impl.exec.utils.FrameUtils.CallType;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.List;
@@ -43,7 +44,7 @@ public class HtsCallFactory implements CallFactory<HtsCallAttempt> {
     private final SyntheticIds syntheticIds;
     private final CallAddressChecks addressChecks;
     private final VerificationStrategies verificationStrategies;
-    private final List<CallTranslator<HtsCallAttempt>> callTranslators;
+    private final CallTranslatorTable<HtsCallAttempt> callTranslators;
 
     @Inject
     public HtsCallFactory(
@@ -54,7 +55,7 @@ public class HtsCallFactory implements CallFactory<HtsCallAttempt> {
         this.syntheticIds = requireNonNull(syntheticIds);
         this.addressChecks = requireNonNull(addressChecks);
         this.verificationStrategies = requireNonNull(verificationStrategies);
-        this.callTranslators = requireNonNull(callTranslators);
+        this.callTranslators = new CallTranslatorTable<>(requireNonNull(callTranslators));
     }
 
     /**
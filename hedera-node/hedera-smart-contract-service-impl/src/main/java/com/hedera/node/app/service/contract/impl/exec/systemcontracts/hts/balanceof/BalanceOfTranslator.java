@@ -22,6 +22,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Abs
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -56,4 +57,12 @@ public class BalanceOfTranslator extends AbstractCallTranslator<HtsCallAttempt>
     public boolean matches(@NonNull final HtsCallAttempt attempt) {
         return attempt.isSelector(BALANCE_OF);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull List<Function> matchedFunctions() {
+        return List.of(BALANCE_OF);
+    }
 }
@@ -24,6 +24,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Cal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 public class DefaultKycStatusTranslator extends AbstractCallTranslator<HtsCallAttempt> {
@@ -44,6 +45,14 @@ public class DefaultKycStatusTranslator extends AbstractCallTranslator<HtsCallAt
         return attempt.isSelector(DEFAULT_KYC_STATUS);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull List<Function> matchedFunctions() {
+        return List.of(DEFAULT_KYC_STATUS);
+    }
+
     /**
      * {@inheritDoc}
      */
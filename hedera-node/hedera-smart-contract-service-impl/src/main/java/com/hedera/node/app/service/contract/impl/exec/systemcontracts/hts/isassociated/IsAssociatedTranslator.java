@@ -24,6 +24,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Cal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -42,6 +43,11 @@ public class IsAssociatedTranslator extends AbstractCallTranslator<HtsCallAttemp
         return attempt.isTokenRedirect() && attempt.isSelector(IS_ASSOCIATED);
     }
 
+    @Override
+    public @NonNull List<Function> matchedFunctions() {
+        return List.of(IS_ASSOCIATED);
+    }
+
     @Override
     public final Call callFrom(@NonNull final HtsCallAttempt attempt) {
         requireNonNull(attempt);
@@ -25,6 +25,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Cal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 public class NftTokenInfoTranslator extends AbstractCallTranslator<HtsCallAttempt> {
@@ -46,6 +47,14 @@ public class NftTokenInfoTranslator extends AbstractCallTranslator<HtsCallAttemp
         return attempt.isSelector(NON_FUNGIBLE_TOKEN_INFO);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull List<Function> matchedFunctions() {
+        return List.of(NON_FUNGIBLE_TOKEN_INFO);
+    }
+
     /**
      * {@inheritDoc}
      */
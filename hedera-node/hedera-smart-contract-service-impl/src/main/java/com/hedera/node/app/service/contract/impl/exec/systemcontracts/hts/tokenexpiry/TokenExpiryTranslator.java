@@ -24,6 +24,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.Cal
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.ReturnTypes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import javax.inject.Inject;
 
 public class TokenExpiryTranslator extends AbstractCallTranslator<HtsCallAttempt> {
@@ -44,6 +45,14 @@ public class TokenExpiryTranslator extends AbstractCallTranslator<HtsCallAttempt
         return attempt.isSelector(TOKEN_EXPIRY);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull List<Function> matchedFunctions() {
+        return List.of(TOKEN_EXPIRY);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -29,6 +29,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.Return
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.math.BigInteger;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -54,6 +55,11 @@ public class Erc20TransfersTranslator extends AbstractCallTranslator<HtsCallAtte
                 && attempt.redirectTokenType() != NON_FUNGIBLE_UNIQUE;
     }
 
+    @Override
+    public @NonNull List<Function> matchedFunctions() {
+        return List.of(ERC_20_TRANSFER, ERC_20_TRANSFER_FROM);
+    }
+
     @Override
     public @Nullable Call callFrom(@NonNull final HtsCallAttempt attempt) {
         if (attempt.isSelector(ERC_20_TRANSFER)) {
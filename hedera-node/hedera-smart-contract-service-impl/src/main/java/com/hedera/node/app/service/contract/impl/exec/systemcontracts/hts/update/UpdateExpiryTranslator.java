@@ -33,6 +33,7 @@ import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.Return
 import com.hedera.node.app.service.contract.impl.hevm.HederaWorldUpdater;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.Arrays;
+import java.util.List;
 import javax.inject.Inject;
 
 public class UpdateExpiryTranslator extends AbstractCallTranslator<HtsCallAttempt> {
@@ -53,6 +54,11 @@ public class UpdateExpiryTranslator extends AbstractCallTranslator<HtsCallAttemp
         return attempt.isSelector(UPDATE_TOKEN_EXPIRY_INFO_V1, UPDATE_TOKEN_EXPIRY_INFO_V2);
     }
 
+    @Override
+    public @NonNull List<Function> matchedFunctions() {
+        return List.of(UPDATE_TOKEN_EXPIRY_INFO_V1, UPDATE_TOKEN_EXPIRY_INFO_V2);
+    }
+
     @Override
     public Call callFrom(@NonNull HtsCallAttempt attempt) {
         return new DispatchForResponseCodeHtsCall(
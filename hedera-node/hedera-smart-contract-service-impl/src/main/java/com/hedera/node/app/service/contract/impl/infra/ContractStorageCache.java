@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.infra;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.hapi.node.state.contract.SlotValue;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * A bounded, least-recently-used cache of contract storage values that lets the transactions of a block re-use
+ * the slots loaded by earlier transactions in the same block instead of reading them again from the storage map.
+ *
+ * <p>Only values that cannot differ from the committed state are cached. As soon as a slot is written, in any
+ * transaction, it is dropped from the cache and not cached again until the next block; at that point every
+ * transaction that could have written it has been either committed or rolled back. All entries are discarded
+ * when a new block starts, which also keeps the cache consistent with the state after a reconnect.
+ *
+ * <p>Once {@link #registerMetrics(Metrics)} is called, every hit and miss is also counted in the
+ * {@code app.contractStorageCacheHits} and {@code app.contractStorageCacheMisses} metrics.
+ *
+ * <p>Only used from the handle thread, so not thread-safe.
+ */
+@Singleton
+public class ContractStorageCache {
+    private static final Counter.Config HITS_CONFIG = new Counter.Config("app", "contractStorageCacheHits")
+            .withDescription("Number of contract storage slot reads served from the block-scoped cache");
+    private static final Counter.Config MISSES_CONFIG = new Counter.Config("app", "contractStorageCacheMisses")
+            .withDescription("Number of contract storage slot reads the block-scoped cache loaded from state");
+
+    /**
+     * Cached for slots known to be missing from state; compared by identity, never returned.
+     */
+    private static final SlotValue MISSING = new SlotValue(Bytes.EMPTY, Bytes.EMPTY, Bytes.EMPTY);
+
+    private final Set<SlotKey> writtenKeys = new HashSet<>();
+    private final Map<SlotKey, SlotValue> values = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(@NonNull final Map.Entry<SlotKey, SlotValue> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    private long blockNo = -1;
+    private int maxSize;
+    private long hits;
+    private long misses;
+
+    @Nullable
+    private Counter hitsCounter;
+
+    @Nullable
+    private Counter missesCounter;
+
+    @Inject
+    public ContractStorageCache() {
+        // Dagger2
+    }
+
+    /**
+     * Registers the counters of cache hits and misses with the given metrics.
+     *
+     * @param metrics the metrics to register the counters with
+     */
+    public void registerMetrics(@NonNull final Metrics metrics) {
+        requireNonNull(metrics);
+        hitsCounter = metrics.getOrCreate(HITS_CONFIG);
+        missesCounter = metrics.getOrCreate(MISSES_CONFIG);
+    }
+
+    /**
+     * Prepares the cache for use in the given block, discarding all entries if this is a new block.
+     *
+     * @param blockNo the number of the current block
+     * @param maxSize the maximum number of slots to cache
+     */
+    public void useInBlock(final long blockNo, final int maxSize) {
+        if (blockNo != this.blockNo) {
+            values.clear();
+            writtenKeys.clear();
+            hits = 0;
+            misses = 0;
+            this.blockNo = blockNo;
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the committed value of the given slot, loading it with the given function if it is not cached. If the
+     * slot was written in this block, always delegates to the function, which sees any pending writes.
+     *
+     * @param key the slot key
+     * @param loader the function to load the slot value from state
+     * @return the value of the slot, or {@code null} if it is not in state
+     */
+    public @Nullable SlotValue get(@NonNull final SlotKey key, @NonNull final Function<SlotKey, SlotValue> loader) {
+        requireNonNull(key);
+        requireNonNull(loader);
+        if (writtenKeys.contains(key)) {
+            return loader.apply(key);
+        }
+        final var cached = values.get(key);
+        if (cached != null) {
+            hits++;
+            if (hitsCounter != null) {
+                hitsCounter.increment();
+            }
+            return cached == MISSING ? null : cached;
+        }
+        misses++;
+        if (missesCounter != null) {
+            missesCounter.increment();
+        }
+        final var value = loader.apply(key);
+        values.put(key, value == null ? MISSING : value);
+        return value;
+    }
+
+    /**
+     * Records that the given slot is about to be written, so its value may no longer be served from the cache
+     * in this block.
+     *
+     * @param key the slot key
+     */
+    public void markWritten(@NonNull final SlotKey key) {
+        requireNonNull(key);
+        values.remove(key);
+        writtenKeys.add(key);
+    }
+
+    /**
+     * Returns the number of lookups served from the cache in the current block.
+     *
+     * @return the number of cache hits
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups in the current block that had to load a slot from state.
+     *
+     * @return the number of cache misses
+     */
+    public long misses() {
+        return misses;
+    }
+}
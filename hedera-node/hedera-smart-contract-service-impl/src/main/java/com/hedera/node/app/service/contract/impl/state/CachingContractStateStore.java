@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.state;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.state.contract.Bytecode;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.hapi.node.state.contract.SlotValue;
+import com.hedera.node.app.service.contract.impl.infra.ContractStorageCache;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Set;
+
+/**
+ * A {@link ContractStateStore} that serves slot reads through a {@link ContractStorageCache} shared by all
+ * transactions in a block, and tells the cache about every slot written through it.
+ */
+public class CachingContractStateStore implements ContractStateStore {
+    private final ContractStateStore delegate;
+    private final ContractStorageCache cache;
+
+    /**
+     * Create a new {@link CachingContractStateStore} instance.
+     *
+     * @param delegate the store to read from and write to
+     * @param cache the cache of committed slot values
+     */
+    public CachingContractStateStore(
+            @NonNull final ContractStateStore delegate, @NonNull final ContractStorageCache cache) {
+        this.delegate = requireNonNull(delegate);
+        this.cache = requireNonNull(cache);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Bytecode getBytecode(@NonNull final ContractID contractID) {
+        return delegate.getBytecode(contractID);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putBytecode(@NonNull final ContractID contractID, @NonNull final Bytecode code) {
+        delegate.putBytecode(contractID, code);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeSlot(@NonNull final SlotKey key) {
+        cache.markWritten(key);
+        delegate.removeSlot(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putSlot(@NonNull final SlotKey key, @NonNull final SlotValue value) {
+        cache.markWritten(key);
+        delegate.putSlot(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<SlotKey> getModifiedSlotKeys() {
+        return delegate.getModifiedSlotKeys();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable SlotValue getSlotValue(@NonNull final SlotKey key) {
+        return cache.get(key, delegate::getSlotValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable SlotValue getSlotValueForModify(@NonNull final SlotKey key) {
+        cache.markWritten(key);
+        return delegate.getSlotValueForModify(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A slot not yet written in this block has the same original and current value, so both come from the
+     * same cache entry.
+     */
+    @Override
+    public @Nullable SlotValue getOriginalSlotValue(@NonNull final SlotKey key) {
+        return cache.get(key, delegate::getOriginalSlotValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNumSlots() {
+        return delegate.getNumSlots();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNumBytecodes() {
+        return delegate.getNumBytecodes();
+    }
+}
@@ -38,6 +38,7 @@ import static com.hedera.node.app.service.contract.impl.utils.SynthTxnUtils.synt
 import static com.hedera.node.app.spi.workflows.record.ExternalizedRecordCustomizer.SUPPRESSING_EXTERNALIZED_RECORD_CUSTOMIZER;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -64,7 +65,9 @@ import com.hedera.node.app.service.contract.impl.exec.gas.TinybarValues;
 import com.hedera.node.app.service.contract.impl.exec.scope.HandleHederaOperations;
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaOperations;
 import com.hedera.node.app.service.contract.impl.exec.utils.PendingCreationMetadataRef;
+import com.hedera.node.app.service.contract.impl.infra.ContractStorageCache;
 import com.hedera.node.app.service.contract.impl.records.ContractCreateStreamBuilder;
+import com.hedera.node.app.service.contract.impl.state.CachingContractStateStore;
 import com.hedera.node.app.service.contract.impl.state.WritableContractStateStore;
 import com.hedera.node.app.service.contract.impl.test.TestHelpers;
 import com.hedera.node.app.service.token.ReadableAccountStore;
@@ -146,15 +149,21 @@ class HandleHederaOperationsTest {
                 DEFAULT_HEDERA_CONFIG,
                 HederaFunctionality.CONTRACT_CALL,
                 pendingCreationMetadataRef,
-                DEFAULT_ACCOUNTS_CONFIG);
+                DEFAULT_ACCOUNTS_CONFIG,
+                new ContractStorageCache());
     }
 
     @Test
-    void returnsContextualStore() {
+    void returnsContextualStoreBehindStorageCache() {
         given(context.storeFactory()).willReturn(storeFactory);
+        given(context.blockRecordInfo()).willReturn(blockRecordInfo);
         given(storeFactory.writableStore(WritableContractStateStore.class)).willReturn(stateStore);
+        given(stateStore.getNumSlots()).willReturn(123L);
+
+        final var store = subject.getStore();
 
-        assertSame(stateStore, subject.getStore());
+        assertInstanceOf(CachingContractStateStore.class, store);
+        assertEquals(123L, store.getNumSlots());
     }
 
     @Test
@@ -544,7 +553,8 @@ class HandleHederaOperationsTest {
                 DEFAULT_HEDERA_CONFIG,
                 ETHEREUM_TRANSACTION,
                 pendingCreationMetadataRef,
-                DEFAULT_ACCOUNTS_CONFIG);
+                DEFAULT_ACCOUNTS_CONFIG,
+                new ContractStorageCache());
         final var someBody = ContractCreateTransactionBody.newBuilder()
                 .adminKey(AN_ED25519_KEY)
                 .autoRenewAccountId(NON_SYSTEM_ACCOUNT_ID)
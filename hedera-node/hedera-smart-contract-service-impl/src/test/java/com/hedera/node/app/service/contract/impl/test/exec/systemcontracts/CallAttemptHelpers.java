@@ -24,6 +24,7 @@ import com.esaulpaugh.headlong.abi.Function;
 import com.hedera.node.app.service.contract.impl.exec.gas.SystemContractGasCalculator;
 import com.hedera.node.app.service.contract.impl.exec.scope.VerificationStrategies;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslatorTable;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.HasCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.AddressIdConverter;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
@@ -54,7 +55,7 @@ public final class CallAttemptHelpers {
                 addressIdConverter,
                 verificationStrategies,
                 gasCalculator,
-                List.of(translator),
+                new CallTranslatorTable<>(List.of(translator)),
                 false);
     }
 
@@ -77,7 +78,7 @@ public final class CallAttemptHelpers {
                 addressIdConverter,
                 verificationStrategies,
                 gasCalculator,
-                List.of(translator),
+                new CallTranslatorTable<>(List.of(translator)),
                 false);
     }
 
@@ -101,7 +102,7 @@ public final class CallAttemptHelpers {
                 addressIdConverter,
                 verificationStrategies,
                 gasCalculator,
-                List.of(translator),
+                new CallTranslatorTable<>(List.of(translator)),
                 false);
     }
 
@@ -123,7 +124,7 @@ public final class CallAttemptHelpers {
                 addressIdConverter,
                 verificationStrategies,
                 gasCalculator,
-                List.of(translator),
+                new CallTranslatorTable<>(List.of(translator)),
                 false);
     }
 }
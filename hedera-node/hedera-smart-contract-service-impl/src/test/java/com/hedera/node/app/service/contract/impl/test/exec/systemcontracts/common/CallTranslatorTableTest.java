@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.test.exec.systemcontracts.common;
+
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.balanceof.BalanceOfTranslator.BALANCE_OF;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.name.NameTranslator.NAME;
+import static com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.symbol.SymbolTranslator.SYMBOL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslatorTable;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.balanceof.BalanceOfTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.name.NameTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.symbol.SymbolTranslator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CallTranslatorTableTest {
+    @Mock
+    private CallTranslator<HtsCallAttempt> anySelectorTranslator;
+
+    private final NameTranslator nameTranslator = new NameTranslator();
+    private final SymbolTranslator symbolTranslator = new SymbolTranslator();
+    private final BalanceOfTranslator balanceOfTranslator = new BalanceOfTranslator();
+
+    private CallTranslatorTable<HtsCallAttempt> subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new CallTranslatorTable<>(
+                List.of(nameTranslator, anySelectorTranslator, symbolTranslator, balanceOfTranslator));
+    }
+
+    @Test
+    void offersDeclaredSelectorOnlyToMatchingAndUndeclaredTranslatorsInOrder() {
+        assertEquals(List.of(nameTranslator, anySelectorTranslator), subject.candidatesFor(NAME.selector()));
+        assertEquals(List.of(anySelectorTranslator, symbolTranslator), subject.candidatesFor(SYMBOL.selector()));
+        assertEquals(
+                List.of(anySelectorTranslator, balanceOfTranslator), subject.candidatesFor(BALANCE_OF.selector()));
+    }
+
+    @Test
+    void offersUnknownOrTruncatedSelectorOnlyToUndeclaredTranslators() {
+        assertEquals(List.of(anySelectorTranslator), subject.candidatesFor(new byte[] {1, 2, 3, 4}));
+        assertEquals(List.of(anySelectorTranslator), subject.candidatesFor(new byte[] {1, 2}));
+    }
+}
@@ -29,7 +29,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.BDDMockito.given;
 
 import com.hedera.node.app.service.contract.impl.exec.scope.VerificationStrategies;
-import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslatorTable;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.HasCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.hbarallowance.HbarAllowanceCall;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.has.hbarallowance.HbarAllowanceTranslator;
@@ -52,11 +52,12 @@ class HasCallAttemptTest extends CallTestBase {
     @Mock
     private AddressIdConverter addressIdConverter;
 
-    private List<CallTranslator<HasCallAttempt>> callTranslators;
+    private CallTranslatorTable<HasCallAttempt> callTranslators;
 
     @BeforeEach
     void setUp() {
-        callTranslators = List.of(new HbarAllowanceTranslator(), new HbarApproveTranslator());
+        callTranslators =
+                new CallTranslatorTable<>(List.of(new HbarAllowanceTranslator(), new HbarApproveTranslator()));
     }
 
     @Test
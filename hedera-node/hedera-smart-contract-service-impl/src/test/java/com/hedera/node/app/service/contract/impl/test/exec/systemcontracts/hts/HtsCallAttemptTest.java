@@ -40,7 +40,7 @@ import com.hedera.hapi.node.token.TokenMintTransactionBody;
 import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.node.app.service.contract.impl.exec.scope.VerificationStrategies;
 import com.hedera.node.app.service.contract.impl.exec.scope.VerificationStrategy;
-import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslatorTable;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.AddressIdConverter;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.DispatchForResponseCodeHtsCall;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
@@ -103,11 +103,11 @@ class HtsCallAttemptTest extends CallTestBase {
     @Mock
     private MintDecoder mintDecoder;
 
-    private List<CallTranslator<HtsCallAttempt>> callTranslators;
+    private CallTranslatorTable<HtsCallAttempt> callTranslators;
 
     @BeforeEach
     void setUp() {
-        callTranslators = List.of(
+        callTranslators = new CallTranslatorTable<>(List.of(
                 new AssociationsTranslator(associationsDecoder),
                 new Erc20TransfersTranslator(),
                 new Erc721TransferFromTranslator(),
@@ -120,7 +120,7 @@ class HtsCallAttemptTest extends CallTestBase {
                 new SymbolTranslator(),
                 new TokenUriTranslator(),
                 new OwnerOfTranslator(),
-                new DecimalsTranslator());
+                new DecimalsTranslator()));
     }
 
     @Test
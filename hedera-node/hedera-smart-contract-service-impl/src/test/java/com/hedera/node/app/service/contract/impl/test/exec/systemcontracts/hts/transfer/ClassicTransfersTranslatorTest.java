@@ -28,7 +28,7 @@ import static org.mockito.BDDMockito.given;
 import com.hedera.hapi.node.base.AccountID;
 import com.hedera.node.app.service.contract.impl.exec.scope.VerificationStrategies;
 import com.hedera.node.app.service.contract.impl.exec.scope.VerificationStrategy;
-import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslator;
+import com.hedera.node.app.service.contract.impl.exec.systemcontracts.common.CallTranslatorTable;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.AddressIdConverter;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.HtsCallAttempt;
 import com.hedera.node.app.service.contract.impl.exec.systemcontracts.hts.transfer.ClassicTransfersCall;
@@ -65,11 +65,11 @@ class ClassicTransfersTranslatorTest extends CallTestBase {
 
     private ClassicTransfersTranslator subject;
 
-    private List<CallTranslator<HtsCallAttempt>> callTranslators;
+    private CallTranslatorTable<HtsCallAttempt> callTranslators;
 
     @BeforeEach
     void setUp() {
-        callTranslators = List.of(new ClassicTransfersTranslator(classicTransfersDecoder));
+        callTranslators = new CallTranslatorTable<>(List.of(new ClassicTransfersTranslator(classicTransfersDecoder)));
     }
 
     @Test
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.contract.impl.test.infra;
+
+import static com.hedera.node.app.service.contract.impl.test.TestHelpers.CALLED_CONTRACT_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.hapi.node.state.contract.SlotValue;
+import com.hedera.node.app.service.contract.impl.infra.ContractStorageCache;
+import com.hedera.node.app.service.contract.impl.state.CachingContractStateStore;
+import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ContractStorageCacheTest {
+    private static final SlotKey A_KEY = new SlotKey(CALLED_CONTRACT_ID, Bytes.wrap(new byte[] {1}));
+    private static final SlotKey B_KEY = new SlotKey(CALLED_CONTRACT_ID, Bytes.wrap(new byte[] {2}));
+    private static final SlotValue A_VALUE = new SlotValue(Bytes.wrap(new byte[] {3}), Bytes.EMPTY, Bytes.EMPTY);
+    private static final SlotValue B_VALUE = new SlotValue(Bytes.wrap(new byte[] {4}), Bytes.EMPTY, Bytes.EMPTY);
+
+    @Mock
+    private ContractStateStore firstStore;
+
+    @Mock
+    private ContractStateStore secondStore;
+
+    @Mock
+    private Metrics metrics;
+
+    @Mock
+    private Counter hitsCounter;
+
+    @Mock
+    private Counter missesCounter;
+
+    private final ContractStorageCache cache = new ContractStorageCache();
+
+    @BeforeEach
+    void setUp() {
+        cache.useInBlock(1L, 16);
+    }
+
+    @Test
+    void laterTransactionsInBlockReuseLoadedSlots() {
+        given(firstStore.getSlotValue(A_KEY)).willReturn(A_VALUE);
+
+        assertEquals(A_VALUE, new CachingContractStateStore(firstStore, cache).getSlotValue(A_KEY));
+        final var secondSubject = new CachingContractStateStore(secondStore, cache);
+        assertEquals(A_VALUE, secondSubject.getSlotValue(A_KEY));
+        assertEquals(A_VALUE, secondSubject.getOriginalSlotValue(A_KEY));
+        assertNull(secondSubject.getSlotValue(B_KEY));
+        assertNull(secondSubject.getSlotValue(B_KEY));
+
+        verify(secondStore, times(1)).getSlotValue(B_KEY);
+        assertEquals(3L, cache.hits());
+        assertEquals(2L, cache.misses());
+    }
+
+    @Test
+    void countsHitsAndMissesInRegisteredMetrics() {
+        given(metrics.getOrCreate(any())).willAnswer(invocation -> {
+            final Counter.Config config = invocation.getArgument(0);
+            return "contractStorageCacheHits".equals(config.getName()) ? hitsCounter : missesCounter;
+        });
+        cache.registerMetrics(metrics);
+        final var subject = new CachingContractStateStore(firstStore, cache);
+        given(firstStore.getSlotValue(A_KEY)).willReturn(A_VALUE);
+
+        subject.getSlotValue(A_KEY);
+        subject.getSlotValue(A_KEY);
+        subject.getSlotValue(A_KEY);
+
+        verify(hitsCounter, times(2)).increment();
+        verify(missesCounter).increment();
+    }
+
+    @Test
+    void writtenSlotsAreNotCachedUntilNextBlock() {
+        final var subject = new CachingContractStateStore(firstStore, cache);
+        given(firstStore.getSlotValue(A_KEY)).willReturn(A_VALUE);
+        assertEquals(A_VALUE, subject.getSlotValue(A_KEY));
+
+        subject.putSlot(A_KEY, B_VALUE);
+        given(firstStore.getSlotValue(A_KEY)).willReturn(B_VALUE);
+        assertEquals(B_VALUE, subject.getSlotValue(A_KEY));
+        given(firstStore.getSlotValue(A_KEY)).willReturn(A_VALUE);
+        assertEquals(A_VALUE, subject.getSlotValue(A_KEY));
+        verify(firstStore).putSlot(A_KEY, B_VALUE);
+
+        cache.useInBlock(2L, 16);
+        given(firstStore.getSlotValue(A_KEY)).willReturn(B_VALUE);
+        assertEquals(B_VALUE, subject.getSlotValue(A_KEY));
+        assertEquals(B_VALUE, subject.getSlotValue(A_KEY));
+        verify(firstStore, times(4)).getSlotValue(A_KEY);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedSlotsBeyondMaxSize() {
+        cache.useInBlock(1L, 1);
+        final var subject = new CachingContractStateStore(firstStore, cache);
+        given(firstStore.getSlotValue(A_KEY)).willReturn(A_VALUE);
+        given(firstStore.getSlotValue(B_KEY)).willReturn(B_VALUE);
+
+        subject.getSlotValue(A_KEY);
+        subject.getSlotValue(B_KEY);
+        subject.getSlotValue(A_KEY);
+
+        verify(firstStore, times(2)).getSlotValue(A_KEY);
+        assertEquals(0L, cache.hits());
+    }
+}
@@ -16,12 +16,15 @@
 
 package com.hedera.node.app.service.token.impl;
 
+import static com.hedera.node.app.service.token.impl.schemas.V0550TokenSchema.TOKEN_RELATION_PAGES_KEY;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.base.TokenID;
 import com.hedera.hapi.node.state.common.EntityIDPair;
 import com.hedera.hapi.node.state.token.TokenRelation;
+import com.hedera.hapi.node.state.token.TokenRelationPage;
+import com.hedera.hapi.node.state.token.TokenRelationPageId;
 import com.hedera.node.app.service.token.ReadableTokenRelationStore;
 import com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema;
 import com.swirlds.state.spi.ReadableKVState;
@@ -38,6 +41,10 @@ public class ReadableTokenRelationStoreImpl implements ReadableTokenRelationStor
     /** The underlying data storage class that holds the token data. */
     private final ReadableKVState<EntityIDPair, TokenRelation> readableTokenRelState;
 
+    private final ReadableStates states;
+    /** The index of the tokens each account is associated with, looked up on first use. */
+    private ReadableKVState<TokenRelationPageId, TokenRelationPage> readablePagesState;
+
     /**
      * Create a new {@link ReadableTokenRelationStoreImpl} instance.
      *
@@ -45,6 +52,7 @@ public class ReadableTokenRelationStoreImpl implements ReadableTokenRelationStor
      */
     public ReadableTokenRelationStoreImpl(@NonNull final ReadableStates states) {
         this.readableTokenRelState = requireNonNull(states).get(V0490TokenSchema.TOKEN_RELS_KEY);
+        this.states = states;
     }
 
     /**
@@ -79,4 +87,41 @@ public class ReadableTokenRelationStoreImpl implements ReadableTokenRelationStor
                 EntityIDPair.newBuilder().accountId(accountID).tokenId(tokenId).build();
         readableTokenRelState.warm(key);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Nullable
+    public TokenRelationPage getPage(@NonNull final AccountID accountId, final long pageNumber) {
+        requireNonNull(accountId);
+        final var pagesState = readablePagesState();
+        return pagesState == null ? null : pagesState.get(pageIdFor(accountId, pageNumber));
+    }
+
+    /**
+     * Returns the index of the tokens each account is associated with, or {@code null} if the given states do not
+     * include it.
+     */
+    @Nullable
+    private ReadableKVState<TokenRelationPageId, TokenRelationPage> readablePagesState() {
+        if (readablePagesState == null && states.contains(TOKEN_RELATION_PAGES_KEY)) {
+            readablePagesState = states.get(TOKEN_RELATION_PAGES_KEY);
+        }
+        return readablePagesState;
+    }
+
+    /**
+     * Returns the key of the given page of the index of the given account's token relations.
+     *
+     * @param accountId the id of the account
+     * @param pageNumber the number of the page
+     * @return the key of the page
+     */
+    protected static TokenRelationPageId pageIdFor(@NonNull final AccountID accountId, final long pageNumber) {
+        return TokenRelationPageId.newBuilder()
+                .accountId(accountId)
+                .pageNumber(pageNumber)
+                .build();
+    }
 }
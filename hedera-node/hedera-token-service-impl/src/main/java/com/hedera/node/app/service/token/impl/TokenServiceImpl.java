@@ -23,6 +23,7 @@ import com.hedera.node.app.service.token.impl.schemas.SyntheticAccountCreator;
 import com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema;
 import com.hedera.node.app.service.token.impl.schemas.V0500TokenSchema;
 import com.hedera.node.app.service.token.impl.schemas.V0530TokenSchema;
+import com.hedera.node.app.service.token.impl.schemas.V0550TokenSchema;
 import com.swirlds.state.spi.SchemaRegistry;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.ZoneId;
@@ -46,5 +47,6 @@ public class TokenServiceImpl implements TokenService {
         registry.register(new V0490TokenSchema(new SyntheticAccountCreator()));
         registry.register(new V0500TokenSchema());
         registry.register(new V0530TokenSchema());
+        registry.register(new V0550TokenSchema());
     }
 }
@@ -18,21 +18,34 @@ package com.hedera.node.app.service.token.impl;
 
 import static com.hedera.node.app.service.token.impl.WritableAccountStore.requireNotDefault;
 import static com.hedera.node.app.service.token.impl.WritableTokenStore.requireNotDefault;
+import static com.hedera.node.app.service.token.impl.schemas.V0550TokenSchema.TOKEN_RELATION_INDEX_CURSOR_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0550TokenSchema.TOKEN_RELATION_PAGES_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0550TokenSchema.TOKEN_RELATION_PAGE_SIZE;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.base.TokenID;
 import com.hedera.hapi.node.state.common.EntityIDPair;
+import com.hedera.hapi.node.state.token.Account;
 import com.hedera.hapi.node.state.token.TokenRelation;
+import com.hedera.hapi.node.state.token.TokenRelationIndexCursor;
+import com.hedera.hapi.node.state.token.TokenRelationPage;
+import com.hedera.hapi.node.state.token.TokenRelationPageId;
+import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema;
 import com.hedera.node.app.spi.metrics.StoreMetricsService;
 import com.hedera.node.app.spi.metrics.StoreMetricsService.StoreType;
 import com.hedera.node.config.data.TokensConfig;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.state.spi.WritableKVState;
+import com.swirlds.state.spi.WritableSingletonState;
 import com.swirlds.state.spi.WritableStates;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -47,6 +60,10 @@ public class WritableTokenRelationStore extends ReadableTokenRelationStoreImpl {
     /** The underlying data storage class that holds the token data. */
     private final WritableKVState<EntityIDPair, TokenRelation> tokenRelState;
 
+    private final WritableStates states;
+    /** The index of the tokens each account is associated with, looked up on first use. */
+    private WritableKVState<TokenRelationPageId, TokenRelationPage> pagesState;
+
     /**
      * Create a new {@link WritableTokenRelationStore} instance.
      *
@@ -60,6 +77,7 @@ public class WritableTokenRelationStore extends ReadableTokenRelationStoreImpl {
             @NonNull final StoreMetricsService storeMetricsService) {
         super(states);
         this.tokenRelState = requireNonNull(states).get(V0490TokenSchema.TOKEN_RELS_KEY);
+        this.states = states;
 
         final long maxCapacity = configuration.getConfigData(TokensConfig.class).maxAggregateRels();
         final var storeMetrics = storeMetricsService.get(StoreType.TOKEN_RELATION, maxCapacity);
@@ -94,6 +112,197 @@ public class WritableTokenRelationStore extends ReadableTokenRelationStoreImpl {
                 .build());
     }
 
+    /**
+     * Records in the index of the given account's token relations that the given tokens were linked, in this order,
+     * at the head of the account's token relation list. If the account's existing token relations are not indexed
+     * yet, they are first indexed by following the account's list from its current head token id.
+     *
+     * <p>Usually only the account's first page is rewritten; when it is full, its token ids are moved to a new page
+     * and the first page starts over with the new token ids.
+     *
+     * @param account the account, before its head token id was changed
+     * @param tokenIds the ids of the newly linked tokens
+     */
+    public void linkToHead(@NonNull final Account account, @NonNull final List<TokenID> tokenIds) {
+        requireNonNull(account);
+        requireNonNull(tokenIds);
+        final var pages = pagesState();
+        if (pages == null || tokenIds.isEmpty()) {
+            return;
+        }
+        final var accountId = account.accountIdOrThrow();
+        final var firstPageId = pageIdFor(accountId, 0);
+        final var firstPage = pages.get(firstPageId);
+        if (firstPage == null) {
+            final var allTokenIds = new ArrayList<>(tokenIds);
+            allTokenIds.addAll(linkedTokenIdsOf(account));
+            putAsPages(accountId, allTokenIds);
+        } else if (firstPage.tokenIds().isEmpty()
+                || firstPage.tokenIds().size() + tokenIds.size() <= TOKEN_RELATION_PAGE_SIZE) {
+            final var newTokenIds = new ArrayList<>(tokenIds);
+            newTokenIds.addAll(firstPage.tokenIds());
+            pages.put(firstPageId, firstPage.copyBuilder().tokenIds(newTokenIds).build());
+        } else {
+            final var movedPageNumber = firstPage.lastPageNumber() + 1;
+            pages.put(pageIdFor(accountId, movedPageNumber), firstPage.copyBuilder().lastPageNumber(0).build());
+            pages.put(
+                    firstPageId,
+                    TokenRelationPage.newBuilder()
+                            .tokenIds(tokenIds)
+                            .nextPageNumber(movedPageNumber)
+                            .lastPageNumber(movedPageNumber)
+                            .build());
+        }
+    }
+
+    /**
+     * Removes the given tokens from the index of the given account's token relations, if the account has one. Only
+     * the pages up to the last one holding a removed token are read; pages left empty are removed, except for the
+     * first page while later pages remain.
+     *
+     * @param accountId the id of the account
+     * @param tokenIds the ids of the tokens no longer associated with the account
+     */
+    public void unlink(@NonNull final AccountID accountId, @NonNull final Collection<TokenID> tokenIds) {
+        requireNonNull(accountId);
+        requireNonNull(tokenIds);
+        final var pages = pagesState();
+        if (pages == null || tokenIds.isEmpty()) {
+            return;
+        }
+        final var toRemove = new HashSet<>(tokenIds);
+        var remaining = toRemove.size();
+        long pageNumber = 0;
+        var page = pages.get(pageIdFor(accountId, pageNumber));
+        long prevPageNumber = 0;
+        TokenRelationPage prevPage = null;
+        while (page != null && remaining > 0) {
+            final var keptTokenIds = new ArrayList<TokenID>(page.tokenIds().size());
+            for (final var tokenId : page.tokenIds()) {
+                if (toRemove.contains(tokenId)) {
+                    remaining--;
+                } else {
+                    keptTokenIds.add(tokenId);
+                }
+            }
+            final var nextPageNumber = page.nextPageNumber();
+            if (keptTokenIds.size() != page.tokenIds().size()) {
+                if (keptTokenIds.isEmpty() && prevPage != null) {
+                    pages.remove(pageIdFor(accountId, pageNumber));
+                    prevPage = prevPage.copyBuilder().nextPageNumber(nextPageNumber).build();
+                    pages.put(pageIdFor(accountId, prevPageNumber), prevPage);
+                    pageNumber = nextPageNumber;
+                    page = nextPageNumber == 0 ? null : pages.get(pageIdFor(accountId, nextPageNumber));
+                    continue;
+                } else if (keptTokenIds.isEmpty() && nextPageNumber == 0) {
+                    pages.remove(pageIdFor(accountId, pageNumber));
+                    return;
+                }
+                page = page.copyBuilder().tokenIds(keptTokenIds).build();
+                pages.put(pageIdFor(accountId, pageNumber), page);
+            }
+            prevPageNumber = pageNumber;
+            prevPage = page;
+            pageNumber = nextPageNumber;
+            page = nextPageNumber == 0 ? null : pages.get(pageIdFor(accountId, nextPageNumber));
+        }
+    }
+
+    /**
+     * Indexes the token relations of accounts that were associated with tokens before the index existed, resuming
+     * from the index cursor and stopping once every account up to the cursor's last account number is indexed or the
+     * given amount of work is done. Visiting an account number and reading one of an account's token relations each
+     * cost one unit of work, except that at least one relation is read for each account visited, so that every call
+     * makes progress.
+     *
+     * <p>An account's token ids are put on pages {@code 1} and up as they are read, so indexing a long token relation
+     * list can take many calls; page {@code 0} is only put once the whole list is indexed. If the number of the
+     * account's associations changes in between, its indexing starts over from its head token id.
+     *
+     * @param accountStore the store to read the accounts from
+     * @param maxWork the maximum amount of work to do
+     * @return whether the index cursor was updated
+     */
+    public boolean indexExistingRelations(@NonNull final ReadableAccountStore accountStore, final int maxWork) {
+        requireNonNull(accountStore);
+        final var pages = pagesState();
+        if (pages == null || !states.contains(TOKEN_RELATION_INDEX_CURSOR_KEY)) {
+            return false;
+        }
+        final WritableSingletonState<TokenRelationIndexCursor> cursorState =
+                states.getSingleton(TOKEN_RELATION_INDEX_CURSOR_KEY);
+        var cursor = cursorState.get();
+        if (cursor == null || cursor.nextAccountNumber() > cursor.lastAccountNumber()) {
+            return false;
+        }
+        int work = 0;
+        while (work < maxWork && cursor.nextAccountNumber() <= cursor.lastAccountNumber()) {
+            work++;
+            final var account = accountStore.getAccountById(
+                    AccountID.newBuilder().accountNum(cursor.nextAccountNumber()).build());
+            if (account == null
+                    || account.numberAssociations() == 0
+                    || pages.get(pageIdFor(account.accountIdOrThrow(), 0)) != null) {
+                cursor = cursorAt(cursor.nextAccountNumber() + 1, cursor.lastAccountNumber());
+                continue;
+            }
+            final var accountId = account.accountIdOrThrow();
+            final var resuming =
+                    cursor.hasNextTokenId() && cursor.numberAssociations() == account.numberAssociations();
+            var tokenId = resuming ? cursor.nextTokenId() : account.headTokenId();
+            var pageNumber = resuming ? cursor.nextPageNumber() : 1L;
+            final var pageTokenIds = new ArrayList<TokenID>();
+            if (resuming) {
+                final var page = pages.get(pageIdFor(accountId, pageNumber));
+                if (page != null) {
+                    pageTokenIds.addAll(page.tokenIds());
+                }
+            }
+            var numIndexed = (pageNumber - 1) * TOKEN_RELATION_PAGE_SIZE + pageTokenIds.size();
+            var mustRead = true;
+            while (tokenId != null && numIndexed < account.numberAssociations() && (mustRead || work < maxWork)) {
+                mustRead = false;
+                work++;
+                final var tokenRelation = get(accountId, tokenId);
+                if (tokenRelation == null) {
+                    tokenId = null;
+                    break;
+                }
+                pageTokenIds.add(tokenId);
+                numIndexed++;
+                tokenId = tokenRelation.nextToken();
+                if (pageTokenIds.size() == TOKEN_RELATION_PAGE_SIZE) {
+                    final var hasMore = tokenId != null && numIndexed < account.numberAssociations();
+                    pages.put(pageIdFor(accountId, pageNumber), laterPage(pageTokenIds, hasMore ? pageNumber + 1 : 0));
+                    pageTokenIds.clear();
+                    pageNumber++;
+                }
+            }
+            if (!pageTokenIds.isEmpty()) {
+                pages.put(pageIdFor(accountId, pageNumber), laterPage(pageTokenIds, 0));
+            }
+            if (tokenId == null || numIndexed >= account.numberAssociations()) {
+                final var lastPageNumber = pageTokenIds.isEmpty() ? pageNumber - 1 : pageNumber;
+                // An empty first page is valid; linkToHead() fills it before moving any page
+                pages.put(
+                        pageIdFor(accountId, 0),
+                        TokenRelationPage.newBuilder()
+                                .nextPageNumber(Math.min(1L, lastPageNumber))
+                                .lastPageNumber(lastPageNumber)
+                                .build());
+                cursor = cursorAt(cursor.nextAccountNumber() + 1, cursor.lastAccountNumber());
+            } else {
+                cursor = cursor.copyBuilder()
+                        .nextTokenId(tokenId)
+                        .nextPageNumber(pageNumber)
+                        .numberAssociations(account.numberAssociations())
+                        .build();
+            }
+        }
+        cursorState.put(cursor);
+        return true;
+    }
+
     /**
      * Returns the {@link TokenRelation} with the given token number and account number.
      * If no such token relation exists, returns {@code Optional.empty()}
@@ -137,4 +346,72 @@ public class WritableTokenRelationStore extends ReadableTokenRelationStoreImpl {
     public Set<EntityIDPair> modifiedTokens() {
         return tokenRelState.modifiedKeys();
     }
+
+    /**
+     * Returns the ids of the tokens in the given account's token relation list, in list order.
+     */
+    private List<TokenID> linkedTokenIdsOf(@NonNull final Account account) {
+        final var tokenIds = new ArrayList<TokenID>();
+        var tokenId = account.headTokenId();
+        while (tokenId != null && tokenIds.size() < account.numberAssociations()) {
+            final var tokenRelation = get(account.accountIdOrThrow(), tokenId);
+            if (tokenRelation == null) {
+                break;
+            }
+            tokenIds.add(tokenId);
+            tokenId = tokenRelation.nextToken();
+        }
+        return tokenIds;
+    }
+
+    /**
+     * Replaces the index of the given account's token relations with full pages of the given token ids.
+     */
+    private void putAsPages(@NonNull final AccountID accountId, @NonNull final List<TokenID> tokenIds) {
+        final var pages = requireNonNull(pagesState());
+        final int numPages = Math.max(1, (tokenIds.size() + TOKEN_RELATION_PAGE_SIZE - 1) / TOKEN_RELATION_PAGE_SIZE);
+        for (int i = 0; i < numPages; i++) {
+            final var from = i * TOKEN_RELATION_PAGE_SIZE;
+            final var to = Math.min(tokenIds.size(), from + TOKEN_RELATION_PAGE_SIZE);
+            pages.put(
+                    pageIdFor(accountId, i),
+                    TokenRelationPage.newBuilder()
+                            .tokenIds(List.copyOf(tokenIds.subList(from, to)))
+                            .nextPageNumber(i + 1 < numPages ? i + 1 : 0)
+                            .lastPageNumber(i == 0 ? numPages - 1 : 0)
+                            .build());
+        }
+    }
+
+    /**
+     * Returns a page after the first page of an account's index, holding the given token ids.
+     */
+    private static TokenRelationPage laterPage(@NonNull final List<TokenID> tokenIds, final long nextPageNumber) {
+        return TokenRelationPage.newBuilder()
+                .tokenIds(List.copyOf(tokenIds))
+                .nextPageNumber(nextPageNumber)
+                .build();
+    }
+
+    /**
+     * Returns an index cursor at the start of the given account's token relation list.
+     */
+    private static TokenRelationIndexCursor cursorAt(final long accountNumber, final long lastAccountNumber) {
+        return TokenRelationIndexCursor.newBuilder()
+                .nextAccountNumber(accountNumber)
+                .lastAccountNumber(lastAccountNumber)
+                .build();
+    }
+
+    /**
+     * Returns the index of the tokens each account is associated with, or {@code null} if the given states do not
+     * include it.
+     */
+    @Nullable
+    private WritableKVState<TokenRelationPageId, TokenRelationPage> pagesState() {
+        if (pagesState == null && states.contains(TOKEN_RELATION_PAGES_KEY)) {
+            pagesState = states.get(TOKEN_RELATION_PAGES_KEY);
+        }
+        return pagesState;
+    }
 }
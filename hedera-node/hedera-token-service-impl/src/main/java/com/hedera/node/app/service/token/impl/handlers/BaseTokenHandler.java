@@ -193,6 +193,9 @@ public class BaseTokenHandler {
 
         // FUTURE - We may need to return a proper error status when tokens are empty
         if (!newTokenRels.isEmpty()) {
+            // Index the new token relations ahead of the account's existing ones
+            tokenRelStore.linkToHead(account, newTokenRels.stream().map(TokenRelation::tokenId).toList());
+
             // Link the new token relations to the account
             linkTokenRels(account, newTokenRels, tokenRelStore);
 
@@ -364,6 +367,7 @@ public class BaseTokenHandler {
                 .headTokenId(tokenId)
                 .build();
 
+        tokenRelStore.linkToHead(account, List.of(tokenId));
         final var existingFirstTokenId = account.headTokenId();
         if (existingFirstTokenId != null) {
             final var existingFirstTokenRel = tokenRelStore.get(accountId, existingFirstTokenId);
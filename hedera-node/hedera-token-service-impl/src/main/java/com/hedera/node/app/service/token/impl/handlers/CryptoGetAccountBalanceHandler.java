@@ -21,6 +21,7 @@ import static com.hedera.hapi.node.base.ResponseCodeEnum.CONTRACT_DELETED;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_ACCOUNT_ID;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.INVALID_CONTRACT_ID;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.OK;
+import static com.hedera.node.app.service.token.api.AccountSummariesApi.tokenRelationsOf;
 import static com.hedera.node.app.spi.validation.Validations.mustExist;
 import static com.hedera.node.app.spi.validation.Validations.validateAccountID;
 import static com.hedera.node.app.spi.workflows.PreCheckException.validateFalsePreCheck;
@@ -33,10 +34,7 @@ import com.hedera.hapi.node.base.HederaFunctionality;
 import com.hedera.hapi.node.base.QueryHeader;
 import com.hedera.hapi.node.base.ResponseHeader;
 import com.hedera.hapi.node.base.TokenBalance;
-import com.hedera.hapi.node.base.TokenID;
 import com.hedera.hapi.node.state.token.Account;
-import com.hedera.hapi.node.state.token.Token;
-import com.hedera.hapi.node.state.token.TokenRelation;
 import com.hedera.hapi.node.token.CryptoGetAccountBalanceQuery;
 import com.hedera.hapi.node.token.CryptoGetAccountBalanceResponse;
 import com.hedera.hapi.node.transaction.Query;
@@ -177,30 +175,17 @@ public class CryptoGetAccountBalanceHandler extends FreeQueryHandler {
             @NonNull final ReadableTokenStore readableTokenStore,
             @NonNull final ReadableTokenRelationStore tokenRelationStore) {
         final var ret = new ArrayList<TokenBalance>();
-        var tokenId = account.headTokenId();
-        int count = 0;
-        TokenRelation tokenRelation;
-        Token token; // token from readableToken store by tokenID
-        AccountID accountID; // build from accountNumber
-        TokenBalance tokenBalance; // created TokenBalance object
-        while (tokenId != null && !tokenId.equals(TokenID.DEFAULT) && count < tokenConfig.maxRelsPerInfoQuery()) {
-            accountID = account.accountId();
-            tokenRelation = tokenRelationStore.get(accountID, tokenId);
-            if (tokenRelation != null) {
-                token = readableTokenStore.get(tokenId);
-                if (token != null) {
-                    tokenBalance = TokenBalance.newBuilder()
-                            .tokenId(tokenId)
-                            .balance(tokenRelation.balance())
-                            .decimals(token.decimals())
-                            .build();
-                    ret.add(tokenBalance);
-                }
-                tokenId = tokenRelation.nextToken();
-            } else {
-                break;
+        final var tokenRelations = tokenRelationsOf(account, tokenRelationStore, tokenConfig.maxRelsPerInfoQuery());
+        for (final var tokenRelation : tokenRelations) {
+            final var tokenId = tokenRelation.tokenIdOrThrow();
+            final var token = readableTokenStore.get(tokenId);
+            if (token != null) {
+                ret.add(TokenBalance.newBuilder()
+                        .tokenId(tokenId)
+                        .balance(tokenRelation.balance())
+                        .decimals(token.decimals())
+                        .build());
             }
-            count++;
         }
         return ret;
     }
@@ -299,14 +299,16 @@ public class TokenAirdropHandler extends TransferExecutor implements Transaction
             final int pendingAirdropsSize,
             final int numUnlimitedAssociationTransfers,
             final int existingPendingAirdropsCount) {
+        // the airdrop and association fees do not vary per recipient, so compute each of them only once
+        final var airdropFee = airdropFee(context);
+        final var associationFee = associationFeeFor(context, PLACEHOLDER_SYNTHETIC_ASSOCIATION);
         // calculate fee, including association fee for new pending airdrops
         final var pendingAirdropFeeIncludingAssociationsFee =
-                airdropFeeForPendingAirdrop(context) * (pendingAirdropsSize - existingPendingAirdropsCount);
+                (airdropFee + associationFee) * (pendingAirdropsSize - existingPendingAirdropsCount);
         // calculate fee, without association fee for airdrops that already exist in the pending state
         // this is applicable only for fungible tokens
-        final var pendingAirdropFeeWithoutAssociationsFee =
-                airdropFeeForPendingAirdrop(context, false) * existingPendingAirdropsCount;
-        final var airdropFeeForUnlimitedAssociations = airdropFee(context) * numUnlimitedAssociationTransfers;
+        final var pendingAirdropFeeWithoutAssociationsFee = airdropFee * existingPendingAirdropsCount;
+        final var airdropFeeForUnlimitedAssociations = airdropFee * numUnlimitedAssociationTransfers;
         final var totalFee = pendingAirdropFeeIncludingAssociationsFee
                 + airdropFeeForUnlimitedAssociations
                 + pendingAirdropFeeWithoutAssociationsFee;
@@ -483,32 +485,6 @@ public class TokenAirdropHandler extends TransferExecutor implements Transaction
         }
     }
 
-    /**
-     * Gets the airdrop fee for the token airdrop transaction when a pending airdrop is created. It will be
-     * the sum of the association fee and the airdrop fee.
-     * @param feeContext the fee context
-     * @return the airdrop fee
-     */
-    private long airdropFeeForPendingAirdrop(@NonNull final HandleContext feeContext) {
-        return airdropFeeForPendingAirdrop(feeContext, true);
-    }
-
-    /**
-     * Gets the airdrop fee for the token airdrop transaction when a pending airdrop is created. It will be
-     * the sum of the association fee and the airdrop fee.
-     * @param feeContext the fee context
-     * @param includeAssociationFee if association fee should be added
-     * @return the airdrop fee
-     */
-    private long airdropFeeForPendingAirdrop(@NonNull final HandleContext feeContext, boolean includeAssociationFee) {
-        var airdropFee = airdropFee(feeContext);
-        if (includeAssociationFee) {
-            final var associationFee = associationFeeFor(feeContext, PLACEHOLDER_SYNTHETIC_ASSOCIATION);
-            airdropFee += associationFee;
-        }
-        return airdropFee;
-    }
-
     /**
      * Gets the airdrop fee for the token airdrop transaction, when no pending airdrop is created.
      * This is charged when receiver is not yet associated with the token and has max auto-associations set to -1.
@@ -205,6 +205,9 @@ public class TokenDissociateFromAccountHandler implements TransactionHandler {
         accountStore.put(updatedAcct);
         updatedTokenRels.updatedTokenRelsStillInChain().forEach(tokenRelStore::put);
         tokenRelsToRemove.forEach(tokenRelStore::remove);
+        tokenRelStore.unlink(
+                account.accountIdOrThrow(),
+                tokenRelsToRemove.stream().map(TokenRelation::tokenId).toList());
         treasuryBalancesToUpdate.forEach(tokenRelStore::put);
     }
 
@@ -118,8 +118,10 @@ public class EndOfStakingPeriodUpdater {
 
         final var nodeIds = context.knownNodeIds();
         final var totalStakedRewardStart = stakingRewardsStore.totalStakeRewardStart();
+        // Nothing below changes the balance of the rewards account, so it is only read once
+        final long rewardAccountBalance = getRewardsBalance(accountStore);
         final var rewardRate = perHbarRewardRateForEndingPeriod(
-                totalStakedRewardStart, accountStore, stakingRewardsStore, stakingConfig);
+                totalStakedRewardStart, rewardAccountBalance, stakingRewardsStore, stakingConfig);
         // The tinybars earned per hbar for stakers who were staked to a node whose total
         // stakedRewardStart for the ending period was in the range [minStake, maxStake]
         // plus a boundary-case check for zero whole hbars staked
@@ -241,7 +243,6 @@ public class EndOfStakingPeriodUpdater {
                 .totalStakedRewardStart(newTotalStakedRewardStart)
                 .totalStakedStart(newTotalStakedStart);
         stakingRewardsStore.put(newNetworkStakingRewards.build());
-        final long rewardAccountBalance = getRewardsBalance(accountStore);
         log.info(
                 "Total stake start is now {} ({} rewarded), pending rewards are {} vs 0.0.800" + " balance {}",
                 newTotalStakedStart,
@@ -379,15 +380,16 @@ public class EndOfStakingPeriodUpdater {
      * the effective per-hbar reward rate for the period.
      *
      * @param stakedToReward the amount of hbars staked to reward at the start of the ending period
+     * @param rewardAccountBalance the balance of the staking rewards account
      * @return the effective per-hbar reward rate for the period
      */
     private long perHbarRewardRateForEndingPeriod(
             final long stakedToReward,
-            @NonNull final ReadableAccountStore accountStore,
+            final long rewardAccountBalance,
             @NonNull final ReadableNetworkStakingRewardsStore networkRewardsStore,
             @NonNull final StakingConfig stakingConfig) {
         // The balance left in the rewards account (in tinybars), after paying all rewards earned so far
-        final var unreservedBalance = getRewardsBalance(accountStore) - networkRewardsStore.pendingRewards();
+        final var unreservedBalance = rewardAccountBalance - networkRewardsStore.pendingRewards();
 
         final var thresholdBalance = stakingConfig.rewardBalanceThreshold();
         // A number proportional to the unreserved balance, from 0 for empty, up to 1 at the threshold
@@ -53,6 +53,7 @@ import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.record.StreamBuilder;
 import com.hedera.node.config.data.EntitiesConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -75,6 +76,13 @@ public class AssociateTokenRecipientsStep extends BaseTokenHandler implements Tr
 
     private final CryptoTransferTransactionBody op;
 
+    /**
+     * The fee charged for each auto-association; since it is the same for every association in the
+     * transaction, we compute it at most once per {@link #doIn(TransferContext)}
+     */
+    @Nullable
+    private Long autoAssociationFee;
+
     /**
      * Constructs the step with the operation.
      * @param op the operation
@@ -92,7 +100,9 @@ public class AssociateTokenRecipientsStep extends BaseTokenHandler implements Tr
         final var tokenRelStore = storeFactory.writableStore(WritableTokenRelationStore.class);
         final var accountStore = storeFactory.writableStore(WritableAccountStore.class);
         final var nftStore = storeFactory.writableStore(WritableNftStore.class);
+        final var entitiesConfig = handleContext.configuration().getConfigData(EntitiesConfig.class);
         final List<TokenAssociation> newAssociations = new ArrayList<>();
+        autoAssociationFee = null;
 
         for (final var xfers : op.tokenTransfers()) {
             final var tokenId = xfers.tokenOrThrow();
@@ -103,7 +113,7 @@ public class AssociateTokenRecipientsStep extends BaseTokenHandler implements Tr
                 final TokenAssociation newAssociation;
                 try {
                     newAssociation = validateAndBuildAutoAssociation(
-                            accountId, tokenId, token, accountStore, tokenRelStore, handleContext);
+                            accountId, tokenId, token, accountStore, tokenRelStore, entitiesConfig, handleContext);
                 } catch (HandleException e) {
                     // (FUTURE) Remove this catch and stop translating TOKEN_NOT_ASSOCIATED_TO_ACCOUNT
                     // into e.g. SPENDER_DOES_NOT_HAVE_ALLOWANCE; we need this only for mono-service
@@ -144,7 +154,7 @@ public class AssociateTokenRecipientsStep extends BaseTokenHandler implements Tr
                 }
                 validateTrue(nft != null, INVALID_NFT_ID);
                 final var newAssociation = validateAndBuildAutoAssociation(
-                        receiverId, tokenId, token, accountStore, tokenRelStore, handleContext);
+                        receiverId, tokenId, token, accountStore, tokenRelStore, entitiesConfig, handleContext);
                 if (newAssociation != null) {
                     newAssociations.add(newAssociation);
                 }
@@ -175,6 +185,7 @@ public class AssociateTokenRecipientsStep extends BaseTokenHandler implements Tr
      * @param token The token to associate with the account
      * @param accountStore The account store
      * @param tokenRelStore The token relation store
+     * @param entitiesConfig The entities config
      * @param context The context
      */
     private TokenAssociation validateAndBuildAutoAssociation(
@@ -183,12 +194,11 @@ public class AssociateTokenRecipientsStep extends BaseTokenHandler implements Tr
             @NonNull final Token token,
             @NonNull final WritableAccountStore accountStore,
             @NonNull final WritableTokenRelationStore tokenRelStore,
+            @NonNull final EntitiesConfig entitiesConfig,
             @NonNull final HandleContext context) {
         final var account =
                 getIfUsableForAliasedId(accountId, accountStore, context.expiryValidator(), INVALID_ACCOUNT_ID);
         final var tokenRel = tokenRelStore.get(account.accountIdOrThrow(), tokenId);
-        final var config = context.configuration();
-        final var entitiesConfig = config.getConfigData(EntitiesConfig.class);
 
         if (tokenRel == null && account.maxAutoAssociations() != 0) {
             boolean validAssociations = hasUnlimitedAutoAssociations(account, entitiesConfig)
@@ -200,18 +210,18 @@ public class AssociateTokenRecipientsStep extends BaseTokenHandler implements Tr
             // We only charge auto-association fees inline if this is a user dispatch; for internal dispatches,
             // the contract service will take the auto-association costs from the remaining EVM gas
             if (context.savepointStack().getBaseBuilder(StreamBuilder.class).isUserDispatch()) {
-                final var unlimitedAssociationsEnabled =
-                        config.getConfigData(EntitiesConfig.class).unlimitedAutoAssociationsEnabled();
                 // And the "sender pays" fee model only applies when using unlimited auto-associations
-                if (unlimitedAssociationsEnabled) {
-                    final var autoAssociationFee = associationFeeFor(context, PLACEHOLDER_SYNTHETIC_ASSOCIATION);
+                if (entitiesConfig.unlimitedAutoAssociationsEnabled()) {
+                    if (autoAssociationFee == null) {
+                        autoAssociationFee = associationFeeFor(context, PLACEHOLDER_SYNTHETIC_ASSOCIATION);
+                    }
                     if (!context.tryToChargePayer(autoAssociationFee)) {
                         throw new HandleException(INSUFFICIENT_PAYER_BALANCE);
                     }
                 }
             }
-            final var newRelation =
-                    autoAssociate(account.accountIdOrThrow(), token, accountStore, tokenRelStore, config);
+            final var newRelation = autoAssociate(
+                    account.accountIdOrThrow(), token, accountStore, tokenRelStore, context.configuration());
             return asTokenAssociation(newRelation.tokenId(), newRelation.accountId());
         } else {
             validateTrue(tokenRel != null, TOKEN_NOT_ASSOCIATED_TO_ACCOUNT);
@@ -45,10 +45,10 @@ import com.hedera.node.app.service.token.impl.handlers.transfer.customfees.Custo
 import com.hedera.node.app.spi.fees.FeeContext;
 import com.hedera.node.config.data.LedgerConfig;
 import com.hedera.node.config.data.TokensConfig;
-import com.swirlds.base.utility.Pair;
 import com.swirlds.config.api.Configuration;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -221,20 +221,29 @@ public class CustomFeeAssessmentStep {
 
     private int numUniqueAdjustmentsIn(final List<CryptoTransferTransactionBody> assessedTxns) {
         var numOwnershipChanges = 0;
+        var numUniqueTokenAdjustments = 0;
         final Set<AccountID> uniqueHbarAdjustments = new HashSet<>();
-        final Set<Pair<AccountID, TokenID>> uniqueTokenAdjustments = new HashSet<>();
+        // Group the adjusted accounts by token, so counting them needs no (account, token) pair per adjustment
+        final Map<TokenID, Set<AccountID>> uniqueTokenAdjustments = new HashMap<>();
         for (final var txn : assessedTxns) {
             for (final var aa : txn.transfersOrElse(TransferList.DEFAULT).accountAmounts()) {
                 uniqueHbarAdjustments.add(aa.accountID());
             }
             for (final var xfer : txn.tokenTransfers()) {
-                for (final var aa : xfer.transfers()) {
-                    uniqueTokenAdjustments.add(Pair.of(aa.accountID(), xfer.token()));
+                final var transfers = xfer.transfers();
+                if (!transfers.isEmpty()) {
+                    final var adjustedAccounts =
+                            uniqueTokenAdjustments.computeIfAbsent(xfer.token(), ignore -> new HashSet<>());
+                    for (final var aa : transfers) {
+                        if (adjustedAccounts.add(aa.accountID())) {
+                            numUniqueTokenAdjustments++;
+                        }
+                    }
                 }
                 numOwnershipChanges += xfer.nftTransfers().size();
             }
         }
-        return numOwnershipChanges + uniqueHbarAdjustments.size() + uniqueTokenAdjustments.size();
+        return numOwnershipChanges + uniqueHbarAdjustments.size() + numUniqueTokenAdjustments;
     }
 
     /**
@@ -249,77 +258,81 @@ public class CustomFeeAssessmentStep {
     private CryptoTransferTransactionBody changedInputTxn(
             final CryptoTransferTransactionBody op, final AssessmentResult result) {
         final var copy = op.copyBuilder();
+        final var changedBalances = result.getMutableInputBalanceAdjustments();
         // Update transfer list
-        final var changedHbarTransfers =
-                result.getMutableInputBalanceAdjustments().get(HBAR_TOKEN_ID);
-        final TransferList.Builder transferList = TransferList.newBuilder();
-        final List<AccountAmount> hbarList =
-                getRevisedAdjustments(op.transfersOrElse(TransferList.DEFAULT).accountAmounts(), changedHbarTransfers);
-        copy.transfers(transferList.accountAmounts(hbarList).build());
+        final var hbarList = revisedAdjustments(
+                op.transfersOrElse(TransferList.DEFAULT).accountAmounts(), changedBalances.get(HBAR_TOKEN_ID));
+        copy.transfers(TransferList.newBuilder().accountAmounts(hbarList).build());
 
         // Update token transfer lists
-        final var changedFungibleTokenTransfers = result.getMutableInputBalanceAdjustments();
-        final List<TokenTransferList> tokenTransferLists = new ArrayList<>();
+        final List<TokenTransferList> tokenTransferLists = new ArrayList<>(op.tokenTransfers().size());
         for (final var xfers : op.tokenTransfers()) {
-            final var token = xfers.token();
+            final var postAssessmentBalances = changedBalances.get(xfers.token());
             // If there are no changes for the token, leave its list untouched
-            if (!changedFungibleTokenTransfers.containsKey(token)) {
+            if (postAssessmentBalances == null) {
                 tokenTransferLists.add(xfers);
             } else {
-                final var postAssessmentBalances = changedFungibleTokenTransfers.get(token);
                 final var adjustsHere = xfers.transfers();
-                final var includedNetNewChanges = postAssessmentBalances.size() > adjustsHere.size();
-                if (includedNetNewChanges || balancesChangedBetween(adjustsHere, postAssessmentBalances)) {
-                    final List<AccountAmount> newTransfers = getRevisedAdjustments(adjustsHere, postAssessmentBalances);
-                    tokenTransferLists.add(
-                            xfers.copyBuilder().transfers(newTransfers).build());
-                } else {
-                    tokenTransferLists.add(xfers);
-                }
+                final var newTransfers = revisedAdjustments(adjustsHere, postAssessmentBalances);
+                tokenTransferLists.add(
+                        newTransfers == adjustsHere ? xfers : xfers.copyBuilder().transfers(newTransfers).build());
             }
         }
         copy.tokenTransfers(tokenTransferLists);
         return copy.build();
     }
 
+    /**
+     * Merges the post-assessment balances of one token into the adjustments for it in the original transaction body,
+     * in a single pass. The original {@link AccountAmount}s are re-used to preserve any approvals that were set, and
+     * any net-new custom fee adjustments (e.g. credits to fee collectors) are appended in assessment order.
+     *
+     * @param adjustsHere the adjustments in the original transaction body
+     * @param newBalances the post-assessment balances; entries are removed as they are merged
+     * @return the revised adjustments, or {@code adjustsHere} itself if nothing changed
+     */
     @NonNull
-    private static List<AccountAmount> getRevisedAdjustments(
-            final List<AccountAmount> adjustsHere, final Map<AccountID, Long> newBalances) {
-        final List<AccountAmount> newTransfers = new ArrayList<>(adjustsHere.size());
-        // First re-use the original transaction body to preserve any approvals or decimals that were set
-        for (final var aa : adjustsHere) {
-            final var newAmount = newBalances.getOrDefault(aa.accountID(), aa.amount());
-            newTransfers.add(aa.copyBuilder().amount(newAmount).build());
-            newBalances.remove(aa.accountID());
+    private static List<AccountAmount> revisedAdjustments(
+            @NonNull final List<AccountAmount> adjustsHere, @NonNull final Map<AccountID, Long> newBalances) {
+        List<AccountAmount> newTransfers = null;
+        for (int i = 0, n = adjustsHere.size(); i < n; i++) {
+            final var aa = adjustsHere.get(i);
+            final var newAmount = newBalances.remove(aa.accountID());
+            if (newAmount != null && newAmount != aa.amount()) {
+                if (newTransfers == null) {
+                    newTransfers = new ArrayList<>(n + newBalances.size());
+                    newTransfers.addAll(adjustsHere.subList(0, i));
+                }
+                newTransfers.add(aa.copyBuilder().amount(newAmount).build());
+            } else if (newTransfers != null) {
+                newTransfers.add(aa);
+            }
+        }
+        if (newBalances.isEmpty()) {
+            return newTransfers == null ? adjustsHere : newTransfers;
+        }
+        if (newTransfers == null) {
+            newTransfers = new ArrayList<>(adjustsHere.size() + newBalances.size());
+            newTransfers.addAll(adjustsHere);
         }
-        // Add any net-new custom fee adjustments (e.g. credits to fee collectors)
         for (final var entry : newBalances.entrySet()) {
             newTransfers.add(AccountAmount.newBuilder()
                     .accountID(entry.getKey())
                     .amount(entry.getValue())
                     .build());
         }
+        newBalances.clear();
         return newTransfers;
     }
 
-    private boolean balancesChangedBetween(
-            @NonNull final List<AccountAmount> original, @NonNull final Map<AccountID, Long> postAssessmentBalances) {
-        for (final var aa : original) {
-            if (aa.amount() != postAssessmentBalances.getOrDefault(aa.accountID(), aa.amount())) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private CryptoTransferTransactionBody buildBodyFromAdjustments(final AssessmentResult result) {
         final var hbarAdjustments = result.getHbarAdjustments();
         final var tokenAdjustments = result.getHtsAdjustments();
 
         final var newBuilder = CryptoTransferTransactionBody.newBuilder();
         final var transferList = TransferList.newBuilder();
-        final List<AccountAmount> hbarList = new ArrayList<>();
-        final List<TokenTransferList> tokenTransferLists = new ArrayList<>();
+        final List<AccountAmount> hbarList = new ArrayList<>(hbarAdjustments.size());
+        final List<TokenTransferList> tokenTransferLists = new ArrayList<>(tokenAdjustments.size());
 
         for (final var entry : hbarAdjustments.entrySet()) {
             hbarList.add(AccountAmount.newBuilder()
@@ -332,7 +345,7 @@ public class CustomFeeAssessmentStep {
 
         for (final var entry : tokenAdjustments.entrySet()) {
             final var tokenTransferList = TokenTransferList.newBuilder().token(entry.getKey());
-            final List<AccountAmount> aaList = new ArrayList<>();
+            final List<AccountAmount> aaList = new ArrayList<>(entry.getValue().size());
             for (final var valueEntry : entry.getValue().entrySet()) {
                 aaList.add(AccountAmount.newBuilder()
                         .accountID(valueEntry.getKey())
@@ -365,10 +378,10 @@ public class CustomFeeAssessmentStep {
                 continue;
             }
 
+            final boolean isFungible = token.tokenType().equals(FUNGIBLE_COMMON);
             for (final var aa : ftTransfers) {
                 final var adjustment = aa.amount();
 
-                final boolean isFungible = token.tokenType().equals(FUNGIBLE_COMMON);
                 validateFalse(
                         !isFungible && adjustment != 0, ACCOUNT_AMOUNT_TRANSFERS_ONLY_ALLOWED_FOR_FUNGIBLE_COMMON);
 
@@ -179,18 +179,14 @@ public class AdjustmentUtils {
         // get all the fungible changes that are credited to the sender of nft in the same transaction.
         // this includes hbar and fungible token balances
         final var credits = new ArrayList<ExchangedValue>();
-        for (final var entry : result.getImmutableInputHbarAdjustments().entrySet()) {
-            final var account = entry.getKey();
-            final var amount = entry.getValue();
-            if (amount > 0 && account.equals(sender)) {
-                credits.add(new ExchangedValue(sender, null, amount));
-            }
+        final var hbarAmount = result.getImmutableInputHbarAdjustments().get(sender);
+        if (hbarAmount != null && hbarAmount > 0) {
+            credits.add(new ExchangedValue(sender, null, hbarAmount));
         }
         for (final var entry : tokenChanges.entrySet()) {
-            final var token = entry.getKey();
-            final var map = entry.getValue();
-            if (map.containsKey(sender) && map.get(sender) > 0) {
-                credits.add(new ExchangedValue(sender, token, map.get(sender)));
+            final var amount = entry.getValue().get(sender);
+            if (amount != null && amount > 0) {
+                credits.add(new ExchangedValue(sender, entry.getKey(), amount));
             }
         }
         return credits;
@@ -29,7 +29,6 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 
 /**
@@ -81,12 +80,11 @@ public class AssessmentResult {
      */
     public AssessmentResult(final List<TokenTransferList> tokenTransfers, final List<AccountAmount> hbarTransfers) {
         mutableInputBalanceAdjustments = buildFungibleTokenTransferMap(tokenTransfers);
-        immutableInputTokenAdjustments = Collections.unmodifiableMap(mutableInputBalanceAdjustments.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> new LinkedHashMap<>(entry.getValue()),
-                        (a, b) -> a,
-                        LinkedHashMap::new)));
+        final var inputTokenAdjustments = new LinkedHashMap<TokenID, Map<AccountID, Long>>();
+        for (final var entry : mutableInputBalanceAdjustments.entrySet()) {
+            inputTokenAdjustments.put(entry.getKey(), new LinkedHashMap<>(entry.getValue()));
+        }
+        immutableInputTokenAdjustments = Collections.unmodifiableMap(inputTokenAdjustments);
 
         immutableInputHbarAdjustments = buildHbarTransferMap(hbarTransfers);
         mutableInputBalanceAdjustments.put(HBAR_TOKEN_ID, new LinkedHashMap<>(immutableInputHbarAdjustments));
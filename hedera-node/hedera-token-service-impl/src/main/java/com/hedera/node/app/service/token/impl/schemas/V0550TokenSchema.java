@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.token.impl.schemas;
+
+import com.hedera.hapi.node.base.SemanticVersion;
+import com.hedera.hapi.node.state.token.TokenRelationIndexCursor;
+import com.hedera.hapi.node.state.token.TokenRelationPage;
+import com.hedera.hapi.node.state.token.TokenRelationPageId;
+import com.swirlds.state.spi.MigrationContext;
+import com.swirlds.state.spi.StateDefinition;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Set;
+
+/**
+ * Adds the paged index of the tokens each account is associated with, so that queries can list an account's token
+ * relations by reading a few pages of token ids instead of following the token relation linked list one relation
+ * at a time.
+ *
+ * <p>Accounts that were associated with tokens before this schema are indexed a few relations at a time by the handle
+ * workflow, resuming from the {@link #TOKEN_RELATION_INDEX_CURSOR_KEY} singleton; until an account is indexed, queries
+ * keep following its linked list. The migration records the highest entity number in use, as accounts created later
+ * are indexed when they are created.
+ */
+public class V0550TokenSchema extends StakingInfoManagementSchema {
+    public static final String TOKEN_RELATION_PAGES_KEY = "TOKEN_RELATION_PAGES";
+    public static final String TOKEN_RELATION_INDEX_CURSOR_KEY = "TOKEN_RELATION_INDEX_CURSOR";
+
+    /**
+     * The number of token ids a new page of the index is filled with. A page may hold more token ids when more
+     * tokens than this are associated with an account at once.
+     */
+    public static final int TOKEN_RELATION_PAGE_SIZE = 128;
+
+    /**
+     * A hint to the database system of the maximum number of index pages we will store. This MUST NOT BE CHANGED.
+     * If it is changed, then the database has to be rebuilt.
+     */
+    private static final long MAX_TOKEN_RELATION_PAGES = 100_000_000L;
+
+    private static final SemanticVersion VERSION =
+            SemanticVersion.newBuilder().major(0).minor(55).patch(0).build();
+
+    public V0550TokenSchema() {
+        super(VERSION);
+    }
+
+    @SuppressWarnings("rawtypes")
+    @NonNull
+    @Override
+    public Set<StateDefinition> statesToCreate() {
+        return Set.of(
+                StateDefinition.onDisk(
+                        TOKEN_RELATION_PAGES_KEY,
+                        TokenRelationPageId.PROTOBUF,
+                        TokenRelationPage.PROTOBUF,
+                        MAX_TOKEN_RELATION_PAGES),
+                StateDefinition.singleton(TOKEN_RELATION_INDEX_CURSOR_KEY, TokenRelationIndexCursor.PROTOBUF));
+    }
+
+    @Override
+    public void migrate(@NonNull final MigrationContext ctx) {
+        final var cursorState =
+                ctx.newStates().<TokenRelationIndexCursor>getSingleton(TOKEN_RELATION_INDEX_CURSOR_KEY);
+        if (cursorState.get() == null) {
+            // Every existing account may have token relations that are not indexed yet
+            cursorState.put(TokenRelationIndexCursor.newBuilder()
+                    .nextAccountNumber(1L)
+                    .lastAccountNumber(ctx.peekAtNewEntityNum() - 1)
+                    .build());
+        }
+    }
+}
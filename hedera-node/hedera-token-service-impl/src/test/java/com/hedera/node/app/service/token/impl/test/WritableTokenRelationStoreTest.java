@@ -18,7 +18,15 @@ package com.hedera.node.app.service.token.impl.test;
 
 import static com.hedera.node.app.service.token.impl.handlers.BaseCryptoHandler.asAccount;
 import static com.hedera.node.app.service.token.impl.handlers.BaseTokenHandler.asToken;
+import static com.hedera.node.app.service.token.impl.schemas.V0550TokenSchema.TOKEN_RELATION_INDEX_CURSOR_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0550TokenSchema.TOKEN_RELATION_PAGES_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0550TokenSchema.TOKEN_RELATION_PAGE_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.verify;
@@ -27,15 +35,28 @@ import static org.mockito.Mockito.mock;
 import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.base.TokenID;
 import com.hedera.hapi.node.state.common.EntityIDPair;
+import com.hedera.hapi.node.state.token.Account;
 import com.hedera.hapi.node.state.token.TokenRelation;
+import com.hedera.hapi.node.state.token.TokenRelationIndexCursor;
+import com.hedera.hapi.node.state.token.TokenRelationPage;
+import com.hedera.hapi.node.state.token.TokenRelationPageId;
+import com.hedera.node.app.service.token.ReadableAccountStore;
+import com.hedera.node.app.service.token.api.AccountSummariesApi;
 import com.hedera.node.app.service.token.impl.WritableTokenRelationStore;
+import com.hedera.node.app.service.token.impl.handlers.BaseTokenHandler;
 import com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema;
+import com.hedera.node.app.spi.fixtures.state.MapWritableStates;
 import com.hedera.node.app.spi.metrics.StoreMetricsService;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.state.spi.WritableKVStateBase;
+import com.swirlds.state.spi.WritableSingletonStateBase;
 import com.swirlds.state.spi.WritableStates;
+import com.swirlds.state.test.fixtures.MapWritableKVState;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -183,4 +204,198 @@ class WritableTokenRelationStoreTest {
         final var result = subject.modifiedTokens();
         Assertions.assertThat(result).isEqualTo(modifiedKeys);
     }
+
+    @Test
+    void indexesExistingRelationsBeforeLinkingNewOnesAtTheHead() {
+        final var indexedSubject = indexedStoreWith(tokenRelation(1L, null, 2L), tokenRelation(2L, 1L, null));
+        final var account = Account.newBuilder()
+                .accountId(ACCOUNT_20_ID)
+                .headTokenId(asToken(1L))
+                .numberAssociations(2)
+                .build();
+
+        indexedSubject.linkToHead(account, List.of(asToken(3L), asToken(4L)));
+
+        final var firstPage = indexedSubject.getPage(ACCOUNT_20_ID, 0);
+        assertEquals(List.of(asToken(3L), asToken(4L), asToken(1L), asToken(2L)), firstPage.tokenIds());
+        assertEquals(0, firstPage.nextPageNumber());
+    }
+
+    @Test
+    void startsNewFirstPageWhenFullAndUnlinksEmptiedPages() {
+        final var indexedSubject = indexedStoreWith();
+        final var account = Account.newBuilder().accountId(ACCOUNT_20_ID).build();
+        final var fullPage = LongStream.rangeClosed(1, TOKEN_RELATION_PAGE_SIZE)
+                .mapToObj(BaseTokenHandler::asToken)
+                .toList();
+        indexedSubject.linkToHead(account, fullPage);
+        indexedSubject.linkToHead(account, List.of(asToken(TOKEN_10 * 1000)));
+
+        final var firstPage = indexedSubject.getPage(ACCOUNT_20_ID, 0);
+        assertEquals(List.of(asToken(TOKEN_10 * 1000)), firstPage.tokenIds());
+        assertEquals(1, firstPage.nextPageNumber());
+        assertEquals(1, firstPage.lastPageNumber());
+        assertEquals(fullPage, indexedSubject.getPage(ACCOUNT_20_ID, 1).tokenIds());
+
+        indexedSubject.unlink(ACCOUNT_20_ID, fullPage);
+        assertNull(indexedSubject.getPage(ACCOUNT_20_ID, 1));
+        assertEquals(0, indexedSubject.getPage(ACCOUNT_20_ID, 0).nextPageNumber());
+
+        indexedSubject.unlink(ACCOUNT_20_ID, List.of(asToken(TOKEN_10 * 1000)));
+        assertNull(indexedSubject.getPage(ACCOUNT_20_ID, 0));
+    }
+
+    @Test
+    void indexesExistingRelationsWithinWorkBudget() {
+        final var numRelations = TOKEN_RELATION_PAGE_SIZE + 2;
+        final var writableStates = backfillStates(1L, ACCOUNT_20 + 5);
+        final var cursorState =
+                writableStates.<TokenRelationIndexCursor>getSingleton(TOKEN_RELATION_INDEX_CURSOR_KEY);
+        final var indexedSubject = new WritableTokenRelationStore(writableStates, CONFIGURATION, storeMetricsService);
+        final var relations = linkedRelations(numRelations);
+        relations.forEach(indexedSubject::put);
+        final var account = accountWith(numRelations);
+        final var accountStore = mock(ReadableAccountStore.class);
+        given(accountStore.getAccountById(any()))
+                .willAnswer(invocation -> ACCOUNT_20_ID.equals(invocation.getArgument(0)) ? account : null);
+
+        // Only account numbers 1 through 10 fit in the first budget
+        assertTrue(indexedSubject.indexExistingRelations(accountStore, 10));
+        assertEquals(11L, cursorState.get().nextAccountNumber());
+        // Account 20 is reached with no budget left, but still gets one relation indexed
+        assertTrue(indexedSubject.indexExistingRelations(accountStore, 10));
+        assertEquals(ACCOUNT_20, cursorState.get().nextAccountNumber());
+        assertEquals(asToken(2L), cursorState.get().nextTokenId());
+        assertEquals(List.of(asToken(1L)), indexedSubject.getPage(ACCOUNT_20_ID, 1).tokenIds());
+        // Each later transaction visits account 20 again and indexes nine more of its relations
+        int numTxns = 0;
+        while (indexedSubject.getPage(ACCOUNT_20_ID, 0) == null) {
+            assertTrue(indexedSubject.indexExistingRelations(accountStore, 10));
+            numTxns++;
+        }
+        assertEquals((numRelations - 1 + 8) / 9, numTxns);
+        assertEquals(ACCOUNT_20 + 6, cursorState.get().nextAccountNumber());
+        assertFalse(indexedSubject.indexExistingRelations(accountStore, 10));
+
+        final var firstPage = indexedSubject.getPage(ACCOUNT_20_ID, 0);
+        assertEquals(List.of(), firstPage.tokenIds());
+        assertEquals(1, firstPage.nextPageNumber());
+        assertEquals(2, firstPage.lastPageNumber());
+        assertEquals(TOKEN_RELATION_PAGE_SIZE, indexedSubject.getPage(ACCOUNT_20_ID, 1).tokenIds().size());
+        assertEquals(2, indexedSubject.getPage(ACCOUNT_20_ID, 1).nextPageNumber());
+        assertEquals(
+                List.of(asToken(TOKEN_RELATION_PAGE_SIZE + 1), asToken(TOKEN_RELATION_PAGE_SIZE + 2)),
+                indexedSubject.getPage(ACCOUNT_20_ID, 2).tokenIds());
+        assertEquals(
+                relations.stream().map(TokenRelation::tokenIdOrThrow).toList(),
+                AccountSummariesApi.tokenRelationsOf(account, indexedSubject, numRelations).stream()
+                        .map(TokenRelation::tokenIdOrThrow)
+                        .toList());
+    }
+
+    @Test
+    void restartsIndexingAnAccountWhoseAssociationsChanged() {
+        final var numRelations = TOKEN_RELATION_PAGE_SIZE + 2;
+        final var writableStates = backfillStates(ACCOUNT_20, ACCOUNT_20);
+        final var indexedSubject = new WritableTokenRelationStore(writableStates, CONFIGURATION, storeMetricsService);
+        linkedRelations(numRelations).forEach(indexedSubject::put);
+        final var account = new AtomicReference<>(accountWith(numRelations));
+        final var accountStore = mock(ReadableAccountStore.class);
+        given(accountStore.getAccountById(ACCOUNT_20_ID)).willAnswer(invocation -> account.get());
+
+        assertTrue(indexedSubject.indexExistingRelations(accountStore, 10));
+        assertEquals(9, indexedSubject.getPage(ACCOUNT_20_ID, 1).tokenIds().size());
+        // Token 5 is dissociated while the account is only partly indexed
+        indexedSubject.remove(tokenRelation(5L, 4L, 6L));
+        indexedSubject.put(tokenRelation(4L, 3L, 6L));
+        indexedSubject.put(tokenRelation(6L, 4L, 7L));
+        account.set(accountWith(numRelations - 1));
+
+        assertTrue(indexedSubject.indexExistingRelations(accountStore, numRelations));
+        final var indexed = AccountSummariesApi.tokenRelationsOf(account.get(), indexedSubject, numRelations).stream()
+                .map(TokenRelation::tokenIdOrThrow)
+                .toList();
+        assertEquals(numRelations - 1, indexed.size());
+        Assertions.assertThat(indexed).doesNotContain(asToken(5L));
+        assertFalse(indexedSubject.indexExistingRelations(accountStore, numRelations));
+    }
+
+    @Test
+    void tokenRelationsOfReadsIndexedPagesInListOrderUpToLimit() {
+        final var numRelations = TOKEN_RELATION_PAGE_SIZE + 2;
+        final var indexedSubject = indexedStoreWith();
+        final var account = accountWith(numRelations);
+        final var relations = linkedRelations(numRelations);
+        indexedSubject.linkToHead(
+                account.copyBuilder().headTokenId((TokenID) null).build(),
+                relations.stream().map(TokenRelation::tokenIdOrThrow).toList());
+        // Unlink every relation, so that only the index can still list them
+        for (final var relation : relations) {
+            indexedSubject.put(relation.copyBuilder().nextToken((TokenID) null).build());
+        }
+
+        final var all = AccountSummariesApi.tokenRelationsOf(account, indexedSubject, numRelations);
+        assertEquals(
+                relations.stream().map(TokenRelation::tokenIdOrThrow).toList(),
+                all.stream().map(TokenRelation::tokenIdOrThrow).toList());
+
+        final var limited = AccountSummariesApi.tokenRelationsOf(account, indexedSubject, TOKEN_RELATION_PAGE_SIZE + 1);
+        assertEquals(TOKEN_RELATION_PAGE_SIZE + 1, limited.size());
+        assertEquals(asToken(TOKEN_RELATION_PAGE_SIZE + 1), limited.getLast().tokenIdOrThrow());
+
+        assertEquals(List.of(), AccountSummariesApi.tokenRelationsOf(account, indexedSubject, 0));
+    }
+
+    private static WritableStates backfillStates(final long nextAccountNumber, final long lastAccountNumber) {
+        final var cursor = new AtomicReference<>(TokenRelationIndexCursor.newBuilder()
+                .nextAccountNumber(nextAccountNumber)
+                .lastAccountNumber(lastAccountNumber)
+                .build());
+        final var tokenRels = MapWritableKVState.<EntityIDPair, TokenRelation>builder(V0490TokenSchema.TOKEN_RELS_KEY)
+                .build();
+        final var pages = MapWritableKVState.<TokenRelationPageId, TokenRelationPage>builder(TOKEN_RELATION_PAGES_KEY)
+                .build();
+        return MapWritableStates.builder()
+                .state(tokenRels)
+                .state(pages)
+                .state(new WritableSingletonStateBase<>(TOKEN_RELATION_INDEX_CURSOR_KEY, cursor::get, cursor::set))
+                .build();
+    }
+
+    private static List<TokenRelation> linkedRelations(final int n) {
+        return LongStream.rangeClosed(1, n)
+                .mapToObj(i -> tokenRelation(i, i == 1 ? null : i - 1, i == n ? null : i + 1))
+                .toList();
+    }
+
+    private static Account accountWith(final int numberAssociations) {
+        return Account.newBuilder()
+                .accountId(ACCOUNT_20_ID)
+                .headTokenId(asToken(1))
+                .numberAssociations(numberAssociations)
+                .build();
+    }
+
+    private WritableTokenRelationStore indexedStoreWith(final TokenRelation... tokenRelations) {
+        final var tokenRels = MapWritableKVState.<EntityIDPair, TokenRelation>builder(V0490TokenSchema.TOKEN_RELS_KEY)
+                .build();
+        final var pages = MapWritableKVState.<TokenRelationPageId, TokenRelationPage>builder(TOKEN_RELATION_PAGES_KEY)
+                .build();
+        final var writableStates =
+                MapWritableStates.builder().state(tokenRels).state(pages).build();
+        final var store = new WritableTokenRelationStore(writableStates, CONFIGURATION, storeMetricsService);
+        for (final var tokenRelation : tokenRelations) {
+            store.put(tokenRelation);
+        }
+        return store;
+    }
+
+    private static TokenRelation tokenRelation(final long tokenNum, final Long prevTokenNum, final Long nextTokenNum) {
+        return TokenRelation.newBuilder()
+                .accountId(ACCOUNT_20_ID)
+                .tokenId(asToken(tokenNum))
+                .previousToken(prevTokenNum == null ? null : asToken(prevTokenNum))
+                .nextToken(nextTokenNum == null ? null : asToken(nextTokenNum))
+                .build();
+    }
 }
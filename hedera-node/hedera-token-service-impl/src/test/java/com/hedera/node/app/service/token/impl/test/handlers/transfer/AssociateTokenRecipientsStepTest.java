@@ -21,6 +21,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.hedera.hapi.node.base.AccountAmount;
 import com.hedera.hapi.node.base.AccountID;
@@ -32,6 +34,7 @@ import com.hedera.hapi.node.token.CryptoTransferTransactionBody;
 import com.hedera.node.app.service.token.impl.handlers.transfer.AssociateTokenRecipientsStep;
 import com.hedera.node.app.service.token.impl.handlers.transfer.TransferContextImpl;
 import com.hedera.node.app.service.token.records.CryptoTransferStreamBuilder;
+import com.hedera.node.app.spi.fees.Fees;
 import com.hedera.node.app.spi.validation.ExpiryValidator;
 import com.hedera.node.app.spi.workflows.HandleContext;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
@@ -97,6 +100,26 @@ public class AssociateTokenRecipientsStepTest extends StepsBase {
         assertThat(writableTokenRelStore.get(spenderId, nonFungibleTokenId)).isNotNull();
     }
 
+    @Test
+    void computesAutoAssociationFeeOnlyOncePerTransfer() {
+        final var modifiedConfiguration = HederaTestConfigBuilder.create()
+                .withValue("entities.unlimitedAutoAssociationsEnabled", true)
+                .getOrCreateConfig();
+        given(handleContext.configuration()).willReturn(modifiedConfiguration);
+        given(handleContext.savepointStack()).willReturn(stack);
+        given(stack.getBaseBuilder(any())).willReturn(builder);
+        given(builder.isUserDispatch()).willReturn(true);
+        given(handleContext.dispatchComputeFees(any(), any(), any())).willReturn(new Fees(1L, 2L, 3L));
+        given(handleContext.tryToChargePayer(anyLong())).willReturn(true);
+
+        subject.doIn(transferContext);
+
+        assertThat(writableTokenRelStore.get(spenderId, fungibleTokenId)).isNotNull();
+        assertThat(writableTokenRelStore.get(spenderId, nonFungibleTokenId)).isNotNull();
+        verify(handleContext).dispatchComputeFees(any(), any(), any());
+        verify(handleContext, times(2)).tryToChargePayer(6L);
+    }
+
     void givenValidTxn() {
         txn = CryptoTransferTransactionBody.newBuilder()
                 .transfers(TransferList.newBuilder()
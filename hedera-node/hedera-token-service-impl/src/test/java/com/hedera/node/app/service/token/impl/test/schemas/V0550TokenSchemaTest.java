@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.service.token.impl.test.schemas;
+
+import static com.hedera.node.app.service.token.impl.schemas.V0550TokenSchema.TOKEN_RELATION_INDEX_CURSOR_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0550TokenSchema.TOKEN_RELATION_PAGES_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.hedera.hapi.node.state.token.TokenRelationIndexCursor;
+import com.hedera.node.app.service.token.impl.schemas.V0550TokenSchema;
+import com.hedera.node.app.spi.fixtures.state.MapWritableStates;
+import com.swirlds.state.spi.MigrationContext;
+import com.swirlds.state.spi.StateDefinition;
+import com.swirlds.state.spi.WritableSingletonStateBase;
+import com.swirlds.state.spi.WritableStates;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class V0550TokenSchemaTest {
+    private final AtomicReference<TokenRelationIndexCursor> cursor = new AtomicReference<>();
+
+    private final V0550TokenSchema subject = new V0550TokenSchema();
+
+    @Mock
+    private MigrationContext migrationContext;
+
+    @Test
+    void createsPagesStateAndIndexCursor() {
+        final var stateDefs = subject.statesToCreate().stream()
+                .sorted(Comparator.comparing(StateDefinition::stateKey))
+                .toList();
+        assertThat(stateDefs).hasSize(2);
+        assertThat(stateDefs.getFirst().stateKey()).isEqualTo(TOKEN_RELATION_INDEX_CURSOR_KEY);
+        assertThat(stateDefs.getFirst().singleton()).isTrue();
+        assertThat(stateDefs.getFirst().valueCodec()).isEqualTo(TokenRelationIndexCursor.PROTOBUF);
+        assertThat(stateDefs.getLast().stateKey()).isEqualTo(TOKEN_RELATION_PAGES_KEY);
+        assertThat(stateDefs.getLast().onDisk()).isTrue();
+    }
+
+    @Test
+    void migrationStartsIndexCursorAtFirstAccountAndStopsAtLastExistingEntity() {
+        final var writableStates = newCursorWritableStates();
+        given(migrationContext.newStates()).willReturn(writableStates);
+        given(migrationContext.peekAtNewEntityNum()).willReturn(1_001L);
+
+        subject.migrate(migrationContext);
+        ((WritableSingletonStateBase<?>) writableStates.getSingleton(TOKEN_RELATION_INDEX_CURSOR_KEY)).commit();
+
+        assertThat(cursor.get())
+                .isEqualTo(TokenRelationIndexCursor.newBuilder()
+                        .nextAccountNumber(1L)
+                        .lastAccountNumber(1_000L)
+                        .build());
+    }
+
+    @Test
+    void migrationKeepsExistingIndexCursor() {
+        final var existing = TokenRelationIndexCursor.newBuilder()
+                .nextAccountNumber(1_234L)
+                .lastAccountNumber(5_678L)
+                .build();
+        cursor.set(existing);
+        final var writableStates = newCursorWritableStates();
+        given(migrationContext.newStates()).willReturn(writableStates);
+
+        subject.migrate(migrationContext);
+        ((WritableSingletonStateBase<?>) writableStates.getSingleton(TOKEN_RELATION_INDEX_CURSOR_KEY)).commit();
+
+        assertThat(cursor.get()).isEqualTo(existing);
+    }
+
+    private WritableStates newCursorWritableStates() {
+        return MapWritableStates.builder()
+                .state(new WritableSingletonStateBase<>(TOKEN_RELATION_INDEX_CURSOR_KEY, cursor::get, cursor::set))
+                .build();
+    }
+}
@@ -19,6 +19,7 @@ package com.hedera.node.app.service.token;
 import com.hedera.hapi.node.base.AccountID;
 import com.hedera.hapi.node.base.TokenID;
 import com.hedera.hapi.node.state.token.TokenRelation;
+import com.hedera.hapi.node.state.token.TokenRelationPage;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
@@ -54,4 +55,20 @@ public interface ReadableTokenRelationStore {
      * @param tokenId the token id
      */
     default void warm(@NonNull final AccountID accountID, @NonNull final TokenID tokenId) {}
+
+    /**
+     * Returns the given page of the index of the tokens the given account is associated with, or {@code null} if
+     * there is no such page. If page {@code 0} does not exist, the account's token relations are not indexed and can
+     * only be listed by following the linked list starting at the account's head token id.
+     *
+     * <p>The default implementation returns {@code null}, since only some implementations keep this index.
+     *
+     * @param accountId the id of the account
+     * @param pageNumber the number of the page
+     * @return the page, or {@code null} if there is no such page
+     */
+    @Nullable
+    default TokenRelationPage getPage(@NonNull final AccountID accountId, final long pageNumber) {
+        return null;
+    }
 }
@@ -111,23 +111,62 @@ public interface AccountSummariesApi {
         requireNonNull(readableTokenStore);
 
         final var ret = new ArrayList<TokenRelationship>();
-        var tokenId = account.headTokenId();
+        for (final var tokenRelation : tokenRelationsOf(account, tokenRelationStore, limit)) {
+            final var tokenId = tokenRelation.tokenIdOrThrow();
+            final var token = readableTokenStore.get(tokenId);
+            if (token != null) {
+                addTokenRelation(ret, token, tokenRelation, tokenId);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Returns up to the given limit of the token relations of the given account, in the order of the account's
+     * token relation list. If the store has an index of the account's token relations, only the pages of the index
+     * and the relations themselves are read; otherwise the linked list is followed one relation at a time.
+     *
+     * @param account the account to get token relations for
+     * @param tokenRelationStore the readable token relation store
+     * @param limit the maximum number of token relations to look up
+     * @return the token relations of the given account
+     */
+    static List<TokenRelation> tokenRelationsOf(
+            @NonNull final Account account,
+            @NonNull final ReadableTokenRelationStore tokenRelationStore,
+            final long limit) {
+        requireNonNull(account);
+        requireNonNull(tokenRelationStore);
+
+        final var ret = new ArrayList<TokenRelation>();
+        final var accountId = account.accountId();
         int count = 0;
-        TokenRelation tokenRelation;
-        Token token; // token from readableToken store by tokenID
-        AccountID accountID; // build from accountNumber
-        while (tokenId != null && !tokenId.equals(TokenID.DEFAULT) && count < limit) {
-            accountID = account.accountId();
-            tokenRelation = tokenRelationStore.get(accountID, tokenId);
-            if (tokenRelation != null) {
-                token = readableTokenStore.get(tokenId);
-                if (token != null) {
-                    addTokenRelation(ret, token, tokenRelation, tokenId);
+        var page = accountId == null ? null : tokenRelationStore.getPage(accountId, 0);
+        if (page != null) {
+            while (page != null && count < limit) {
+                for (final var tokenId : page.tokenIds()) {
+                    if (count >= limit) {
+                        break;
+                    }
+                    final var tokenRelation = tokenRelationStore.get(accountId, tokenId);
+                    if (tokenRelation != null) {
+                        ret.add(tokenRelation);
+                    }
+                    count++;
                 }
-                tokenId = tokenRelation.nextToken();
-            } else {
+                final var nextPageNumber = page.nextPageNumber();
+                page = nextPageNumber == 0 ? null : tokenRelationStore.getPage(accountId, nextPageNumber);
+            }
+            return ret;
+        }
+        var tokenId = account.headTokenId();
+        while (tokenId != null && !tokenId.equals(TokenID.DEFAULT) && count < limit) {
+            final var tokenRelation = tokenRelationStore.get(accountId, tokenId);
+            if (tokenRelation == null) {
                 break;
             }
+            ret.add(tokenRelation);
+            tokenId = tokenRelation.nextToken();
             count++;
         }
         return ret;
@@ -689,6 +689,7 @@ public class StateChangesValidator implements BlockStreamValidator {
             case BLOCK_STREAM_INFO_VALUE -> singletonUpdateChange.blockStreamInfoValueOrThrow();
             case PLATFORM_STATE_VALUE -> singletonUpdateChange.platformStateValueOrThrow();
             case ROSTER_STATE_VALUE -> singletonUpdateChange.rosterStateValueOrThrow();
+            case TOKEN_RELATION_INDEX_CURSOR_VALUE -> singletonUpdateChange.tokenRelationIndexCursorValueOrThrow();
         };
     }
 
@@ -717,6 +718,8 @@ public class StateChangesValidator implements BlockStreamValidator {
             case TOPIC_ID_KEY -> mapChangeKey.topicIdKeyOrThrow();
             case CONTRACT_ID_KEY -> mapChangeKey.contractIdKeyOrThrow();
             case PENDING_AIRDROP_ID_KEY -> mapChangeKey.pendingAirdropIdKeyOrThrow();
+            case FILE_CHUNK_ID_KEY -> mapChangeKey.fileChunkIdKeyOrThrow();
+            case TOKEN_RELATION_PAGE_ID_KEY -> mapChangeKey.tokenRelationPageIdKeyOrThrow();
         };
     }
 
@@ -739,6 +742,8 @@ public class StateChangesValidator implements BlockStreamValidator {
             case NODE_VALUE -> mapChangeValue.nodeValueOrThrow();
             case ACCOUNT_PENDING_AIRDROP_VALUE -> mapChangeValue.accountPendingAirdropValueOrThrow();
             case ROSTER_VALUE -> mapChangeValue.rosterValueOrThrow();
+            case PROTO_BYTES_VALUE -> new ProtoBytes(mapChangeValue.protoBytesValueOrThrow());
+            case TOKEN_RELATION_PAGE_VALUE -> mapChangeValue.tokenRelationPageValueOrThrow();
         };
     }
 
@@ -29,6 +29,7 @@ import com.swirlds.config.api.Configuration;
 import com.swirlds.config.api.ConfigurationBuilder;
 import com.swirlds.config.extensions.export.ConfigExport;
 import com.swirlds.config.extensions.sources.LegacyFileConfigSource;
+import com.swirlds.config.extensions.sources.SimpleConfigSource;
 import com.swirlds.merkledb.config.MerkleDbConfig;
 import com.swirlds.virtualmap.config.VirtualMapConfig;
 import java.io.IOException;
@@ -87,7 +88,17 @@ public abstract class BaseBench {
 
     protected static Configuration configuration;
 
-    private static void loadConfig() throws IOException {
+    /**
+     * Additional configuration values for a benchmark, for example to map benchmark parameters to
+     * platform settings. These values take precedence over values from settings.txt.
+     *
+     * @return a config source with additional values, or null if there are none
+     */
+    protected SimpleConfigSource benchmarkConfigSource() {
+        return null;
+    }
+
+    private void loadConfig() throws IOException {
         ConfigurationBuilder configurationBuilder = ConfigurationBuilder.create()
                 .autoDiscoverExtensions()
                 .withSource(new LegacyFileConfigSource(Path.of(".", "settings.txt")))
@@ -96,6 +107,10 @@ public abstract class BaseBench {
                 .withConfigDataType(MerkleDbConfig.class)
                 .withConfigDataType(MetricsConfig.class)
                 .withConfigDataType(CryptoConfig.class);
+        final SimpleConfigSource benchmarkSource = benchmarkConfigSource();
+        if (benchmarkSource != null) {
+            configurationBuilder.withSource(benchmarkSource);
+        }
         configuration = configurationBuilder.build();
         ConfigurationHolder.getInstance().setConfiguration(configuration);
 
@@ -20,10 +20,12 @@ import com.swirlds.benchmark.reconnect.MerkleBenchmarkUtils;
 import com.swirlds.benchmark.reconnect.StateBuilder;
 import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.config.extensions.sources.SimpleConfigSource;
 import com.swirlds.virtualmap.VirtualKey;
 import com.swirlds.virtualmap.VirtualMap;
 import com.swirlds.virtualmap.VirtualValue;
 import com.swirlds.virtualmap.internal.pipeline.VirtualRoot;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -97,6 +99,20 @@ public class ReconnectBench extends VirtualMapBaseBench {
     @Param({"0.15"})
     public double delayNetworkFuzzRangePercent;
 
+    /**
+     * The virtual map reconnect mode, see {@code virtualMap.reconnectMode}. Teacher loader threads
+     * are only used by the pull modes.
+     */
+    @Param({"pullTopToBottom"})
+    public String reconnectMode;
+
+    /**
+     * The number of teacher threads loading node hashes and leaf records in parallel, see
+     * {@code reconnect.teacherPullLoaderThreads}. 1 means nodes are loaded one at a time.
+     */
+    @Param({"1", "4"})
+    public int teacherPullLoaderThreads;
+
     private List<VirtualMap<BenchmarkKey, BenchmarkValue>> teacherMaps;
     private List<VirtualMap<BenchmarkKey, BenchmarkValue>> learnerMaps;
 
@@ -107,10 +123,24 @@ public class ReconnectBench extends VirtualMapBaseBench {
 
     private MerkleNode reconnectedTree;
 
+    /**
+     * Process CPU time spent in all reconnect invocations of the current trial, in nanoseconds. Teacher and learner
+     * run in the same process, so this covers both sides, including any idle spinning of their stream threads.
+     */
+    private long reconnectCpuNanos;
+
+    private long reconnectCount;
+
     String benchmarkName() {
         return "ReconnectBench";
     }
 
+    @Override
+    protected SimpleConfigSource benchmarkConfigSource() {
+        return new SimpleConfigSource("virtualMap.reconnectMode", reconnectMode)
+                .withValue("reconnect.teacherPullLoaderThreads", teacherPullLoaderThreads);
+    }
+
     /**
      * Builds a VirtualMap populator that is able to add/update, as well as remove nodes (when the value is null.)
      * Note that it doesn't support explicitly adding null values under a key.
@@ -253,16 +283,41 @@ public class ReconnectBench extends VirtualMapBaseBench {
         learnerMaps = null;
     }
 
+    /** Report the average CPU time of a reconnect, which is not covered by the JMH time measurements. */
+    @TearDown
+    public void reportCpuTime() {
+        if (reconnectCount > 0) {
+            logger.info(
+                    "Average reconnect CPU time: {} ms over {} reconnects",
+                    reconnectCpuNanos / reconnectCount / 1_000_000L,
+                    reconnectCount);
+        }
+    }
+
     @Benchmark
     public void reconnect() throws Exception {
-        reconnectedTree = MerkleBenchmarkUtils.hashAndTestSynchronization(
-                learnerTree,
-                teacherTree,
-                randomSeed,
-                delayStorageMicroseconds,
-                delayStorageFuzzRangePercent,
-                delayNetworkMicroseconds,
-                delayNetworkFuzzRangePercent,
-                configuration);
+        final long cpuStart = processCpuNanos();
+        try {
+            reconnectedTree = MerkleBenchmarkUtils.hashAndTestSynchronization(
+                    learnerTree,
+                    teacherTree,
+                    randomSeed,
+                    delayStorageMicroseconds,
+                    delayStorageFuzzRangePercent,
+                    delayNetworkMicroseconds,
+                    delayNetworkFuzzRangePercent,
+                    configuration);
+        } finally {
+            reconnectCpuNanos += processCpuNanos() - cpuStart;
+            reconnectCount++;
+        }
+    }
+
+    private static long processCpuNanos() {
+        return ProcessHandle.current()
+                .info()
+                .totalCpuDuration()
+                .map(Duration::toNanos)
+                .orElse(0L);
     }
 }
@@ -18,8 +18,10 @@ package com.swirlds.common.io;
 
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.Callable;
 
 /**
  * <p>
@@ -61,4 +63,32 @@ public interface ExternalSelfSerializable extends SerializableDet {
      * 		thrown in case of an IO exception
      */
     void deserialize(SerializableDataInputStream in, Path inputDirectory, int version) throws IOException;
+
+    /**
+     * Same as {@link #deserialize(SerializableDataInputStream, Path, int)}, but allows the data in the directory to be
+     * loaded later, on a different thread, and in parallel with other objects.
+     * <p>
+     * This method reads everything this object has written to the stream. It then returns a loader that reads the
+     * data from the directory. The loader may be called on any thread. It returns an action that completes the
+     * deserialization, which is run on the thread that reads the stream after all loaders have completed. This object
+     * must not be used before that action has run.
+     * <p>
+     * By default, this object is fully deserialized by this method and {@code null} is returned.
+     *
+     * @param in
+     * 		The input stream.
+     * @param inputDirectory
+     * 		a location on disk where data can be read
+     * @param version
+     * 		The version at which this object was serialized.
+     * @return a loader for the data in the directory, or {@code null} if this object has been fully deserialized
+     * @throws IOException
+     * 		thrown in case of an IO exception
+     */
+    @Nullable
+    default Callable<Runnable> deserializeDeferred(
+            final SerializableDataInputStream in, final Path inputDirectory, final int version) throws IOException {
+        deserialize(in, inputDirectory, version);
+        return null;
+    }
 }
@@ -32,15 +32,23 @@ import com.swirlds.common.merkle.MerkleLeaf;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.exceptions.IllegalChildCountException;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * A SerializableDataInputStream that can also handle merkle tree.
@@ -50,6 +58,17 @@ public class MerkleDataInputStream extends SerializableDataInputStream {
     private final Queue<PartiallyConstructedMerkleInternal> internalNodes;
     private MerkleNode root;
 
+    /**
+     * An executor used to load the external data of self serializing internal nodes (e.g. virtual maps) in parallel,
+     * or null if all nodes are loaded one after another.
+     */
+    private Executor externalNodeExecutor;
+
+    /**
+     * Loaders of external node data that have been started but not yet completed, in stream order.
+     */
+    private final List<CompletableFuture<Runnable>> pendingExternalNodes = new ArrayList<>();
+
     /**
      * Create a stream capable of reading merkle trees.
      *
@@ -61,6 +80,21 @@ public class MerkleDataInputStream extends SerializableDataInputStream {
         internalNodes = new LinkedList<>();
     }
 
+    /**
+     * Set an executor that is used to load the data of self serializing internal nodes in parallel when reading a
+     * merkle tree. Such nodes (e.g. virtual maps) keep the bulk of their data in their own files in the directory.
+     * See {@link ExternalSelfSerializable#deserializeDeferred(SerializableDataInputStream, Path, int)}.
+     *
+     * @param executor
+     * 		the executor, or null to load all nodes on the calling thread
+     * @return this object
+     */
+    @NonNull
+    public MerkleDataInputStream setExternalNodeExecutor(@Nullable final Executor executor) {
+        this.externalNodeExecutor = executor;
+        return this;
+    }
+
     /**
      * Add a child to its parent.
      *
@@ -109,8 +143,16 @@ public class MerkleDataInputStream extends SerializableDataInputStream {
     private void finishReadingInternal(final Path directory, final MerkleInternal node, final int version)
             throws IOException {
 
-        if (node instanceof ExternalSelfSerializable) {
-            ((ExternalSelfSerializable) node).deserialize(this, directory, version);
+        if (node instanceof ExternalSelfSerializable externalSelfSerializable) {
+            if (externalNodeExecutor == null) {
+                externalSelfSerializable.deserialize(this, directory, version);
+            } else {
+                final Callable<Runnable> loader =
+                        externalSelfSerializable.deserializeDeferred(this, directory, version);
+                if (loader != null) {
+                    pendingExternalNodes.add(CompletableFuture.supplyAsync(() -> load(loader), externalNodeExecutor));
+                }
+            }
             addToParent(node);
         } else {
             final int childCount = readInt();
@@ -131,6 +173,45 @@ public class MerkleDataInputStream extends SerializableDataInputStream {
         }
     }
 
+    /**
+     * Run a loader of external node data, wrapping checked exceptions.
+     */
+    private static Runnable load(final Callable<Runnable> loader) {
+        try {
+            return loader.call();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Wait for all loaders of external node data and complete the deserialization of their nodes, in stream order.
+     */
+    private void completeExternalNodes() throws IOException {
+        IOException exception = null;
+        for (final CompletableFuture<Runnable> pendingNode : pendingExternalNodes) {
+            try {
+                final Runnable completion = pendingNode.join();
+                if (exception == null && completion != null) {
+                    completion.run();
+                }
+            } catch (final CompletionException e) {
+                // keep waiting for the other loaders, they may still be reading from the directory
+                if (exception == null) {
+                    exception = e.getCause() instanceof final UncheckedIOException uncheckedIOException
+                            ? uncheckedIOException.getCause()
+                            : new IOException("Failed to load merkle node", e.getCause());
+                }
+            }
+        }
+        pendingExternalNodes.clear();
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
     /**
      * Read the node from the stream.
      *
@@ -229,6 +310,7 @@ public class MerkleDataInputStream extends SerializableDataInputStream {
             }
             readNextNode(directory, deserializedVersions);
         }
+        completeExternalNodes();
 
         final MerkleNode migratedRoot = initializeAndMigrateTreeAfterDeserialization(root, deserializedVersions);
 
@@ -24,12 +24,20 @@ import com.swirlds.common.io.streams.internal.MerkleSerializationProtocol;
 import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleLeaf;
 import com.swirlds.common.merkle.MerkleNode;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
@@ -45,6 +53,12 @@ public class MerkleDataOutputStream extends SerializableDataOutputStream {
     private static final Predicate<MerkleInternal> DESCENDANT_FILTER =
             node -> !(node instanceof ExternalSelfSerializable);
 
+    /**
+     * An executor used to serialize self serializing internal nodes (e.g. virtual maps) in parallel, or null if they
+     * are serialized one after another.
+     */
+    private Executor externalNodeExecutor;
+
     /**
      * Create a new merkle stream.
      *
@@ -55,6 +69,21 @@ public class MerkleDataOutputStream extends SerializableDataOutputStream {
         super(out);
     }
 
+    /**
+     * Set an executor that is used to serialize self serializing internal nodes in parallel when writing a merkle
+     * tree. Such nodes (e.g. virtual maps) write the bulk of their data to their own files in the directory, and only
+     * a few bytes to the stream. The bytes written to the stream are the same as without an executor.
+     *
+     * @param executor
+     * 		the executor, or null to serialize all nodes on the calling thread
+     * @return this object
+     */
+    @NonNull
+    public MerkleDataOutputStream setExternalNodeExecutor(@Nullable final Executor executor) {
+        this.externalNodeExecutor = executor;
+        return this;
+    }
+
     /**
      * Write a node that implements the type {@link ExternalSelfSerializable}.
      */
@@ -76,14 +105,78 @@ public class MerkleDataOutputStream extends SerializableDataOutputStream {
     /**
      * Writes a MerkleInternal node to the stream.
      */
-    private void writeInternal(final Path directory, final MerkleInternal node) throws IOException {
+    private void writeInternal(
+            final Path directory,
+            final MerkleInternal node,
+            final Map<MerkleNode, CompletableFuture<byte[]>> serializedExternalNodes)
+            throws IOException {
         if (node instanceof ExternalSelfSerializable externalSelfSerializable) {
-            writeSerializableNode(directory, externalSelfSerializable);
+            final CompletableFuture<byte[]> serializedNode = serializedExternalNodes.get(node);
+            if (serializedNode == null) {
+                writeSerializableNode(directory, externalSelfSerializable);
+            } else {
+                writeClassIdVersion(externalSelfSerializable, true);
+                write(awaitSerializedNode(serializedNode));
+            }
         } else {
             writeDefaultInternalNode(node);
         }
     }
 
+    /**
+     * Start serializing all self serializing internal nodes of a tree on the external node executor. Each node is
+     * serialized into its own buffer, which is copied to this stream when the node is reached during the traversal.
+     *
+     * @return a map from each node to its serialized bytes, empty if there is no executor
+     */
+    private Map<MerkleNode, CompletableFuture<byte[]>> serializeExternalNodes(
+            final Path directory, final MerkleNode root) {
+        if (externalNodeExecutor == null) {
+            return Map.of();
+        }
+        final Map<MerkleNode, CompletableFuture<byte[]>> serializedNodes = new IdentityHashMap<>();
+        root.treeIterator()
+                .setOrder(BREADTH_FIRST)
+                .setDescendantFilter(DESCENDANT_FILTER)
+                .forEachRemaining((final MerkleNode node) -> {
+                    if (node.isInternal() && node instanceof ExternalSelfSerializable externalSelfSerializable) {
+                        serializedNodes.put(
+                                node,
+                                CompletableFuture.supplyAsync(
+                                        () -> serializeToBytes(directory, externalSelfSerializable),
+                                        externalNodeExecutor));
+                    }
+                });
+        return serializedNodes;
+    }
+
+    /**
+     * Serialize a node into a byte array. Data the node writes to the directory goes directly to disk.
+     */
+    private static byte[] serializeToBytes(final Path directory, final ExternalSelfSerializable node) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final SerializableDataOutputStream out = new SerializableDataOutputStream(bytes)) {
+            node.serialize(out, directory);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Wait for a node to be serialized by the external node executor.
+     */
+    private static byte[] awaitSerializedNode(final CompletableFuture<byte[]> serializedNode) throws IOException {
+        try {
+            return serializedNode.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof final UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            throw new IOException("Failed to serialize merkle node", e.getCause());
+        }
+    }
+
     /**
      * Write a leaf node to the stream.
      */
@@ -159,6 +252,26 @@ public class MerkleDataOutputStream extends SerializableDataOutputStream {
             return;
         }
 
+        final Map<MerkleNode, CompletableFuture<byte[]>> serializedExternalNodes =
+                serializeExternalNodes(directory, root);
+        try {
+            writeNodes(directory, root, serializedExternalNodes);
+        } finally {
+            // don't return while nodes are still writing to the directory
+            for (final CompletableFuture<byte[]> serializedNode : serializedExternalNodes.values()) {
+                serializedNode.handle((bytes, error) -> null).join();
+            }
+        }
+    }
+
+    /**
+     * Write all nodes of a tree to the stream in breadth first order.
+     */
+    private void writeNodes(
+            final Path directory,
+            final MerkleNode root,
+            final Map<MerkleNode, CompletableFuture<byte[]>> serializedExternalNodes)
+            throws IOException {
         root.treeIterator()
                 .setOrder(BREADTH_FIRST)
                 .setDescendantFilter(DESCENDANT_FILTER)
@@ -169,7 +282,7 @@ public class MerkleDataOutputStream extends SerializableDataOutputStream {
                     } else if (node.isLeaf()) {
                         writeLeaf(directory, node.asLeaf());
                     } else {
-                        writeInternal(directory, node.asInternal());
+                        writeInternal(directory, node.asInternal(), serializedExternalNodes);
                     }
                 });
     }
@@ -29,6 +29,7 @@ import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleLeaf;
 import com.swirlds.common.merkle.MerkleNode;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 
 /**
@@ -149,4 +150,18 @@ public interface MerkleCryptography {
     default Future<Hash> digestTreeAsync(final MerkleNode root) {
         return digestTreeAsync(root, DEFAULT_DIGEST_TYPE);
     }
+
+    /**
+     * Get an executor that runs tasks on the threads that hash merkle trees. It is meant for callers that hash many
+     * independent subtrees at the same time, each with {@link #digestTreeSync(MerkleNode)} on its own thread, rather
+     * than putting all threads on a single tree with {@link #digestTreeAsync(MerkleNode)}. Tasks run on this executor
+     * must not wait for other tasks run on it.
+     * <p>
+     * The default implementation runs tasks on the caller's thread.
+     *
+     * @return the executor
+     */
+    default Executor getHashingExecutor() {
+        return Runnable::run;
+    }
 }
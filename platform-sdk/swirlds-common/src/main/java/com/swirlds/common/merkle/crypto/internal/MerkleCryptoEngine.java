@@ -33,6 +33,7 @@ import com.swirlds.logging.legacy.LogMarker;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 
 public class MerkleCryptoEngine implements MerkleCryptography {
@@ -83,6 +84,14 @@ public class MerkleCryptoEngine implements MerkleCryptography {
         return merkleHashBuilder.digestTreeAsync(root);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Executor getHashingExecutor() {
+        return merkleHashBuilder.getThreadPool();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -84,6 +84,15 @@ public class MerkleHashBuilder {
         this.threadPool = Executors.newFixedThreadPool(cpuThreadCount, threadFactory);
     }
 
+    /**
+     * Get the thread pool that hashes merkle trees.
+     *
+     * @return the thread pool
+     */
+    public Executor getThreadPool() {
+        return threadPool;
+    }
+
     /**
      * Only return nodes that require a hash.
      */
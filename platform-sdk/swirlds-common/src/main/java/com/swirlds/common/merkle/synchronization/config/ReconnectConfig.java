@@ -56,6 +56,11 @@ import java.time.Duration;
  * @param pullLearnerRootResponseTimeout         In pull-based reconnect implementations (virtual trees only), the
  *                                               timeout on the learner side to get a virtual root node response from
  *                                               teacher
+ * @param teacherPullLoaderThreads               In pull-based reconnect implementations (virtual trees only), the
+ *                                               number of threads on the teacher side that load node hashes and leaf
+ *                                               records ahead of the thread that writes responses. Responses are still
+ *                                               sent in request order. If 1 or less, all nodes are loaded on the
+ *                                               receiving and sending threads
  */
 @ConfigData("reconnect")
 public record ReconnectConfig(
@@ -70,4 +75,5 @@ public record ReconnectConfig(
         @ConfigProperty(defaultValue = "10m") Duration minimumTimeBetweenReconnects,
         @ConfigProperty(defaultValue = "0") int teacherMaxNodesPerSecond,
         @ConfigProperty(defaultValue = "1us") Duration teacherRateLimiterSleep,
-        @ConfigProperty(defaultValue = "60s") Duration pullLearnerRootResponseTimeout) {}
+        @ConfigProperty(defaultValue = "60s") Duration pullLearnerRootResponseTimeout,
+        @ConfigProperty(defaultValue = "4") int teacherPullLoaderThreads) {}
@@ -33,6 +33,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -58,6 +59,12 @@ public class AsyncInputStream<T extends SelfSerializable> implements AutoCloseab
 
     private static final String THREAD_NAME = "async-input-stream";
 
+    /**
+     * The longest time the reading thread parks while no message is anticipated. The thread is normally unparked
+     * as soon as a message is anticipated or the stream is closed, this is only a safety net.
+     */
+    private static final long MAX_PARK_NANOS = MILLISECONDS.toNanos(100);
+
     private final SerializableDataInputStream inputStream;
 
     private final AtomicLong anticipatedMessages;
@@ -75,6 +82,11 @@ public class AsyncInputStream<T extends SelfSerializable> implements AutoCloseab
 
     private volatile boolean alive;
 
+    /**
+     * The thread that reads from the stream, or null if it has not started yet.
+     */
+    private volatile Thread readerThread;
+
     private final Supplier<T> messageFactory;
 
     private final StandardWorkGroup workGroup;
@@ -135,13 +147,15 @@ public class AsyncInputStream<T extends SelfSerializable> implements AutoCloseab
     private void run() {
         T message = null;
         logger.info(RECONNECT.getMarker(), this.toString() + " start run()");
+        readerThread = Thread.currentThread();
         try {
             while (isAlive() && !Thread.currentThread().isInterrupted()) {
                 final long previous =
                         anticipatedMessages.getAndUpdate((final long value) -> value == 0L ? 0L : (value - 1L));
 
                 if (previous == 0L) {
-                    MILLISECONDS.sleep(1);
+                    // woken up by anticipateMessage() or close()
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
                     continue;
                 }
 
@@ -164,11 +178,14 @@ public class AsyncInputStream<T extends SelfSerializable> implements AutoCloseab
                             message.getClass().toString()),
                     e);
         } catch (final InterruptedException e) {
-            logger.warn(RECONNECT.getMarker(), this.toString() + " interrupted");
             Thread.currentThread().interrupt();
         } finally {
+            readerThread = null;
             finishedLatch.countDown();
         }
+        if (Thread.currentThread().isInterrupted()) {
+            logger.warn(RECONNECT.getMarker(), this.toString() + " interrupted");
+        }
         logger.info(RECONNECT.getMarker(), this.toString() + " finish run()");
     }
 
@@ -177,6 +194,7 @@ public class AsyncInputStream<T extends SelfSerializable> implements AutoCloseab
      */
     public void anticipateMessage() {
         anticipatedMessages.getAndIncrement();
+        unparkReader();
     }
 
     /**
@@ -214,6 +232,17 @@ public class AsyncInputStream<T extends SelfSerializable> implements AutoCloseab
     @Override
     public void close() {
         alive = false;
+        unparkReader();
+    }
+
+    /**
+     * Wake up the reading thread if it is parked because no message was anticipated.
+     */
+    private void unparkReader() {
+        final Thread thread = readerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
     }
 
     /**
@@ -143,24 +143,31 @@ public class AsyncOutputStream<T extends SelfSerializable> implements AutoClosea
         return outgoingMessages;
     }
 
+    /**
+     * Writes messages to the stream until this stream is closed and all messages have been written. When there are no
+     * messages to write, the buffered messages are flushed and the thread blocks on the queue until a new message
+     * arrives or the flush interval passes, instead of polling the queue in a loop.
+     */
     public void run() {
         while ((isAlive() || !outgoingMessages.isEmpty())
                 && !Thread.currentThread().isInterrupted()) {
             flushIfRequired();
-            boolean workDone = handleNextMessage();
-            if (!workDone) {
-                workDone = flush();
-                if (!workDone) {
-                    try {
-                        Thread.sleep(0, 1);
-                    } catch (final InterruptedException e) {
-                        logger.warn(RECONNECT.getMarker(), "AsyncOutputStream interrupted");
-                        alive = false;
-                        Thread.currentThread().interrupt();
-                        return;
-                    }
+            T message = outgoingMessages.poll();
+            if (message == null) {
+                flush();
+                try {
+                    message = outgoingMessages.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+                } catch (final InterruptedException e) {
+                    logger.warn(RECONNECT.getMarker(), "AsyncOutputStream interrupted");
+                    alive = false;
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (message == null) {
+                    continue;
                 }
             }
+            writeMessage(message);
         }
         flush();
     }
@@ -195,23 +202,17 @@ public class AsyncOutputStream<T extends SelfSerializable> implements AutoClosea
     }
 
     /**
-     * Send the next message if possible.
+     * Write a message to the stream. The stream is not flushed.
      *
-     * @return true if a message was sent.
+     * @param message the message to write
      */
-    private boolean handleNextMessage() {
-        if (!outgoingMessages.isEmpty()) {
-            final T message = outgoingMessages.remove();
-            try {
-                serializeMessage(message);
-            } catch (final IOException e) {
-                throw new MerkleSynchronizationException(e);
-            }
-
-            bufferedMessageCount += 1;
-            return true;
+    private void writeMessage(final T message) {
+        try {
+            serializeMessage(message);
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException(e);
         }
-        return false;
+        bufferedMessageCount += 1;
     }
 
     protected void serializeMessage(final T message) throws IOException {
@@ -31,8 +31,9 @@ import io.prometheus.client.Gauge;
 import java.util.Objects;
 
 /**
- * Adapter that synchronizes {@link com.swirlds.common.metrics.RunningAverageMetric} and
- * {@link com.swirlds.common.metrics.SpeedometerMetric} with the corresponding Prometheus {@link Collector}.
+ * Adapter that synchronizes {@link com.swirlds.common.metrics.RunningAverageMetric},
+ * {@link com.swirlds.common.metrics.SpeedometerMetric}, and {@link com.swirlds.metrics.api.Histogram} with the
+ * corresponding Prometheus {@link Collector}.
  */
 public class DistributionAdapter extends AbstractMetricAdapter {
 
@@ -81,6 +82,10 @@ public class DistributionAdapter extends AbstractMetricAdapter {
                         case MIN -> "min";
                         case MAX -> "max";
                         case STD_DEV -> "stddev";
+                        case P50 -> "p50";
+                        case P90 -> "p90";
+                        case P99 -> "p99";
+                        case P999 -> "p999";
                         default -> "mean";
                     };
             final Gauge.Child child =
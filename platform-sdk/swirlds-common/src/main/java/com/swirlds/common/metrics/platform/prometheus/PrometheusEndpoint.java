@@ -36,6 +36,7 @@ import com.swirlds.common.metrics.platform.SnapshotEvent;
 import com.swirlds.common.platform.NodeId;
 import com.swirlds.common.utility.ThresholdLimitingHandler;
 import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Histogram;
 import com.swirlds.metrics.api.Metric;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.metrics.api.snapshot.Snapshot;
@@ -57,7 +58,7 @@ public class PrometheusEndpoint implements AutoCloseableNonThrowing {
 
     /** Prometheus-label to differentiate between nodes */
     public static final String NODE_LABEL = "node";
-    /** Prometheus-label to differentiate between value-types (mean, min, max, stddev) */
+    /** Prometheus-label to differentiate between value-types (mean, min, max, stddev, p50, p90, p99, p999) */
     public static final String TYPE_LABEL = "type";
 
     private static final String TIME_METRIC_KEY =
@@ -173,7 +174,9 @@ public class PrometheusEndpoint implements AutoCloseableNonThrowing {
         final AdapterType adapterType = nodeId == null ? GLOBAL : PLATFORM;
         if (metric instanceof Counter) {
             return new CounterAdapter(registry, metric, adapterType);
-        } else if (metric instanceof RunningAverageMetric || metric instanceof SpeedometerMetric) {
+        } else if (metric instanceof RunningAverageMetric
+                || metric instanceof SpeedometerMetric
+                || metric instanceof Histogram) {
             return new DistributionAdapter(registry, metric, adapterType);
         } else if (metric instanceof IntegerPairAccumulator<?>
                 || metric instanceof FunctionGauge<?>
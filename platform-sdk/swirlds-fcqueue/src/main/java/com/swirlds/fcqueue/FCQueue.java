@@ -86,7 +86,7 @@ public class FCQueue<E extends FastCopyable & SerializableHashable> extends Part
     /** The digest type used by FCQ */
     private static final DigestType DIGEST_TYPE = DigestType.SHA_384;
 
-    private static final long HASH_RADIX = 3;
+    static final long HASH_RADIX = 3;
 
     /** The bytes of a NULL_HASH */
     private static final byte[] NULL_HASH_BYTES = new byte[DIGEST_TYPE.digestLength()];
@@ -230,7 +230,7 @@ public class FCQueue<E extends FastCopyable & SerializableHashable> extends Part
      * 		exponent
      * @return (HASH_RADIX ^ y) mod 2^64
      */
-    private static long power(int y) {
+    static long power(int y) {
         long res = 1;
         long x = HASH_RADIX;
         while (y > 0) {
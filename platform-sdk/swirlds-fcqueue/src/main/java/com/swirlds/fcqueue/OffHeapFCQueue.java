@@ -0,0 +1,665 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.fcqueue;
+
+import static com.swirlds.common.utility.ByteUtils.byteArrayToLong;
+import static com.swirlds.common.utility.ByteUtils.longToByteArray;
+import static com.swirlds.fcqueue.FCQueue.HASH_RADIX;
+import static com.swirlds.fcqueue.FCQueue.power;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.CryptographyHolder;
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.crypto.ImmutableHash;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.common.merkle.MerkleLeaf;
+import com.swirlds.common.merkle.impl.PartialMerkleLeaf;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * A threadsafe fast-copyable queue of serialized elements, which are kept in off-heap memory instead of on the Java
+ * heap. Like {@link FCQueue}, elements are inserted at the tail and removed from the head, a fast copy of a queue is
+ * mutable and the original queue becomes immutable, and element insertion/deletion and fast copy creation all take
+ * constant time.
+ *
+ * <p>All queues of a queue group share a list of append-only off-heap segments. Every element is stored once, as a
+ * record in the segment that was current when the element was added. A fast copy only copies the head and tail
+ * positions. A segment is released as soon as the heads of all live queues of the group have moved past it, so the
+ * memory of a queue that is drained from the head is returned one segment at a time. Iterators keep references to the
+ * segments they need, so a segment released while an iterator is running is freed once the iterator is gone.
+ *
+ * <p>The hash of this queue is the same rolling hash that {@link FCQueue} computes, with the element hash being a
+ * hash of the hash of the stored bytes. Hence, if every stored element is the self-serialized form of an element
+ * (class id, version, and serialized data, as written by
+ * {@link SerializableDataOutputStream#writeSerializable(com.swirlds.common.io.SelfSerializable, boolean)}), this queue
+ * has the same hash as an {@link FCQueue} containing these elements.
+ */
+public class OffHeapFCQueue extends PartialMerkleLeaf implements MerkleLeaf, Iterable<Bytes> {
+
+    private static class ClassVersion {
+        public static final int ORIGINAL = 1;
+    }
+
+    /** Object identifier of this class (random int). Do NOT change when the class changes its code/name/version. */
+    public static final long CLASS_ID = 0x6f1c8e2d4b3a5972L;
+
+    /** The default size of an off-heap segment */
+    public static final int DEFAULT_SEGMENT_SIZE = 256 * 1024;
+
+    /** The digest type used by this queue */
+    private static final DigestType DIGEST_TYPE = DigestType.SHA_384;
+
+    /** The number of longs in a running hash */
+    private static final int HASH_LONGS = DIGEST_TYPE.digestLength() / Long.BYTES;
+
+    /**
+     * The size of the header of a record: the length of the element, followed by the running hash of all elements of
+     * the group before this one
+     */
+    private static final int HEADER_SIZE = Integer.BYTES + DIGEST_TYPE.digestLength();
+
+    /** A length marking the end of the records in a segment */
+    private static final int END_OF_SEGMENT = -1;
+
+    /** A hash value representing a destroyed queue */
+    private static final ImmutableHash NULL_HASH = new ImmutableHash(new byte[DIGEST_TYPE.digestLength()]);
+
+    /** The segments and hashing progress shared by all queues in a group */
+    private final Group group;
+
+    /** The index of the head element within the group, inclusive */
+    private long headIndex;
+
+    /** The segment and offset of the head element's record */
+    private int headSegment;
+
+    private int headOffset;
+
+    /** The index of the tail element within the group, exclusive */
+    private long tailIndex;
+
+    /** The segment and offset where the record following the last element of this queue is (or will be) stored */
+    private int tailSegment;
+
+    private int tailOffset;
+
+    /** the hash of this queue once it becomes immutable */
+    private volatile ImmutableHash hash;
+
+    /**
+     * Instantiates a new empty queue using segments of {@link #DEFAULT_SEGMENT_SIZE} bytes.
+     */
+    public OffHeapFCQueue() {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Instantiates a new empty queue.
+     *
+     * @param segmentSize
+     * 		the size of the off-heap segments. Elements larger than a segment are stored in a dedicated segment.
+     */
+    public OffHeapFCQueue(final int segmentSize) {
+        if (segmentSize < HEADER_SIZE) {
+            throw new IllegalArgumentException("segmentSize must be at least " + HEADER_SIZE + ": " + segmentSize);
+        }
+        group = new Group(segmentSize);
+        group.registerHead(0);
+    }
+
+    /** Copy constructor, creates another queue in the same group */
+    private OffHeapFCQueue(@NonNull final OffHeapFCQueue other) {
+        super(other);
+        group = other.group;
+        headIndex = other.headIndex;
+        headSegment = other.headSegment;
+        headOffset = other.headOffset;
+        tailIndex = other.tailIndex;
+        tailSegment = other.tailSegment;
+        tailOffset = other.tailOffset;
+        synchronized (group) {
+            group.registerHead(headSegment);
+        }
+    }
+
+    /**
+     * Inserts the given element at the tail of this queue.
+     *
+     * @param element
+     * 		the serialized element
+     * @throws IllegalStateException
+     * 		if this queue is immutable or has reached {@link FCQueue#MAX_ELEMENTS}
+     */
+    public synchronized void add(@NonNull final Bytes element) {
+        Objects.requireNonNull(element, "element must not be null");
+        throwIfImmutable("tried to modify an immutable OffHeapFCQueue");
+        if (size() >= FCQueue.MAX_ELEMENTS) {
+            throw new IllegalStateException(String.format(
+                    "tried to add an element to an OffHeapFCQueue whose size has reached MAX_ELEMENTS: %d",
+                    FCQueue.MAX_ELEMENTS));
+        }
+        final byte[] bytes = element.toByteArray();
+        synchronized (group) {
+            group.append(bytes);
+            if (headIndex == tailIndex) {
+                // an empty queue's head moves to wherever its first record has been placed
+                moveHead(group.lastSegment, group.lastOffset);
+            }
+            tailIndex++;
+            tailSegment = group.endSegment;
+            tailOffset = group.endOffset;
+        }
+    }
+
+    /**
+     * Retrieves and removes the head of this queue.
+     *
+     * @return the head of this queue
+     * @throws NoSuchElementException
+     * 		if this queue is empty
+     * @throws IllegalStateException
+     * 		if this queue is immutable
+     */
+    public synchronized @NonNull Bytes remove() {
+        throwIfImmutable("tried to remove from an immutable OffHeapFCQueue");
+        if (isEmpty()) {
+            throw new NoSuchElementException("tried to remove from an empty OffHeapFCQueue");
+        }
+        synchronized (group) {
+            final Bytes element = group.read(headSegment, headOffset);
+            final int nextOffset = group.nextOffset(headSegment, headOffset);
+            headIndex++;
+            moveHead(group.normalizedSegment, nextOffset);
+            return element;
+        }
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, or returns {@code null} if this queue is empty.
+     *
+     * @return the head of this queue, or {@code null} if this queue is empty
+     */
+    public synchronized @Nullable Bytes poll() {
+        return isEmpty() ? null : remove();
+    }
+
+    /**
+     * Retrieves, but does not remove, the head of this queue, or returns {@code null} if this queue is empty.
+     *
+     * @return the head of this queue, or {@code null} if this queue is empty
+     */
+    public synchronized @Nullable Bytes peek() {
+        if (isEmpty()) {
+            return null;
+        }
+        synchronized (group) {
+            return group.read(headSegment, headOffset);
+        }
+    }
+
+    /**
+     * Removes all elements from this queue.
+     */
+    public synchronized void clear() {
+        throwIfImmutable();
+        headIndex = tailIndex;
+        synchronized (group) {
+            moveHead(tailSegment, tailOffset);
+        }
+        hash = null;
+    }
+
+    /**
+     * @return the number of elements in this queue
+     */
+    public synchronized int size() {
+        return (int) (tailIndex - headIndex);
+    }
+
+    /**
+     * @return {@code true} if this queue contains no elements
+     */
+    public synchronized boolean isEmpty() {
+        return headIndex == tailIndex;
+    }
+
+    /**
+     * Returns an iterator over the elements of this queue, from head to tail. The iterator provides a snapshot view of
+     * the queue at the time of its creation.
+     *
+     * @return an iterator over the elements of this queue
+     */
+    @Override
+    public synchronized @NonNull Iterator<Bytes> iterator() {
+        if (isDestroyed()) {
+            throw new IllegalStateException("tried to iterate over a destroyed OffHeapFCQueue");
+        }
+        final List<ByteBuffer> segments;
+        synchronized (group) {
+            segments = isEmpty() ? List.of() : group.segments(headSegment, tailSegment);
+        }
+        final int firstSegment = headSegment;
+        final int startOffset = headOffset;
+        final long count = size();
+        return new Iterator<>() {
+            private int segment = firstSegment;
+            private int offset = startOffset;
+            private long remaining = count;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public Bytes next() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                ByteBuffer buffer = segments.get(segment - firstSegment);
+                if (isEndOfSegment(buffer, offset)) {
+                    segment++;
+                    offset = 0;
+                    buffer = segments.get(segment - firstSegment);
+                }
+                final int length = buffer.getInt(offset);
+                final byte[] bytes = new byte[length];
+                buffer.get(offset + HEADER_SIZE, bytes);
+                offset += HEADER_SIZE + length;
+                remaining--;
+                return Bytes.wrap(bytes);
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized OffHeapFCQueue copy() {
+        throwIfImmutable("Tried to make a copy of an immutable OffHeapFCQueue");
+        final OffHeapFCQueue queue = new OffHeapFCQueue(this);
+        // there can be only one mutable per queue group. If the copy is, then this isn't.
+        setImmutable(true);
+        return queue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected synchronized void destroyNode() {
+        setImmutable(true);
+        synchronized (group) {
+            group.unregisterHead(headSegment);
+            group.releaseSegments();
+        }
+        headIndex = tailIndex = 0;
+        hash = NULL_HASH;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Hash getHash() {
+        if (hash != null) {
+            return hash;
+        }
+
+        synchronized (this) {
+            ImmutableHash result = hash;
+            if (result == null) {
+                result = computeHash();
+                if (isImmutable()) {
+                    hash = result;
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Computes the hash as a weighted difference of the running hashes before the head and before the tail, see
+     * {@link FCQueue} for details.
+     */
+    private ImmutableHash computeHash() {
+        final long[] headHash;
+        final long[] tailHash;
+        synchronized (group) {
+            group.hashUpTo(tailIndex);
+            headHash = group.runningHashBefore(headIndex, headSegment, headOffset);
+            tailHash = group.runningHashBefore(tailIndex, tailSegment, tailOffset);
+            group.releaseSegments();
+        }
+        final long exponent = power(size());
+        final byte[] result = new byte[DIGEST_TYPE.digestLength()];
+        for (int i = 0; i < HASH_LONGS; ++i) {
+            longToByteArray(tailHash[i] - headHash[i] * exponent, result, i * Long.BYTES);
+        }
+        return new ImmutableHash(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void setHash(final Hash hash) {
+        throw new UnsupportedOperationException("OffHeapFCQueue computes its own hash");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSelfHashing() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void serialize(final SerializableDataOutputStream out) throws IOException {
+        out.writeInt(size());
+        for (final Bytes element : this) {
+            out.writeInt((int) element.length());
+            element.writeTo(out);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void deserialize(final SerializableDataInputStream in, final int version) throws IOException {
+        final int size = in.readInt();
+        if (size < 0 || size > FCQueue.MAX_ELEMENTS) {
+            throw new IOException("invalid OffHeapFCQueue size: " + size);
+        }
+        for (int i = 0; i < size; i++) {
+            final int length = in.readInt();
+            if (length < 0) {
+                throw new IOException("invalid OffHeapFCQueue element length: " + length);
+            }
+            final byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            add(Bytes.wrap(bytes));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getClassId() {
+        return CLASS_ID;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getVersion() {
+        return ClassVersion.ORIGINAL;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof final OffHeapFCQueue that)) {
+            return false;
+        }
+        return size() == that.size() && Objects.equals(getHash(), that.getHash());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Integer.hashCode(size()) + Objects.hashCode(getHash());
+    }
+
+    /**
+     * Moves the head of this queue to the given position, keeping the registry of head segments up-to-date.
+     * Must be called while holding the lock of the group.
+     */
+    private void moveHead(final int segment, final int offset) {
+        if (segment != headSegment) {
+            group.unregisterHead(headSegment);
+            group.registerHead(segment);
+            headSegment = segment;
+            group.releaseSegments();
+        }
+        headOffset = offset;
+    }
+
+    private static boolean isEndOfSegment(@NonNull final ByteBuffer buffer, final int offset) {
+        return offset + Integer.BYTES > buffer.capacity() || buffer.getInt(offset) == END_OF_SEGMENT;
+    }
+
+    /**
+     * The segments of a queue group together with the progress of computing the running hashes of their records.
+     * All methods must be called while holding the lock of the group.
+     */
+    private static final class Group {
+        private final int segmentSize;
+
+        /** All segments ever allocated by the group, released segments are {@code null} */
+        private final ArrayList<ByteBuffer> buffers = new ArrayList<>();
+
+        /** The number of live queues with their head in a given segment */
+        private final TreeMap<Integer, Integer> heads = new TreeMap<>();
+
+        /** The first segment that has not been released */
+        private int firstLiveSegment;
+
+        /** The number of records ever appended to the group */
+        private long count;
+
+        /** The position where the next record is appended */
+        private int endSegment;
+
+        private int endOffset;
+
+        /** The position of the last appended record */
+        private int lastSegment;
+
+        private int lastOffset;
+
+        /** The number of records whose running hash (excluding the record itself) is known */
+        private long hashed;
+
+        /** The position of the record that is hashed next */
+        private int hashSegment;
+
+        private int hashOffset;
+
+        /** The running hash of all records, valid if {@code hashed == count + 1} */
+        private long[] endRunningHash = new long[HASH_LONGS];
+
+        /** The segment of the last position passed to {@link #nextOffset(int, int)} */
+        private int normalizedSegment;
+
+        private Group(final int segmentSize) {
+            this.segmentSize = segmentSize;
+            // the running hash before the very first record is zero
+            this.hashed = 1;
+        }
+
+        private void append(@NonNull final byte[] bytes) {
+            final int recordSize = HEADER_SIZE + bytes.length;
+            if (endSegment == buffers.size()
+                    || endOffset + recordSize > buffers.get(endSegment).capacity()) {
+                if (endSegment < buffers.size()) {
+                    final ByteBuffer current = buffers.get(endSegment);
+                    if (endOffset + Integer.BYTES <= current.capacity()) {
+                        current.putInt(endOffset, END_OF_SEGMENT);
+                    }
+                    endSegment++;
+                    endOffset = 0;
+                }
+                buffers.add(ByteBuffer.allocateDirect(Math.max(segmentSize, recordSize)));
+            }
+            final ByteBuffer buffer = buffers.get(endSegment);
+            buffer.putInt(endOffset, bytes.length);
+            if (hashed == count + 1) {
+                writeRunningHash(buffer, endOffset, endRunningHash);
+            }
+            buffer.put(endOffset + HEADER_SIZE, bytes);
+            lastSegment = endSegment;
+            lastOffset = endOffset;
+            endOffset += recordSize;
+            count++;
+        }
+
+        /**
+         * Reads the record at the given position, which is normalized first.
+         */
+        private @NonNull Bytes read(final int segment, final int offset) {
+            final int start = normalize(segment, offset);
+            final ByteBuffer buffer = buffers.get(normalizedSegment);
+            final byte[] bytes = new byte[buffer.getInt(start)];
+            buffer.get(start + HEADER_SIZE, bytes);
+            return Bytes.wrap(bytes);
+        }
+
+        /**
+         * Returns the offset of the record following the record at the given position. The segment of both records
+         * is stored in {@link #normalizedSegment}.
+         */
+        private int nextOffset(final int segment, final int offset) {
+            final int start = normalize(segment, offset);
+            return start + HEADER_SIZE + buffers.get(normalizedSegment).getInt(start);
+        }
+
+        /**
+         * Skips the end of a segment if the given position is there. The position must be the position of an
+         * existing record. The segment of the record is stored in {@link #normalizedSegment}.
+         *
+         * @return the offset of the record
+         */
+        private int normalize(final int segment, final int offset) {
+            if (isEndOfSegment(buffers.get(segment), offset)) {
+                normalizedSegment = segment + 1;
+                return 0;
+            }
+            normalizedSegment = segment;
+            return offset;
+        }
+
+        /**
+         * Computes the running hashes of all records up to, and including, the given record index.
+         */
+        private void hashUpTo(final long index) {
+            final Cryptography cryptography = CryptographyHolder.get();
+            while (hashed <= index) {
+                // the running hash of record (hashed - 1) is known, hash this record to get the next one
+                final int start = normalize(hashSegment, hashOffset);
+                final ByteBuffer buffer = buffers.get(normalizedSegment);
+                final byte[] bytes = new byte[buffer.getInt(start)];
+                buffer.get(start + HEADER_SIZE, bytes);
+                // return a hash of a hash, in order to make state proofs smaller in the future
+                final byte[] elementHash =
+                        cryptography.digestBytesSync(cryptography.digestSync(bytes, DIGEST_TYPE), DIGEST_TYPE);
+                final long[] runningHash = readRunningHash(buffer, start);
+                for (int i = 0; i < HASH_LONGS; ++i) {
+                    runningHash[i] = runningHash[i] * HASH_RADIX + byteArrayToLong(elementHash, i * Long.BYTES);
+                }
+                hashSegment = normalizedSegment;
+                hashOffset = start + HEADER_SIZE + bytes.length;
+                if (hashed < count) {
+                    final int next = normalize(hashSegment, hashOffset);
+                    writeRunningHash(buffers.get(normalizedSegment), next, runningHash);
+                } else {
+                    endRunningHash = runningHash;
+                }
+                hashed++;
+            }
+        }
+
+        /**
+         * Returns the running hash of all records before the record with the given index and position. The record
+         * does not need to exist yet, but its running hash must be known.
+         */
+        private @NonNull long[] runningHashBefore(final long index, final int segment, final int offset) {
+            if (index == count) {
+                return endRunningHash;
+            }
+            final int start = normalize(segment, offset);
+            return readRunningHash(buffers.get(normalizedSegment), start);
+        }
+
+        private @NonNull List<ByteBuffer> segments(final int from, final int to) {
+            // the tail may point at the end of the last segment that contains records of the queue
+            final int last = Math.min(to, buffers.size() - 1);
+            return new ArrayList<>(buffers.subList(from, last + 1));
+        }
+
+        private void registerHead(final int segment) {
+            heads.merge(segment, 1, Integer::sum);
+        }
+
+        private void unregisterHead(final int segment) {
+            heads.computeIfPresent(segment, (k, v) -> v == 1 ? null : v - 1);
+        }
+
+        /**
+         * Releases all segments before the first segment that is still needed by a live queue or for hashing.
+         */
+        private void releaseSegments() {
+            final int hashCursor = hashed == count + 1 ? endSegment : hashSegment;
+            final int firstNeeded = heads.isEmpty() ? hashCursor : Math.min(heads.firstKey(), hashCursor);
+            while (firstLiveSegment < firstNeeded && firstLiveSegment < buffers.size()) {
+                buffers.set(firstLiveSegment++, null);
+            }
+        }
+
+        private static @NonNull long[] readRunningHash(@NonNull final ByteBuffer buffer, final int offset) {
+            final long[] runningHash = new long[HASH_LONGS];
+            for (int i = 0; i < HASH_LONGS; i++) {
+                runningHash[i] = buffer.getLong(offset + Integer.BYTES + i * Long.BYTES);
+            }
+            return runningHash;
+        }
+
+        private static void writeRunningHash(
+                @NonNull final ByteBuffer buffer, final int offset, @NonNull final long[] runningHash) {
+            for (int i = 0; i < HASH_LONGS; i++) {
+                buffer.putLong(offset + Integer.BYTES + i * Long.BYTES, runningHash[i]);
+            }
+        }
+    }
+}
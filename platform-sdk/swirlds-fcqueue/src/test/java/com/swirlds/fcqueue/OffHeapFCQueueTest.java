@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.fcqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.base.state.MutabilityException;
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.common.test.fixtures.fcqueue.FCInt;
+import com.swirlds.common.test.fixtures.io.SerializationUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("OffHeapFCQueue Tests")
+class OffHeapFCQueueTest {
+
+    /** A segment size that only fits a handful of records, so that queues span many segments */
+    private static final int SMALL_SEGMENT_SIZE = 256;
+
+    @BeforeAll
+    static void setUp() throws ConstructableRegistryException {
+        final ConstructableRegistry registry = ConstructableRegistry.getInstance();
+        registry.registerConstructables("com.swirlds.fcqueue");
+        registry.registerConstructables("com.swirlds.common.merkle");
+        registry.registerConstructables("com.swirlds.common.test.fixtures.fcqueue");
+    }
+
+    @Test
+    @DisplayName("Elements are returned in insertion order")
+    void fifoOrder() {
+        final OffHeapFCQueue queue = new OffHeapFCQueue(SMALL_SEGMENT_SIZE);
+        for (int i = 0; i < 100; i++) {
+            queue.add(element(i));
+        }
+        assertEquals(100, queue.size());
+        assertEquals(element(0), queue.peek());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(element(i), queue.remove());
+        }
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peek());
+        assertNull(queue.poll());
+        assertThrows(NoSuchElementException.class, queue::remove);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {SMALL_SEGMENT_SIZE, OffHeapFCQueue.DEFAULT_SEGMENT_SIZE})
+    @DisplayName("Hash matches an FCQueue holding the same elements")
+    void hashMatchesFCQueue(final int segmentSize) {
+        final Random random = new Random(42);
+        final FCQueue<FCInt> expected = new FCQueue<>();
+        final OffHeapFCQueue queue = new OffHeapFCQueue(segmentSize);
+        assertEquals(expected.getHash(), queue.getHash());
+
+        for (int i = 0; i < 500; i++) {
+            if (random.nextInt(3) == 0 && !expected.isEmpty()) {
+                expected.remove();
+                queue.remove();
+            } else {
+                final FCInt value = new FCInt(random.nextInt());
+                expected.add(value);
+                queue.add(selfSerialized(value));
+            }
+            if (i % 50 == 0) {
+                assertEquals(expected.getHash(), queue.getHash(), "hash mismatch after " + i + " operations");
+            }
+        }
+        assertEquals(expected.getHash(), queue.getHash());
+    }
+
+    @Test
+    @DisplayName("Copies share records but not contents")
+    void copies() {
+        final OffHeapFCQueue original = new OffHeapFCQueue(SMALL_SEGMENT_SIZE);
+        for (int i = 0; i < 20; i++) {
+            original.add(element(i));
+        }
+        final OffHeapFCQueue copy = original.copy();
+        assertTrue(original.isImmutable());
+        assertThrows(MutabilityException.class, () -> original.add(element(0)));
+        assertThrows(MutabilityException.class, original::remove);
+
+        for (int i = 0; i < 15; i++) {
+            copy.remove();
+        }
+        for (int i = 20; i < 40; i++) {
+            copy.add(element(i));
+        }
+        final OffHeapFCQueue mutable = copy.copy();
+        mutable.clear();
+
+        assertEquals(range(0, 20), toList(original));
+        assertEquals(range(15, 40), toList(copy));
+        assertEquals(List.of(), toList(mutable));
+        assertEquals(new OffHeapFCQueue().getHash(), mutable.getHash());
+        assertNotEquals(original.getHash(), copy.getHash());
+
+        // releasing the oldest copy allows the segments before the head of the other copies to be released
+        original.release();
+        assertEquals(range(15, 40), toList(copy));
+        assertEquals(hashOf(range(15, 40)), copy.getHash());
+    }
+
+    @Test
+    @DisplayName("Iterators are not affected by later modifications")
+    void iteratorIsSnapshot() {
+        final OffHeapFCQueue queue = new OffHeapFCQueue(SMALL_SEGMENT_SIZE);
+        for (int i = 0; i < 10; i++) {
+            queue.add(element(i));
+        }
+        final var iterator = queue.iterator();
+        for (int i = 0; i < 10; i++) {
+            queue.remove();
+            queue.add(element(10 + i));
+        }
+        final List<Bytes> seen = new ArrayList<>();
+        iterator.forEachRemaining(seen::add);
+        assertEquals(range(0, 10), seen);
+    }
+
+    @Test
+    @DisplayName("Elements larger than a segment are supported")
+    void largeElements() {
+        final OffHeapFCQueue queue = new OffHeapFCQueue(SMALL_SEGMENT_SIZE);
+        final Bytes large = Bytes.wrap(new byte[SMALL_SEGMENT_SIZE * 3]);
+        queue.add(element(1));
+        queue.add(large);
+        queue.add(element(2));
+        assertEquals(List.of(element(1), large, element(2)), toList(queue));
+        assertEquals(hashOf(List.of(element(1), large, element(2))), queue.getHash());
+    }
+
+    @Test
+    @DisplayName("Serialization round trip")
+    void serialization() throws IOException {
+        final OffHeapFCQueue queue = new OffHeapFCQueue(SMALL_SEGMENT_SIZE);
+        for (int i = 0; i < 30; i++) {
+            queue.add(element(i));
+        }
+        for (int i = 0; i < 10; i++) {
+            queue.remove();
+        }
+        final OffHeapFCQueue copy = SerializationUtils.serializeDeserialize(queue);
+        assertEquals(range(10, 30), toList(copy));
+        assertEquals(queue.getHash(), copy.getHash());
+        assertEquals(queue, copy);
+    }
+
+    private static Bytes element(final int i) {
+        return Bytes.wrap(("element-" + i).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Bytes> range(final int from, final int to) {
+        final List<Bytes> list = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            list.add(element(i));
+        }
+        return list;
+    }
+
+    private static List<Bytes> toList(final OffHeapFCQueue queue) {
+        final List<Bytes> list = new ArrayList<>();
+        queue.forEach(list::add);
+        return list;
+    }
+
+    private static Object hashOf(final List<Bytes> elements) {
+        final OffHeapFCQueue queue = new OffHeapFCQueue();
+        elements.forEach(queue::add);
+        return queue.getHash();
+    }
+
+    private static Bytes selfSerialized(final FCInt value) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final SerializableDataOutputStream out = new SerializableDataOutputStream(bytes)) {
+            out.writeSerializable(value, true);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Bytes.wrap(bytes.toByteArray());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.logging.benchmark.swirldslog.async;
+
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.api.ConfigurationBuilder;
+import com.swirlds.logging.api.internal.LoggingSystem;
+import com.swirlds.logging.api.internal.configuration.ConfigLevelConverter;
+import com.swirlds.logging.api.internal.configuration.MarkerStateConverter;
+import com.swirlds.logging.benchmark.config.LoggingBenchmarkConfig;
+import com.swirlds.logging.benchmark.util.ConfigManagement;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+
+/**
+ * Convenience methods for configuring swirlds-logging logger with an asynchronous file handler
+ */
+public class AsyncSwirldsLogConfig implements LoggingBenchmarkConfig<LoggingSystem> {
+
+    private static final String BUFFER_SIZE = "8192";
+
+    private final String overflowPolicy;
+
+    /**
+     * @param overflowPolicy the overflow policy of the file handler, e.g. {@code BLOCK} or {@code DROP}
+     */
+    public AsyncSwirldsLogConfig(@NonNull final String overflowPolicy) {
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy, "overflowPolicy must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param logFile
+     */
+    public @NonNull LoggingSystem configureFileLogging(final String logFile) {
+        final Configuration configuration = ConfigurationBuilder.create()
+                .withConverter(new ConfigLevelConverter())
+                .withConverter(new MarkerStateConverter())
+                .withValue("logging.level", "trace")
+                .withValue("logging.handler.file.type", "file")
+                .withValue("logging.handler.file.enabled", "true")
+                .withValue("logging.handler.file.formatTimestamp", ConfigManagement.formatTimestamp() + "")
+                .withValue("logging.handler.file.level", "trace")
+                .withValue("logging.handler.file.file", logFile)
+                .withValue("logging.handler.file.async", "true")
+                .withValue("logging.handler.file.async.bufferSize", BUFFER_SIZE)
+                .withValue("logging.handler.file.async.overflowPolicy", overflowPolicy)
+                .build();
+
+        return configure(configuration);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public @NonNull LoggingSystem configureConsoleLogging() {
+        final Configuration configuration = ConfigurationBuilder.create()
+                .withConverter(new ConfigLevelConverter())
+                .withConverter(new MarkerStateConverter())
+                .withValue("logging.level", "trace")
+                .withValue("logging.handler.console.type", "console")
+                .withValue("logging.handler.console.enabled", "true")
+                .withValue("logging.handler.console.formatTimestamp", ConfigManagement.formatTimestamp() + "")
+                .withValue("logging.handler.console.level", "trace")
+                .build();
+
+        return configure(configuration);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param logFile
+     */
+    public @NonNull LoggingSystem configureFileAndConsoleLogging(final String logFile) {
+        final Configuration configuration = ConfigurationBuilder.create()
+                .withConverter(new ConfigLevelConverter())
+                .withConverter(new MarkerStateConverter())
+                .withValue("logging.level", "trace")
+                .withValue("logging.handler.file.type", "file")
+                .withValue("logging.handler.file.enabled", "true")
+                .withValue("logging.handler.file.formatTimestamp", ConfigManagement.formatTimestamp() + "")
+                .withValue("logging.handler.file.level", "trace")
+                .withValue("logging.handler.file.file", logFile)
+                .withValue("logging.handler.file.async", "true")
+                .withValue("logging.handler.file.async.bufferSize", BUFFER_SIZE)
+                .withValue("logging.handler.file.async.overflowPolicy", overflowPolicy)
+                .withValue("logging.handler.console.type", "console")
+                .withValue("logging.handler.console.enabled", "true")
+                .withValue("logging.handler.console.formatTimestamp", ConfigManagement.formatTimestamp() + "")
+                .withValue("logging.handler.console.level", "trace")
+                .build();
+
+        return configure(configuration);
+    }
+
+    @NonNull
+    private LoggingSystem configure(@NonNull final Configuration configuration) {
+        LoggingSystem loggingSystem = new LoggingSystem(configuration);
+        loggingSystem.installHandlers();
+        loggingSystem.installProviders();
+        return loggingSystem;
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.logging.file;
+
+import com.swirlds.logging.api.Level;
+import com.swirlds.logging.api.extensions.emergency.EmergencyLogger;
+import com.swirlds.logging.api.extensions.emergency.EmergencyLoggerProvider;
+import com.swirlds.logging.api.extensions.event.LogEvent;
+import com.swirlds.logging.api.internal.event.MutableLogEvent;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Hands log events over from any number of logging threads to a single background writer thread.
+ * <p>
+ * The events are stored in a bounded multi-producer single-consumer ring buffer of pre-allocated
+ * {@link MutableLogEvent} slots. A logging thread claims a slot with a single CAS and copies the fields of its event
+ * into it, so that the caller is free to reuse its own event instance. Every slot has a sequence number that tells the
+ * producers when the slot is free and the writer when the slot has been published. No locks are held on either side.
+ * <p>
+ * The writer thread passes all published events to the event consumer and calls the end-of-batch callback whenever it
+ * has caught up with the producers. If the buffer is empty, the writer parks until a producer wakes it up.
+ * <p>
+ * What happens to an event if the buffer is full is defined by the {@link OverflowPolicy}.
+ */
+final class AsyncLogEventWriter {
+
+    private static final EmergencyLogger EMERGENCY_LOGGER = EmergencyLoggerProvider.getEmergencyLogger();
+
+    /**
+     * The maximum time the writer parks if the buffer is empty
+     */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * The time a logging thread parks before it checks again for a free slot
+     */
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final String name;
+    private final int capacity;
+    private final int mask;
+    private final MutableLogEvent[] slots;
+
+    /**
+     * The sequence number of each slot. If it equals the producer position, the slot is free. If it equals the producer
+     * position plus one, the slot has been published.
+     */
+    private final AtomicLongArray sequences;
+
+    /**
+     * The next position that is claimed by a producer
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The next position that is read by the writer. Only accessed by the writer thread.
+     */
+    private long head;
+
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final AtomicLong overflowed = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * The number of dropped events that have already been reported. Only accessed by the writer thread.
+     */
+    private long reportedDropped;
+
+    private final Consumer<LogEvent> eventConsumer;
+    private final Runnable endOfBatch;
+    private final Thread writerThread;
+    private volatile boolean writerParked;
+    private volatile boolean running;
+
+    /**
+     * Creates a new writer and starts its background thread.
+     *
+     * @param name           the name of the handler, used for the name of the thread and for error messages
+     * @param capacity       the number of slots in the ring buffer, rounded up to the next power of two
+     * @param overflowPolicy what to do with an event if the buffer is full
+     * @param sampleRate     for {@link OverflowPolicy#SAMPLE}, one out of {@code sampleRate} overflowing events is kept
+     * @param eventConsumer  called on the writer thread for every event; the event must not be used after the call
+     * @param endOfBatch     called on the writer thread whenever all published events have been consumed
+     * @throws IllegalArgumentException if {@code capacity} or {@code sampleRate} is not positive
+     */
+    AsyncLogEventWriter(
+            @NonNull final String name,
+            final int capacity,
+            @NonNull final OverflowPolicy overflowPolicy,
+            final int sampleRate,
+            @NonNull final Consumer<LogEvent> eventConsumer,
+            @NonNull final Runnable endOfBatch) {
+        this.name = Objects.requireNonNull(name, "name must not be null");
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy, "overflowPolicy must not be null");
+        this.eventConsumer = Objects.requireNonNull(eventConsumer, "eventConsumer must not be null");
+        this.endOfBatch = Objects.requireNonNull(endOfBatch, "endOfBatch must not be null");
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30, but is " + capacity);
+        }
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("sampleRate must be positive, but is " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+        this.capacity = 1 << (Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1));
+        this.mask = this.capacity - 1;
+        this.slots = new MutableLogEvent[this.capacity];
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            slots[i] = new MutableLogEvent();
+            sequences.set(i, i);
+        }
+
+        this.running = true;
+        this.writerThread = new Thread(this::run, "swirlds-logging-" + name);
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Hands the event over to the writer thread. The fields of the event are copied, so the caller may reuse the event
+     * instance once this method returns.
+     *
+     * @param event the event
+     * @return {@code false} if the writer has been stopped and the event has not been handled, {@code true} otherwise
+     * (including the case that the event has been dropped because of the overflow policy)
+     */
+    boolean offer(@NonNull final LogEvent event) {
+        if (!running) {
+            return false;
+        }
+        if (tryPublish(event)) {
+            return true;
+        }
+        return switch (overflowPolicy) {
+            case BLOCK -> publishBlocking(event);
+            case SAMPLE -> event.level() == Level.ERROR || overflowed.incrementAndGet() % sampleRate == 0
+                    ? publishBlocking(event)
+                    : drop();
+            case DROP -> drop();
+        };
+    }
+
+    /**
+     * Returns the number of events that have been dropped because the buffer was full.
+     *
+     * @return the number of dropped events
+     */
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of slots of the ring buffer.
+     *
+     * @return the capacity
+     */
+    int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Stops the writer thread after it has consumed all events that have been published so far. Events offered after
+     * this call are rejected.
+     */
+    void stop() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        boolean interrupted = false;
+        while (writerThread.isAlive()) {
+            try {
+                writerThread.join();
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean tryPublish(@NonNull final LogEvent event) {
+        long position = tail.get();
+        while (true) {
+            final int index = (int) (position & mask);
+            final long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index].update(
+                            event.level(),
+                            event.loggerName(),
+                            event.threadName(),
+                            event.timestamp(),
+                            event.message(),
+                            event.throwable(),
+                            event.marker(),
+                            event.context());
+                    sequences.set(index, position + 1);
+                    if (writerParked) {
+                        LockSupport.unpark(writerThread);
+                    }
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // the slot still holds an event from the previous lap, i.e. the buffer is full
+                return false;
+            } else {
+                // another producer claimed this position in the meantime
+                position = tail.get();
+            }
+        }
+    }
+
+    private boolean drop() {
+        dropped.increment();
+        return true;
+    }
+
+    private boolean publishBlocking(@NonNull final LogEvent event) {
+        while (running) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+            if (tryPublish(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void run() {
+        while (running) {
+            if (drain() == 0) {
+                writerParked = true;
+                // check again after announcing that we park, a producer that published in between will unpark us
+                if (running && isEmpty()) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                writerParked = false;
+            }
+            reportDropped();
+        }
+        drain();
+        reportDropped();
+    }
+
+    private boolean isEmpty() {
+        return sequences.get((int) (head & mask)) != head + 1;
+    }
+
+    /**
+     * Consumes all published events.
+     *
+     * @return the number of consumed events
+     */
+    private int drain() {
+        int count = 0;
+        while (!isEmpty()) {
+            final int index = (int) (head & mask);
+            try {
+                eventConsumer.accept(slots[index]);
+            } catch (final RuntimeException e) {
+                EMERGENCY_LOGGER.log(Level.ERROR, "Failed to write log event in handler " + name, e);
+            }
+            sequences.set(index, head + capacity);
+            head++;
+            count++;
+        }
+        if (count > 0) {
+            try {
+                endOfBatch.run();
+            } catch (final RuntimeException e) {
+                EMERGENCY_LOGGER.log(Level.ERROR, "Failed to write log events in handler " + name, e);
+            }
+        }
+        return count;
+    }
+
+    private void reportDropped() {
+        final long droppedCount = dropped.sum();
+        if (droppedCount != reportedDropped) {
+            EMERGENCY_LOGGER.log(
+                    Level.WARN,
+                    (droppedCount - reportedDropped) + " log events have been dropped by handler " + name
+                            + " because its buffer was full");
+            reportedDropped = droppedCount;
+        }
+    }
+}
@@ -16,17 +16,21 @@
 
 package com.swirlds.logging.file;
 
+import static com.swirlds.logging.api.extensions.handler.LogHandler.PROPERTY_HANDLER;
+
 import com.swirlds.config.api.Configuration;
 import com.swirlds.logging.api.Level;
 import com.swirlds.logging.api.extensions.event.LogEvent;
 import com.swirlds.logging.api.extensions.handler.AbstractLogHandler;
 import com.swirlds.logging.api.internal.format.FormattedLinePrinter;
 import com.swirlds.logging.io.OutputStreamFactory;
+import com.swirlds.logging.utils.ConfigUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Locale;
 
 /**
  * A {@link com.swirlds.logging.api.extensions.handler.LogHandler} that writes log events to a file with optional rolling based on size.
@@ -42,6 +46,11 @@ import java.nio.file.Path;
  * <p>
  * The handler can be optionally buffered for improved performance.
  * <p>
+ * If {@code async} is enabled, the calling thread only copies the event into a pre-allocated ring buffer and a single
+ * background thread formats the events and writes them to the file in batches. Logging threads then never hold the
+ * lock of the output stream. If the ring buffer is full, the configured {@link OverflowPolicy} decides whether the
+ * logging thread waits or the event is dropped.
+ * <p>
  * The handler can be configured with the following properties:
  * <ul>
  *     <li>{@code file} - The {@link Path} of the log file.</li>
@@ -49,14 +58,35 @@ import java.nio.file.Path;
  *     <li>{@code formatTimestamp} - If set to true, epoch values are formatted as human-readable strings.</li>
  *     <li>{@code file-rolling.maxFileSize} - Maximum size of the file for size-based rolling.</li>
  *     <li>{@code file-rolling.maxFiles} - Maximum number of files used for rolling.</li>
+ *     <li>{@code async} - If set to true, events are written by a background thread.</li>
+ *     <li>{@code async.bufferSize} - Number of events the ring buffer can hold, rounded up to a power of two.</li>
+ *     <li>{@code async.overflowPolicy} - {@code BLOCK} (default), {@code DROP}, or {@code SAMPLE}.</li>
+ *     <li>{@code async.sampleRate} - For {@code SAMPLE}, one out of this many overflowing events is kept.</li>
  * </ul>
  */
 public class FileHandler extends AbstractLogHandler {
 
+    private static final String ASYNC_PROPERTY = ".async";
+    private static final String ASYNC_BUFFER_SIZE_PROPERTY = ".async.bufferSize";
+    private static final String ASYNC_OVERFLOW_POLICY_PROPERTY = ".async.overflowPolicy";
+    private static final String ASYNC_SAMPLE_RATE_PROPERTY = ".async.sampleRate";
+    private static final int DEFAULT_ASYNC_BUFFER_SIZE = 8192;
+    private static final int DEFAULT_ASYNC_SAMPLE_RATE = 10;
     private static final int EVENT_LOG_PRINTER_SIZE = 4 * 1024;
+    private static final int ASYNC_BATCH_SIZE = 16 * 1024;
     private final OutputStream outputStream;
     private final FormattedLinePrinter format;
 
+    /**
+     * The background writer, or {@code null} if the handler writes on the calling thread
+     */
+    private final AsyncLogEventWriter asyncWriter;
+
+    /**
+     * Collects the formatted events of a batch. Only used by the background writer thread.
+     */
+    private final StringBuilder batch;
+
     /**
      * Creates a new file handler.
      *
@@ -77,6 +107,33 @@ public class FileHandler extends AbstractLogHandler {
         } catch (IOException e) {
             throw new IOException("Could not create FileHandler", e);
         }
+
+        final String propertyPrefix = PROPERTY_HANDLER.formatted(handlerName);
+        if (ConfigUtils.configValueOrElse(configuration, propertyPrefix + ASYNC_PROPERTY, Boolean.class, false)) {
+            final int bufferSize = ConfigUtils.configValueOrElse(
+                    configuration,
+                    propertyPrefix + ASYNC_BUFFER_SIZE_PROPERTY,
+                    Integer.class,
+                    DEFAULT_ASYNC_BUFFER_SIZE);
+            final OverflowPolicy overflowPolicy = OverflowPolicy.valueOf(ConfigUtils.configValueOrElse(
+                            configuration,
+                            propertyPrefix + ASYNC_OVERFLOW_POLICY_PROPERTY,
+                            String.class,
+                            OverflowPolicy.BLOCK.name())
+                    .trim()
+                    .toUpperCase(Locale.ROOT));
+            final int sampleRate = ConfigUtils.configValueOrElse(
+                    configuration,
+                    propertyPrefix + ASYNC_SAMPLE_RATE_PROPERTY,
+                    Integer.class,
+                    DEFAULT_ASYNC_SAMPLE_RATE);
+            this.batch = new StringBuilder(ASYNC_BATCH_SIZE + EVENT_LOG_PRINTER_SIZE);
+            this.asyncWriter = new AsyncLogEventWriter(
+                    handlerName, bufferSize, overflowPolicy, sampleRate, this::append, this::writeBatch);
+        } else {
+            this.batch = null;
+            this.asyncWriter = null;
+        }
     }
 
     /**
@@ -86,6 +143,13 @@ public class FileHandler extends AbstractLogHandler {
      */
     @Override
     public void handle(@NonNull final LogEvent event) {
+        if (asyncWriter != null) {
+            if (!asyncWriter.offer(event)) {
+                // the handler has been stopped
+                EMERGENCY_LOGGER.log(event);
+            }
+            return;
+        }
         final StringBuilder writer = new StringBuilder(EVENT_LOG_PRINTER_SIZE);
         format.print(writer, event);
         try {
@@ -97,6 +161,34 @@ public class FileHandler extends AbstractLogHandler {
         }
     }
 
+    /**
+     * Formats an event into the current batch. Called by the background writer thread.
+     *
+     * @param event the event
+     */
+    private void append(@NonNull final LogEvent event) {
+        format.print(batch, event);
+        if (batch.length() >= ASYNC_BATCH_SIZE) {
+            writeBatch();
+        }
+    }
+
+    /**
+     * Writes the current batch to the file. Called by the background writer thread.
+     */
+    private void writeBatch() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            this.outputStream.write(batch.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (final Exception exception) {
+            EMERGENCY_LOGGER.log(Level.ERROR, "Failed to write to file output stream", exception);
+        } finally {
+            batch.setLength(0);
+        }
+    }
+
     /**
      * All content for this handler that has been buffered will be written to destination.
      */
@@ -115,6 +207,9 @@ public class FileHandler extends AbstractLogHandler {
     @Override
     public void stopAndFinalize() {
         super.stopAndFinalize();
+        if (asyncWriter != null) {
+            asyncWriter.stop();
+        }
         try {
             outputStream.close();
         } catch (final Exception exception) {
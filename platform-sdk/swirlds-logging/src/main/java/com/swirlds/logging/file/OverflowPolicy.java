@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.logging.file;
+
+/**
+ * Defines what an asynchronous {@link FileHandler} does with a log event if its ring buffer is full, i.e. if events
+ * are logged faster than the background writer can write them.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * The logging thread waits until the writer has freed a slot. No event is lost, but logging threads are slowed
+     * down to the speed of the writer.
+     */
+    BLOCK,
+
+    /**
+     * The event is dropped and counted. Logging threads are never slowed down. The number of dropped events is reported
+     * by the emergency logger.
+     */
+    DROP,
+
+    /**
+     * Only every n-th overflowing event is kept (by waiting for a free slot) and all others are dropped and counted.
+     * Events with level {@link com.swirlds.logging.api.Level#ERROR} are always kept.
+     */
+    SAMPLE
+}
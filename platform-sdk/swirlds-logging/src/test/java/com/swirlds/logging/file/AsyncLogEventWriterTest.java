@@ -0,0 +1,250 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.logging.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.logging.api.Level;
+import com.swirlds.logging.api.extensions.event.LogEvent;
+import com.swirlds.logging.api.internal.event.MutableLogEvent;
+import com.swirlds.logging.api.internal.event.SimpleLogMessage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AsyncLogEventWriterTest {
+
+    private static LogEvent event(final Level level, final String message) {
+        final MutableLogEvent event = new MutableLogEvent();
+        event.update(
+                level,
+                "logger",
+                Thread.currentThread().getName(),
+                System.currentTimeMillis(),
+                new SimpleLogMessage(message),
+                null,
+                null,
+                Map.of());
+        return event;
+    }
+
+    @Test
+    void testEventsAreWrittenInOrder() {
+        // given
+        final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        final AsyncLogEventWriter writer = new AsyncLogEventWriter(
+                "test", 16, OverflowPolicy.BLOCK, 1, e -> messages.add(e.message().getMessage()), () -> {});
+
+        // when
+        final MutableLogEvent reused = new MutableLogEvent();
+        for (int i = 0; i < 1000; i++) {
+            final LogEvent source = event(Level.INFO, "message-" + i);
+            reused.update(
+                    source.level(),
+                    source.loggerName(),
+                    source.threadName(),
+                    source.timestamp(),
+                    source.message(),
+                    null,
+                    null,
+                    Map.of());
+            writer.offer(reused);
+        }
+        writer.stop();
+
+        // then
+        assertThat(messages).hasSize(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(messages.get(i)).isEqualTo("message-" + i);
+        }
+        assertThat(writer.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void testConcurrentProducers() throws InterruptedException {
+        // given
+        final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        final AsyncLogEventWriter writer = new AsyncLogEventWriter(
+                "test", 64, OverflowPolicy.BLOCK, 1, e -> messages.add(e.message().getMessage()), () -> {});
+        final int threadCount = 8;
+        final int eventsPerThread = 10_000;
+
+        // when
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            final int threadIndex = t;
+            final Thread thread = new Thread(() -> {
+                for (int i = 0; i < eventsPerThread; i++) {
+                    writer.offer(event(Level.INFO, threadIndex + "-" + i));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        writer.stop();
+
+        // then
+        assertThat(messages).hasSize(threadCount * eventsPerThread).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void testDropPolicyCountsDroppedEvents() throws InterruptedException {
+        // given
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        final AsyncLogEventWriter writer = new AsyncLogEventWriter(
+                "test",
+                4,
+                OverflowPolicy.DROP,
+                1,
+                e -> {
+                    awaitQuietly(release);
+                    messages.add(e.message().getMessage());
+                },
+                () -> {});
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            writer.offer(event(Level.INFO, "message-" + i));
+        }
+        release.countDown();
+        writer.stop();
+
+        // then
+        assertThat(writer.getDroppedCount()).isPositive();
+        assertThat(messages.size() + writer.getDroppedCount()).isEqualTo(100);
+    }
+
+    @Test
+    void testSamplePolicyKeepsErrors() {
+        // given
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Level> levels = Collections.synchronizedList(new ArrayList<>());
+        final AsyncLogEventWriter writer = new AsyncLogEventWriter(
+                "test",
+                4,
+                OverflowPolicy.SAMPLE,
+                Integer.MAX_VALUE,
+                e -> {
+                    awaitQuietly(release);
+                    levels.add(e.level());
+                },
+                () -> {});
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            writer.offer(event(Level.INFO, "info-" + i));
+        }
+        final Thread errorLogger = new Thread(() -> writer.offer(event(Level.ERROR, "error")));
+        errorLogger.start();
+        release.countDown();
+        joinQuietly(errorLogger);
+        writer.stop();
+
+        // then
+        assertThat(levels).contains(Level.ERROR);
+        assertThat(writer.getDroppedCount()).isPositive();
+        assertThat(levels.size() + writer.getDroppedCount()).isEqualTo(101);
+    }
+
+    @Test
+    void testOfferAfterStopIsRejected() {
+        // given
+        final AsyncLogEventWriter writer =
+                new AsyncLogEventWriter("test", 4, OverflowPolicy.BLOCK, 1, e -> {}, () -> {});
+
+        // when
+        writer.stop();
+
+        // then
+        assertThat(writer.offer(event(Level.INFO, "message"))).isFalse();
+    }
+
+    @Test
+    void testCapacityIsRoundedToPowerOfTwo() {
+        final AsyncLogEventWriter writer =
+                new AsyncLogEventWriter("test", 1000, OverflowPolicy.BLOCK, 1, e -> {}, () -> {});
+        writer.stop();
+
+        assertThat(writer.getCapacity()).isEqualTo(1024);
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new AsyncLogEventWriter("test", 0, OverflowPolicy.BLOCK, 1, e -> {}, () -> {}));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new AsyncLogEventWriter("test", 4, OverflowPolicy.SAMPLE, 0, e -> {}, () -> {}));
+    }
+
+    @Test
+    void testAsyncFileHandler(@TempDir final Path tempDir) throws IOException {
+        // given
+        final Path logFile = tempDir.resolve("async.log");
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue("logging.handler.file.enabled", "true")
+                .withValue("logging.handler.file.type", "file")
+                .withValue("logging.handler.file.formatTimestamp", "false")
+                .withValue("logging.handler.file.file", logFile.toString())
+                .withValue("logging.handler.file.async", "true")
+                .withValue("logging.handler.file.async.bufferSize", "16")
+                .withValue("logging.handler.file.async.overflowPolicy", "block")
+                .getOrCreateConfig();
+        final FileHandler handler = new FileHandler("file", configuration, true);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            handler.handle(event(Level.INFO, "message-" + i));
+        }
+        handler.stopAndFinalize();
+
+        // then
+        final List<String> lines = Files.readAllLines(logFile);
+        assertThat(lines).hasSize(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(lines.get(i)).endsWith("message-" + i);
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void joinQuietly(final Thread thread) {
+        try {
+            thread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
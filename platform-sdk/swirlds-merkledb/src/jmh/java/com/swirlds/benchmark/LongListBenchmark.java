@@ -17,7 +17,9 @@
 package com.swirlds.benchmark;
 
 import com.swirlds.merkledb.collections.LongList;
+import com.swirlds.merkledb.collections.LongListDisk;
 import com.swirlds.merkledb.collections.LongListHeap;
+import com.swirlds.merkledb.collections.LongListMapped;
 import com.swirlds.merkledb.collections.LongListOffHeap;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryPoolMXBean;
@@ -37,6 +39,7 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
 @State(Scope.Thread)
@@ -52,7 +55,7 @@ public class LongListBenchmark {
     private LongList list;
     private int nextIndex = INITIAL_DATA_SIZE;
 
-    @Param({"LongListHeap", "LongListOffHeap"})
+    @Param({"LongListHeap", "LongListOffHeap", "LongListDisk", "LongListMapped"})
     public String listImpl;
 
     @Setup(Level.Trial)
@@ -60,7 +63,9 @@ public class LongListBenchmark {
         random = new Random(1234);
         list = switch (listImpl) {
             default -> new LongListHeap();
-            case "LongListOffHeap" -> new LongListOffHeap();};
+            case "LongListOffHeap" -> new LongListOffHeap();
+            case "LongListDisk" -> new LongListDisk();
+            case "LongListMapped" -> new LongListMapped();};
         // fill with some data
         for (int i = 0; i < INITIAL_DATA_SIZE; i++) {
             list.put(i, i + 1);
@@ -70,6 +75,11 @@ public class LongListBenchmark {
         printMemoryUsage();
     }
 
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        list.close();
+    }
+
     @Setup(Level.Invocation)
     public void randomIndex() {
         randomIndex = random.nextInt(INITIAL_DATA_SIZE - 1) + 1;
@@ -543,6 +543,8 @@ public final class MerkleDb {
      * folder otherwise.
      *
      * <p>This method must be called before the database instance is created in the target folder.
+     * It is synchronized, since the data sources of a saved state may be restored in parallel, and
+     * only the first call for a target folder restores the database.
      *
      * @param source Source folder
      * @param target Target folder, optional. If {@code null}, the default MerkleDb folder is used
@@ -550,7 +552,7 @@ public final class MerkleDb {
      * @throws IOException If an I/O error occurs
      * @throws IllegalStateException If the default database instance is already created
      */
-    public static MerkleDb restore(final Path source, final Path target) throws IOException {
+    public static synchronized MerkleDb restore(final Path source, final Path target) throws IOException {
         final Path defaultInstancePath = (target != null) ? target : getDefaultPath();
         if (!Files.exists(defaultInstancePath.resolve(METADATA_FILENAME))) {
             Files.createDirectories(defaultInstancePath);
@@ -40,6 +40,7 @@ import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.merkledb.collections.HashListByteBuffer;
 import com.swirlds.merkledb.collections.LongList;
 import com.swirlds.merkledb.collections.LongListDisk;
+import com.swirlds.merkledb.collections.LongListMapped;
 import com.swirlds.merkledb.collections.LongListOffHeap;
 import com.swirlds.merkledb.collections.OffHeapUser;
 import com.swirlds.merkledb.files.DataFileCollection.LoadedDataCallback;
@@ -238,21 +239,28 @@ public final class MerkleDbDataSource implements VirtualDataSource {
 
         // create path to disk location index
         final boolean forceIndexRebuilding = database.getConfig().indexRebuildingEnforced();
+        final boolean memoryMappedIndices = database.getConfig().memoryMappedIndices();
         if (tableConfig.isPreferDiskBasedIndices()) {
             pathToDiskLocationInternalNodes = new LongListDisk(dbPaths.pathToDiskLocationInternalNodesFile);
         } else if (Files.exists(dbPaths.pathToDiskLocationInternalNodesFile) && !forceIndexRebuilding) {
-            pathToDiskLocationInternalNodes = new LongListOffHeap(dbPaths.pathToDiskLocationInternalNodesFile);
+            pathToDiskLocationInternalNodes = memoryMappedIndices
+                    ? new LongListMapped(dbPaths.pathToDiskLocationInternalNodesFile)
+                    : new LongListOffHeap(dbPaths.pathToDiskLocationInternalNodesFile);
         } else {
-            pathToDiskLocationInternalNodes = new LongListOffHeap();
+            pathToDiskLocationInternalNodes = memoryMappedIndices ? new LongListMapped() : new LongListOffHeap();
         }
         // path to disk location index, leaf nodes
         if (tableConfig.isPreferDiskBasedIndices()) {
             pathToDiskLocationLeafNodes = new LongListDisk(dbPaths.pathToDiskLocationLeafNodesFile);
         } else if (Files.exists(dbPaths.pathToDiskLocationLeafNodesFile) && !forceIndexRebuilding) {
-            pathToDiskLocationLeafNodes = new LongListOffHeap(dbPaths.pathToDiskLocationLeafNodesFile);
+            pathToDiskLocationLeafNodes = memoryMappedIndices
+                    ? new LongListMapped(dbPaths.pathToDiskLocationLeafNodesFile)
+                    : new LongListOffHeap(dbPaths.pathToDiskLocationLeafNodesFile);
         } else {
-            pathToDiskLocationLeafNodes =
-                    new LongListOffHeap(database.getConfig().reservedBufferLengthForLeafList());
+            final int reservedBufferLength = database.getConfig().reservedBufferLengthForLeafList();
+            pathToDiskLocationLeafNodes = memoryMappedIndices
+                    ? new LongListMapped(reservedBufferLength)
+                    : new LongListOffHeap(reservedBufferLength);
         }
 
         // internal node hashes store, RAM
@@ -608,7 +616,9 @@ public final class MerkleDbDataSource implements VirtualDataSource {
 
         statisticsUpdater.countLeafReads();
         // Go ahead and lookup the value.
+        final long readStart = System.nanoTime();
         VirtualLeafBytes leafBytes = VirtualLeafBytes.parseFrom(pathToKeyValue.get(path));
+        statisticsUpdater.recordLeafReadTime(System.nanoTime() - readStart);
         assert leafBytes != null && leafBytes.keyBytes().equals(keyBytes);
 
         if (leafRecordCache != null) {
@@ -638,7 +648,10 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             return null;
         }
         statisticsUpdater.countLeafReads();
-        return VirtualLeafBytes.parseFrom(pathToKeyValue.get(path));
+        final long readStart = System.nanoTime();
+        final VirtualLeafBytes leafBytes = VirtualLeafBytes.parseFrom(pathToKeyValue.get(path));
+        statisticsUpdater.recordLeafReadTime(System.nanoTime() - readStart);
+        return leafBytes;
     }
 
     /**
@@ -699,7 +712,9 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             hash = hashStoreRam.get(path);
             // Should count hash reads here, too?
         } else {
+            final long readStart = System.nanoTime();
             final VirtualHashRecord rec = VirtualHashRecord.parseFrom(hashStoreDisk.get(path));
+            statisticsUpdater.recordHashReadTime(System.nanoTime() - readStart);
             hash = (rec != null) ? rec.hash() : null;
             statisticsUpdater.countHashReads();
         }
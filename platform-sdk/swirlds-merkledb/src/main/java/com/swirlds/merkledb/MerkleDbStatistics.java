@@ -19,6 +19,7 @@ package com.swirlds.merkledb;
 import com.swirlds.merkledb.config.MerkleDbConfig;
 import com.swirlds.metrics.api.DoubleAccumulator;
 import com.swirlds.metrics.api.FloatFormats;
+import com.swirlds.metrics.api.Histogram;
 import com.swirlds.metrics.api.IntegerGauge;
 import com.swirlds.metrics.api.LongAccumulator;
 import com.swirlds.metrics.api.Metrics;
@@ -58,6 +59,10 @@ public class MerkleDbStatistics {
     private LongAccumulator leafReads;
     /** Leaf keys - reads / s */
     private LongAccumulator leafKeyReads;
+    /** Hashes - distribution of read times in ns */
+    private Histogram hashReadTimeNs;
+    /** Leaves - distribution of read times in ns */
+    private Histogram leafReadTimeNs;
 
     /** Hashes store - file count */
     private IntegerGauge hashesStoreFileCount;
@@ -149,6 +154,11 @@ public class MerkleDbStatistics {
                 .withDescription(description));
     }
 
+    private static Histogram buildHistogram(final Metrics metrics, final String name, final String description) {
+        return metrics.getOrCreate(
+                new Histogram.Config(STAT_CATEGORY, name).withDescription(description).withUnit("ns"));
+    }
+
     private static DoubleAccumulator buildDoubleAccumulator(
             final Metrics metrics, final String name, final String description) {
         return metrics.getOrCreate(new DoubleAccumulator.Config(STAT_CATEGORY, name)
@@ -175,6 +185,10 @@ public class MerkleDbStatistics {
                 metrics, DS_PREFIX + READS_PREFIX + "leaves_" + label, "Number of leaf reads, " + label);
         leafKeyReads = buildLongAccumulator(
                 metrics, DS_PREFIX + READS_PREFIX + "leafKeys_" + label, "Number of leaf key reads, " + label);
+        hashReadTimeNs = buildHistogram(
+                metrics, DS_PREFIX + READS_PREFIX + "hashesTimeNs_" + label, "Hash read time, " + label + ", ns");
+        leafReadTimeNs = buildHistogram(
+                metrics, DS_PREFIX + READS_PREFIX + "leavesTimeNs_" + label, "Leaf read time, " + label + ", ns");
 
         // File counts and sizes
         hashesStoreFileCount = metrics.getOrCreate(
@@ -324,6 +338,30 @@ public class MerkleDbStatistics {
         }
     }
 
+    /**
+     * Records a value in the {@link #hashReadTimeNs} stat
+     *
+     * @param nanos
+     * 		the time it took to read a hash from disk, in nanoseconds
+     */
+    public void recordHashReadTime(final long nanos) {
+        if (hashReadTimeNs != null) {
+            hashReadTimeNs.update(nanos);
+        }
+    }
+
+    /**
+     * Records a value in the {@link #leafReadTimeNs} stat
+     *
+     * @param nanos
+     * 		the time it took to read a leaf from disk, in nanoseconds
+     */
+    public void recordLeafReadTime(final long nanos) {
+        if (leafReadTimeNs != null) {
+            leafReadTimeNs.update(nanos);
+        }
+    }
+
     /**
      * Set the current value for the {@link #hashesStoreFileCount} stat
      *
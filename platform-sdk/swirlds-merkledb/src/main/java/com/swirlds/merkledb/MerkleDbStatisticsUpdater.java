@@ -167,6 +167,16 @@ public class MerkleDbStatisticsUpdater {
         statistics.countHashReads();
     }
 
+    /** Updates statistics with the time of a single leaf read. */
+    void recordLeafReadTime(final long nanos) {
+        statistics.recordLeafReadTime(nanos);
+    }
+
+    /** Updates statistics with the time of a single hash read. */
+    void recordHashReadTime(final long nanos) {
+        statistics.recordHashReadTime(nanos);
+    }
+
     /** Increments count of leaves written during a flush*/
     void countFlushLeavesWritten() {
         statistics.countFlushLeavesWritten(1);
@@ -0,0 +1,281 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.merkledb.collections;
+
+import static java.lang.Math.toIntExact;
+import static java.util.Objects.requireNonNullElse;
+
+import com.swirlds.common.io.utility.LegacyTemporaryFileBuilder;
+import com.swirlds.merkledb.utilities.MemoryUtils;
+import com.swirlds.merkledb.utilities.MerkleDbFileUtils;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link LongList} that stores its contents in memory-mapped chunks of a temporary file. Like
+ * {@link LongListDisk}, the data lives in a file rather than in process memory, so the operating system can page it
+ * out. Unlike {@link LongListDisk}, every chunk is a {@link MappedByteBuffer}, so values are read and written with
+ * plain memory accesses, the same way as in {@link LongListOffHeap}, instead of a system call per value.
+ * <p>
+ * When written to a file, every chunk is written with a single ranged write. Chunks released because of
+ * {@link LongList#updateValidRange(long, long)} are zeroed and reused for new chunks, so the temporary file does not
+ * grow beyond the maximum number of chunks used at the same time.
+ * <p>
+ * Per the {@link LongList} contract, this class is thread-safe for both concurrent reads and writes.
+ */
+public final class LongListMapped extends AbstractLongList<MappedByteBuffer> {
+
+    private static final String STORE_POSTFIX = "longListMapped";
+    private static final String DEFAULT_FILE_NAME = "LongListMapped.ll";
+
+    /**
+     * Path to the temporary file that backs the chunks. The fields below are effectively immutable, however they
+     * can't be declared final, because they have to be initialized in {@link #readBodyFromFileChannelOnInit}, which
+     * is called from the constructor of the parent class.
+     */
+    private Path tempFile;
+
+    /** File channel of the temporary file, used to map chunks */
+    private FileChannel fileChannel;
+
+    /** Offset in the temporary file where the next new chunk is mapped */
+    private AtomicLong nextChunkOffset;
+
+    /** Chunks that were released and can be reused, they are already zeroed */
+    private Deque<MappedByteBuffer> freeChunks;
+
+    /** Set when this list is closed, after that released chunks are unmapped instead of being reused */
+    private volatile boolean closed;
+
+    /**
+     * Create a {@link LongListMapped} with default parameters.
+     */
+    public LongListMapped() {
+        this(DEFAULT_NUM_LONGS_PER_CHUNK, DEFAULT_MAX_LONGS_TO_STORE, DEFAULT_RESERVED_BUFFER_LENGTH);
+    }
+
+    /**
+     * Create a {@link LongListMapped} with default chunk size and the given reserved buffer length.
+     *
+     * @param reservedBufferLength the number of indices before the minimal index to keep reserved
+     */
+    public LongListMapped(final int reservedBufferLength) {
+        this(DEFAULT_NUM_LONGS_PER_CHUNK, DEFAULT_MAX_LONGS_TO_STORE, reservedBufferLength);
+    }
+
+    LongListMapped(final int numLongsPerChunk, final long maxLongs, final long reservedBufferLength) {
+        super(numLongsPerChunk, maxLongs, reservedBufferLength);
+        try {
+            openTempFile(DEFAULT_FILE_NAME);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Create a {@link LongListMapped} from a file that was saved. The data is copied to a temporary file, the given
+     * file is not modified.
+     *
+     * @param file The file to read from
+     * @throws IOException If there was a problem reading the file
+     */
+    public LongListMapped(final Path file) throws IOException {
+        this(file, DEFAULT_RESERVED_BUFFER_LENGTH);
+    }
+
+    LongListMapped(final Path file, final long reservedBufferLength) throws IOException {
+        super(file, reservedBufferLength);
+        // IDE complains that the file channel is not initialized, but it's initialized in onEmptyOrAbsentSourceFile
+        // or readBodyFromFileChannelOnInit, which are called from the constructor of the parent class
+        //noinspection ConstantValue
+        if (fileChannel == null) {
+            throw new IllegalStateException("The temp file is not initialized");
+        }
+    }
+
+    private void openTempFile(final String sourceFileName) throws IOException {
+        tempFile = LegacyTemporaryFileBuilder.buildTemporaryDirectory(STORE_POSTFIX)
+                .resolve(sourceFileName);
+        fileChannel = FileChannel.open(
+                tempFile,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        nextChunkOffset = new AtomicLong(0);
+        freeChunks = new ConcurrentLinkedDeque<>();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void onEmptyOrAbsentSourceFile(final Path path) throws IOException {
+        openTempFile(path.toFile().getName());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readBodyFromFileChannelOnInit(final String sourceFileName, final FileChannel sourceChannel)
+            throws IOException {
+        openTempFile(sourceFileName);
+        if (minValidIndex.get() < 0) {
+            // Empty list, nothing to read
+            return;
+        }
+        final int totalNumberOfChunks = calculateNumberOfChunks(size());
+        final int firstChunkWithDataIndex = toIntExact(minValidIndex.get() / numLongsPerChunk);
+        final int minValidIndexInChunk = toIntExact(minValidIndex.get() % numLongsPerChunk);
+        for (int i = firstChunkWithDataIndex; i < totalNumberOfChunks; i++) {
+            final MappedByteBuffer chunk = createChunk();
+            final ByteBuffer buf = chunk.slice(0, chunk.capacity());
+            if (i == firstChunkWithDataIndex) {
+                buf.position(minValidIndexInChunk * Long.BYTES);
+            }
+            // the last chunk may be partial, the rest of it stays zeroed
+            MerkleDbFileUtils.completelyRead(sourceChannel, buf);
+            chunkList.set(i, chunk);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void putToChunk(final MappedByteBuffer chunk, final int subIndex, final long value) {
+        MemoryUtils.putLongVolatile(chunk, (long) subIndex * Long.BYTES, value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean putIfEqual(
+            final MappedByteBuffer chunk, final int subIndex, final long oldValue, final long newValue) {
+        return MemoryUtils.compareAndSwapLong(chunk, (long) subIndex * Long.BYTES, oldValue, newValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected long lookupInChunk(@NonNull final MappedByteBuffer chunk, final long subIndex) {
+        return MemoryUtils.getLongVolatile(chunk, subIndex * Long.BYTES);
+    }
+
+    /**
+     * Write the long data to file. Every chunk is written with a single write call, starting from the first valid
+     * index in the first chunk and ending with the last valid index in the last chunk.
+     *
+     * @param fc The file channel to write to
+     * @throws IOException if there was a problem writing longs
+     */
+    @Override
+    protected void writeLongsData(final FileChannel fc) throws IOException {
+        final int totalNumOfChunks = calculateNumberOfChunks(size());
+        final long currentMinValidIndex = minValidIndex.get();
+        final int firstChunkWithDataIndex = toIntExact(currentMinValidIndex / numLongsPerChunk);
+        // missing chunks are written as zeroes
+        final ByteBuffer emptyBuffer = ByteBuffer.allocateDirect(memoryChunkSize);
+        try {
+            for (int i = firstChunkWithDataIndex; i < totalNumOfChunks; i++) {
+                final ByteBuffer chunk = requireNonNullElse(chunkList.get(i), emptyBuffer);
+                // Slice so we don't mess with the byte buffer pointers
+                final ByteBuffer buf = chunk.slice(0, chunk.capacity());
+                if (i == firstChunkWithDataIndex) {
+                    buf.position(toIntExact(currentMinValidIndex % numLongsPerChunk) * Long.BYTES);
+                }
+                if (i == (totalNumOfChunks - 1)) {
+                    // last chunk, so set limit to only the data needed
+                    final long bytesWrittenSoFar = (long) memoryChunkSize * (long) i;
+                    buf.limit(toIntExact((size() * Long.BYTES) - bytesWrittenSoFar));
+                }
+                MerkleDbFileUtils.completelyWrite(fc, buf);
+            }
+        } finally {
+            MemoryUtils.closeDirectByteBuffer(emptyBuffer);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void partialChunkCleanup(
+            @NonNull final MappedByteBuffer chunk, final boolean leftSide, final long entriesToCleanUp) {
+        if (leftSide) {
+            MemoryUtils.setMemory(chunk, 0, entriesToCleanUp * Long.BYTES, (byte) 0);
+        } else {
+            final long offset = (numLongsPerChunk - entriesToCleanUp) * Long.BYTES;
+            MemoryUtils.setMemory(chunk, offset, entriesToCleanUp * Long.BYTES, (byte) 0);
+        }
+    }
+
+    /**
+     * Reuses a released chunk if there is one, otherwise maps a new region at the end of the temporary file. The
+     * file is extended by the mapping, and the new region reads as zeroes.
+     *
+     * @return a zeroed chunk
+     */
+    @Override
+    protected MappedByteBuffer createChunk() {
+        final MappedByteBuffer freeChunk = freeChunks.poll();
+        if (freeChunk != null) {
+            return freeChunk;
+        }
+        try {
+            final long offset = nextChunkOffset.getAndAdd(memoryChunkSize);
+            final MappedByteBuffer chunk = fileChannel.map(MapMode.READ_WRITE, offset, memoryChunkSize);
+            chunk.order(ByteOrder.nativeOrder());
+            return chunk;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void closeChunk(@NonNull final MappedByteBuffer chunk) {
+        if (closed) {
+            MemoryUtils.closeMmapBuffer(chunk);
+        } else {
+            MemoryUtils.setMemory(chunk, 0, memoryChunkSize, (byte) 0);
+            freeChunks.add(chunk);
+        }
+    }
+
+    /**
+     * Unmaps all chunks, then closes and deletes the temporary file.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        super.close();
+        MappedByteBuffer chunk;
+        while ((chunk = freeChunks.poll()) != null) {
+            MemoryUtils.closeMmapBuffer(chunk);
+        }
+        try {
+            fileChannel.close();
+            Files.deleteIfExists(tempFile);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -68,6 +68,10 @@ import com.swirlds.config.extensions.validators.DefaultConfigViolation;
  *     Maximum number of file channels per file reader.
  * @param maxThreadsPerFileChannel
  *    Maximum number of threads per file channel.
+ * @param memoryMappedIndices
+ *      If true, indices that are not configured to be disk based are stored in memory-mapped temporary files
+ *      ({@link com.swirlds.merkledb.collections.LongListMapped}) instead of off-heap memory. The operating system can
+ *      then page out cold parts of the indices.
  */
 @ConfigData("merkleDb")
 public record MerkleDbConfig(
@@ -86,7 +90,8 @@ public record MerkleDbConfig(
         @ConfigProperty(defaultValue = "262144") int reservedBufferLengthForLeafList,
         @ConfigProperty(defaultValue = "1048576") int leafRecordCacheSize,
         @Min(1) @ConfigProperty(defaultValue = "8") int maxFileChannelsPerFileReader,
-        @Min(1) @ConfigProperty(defaultValue = "8") int maxThreadsPerFileChannel) {
+        @Min(1) @ConfigProperty(defaultValue = "8") int maxThreadsPerFileChannel,
+        @ConfigProperty(defaultValue = "false") boolean memoryMappedIndices) {
 
     static double UNIT_FRACTION_PERCENT = 100.0;
 
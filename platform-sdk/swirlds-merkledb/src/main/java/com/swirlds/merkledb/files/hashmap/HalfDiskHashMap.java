@@ -30,6 +30,7 @@ import com.swirlds.merkledb.Snapshotable;
 import com.swirlds.merkledb.collections.CASableLongIndex;
 import com.swirlds.merkledb.collections.LongList;
 import com.swirlds.merkledb.collections.LongListDisk;
+import com.swirlds.merkledb.collections.LongListMapped;
 import com.swirlds.merkledb.collections.LongListOffHeap;
 import com.swirlds.merkledb.collections.OffHeapUser;
 import com.swirlds.merkledb.config.MerkleDbConfig;
@@ -218,12 +219,12 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
             final boolean forceIndexRebuilding = config.indexRebuildingEnforced();
             if (Files.exists(indexFile) && !forceIndexRebuilding) {
                 bucketIndexToBucketLocation =
-                        preferDiskBasedIndex ? new LongListDisk(indexFile) : new LongListOffHeap(indexFile);
+                        preferDiskBasedIndex ? new LongListDisk(indexFile) : createMemoryIndex(config, indexFile);
                 loadedDataCallback = null;
             } else {
                 // create new index and setup call back to rebuild
                 bucketIndexToBucketLocation =
-                        preferDiskBasedIndex ? new LongListDisk(indexFile) : new LongListOffHeap();
+                        preferDiskBasedIndex ? new LongListDisk(indexFile) : createMemoryIndex(config, null);
                 loadedDataCallback = (dataLocation, bucketData) -> {
                     final Bucket bucket = bucketPool.getBucket();
                     bucket.readFrom(bucketData);
@@ -234,7 +235,8 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
             // create store dir
             Files.createDirectories(storeDir);
             // create new index
-            bucketIndexToBucketLocation = preferDiskBasedIndex ? new LongListDisk(indexFile) : new LongListOffHeap();
+            bucketIndexToBucketLocation =
+                    preferDiskBasedIndex ? new LongListDisk(indexFile) : createMemoryIndex(config, null);
             // calculate number of entries we can store in a disk page
             final int minimumBuckets = (int) (mapSize / GOOD_AVERAGE_BUCKET_ENTRY_COUNT);
             // numOfBuckets is the nearest power of two greater than minimumBuckets with a min of 2
@@ -257,6 +259,23 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
                 config, storeDir, storeName, legacyStoreName, loadedDataCallback);
     }
 
+    /**
+     * Create a bucket index that is not disk based. Depending on {@link MerkleDbConfig#memoryMappedIndices()}, the
+     * index is either stored off-heap or in a memory-mapped temporary file.
+     *
+     * @param config MerkleDb config
+     * @param indexFile the file to load the index from, or null to create an empty index
+     * @return the index
+     * @throws IOException if the index file can't be read
+     */
+    private static LongList createMemoryIndex(final MerkleDbConfig config, @Nullable final Path indexFile)
+            throws IOException {
+        if (config.memoryMappedIndices()) {
+            return indexFile == null ? new LongListMapped() : new LongListMapped(indexFile);
+        }
+        return indexFile == null ? new LongListOffHeap() : new LongListOffHeap(indexFile);
+    }
+
     private void writeMetadata(final Path dir) throws IOException {
         try (DataOutputStream metaOut =
                 new DataOutputStream(Files.newOutputStream(dir.resolve(storeName + METADATA_FILENAME_SUFFIX)))) {
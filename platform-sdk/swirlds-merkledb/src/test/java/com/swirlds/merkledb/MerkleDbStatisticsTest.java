@@ -84,6 +84,8 @@ class MerkleDbStatisticsTest {
         assertDoesNotThrow(statistics::countHashReads);
         assertDoesNotThrow(statistics::countLeafReads);
         assertDoesNotThrow(statistics::countLeafKeyReads);
+        assertDoesNotThrow(() -> statistics.recordHashReadTime(42));
+        assertDoesNotThrow(() -> statistics.recordLeafReadTime(42));
         assertDoesNotThrow(() -> statistics.setHashesStoreFileCount(42));
         assertDoesNotThrow(() -> statistics.setHashesStoreFileSizeMb(31415));
         assertDoesNotThrow(() -> statistics.setLeafKeysStoreFileCount(42));
@@ -166,6 +168,26 @@ class MerkleDbStatisticsTest {
         assertValueSet(metric);
     }
 
+    @Test
+    void testRecordHashReadTime() {
+        // given
+        final Metric metric = getMetric("reads_", "hashesTimeNs_" + LABEL);
+        // when
+        statistics.recordHashReadTime(42);
+        // then
+        assertValueSet(metric);
+    }
+
+    @Test
+    void testRecordLeafReadTime() {
+        // given
+        final Metric metric = getMetric("reads_", "leavesTimeNs_" + LABEL);
+        // when
+        statistics.recordLeafReadTime(42);
+        // then
+        assertValueSet(metric);
+    }
+
     @Test
     void testSetHashesStoreFileCount() {
         // given
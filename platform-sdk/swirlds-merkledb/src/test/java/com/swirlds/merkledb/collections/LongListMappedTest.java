@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.merkledb.collections;
+
+import static com.swirlds.base.units.UnitConstants.MEBIBYTES_TO_BYTES;
+import static com.swirlds.merkledb.collections.AbstractLongList.DEFAULT_MAX_LONGS_TO_STORE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LongListMappedTest extends AbstractLongListTest<LongListMapped> {
+
+    @TempDir
+    Path testDirectory;
+
+    @Override
+    protected LongListMapped createLongList() {
+        return new LongListMapped();
+    }
+
+    @Override
+    protected LongListMapped createLongListWithChunkSizeInMb(final int chunkSizeInMb) {
+        final int impliedLongsPerChunk = Math.toIntExact((((long) chunkSizeInMb * MEBIBYTES_TO_BYTES) / Long.BYTES));
+        return new LongListMapped(impliedLongsPerChunk, DEFAULT_MAX_LONGS_TO_STORE, 0);
+    }
+
+    @Override
+    protected LongListMapped createFullyParameterizedLongListWith(final int numLongsPerChunk, final long maxLongs) {
+        return new LongListMapped(numLongsPerChunk, maxLongs, 0);
+    }
+
+    @Override
+    protected LongListMapped createLongListFromFile(final Path file) throws IOException {
+        return new LongListMapped(file);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 5000, 9999, 10000}) // chunk size is 10K longs
+    void testPersistListWithNonZeroMinValidIndex(final int chunkOffset) throws IOException {
+        try (final LongListMapped list = createFullyParameterizedLongListWith(
+                getSampleSize() / 100, // 100 chunks
+                getSampleSize())) {
+            list.updateValidRange(0, getSampleSize() - 1);
+            for (int i = 1; i < getSampleSize(); i++) {
+                list.put(i, i);
+            }
+
+            list.updateValidRange(getSampleSize() / 2 + chunkOffset, list.size() - 1);
+
+            final Path file = testDirectory.resolve("LongListMappedHalfEmpty.ll");
+            list.writeToFile(file);
+
+            try (final LongListMapped longListFromFile = createLongListFromFile(file)) {
+                for (int i = 0; i < longListFromFile.size(); i++) {
+                    assertEquals(list.get(i), longListFromFile.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    void releasedChunksAreZeroedAndReused() {
+        final int longsPerChunk = 100;
+        try (final LongListMapped list = new LongListMapped(longsPerChunk, 10_000, 0)) {
+            list.updateValidRange(0, 999);
+            for (int i = 0; i < 1000; i++) {
+                list.put(i, i + 1);
+            }
+            // releases the first five chunks
+            list.updateValidRange(500, 1499);
+            for (int i = 1000; i < 1500; i++) {
+                assertEquals(0, list.get(i), "a reused chunk must not contain old values");
+                list.put(i, i + 1);
+            }
+            for (int i = 500; i < 1500; i++) {
+                assertEquals(i + 1, list.get(i));
+            }
+        }
+    }
+}
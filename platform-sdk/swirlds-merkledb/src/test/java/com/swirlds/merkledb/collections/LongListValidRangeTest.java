@@ -747,7 +747,8 @@ class LongListValidRangeTest {
         return Stream.of(
                 Arguments.of(new LongListOffHeap(longsPerChunk, MAX_LONGS, reservedBufferLength)),
                 Arguments.of(new LongListHeap(longsPerChunk, MAX_LONGS, reservedBufferLength)),
-                Arguments.of(new LongListDisk(longsPerChunk, MAX_LONGS, reservedBufferLength)));
+                Arguments.of(new LongListDisk(longsPerChunk, MAX_LONGS, reservedBufferLength)),
+                Arguments.of(new LongListMapped(longsPerChunk, MAX_LONGS, reservedBufferLength)));
     }
 
     private long maxValidIndex() {
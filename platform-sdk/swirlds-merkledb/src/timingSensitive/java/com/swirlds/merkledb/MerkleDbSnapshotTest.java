@@ -56,6 +56,8 @@ import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.util.Random;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.AfterEach;
@@ -172,6 +174,56 @@ class MerkleDbSnapshotTest {
         closeDataSources(restoredStateRoot);
     }
 
+    @Test
+    void snapshotMultipleTablesTestParallel() throws Exception {
+        final MerkleInternal initialRoot = new TestInternalNode();
+        final MerkleDbTableConfig tableConfig = fixedConfig();
+        final MerkleDbDataSourceBuilder dsBuilder = new MerkleDbDataSourceBuilder(tableConfig);
+        for (int i = 0; i < MAPS_COUNT; i++) {
+            final VirtualMap<ExampleLongKeyFixedSize, ExampleFixedSizeVirtualValue> vm =
+                    new VirtualMap<>("vm" + i, keySerializer, valueSerializer, dsBuilder);
+            initialRoot.setChild(i, vm);
+        }
+
+        long keyId = 0;
+        for (int i = 0; i < MAPS_COUNT; i++) {
+            final VirtualMap<ExampleLongKeyFixedSize, ExampleFixedSizeVirtualValue> vm = initialRoot.getChild(i);
+            for (int k = 0; k < ROUND_CHANGES; k++) {
+                vm.put(new ExampleLongKeyFixedSize(keyId++), new ExampleFixedSizeVirtualValue(RANDOM.nextInt()));
+            }
+        }
+        // only immutable copies can be written to disk
+        final MerkleInternal stateRoot = initialRoot.copy();
+
+        final Path snapshotDir = LegacyTemporaryFileBuilder.buildTemporaryDirectory("snapshotParallel");
+        final Path snapshotFile = snapshotDir.resolve("state.swh");
+        final MerkleInternal restoredStateRoot;
+        try (final ExecutorService executor = Executors.newFixedThreadPool(MAPS_COUNT)) {
+            MerkleCryptoFactory.getInstance().digestTreeSync(initialRoot);
+            try (final MerkleDataOutputStream out = new MerkleDataOutputStream(
+                    Files.newOutputStream(snapshotFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE))) {
+                out.setExternalNodeExecutor(executor).writeMerkleTree(snapshotDir, initialRoot);
+            }
+
+            MerkleDb.resetDefaultInstancePath();
+            try (final MerkleDataInputStream in =
+                    new MerkleDataInputStream(Files.newInputStream(snapshotFile, StandardOpenOption.READ))) {
+                restoredStateRoot = in.setExternalNodeExecutor(executor).readMerkleTree(snapshotDir, Integer.MAX_VALUE);
+            }
+        }
+
+        verify(restoredStateRoot);
+        MerkleCryptoFactory.getInstance().digestTreeSync(restoredStateRoot);
+        Assertions.assertEquals(
+                initialRoot.getHash(), restoredStateRoot.getHash(), "restored state should have the same hash");
+
+        initialRoot.release();
+        stateRoot.release();
+        restoredStateRoot.release();
+        closeDataSources(initialRoot);
+        closeDataSources(restoredStateRoot);
+    }
+
     @Test
     void snapshotMultipleTablesTestAsync() throws Exception {
         final MerkleInternal initialRoot = new TestInternalNode();
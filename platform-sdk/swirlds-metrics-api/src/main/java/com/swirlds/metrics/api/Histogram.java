@@ -0,0 +1,287 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.metrics.api;
+
+import static com.swirlds.metrics.api.Metric.ValueType.MAX;
+import static com.swirlds.metrics.api.Metric.ValueType.MIN;
+import static com.swirlds.metrics.api.Metric.ValueType.P50;
+import static com.swirlds.metrics.api.Metric.ValueType.P90;
+import static com.swirlds.metrics.api.Metric.ValueType.P99;
+import static com.swirlds.metrics.api.Metric.ValueType.P999;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+
+import com.swirlds.base.utility.ToStringBuilder;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.EnumSet;
+import java.util.Objects;
+
+/**
+ * A {@code Histogram} records the distribution of non-negative {@code long} values, e.g. latencies, so that
+ * percentiles can be reported in addition to the mean, minimum, and maximum.
+ * <p>
+ * Values are counted in log-linear buckets: every power of two is split into {@code 2^precisionBits} buckets of equal
+ * width. Hence, a reported value is never smaller than the actual value and never larger by more than a factor of
+ * {@code 1 + 2^-precisionBits}.
+ * <p>
+ * Like an accumulator, a {@code Histogram} is reset in regular intervals. The exact timing depends on the
+ * implementation.
+ */
+public interface Histogram extends Metric {
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    default MetricType getMetricType() {
+        return MetricType.HISTOGRAM;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    default DataType getDataType() {
+        return DataType.FLOAT;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    default EnumSet<ValueType> getValueTypes() {
+        return EnumSet.of(VALUE, MAX, MIN, P50, P90, P99, P999);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    default Double get(@NonNull final ValueType valueType) {
+        Objects.requireNonNull(valueType, "valueType must not be null");
+        return switch (valueType) {
+            case VALUE -> getMean();
+            case MAX -> (double) getMax();
+            case MIN -> (double) getMin();
+            case P50 -> (double) getValueAtPercentile(50.0);
+            case P90 -> (double) getValueAtPercentile(90.0);
+            case P99 -> (double) getValueAtPercentile(99.0);
+            case P999 -> (double) getValueAtPercentile(99.9);
+            default -> throw new IllegalArgumentException("Unsupported ValueType: " + valueType);
+        };
+    }
+
+    /**
+     * Record a value. Negative values are recorded as {@code 0}.
+     *
+     * @param value the value to record
+     */
+    void update(final long value);
+
+    /**
+     * Returns the number of values recorded since the last reset.
+     *
+     * @return the number of recorded values
+     */
+    long getCount();
+
+    /**
+     * Returns the mean of the values recorded since the last reset, or {@code 0.0} if no value was recorded.
+     *
+     * @return the mean
+     */
+    double getMean();
+
+    /**
+     * Returns the smallest value recorded since the last reset, within the precision of this histogram, or {@code 0} if
+     * no value was recorded.
+     *
+     * @return the minimum
+     */
+    long getMin();
+
+    /**
+     * Returns the largest value recorded since the last reset, within the precision of this histogram, or {@code 0} if
+     * no value was recorded.
+     *
+     * @return the maximum
+     */
+    long getMax();
+
+    /**
+     * Returns the value below or at which the given percentage of recorded values fall, within the precision of this
+     * histogram, or {@code 0} if no value was recorded.
+     *
+     * @param percentile the percentile, between {@code 0.0} and {@code 100.0}
+     * @return the value at the given percentile
+     * @throws IllegalArgumentException if {@code percentile} is not between {@code 0.0} and {@code 100.0}
+     */
+    long getValueAtPercentile(final double percentile);
+
+    /**
+     * Configuration of a {@link Histogram}
+     */
+    final class Config extends MetricConfig<Histogram, Histogram.Config> {
+
+        /**
+         * The default number of bits of precision, i.e. the relative error of reported values is at most 6.25%
+         */
+        public static final int DEFAULT_PRECISION_BITS = 4;
+
+        /**
+         * The maximum number of bits of precision. Higher precision needs exponentially more memory.
+         */
+        public static final int MAX_PRECISION_BITS = 8;
+
+        private final int precisionBits;
+
+        /**
+         * Constructor of {@code Histogram.Config}
+         *
+         * By default, the {@link #getFormat() format} is set to {@link FloatFormats#FORMAT_DECIMAL_0}
+         * and the {@link #getPrecisionBits() precisionBits} are set to {@link #DEFAULT_PRECISION_BITS}.
+         *
+         * @param category
+         * 		the kind of metric (metrics are grouped or filtered by this)
+         * @param name
+         * 		a short name for the metric
+         * @throws NullPointerException     if one of the parameters is {@code null}
+         * @throws IllegalArgumentException if one of the parameters consists only of whitespaces
+         */
+        public Config(@NonNull final String category, @NonNull final String name) {
+            super(category, name, FloatFormats.FORMAT_DECIMAL_0);
+            this.precisionBits = DEFAULT_PRECISION_BITS;
+        }
+
+        /**
+         * Constructor of {@code Histogram.Config}
+         *
+         * @param category      the kind of metric (metrics are grouped or filtered by this)
+         * @param name          a short name for the metric
+         * @param description   metric description
+         * @param unit          metric unit
+         * @param format        metric format
+         * @param precisionBits number of bits of precision
+         * @throws NullPointerException     if one of the parameters is {@code null}
+         * @throws IllegalArgumentException if one of the parameters consists only of whitespaces or if
+         *                                  {@code precisionBits} is out of range
+         */
+        private Config(
+                @NonNull final String category,
+                @NonNull final String name,
+                @NonNull final String description,
+                @NonNull final String unit,
+                @NonNull final String format,
+                final int precisionBits) {
+            super(category, name, description, unit, format);
+            if (precisionBits < 1 || precisionBits > MAX_PRECISION_BITS) {
+                throw new IllegalArgumentException(
+                        "precisionBits must be between 1 and " + MAX_PRECISION_BITS + ", but is " + precisionBits);
+            }
+            this.precisionBits = precisionBits;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public Histogram.Config withDescription(@NonNull final String description) {
+            return new Histogram.Config(getCategory(), getName(), description, getUnit(), getFormat(), precisionBits);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public Histogram.Config withUnit(@NonNull final String unit) {
+            return new Histogram.Config(
+                    getCategory(), getName(), getDescription(), unit, getFormat(), precisionBits);
+        }
+
+        /**
+         * Sets the {@link Metric#getFormat() Metric.format} in fluent style.
+         *
+         * @param format
+         * 		the format-string
+         * @return a new configuration-object with updated {@code format}
+         * @throws NullPointerException     if {@code format} is {@code null}
+         * @throws IllegalArgumentException if {@code format} consists only of whitespaces
+         */
+        @NonNull
+        public Histogram.Config withFormat(@NonNull final String format) {
+            return new Histogram.Config(
+                    getCategory(), getName(), getDescription(), getUnit(), format, precisionBits);
+        }
+
+        /**
+         * Getter of the {@code precisionBits}
+         *
+         * @return the number of bits of precision
+         */
+        public int getPrecisionBits() {
+            return precisionBits;
+        }
+
+        /**
+         * Fluent-style setter of the precision. Each power of two is split into {@code 2^precisionBits} buckets.
+         *
+         * @param precisionBits
+         * 		the number of bits of precision, between {@code 1} and {@link #MAX_PRECISION_BITS}
+         * @return a new configuration-object with updated {@code precisionBits}
+         * @throws IllegalArgumentException if {@code precisionBits} is out of range
+         */
+        @NonNull
+        public Histogram.Config withPrecisionBits(final int precisionBits) {
+            return new Histogram.Config(
+                    getCategory(), getName(), getDescription(), getUnit(), getFormat(), precisionBits);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public Class<Histogram> getResultClass() {
+            return Histogram.class;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @NonNull
+        public Histogram create(@NonNull final MetricsFactory factory) {
+            return factory.createHistogram(this);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .appendSuper(super.toString())
+                    .append("precisionBits", precisionBits)
+                    .toString();
+        }
+    }
+}
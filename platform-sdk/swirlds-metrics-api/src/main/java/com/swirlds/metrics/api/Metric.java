@@ -31,7 +31,15 @@ public interface Metric {
         VALUE,
         MAX,
         MIN,
-        STD_DEV
+        STD_DEV,
+        /** The median of the recorded values */
+        P50,
+        /** The 90th percentile of the recorded values */
+        P90,
+        /** The 99th percentile of the recorded values */
+        P99,
+        /** The 99.9th percentile of the recorded values */
+        P999
     }
 
     enum DataType {
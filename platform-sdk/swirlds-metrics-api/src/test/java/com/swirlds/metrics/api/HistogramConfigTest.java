@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.metrics.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HistogramConfigTest {
+
+    private static final String DEFAULT_FORMAT = FloatFormats.FORMAT_DECIMAL_0;
+
+    private static final String CATEGORY = "CaTeGoRy";
+    private static final String NAME = "NaMe";
+    private static final String DESCRIPTION = "DeScRiPtIoN";
+    private static final String UNIT = "UnIt";
+    private static final String FORMAT = "FoRmAt";
+
+    @Test
+    @DisplayName("Constructor should store values")
+    void testConstructor() {
+        // when
+        final Histogram.Config config = new Histogram.Config(CATEGORY, NAME);
+
+        // then
+        assertThat(config.getCategory()).isEqualTo(CATEGORY);
+        assertThat(config.getName()).isEqualTo(NAME);
+        assertThat(config.getDescription()).isEqualTo(NAME);
+        assertThat(config.getUnit()).isEmpty();
+        assertThat(config.getFormat()).isEqualTo(DEFAULT_FORMAT);
+        assertThat(config.getPrecisionBits()).isEqualTo(Histogram.Config.DEFAULT_PRECISION_BITS);
+    }
+
+    @Test
+    @DisplayName("Constructor should throw IAE when passing illegal parameters")
+    void testConstructorWithIllegalParameter() {
+        assertThatThrownBy(() -> new Histogram.Config(null, NAME)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new Histogram.Config("", NAME)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Histogram.Config(" \t\n", NAME)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> new Histogram.Config(CATEGORY, null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new Histogram.Config(CATEGORY, "")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Histogram.Config(CATEGORY, " \t\n"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testSetters() {
+        // given
+        final Histogram.Config config = new Histogram.Config(CATEGORY, NAME);
+
+        // when
+        final Histogram.Config result = config.withDescription(DESCRIPTION)
+                .withUnit(UNIT)
+                .withFormat(FORMAT)
+                .withPrecisionBits(7);
+
+        // then
+        assertThat(config.getDescription()).isEqualTo(NAME);
+        assertThat(config.getUnit()).isEmpty();
+        assertThat(config.getFormat()).isEqualTo(DEFAULT_FORMAT);
+        assertThat(config.getPrecisionBits()).isEqualTo(Histogram.Config.DEFAULT_PRECISION_BITS);
+
+        assertThat(result.getCategory()).isEqualTo(CATEGORY);
+        assertThat(result.getName()).isEqualTo(NAME);
+        assertThat(result.getDescription()).isEqualTo(DESCRIPTION);
+        assertThat(result.getUnit()).isEqualTo(UNIT);
+        assertThat(result.getFormat()).isEqualTo(FORMAT);
+        assertThat(result.getPrecisionBits()).isEqualTo(7);
+    }
+
+    @Test
+    void testSettersWithIllegalParameters() {
+        // given
+        final Histogram.Config config = new Histogram.Config(CATEGORY, NAME);
+
+        // then
+        assertThatThrownBy(() -> config.withDescription(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> config.withUnit(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> config.withFormat(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> config.withPrecisionBits(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.withPrecisionBits(Histogram.Config.MAX_PRECISION_BITS + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testToString() {
+        // given
+        final Histogram.Config config = new Histogram.Config(CATEGORY, NAME)
+                .withDescription(DESCRIPTION)
+                .withUnit(UNIT)
+                .withFormat(FORMAT)
+                .withPrecisionBits(5);
+
+        // then
+        assertThat(config.toString()).contains(CATEGORY, NAME, DESCRIPTION, UNIT, FORMAT, "5");
+    }
+}
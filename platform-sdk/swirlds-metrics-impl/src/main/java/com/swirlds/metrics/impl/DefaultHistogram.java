@@ -0,0 +1,288 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.metrics.impl;
+
+import static com.swirlds.metrics.api.Metric.ValueType.MAX;
+import static com.swirlds.metrics.api.Metric.ValueType.MIN;
+import static com.swirlds.metrics.api.Metric.ValueType.P50;
+import static com.swirlds.metrics.api.Metric.ValueType.P90;
+import static com.swirlds.metrics.api.Metric.ValueType.P99;
+import static com.swirlds.metrics.api.Metric.ValueType.P999;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+
+import com.swirlds.base.utility.ToStringBuilder;
+import com.swirlds.metrics.api.Histogram;
+import com.swirlds.metrics.api.snapshot.Snapshot.SnapshotEntry;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Platform-implementation of {@link Histogram}
+ * <p>
+ * Recording a value is lock-free and does not allocate. To reduce contention, the bucket counters are striped: each
+ * thread updates the stripe selected by its thread id, and the stripes are only merged when the histogram is read.
+ * Taking a snapshot returns the distribution of all values recorded since the previous snapshot and resets the
+ * histogram.
+ */
+public class DefaultHistogram extends AbstractMetric implements Histogram {
+
+    /**
+     * Upper bound for the number of stripes
+     */
+    private static final int MAX_STRIPES = 16;
+
+    /**
+     * Number of unused counters between two stripes, so that stripes do not share cache lines
+     */
+    private static final int STRIPE_PADDING = 16;
+
+    private final int precisionBits;
+    private final int subBucketCount;
+    private final int bucketCount;
+    private final int stripeMask;
+
+    /**
+     * Distance between the first counters of two neighboring stripes
+     */
+    private final int stride;
+
+    /**
+     * The counters of all stripes. Each stripe consists of {@link #bucketCount} bucket counters followed by the sum of
+     * all values recorded in the stripe.
+     */
+    private final AtomicLongArray counters;
+
+    public DefaultHistogram(@NonNull final Config config) {
+        super(config);
+        this.precisionBits = config.getPrecisionBits();
+        this.subBucketCount = 1 << precisionBits;
+        // values up to Long.MAX_VALUE have at most 63 significant bits
+        this.bucketCount = (Long.SIZE - precisionBits) << precisionBits;
+
+        final int processors = Math.min(Runtime.getRuntime().availableProcessors(), MAX_STRIPES);
+        final int stripeCount = 1 << (Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(processors, 1) - 1));
+        this.stripeMask = stripeCount - 1;
+        this.stride = bucketCount + 1 + STRIPE_PADDING;
+        this.counters = new AtomicLongArray(stripeCount * stride);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final long value) {
+        final long v = Math.max(value, 0L);
+        final int offset = (int) (Thread.currentThread().threadId() & stripeMask) * stride;
+        counters.getAndIncrement(offset + bucketIndex(v));
+        counters.getAndAdd(offset + bucketCount, v);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCount() {
+        return collect(false).count();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMean() {
+        return collect(false).mean();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getMin() {
+        return collect(false).min();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getMax() {
+        return collect(false).max();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getValueAtPercentile(final double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("percentile must be between 0.0 and 100.0, but is " + percentile);
+        }
+        return collect(false).valueAtPercentile(percentile);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public List<SnapshotEntry> takeSnapshot() {
+        final Distribution distribution = collect(true);
+        return List.of(
+                new SnapshotEntry(VALUE, distribution.mean()),
+                new SnapshotEntry(MAX, (double) distribution.max()),
+                new SnapshotEntry(MIN, (double) distribution.min()),
+                new SnapshotEntry(P50, (double) distribution.valueAtPercentile(50.0)),
+                new SnapshotEntry(P90, (double) distribution.valueAtPercentile(90.0)),
+                new SnapshotEntry(P99, (double) distribution.valueAtPercentile(99.0)),
+                new SnapshotEntry(P999, (double) distribution.valueAtPercentile(99.9)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        collect(true);
+    }
+
+    /**
+     * Merge all stripes.
+     *
+     * @param reset if {@code true}, all counters are reset while reading them
+     * @return the merged distribution
+     */
+    @NonNull
+    private Distribution collect(final boolean reset) {
+        final long[] buckets = new long[bucketCount];
+        long count = 0;
+        long sum = 0;
+        for (int offset = 0; offset < counters.length(); offset += stride) {
+            for (int i = 0; i < bucketCount; i++) {
+                final long bucket = reset ? counters.getAndSet(offset + i, 0L) : counters.get(offset + i);
+                buckets[i] += bucket;
+                count += bucket;
+            }
+            sum += reset ? counters.getAndSet(offset + bucketCount, 0L) : counters.get(offset + bucketCount);
+        }
+        return new Distribution(buckets, count, sum);
+    }
+
+    /**
+     * Returns the index of the bucket a value is counted in.
+     *
+     * @param value a non-negative value
+     * @return the bucket index
+     */
+    private int bucketIndex(final long value) {
+        if (value < subBucketCount) {
+            return (int) value;
+        }
+        final int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - precisionBits;
+        return ((shift + 1) << precisionBits) + (int) ((value >>> shift) & (subBucketCount - 1));
+    }
+
+    /**
+     * Returns the smallest value that is counted in the given bucket.
+     */
+    private long lowestValueOf(final int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        final int shift = (index >>> precisionBits) - 1;
+        return ((long) (subBucketCount + (index & (subBucketCount - 1)))) << shift;
+    }
+
+    /**
+     * Returns the largest value that is counted in the given bucket.
+     */
+    private long highestValueOf(final int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        final int shift = (index >>> precisionBits) - 1;
+        return lowestValueOf(index) + (1L << shift) - 1;
+    }
+
+    /**
+     * The merged bucket counts of all stripes
+     */
+    private final class Distribution {
+        private final long[] buckets;
+        private final long count;
+        private final long sum;
+
+        private Distribution(@NonNull final long[] buckets, final long count, final long sum) {
+            this.buckets = buckets;
+            this.count = count;
+            this.sum = sum;
+        }
+
+        private long count() {
+            return count;
+        }
+
+        private double mean() {
+            return count == 0 ? 0.0 : ((double) sum) / count;
+        }
+
+        private long min() {
+            for (int i = 0; i < buckets.length; i++) {
+                if (buckets[i] != 0) {
+                    return lowestValueOf(i);
+                }
+            }
+            return 0L;
+        }
+
+        private long max() {
+            for (int i = buckets.length - 1; i >= 0; i--) {
+                if (buckets[i] != 0) {
+                    return highestValueOf(i);
+                }
+            }
+            return 0L;
+        }
+
+        private long valueAtPercentile(final double percentile) {
+            if (count == 0) {
+                return 0L;
+            }
+            final long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return highestValueOf(i);
+                }
+            }
+            return max();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .appendSuper(super.toString())
+                .append("precisionBits", precisionBits)
+                .append("count", getCount())
+                .toString();
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.metrics.impl.test;
+
+import static com.swirlds.metrics.api.Metric.ValueType.MAX;
+import static com.swirlds.metrics.api.Metric.ValueType.MIN;
+import static com.swirlds.metrics.api.Metric.ValueType.P50;
+import static com.swirlds.metrics.api.Metric.ValueType.P90;
+import static com.swirlds.metrics.api.Metric.ValueType.P99;
+import static com.swirlds.metrics.api.Metric.ValueType.P999;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.swirlds.metrics.api.Histogram;
+import com.swirlds.metrics.api.Metric;
+import com.swirlds.metrics.api.snapshot.Snapshot.SnapshotEntry;
+import com.swirlds.metrics.impl.DefaultHistogram;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DefaultHistogramTest {
+
+    private static final String CATEGORY = "CaTeGoRy";
+    private static final String NAME = "NaMe";
+    private static final String DESCRIPTION = "DeScRiPtIoN";
+    private static final String UNIT = "UnIt";
+    private static final String FORMAT = "FoRmAt";
+
+    @Test
+    @DisplayName("Constructor should store values")
+    void testConstructor() {
+        // given
+        final Histogram.Config config = new Histogram.Config(CATEGORY, NAME)
+                .withDescription(DESCRIPTION)
+                .withUnit(UNIT)
+                .withFormat(FORMAT);
+        final Histogram histogram = new DefaultHistogram(config);
+
+        assertEquals(CATEGORY, histogram.getCategory(), "The category was not set correctly in the constructor");
+        assertEquals(NAME, histogram.getName(), "The name was not set correctly in the constructor");
+        assertEquals(
+                DESCRIPTION, histogram.getDescription(), "The description was not set correctly in the constructor");
+        assertEquals(UNIT, histogram.getUnit(), "The unit was not set correctly in the constructor");
+        assertEquals(FORMAT, histogram.getFormat(), "The format was not set correctly in the constructor");
+        assertEquals(0L, histogram.getCount(), "The histogram should be empty");
+        assertEquals(0.0, histogram.get(VALUE), "The mean of an empty histogram should be 0");
+        assertEquals(0.0, histogram.get(P99), "The percentiles of an empty histogram should be 0");
+        assertThat(histogram.getValueTypes()).containsExactly(VALUE, MAX, MIN, P50, P90, P99, P999);
+    }
+
+    @Test
+    @DisplayName("Small values should be recorded exactly")
+    void testSmallValues() {
+        // given
+        final Histogram histogram = new DefaultHistogram(new Histogram.Config(CATEGORY, NAME));
+
+        // when
+        for (int i = 1; i <= 10; i++) {
+            histogram.update(i);
+        }
+        histogram.update(-5);
+
+        // then
+        assertEquals(11L, histogram.getCount(), "All values should be counted");
+        assertEquals(5.0, histogram.getMean(), 1e-9, "Negative values should be recorded as 0");
+        assertEquals(0L, histogram.getMin(), "Negative values should be recorded as 0");
+        assertEquals(10L, histogram.getMax(), "Max should be exact for small values");
+        assertEquals(5L, histogram.getValueAtPercentile(50.0), "Median should be exact for small values");
+        assertEquals(9L, histogram.getValueAtPercentile(90.0), "P90 should be exact for small values");
+        assertEquals(10L, histogram.getValueAtPercentile(100.0), "P100 should be the max");
+        assertEquals(0L, histogram.getValueAtPercentile(0.0), "P0 should be the min");
+    }
+
+    @Test
+    @DisplayName("Reported values should be within the configured precision")
+    void testPrecision() {
+        // given
+        final int precisionBits = 4;
+        final Histogram.Config config = new Histogram.Config(CATEGORY, NAME).withPrecisionBits(precisionBits);
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            final Histogram histogram = new DefaultHistogram(config);
+            final long value = (random.nextLong() >>> 1) >>> random.nextInt(Long.SIZE - 1);
+
+            // when
+            histogram.update(value);
+
+            // then
+            final long reported = histogram.getValueAtPercentile(50.0);
+            assertThat(reported).isGreaterThanOrEqualTo(value);
+            assertThat((double) reported - value).isLessThanOrEqualTo((double) value / (1 << precisionBits));
+            assertThat(histogram.getMin()).isLessThanOrEqualTo(value);
+            assertThat(histogram.getMax()).isEqualTo(reported);
+        }
+    }
+
+    @Test
+    @DisplayName("Extreme values should be supported")
+    void testExtremeValues() {
+        // given
+        final Histogram histogram = new DefaultHistogram(new Histogram.Config(CATEGORY, NAME));
+
+        // when
+        histogram.update(0L);
+        histogram.update(Long.MAX_VALUE);
+
+        // then
+        assertEquals(0L, histogram.getMin(), "Min should be 0");
+        assertEquals(Long.MAX_VALUE, histogram.getMax(), "Max should be Long.MAX_VALUE");
+        assertEquals(0L, histogram.getValueAtPercentile(50.0), "Median should be 0");
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(99.9), "P999 should be Long.MAX_VALUE");
+    }
+
+    @Test
+    @DisplayName("Test of percentiles with illegal parameters")
+    void testIllegalPercentile() {
+        // given
+        final Histogram histogram = new DefaultHistogram(new Histogram.Config(CATEGORY, NAME));
+
+        // then
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(100.1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(Double.NaN));
+    }
+
+    @Test
+    @DisplayName("Snapshot should contain all value types and reset the histogram")
+    void testSnapshot() {
+        // given
+        final DefaultHistogram histogram = new DefaultHistogram(new Histogram.Config(CATEGORY, NAME));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.update(i);
+        }
+
+        // when
+        final List<SnapshotEntry> snapshot = histogram.takeSnapshot();
+
+        // then
+        assertThat(snapshot).extracting(SnapshotEntry::valueType).containsExactly(VALUE, MAX, MIN, P50, P90, P99, P999);
+        assertEquals(500.5, (double) snapshot.get(0).value(), 1e-9, "Mean should be exact");
+        assertEquals(1.0, (double) snapshot.get(2).value(), "Min should be exact for small values");
+        assertThat((double) snapshot.get(3).value()).isBetween(500.0, 500.0 * (1 + 1.0 / 16));
+        assertThat((double) snapshot.get(5).value()).isBetween(990.0, 990.0 * (1 + 1.0 / 16));
+        assertThat((double) snapshot.get(1).value()).isBetween(1000.0, 1000.0 * (1 + 1.0 / 16));
+        assertEquals(0L, histogram.getCount(), "Taking a snapshot should reset the histogram");
+    }
+
+    @Test
+    @DisplayName("Concurrent updates should not be lost")
+    void testConcurrentUpdates() throws Exception {
+        // given
+        final Histogram histogram = new DefaultHistogram(new Histogram.Config(CATEGORY, NAME));
+        final int threadCount = 8;
+        final int updatesPerThread = 10_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < updatesPerThread; i++) {
+                        histogram.update(7L);
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertEquals((long) threadCount * updatesPerThread, histogram.getCount(), "No update should be lost");
+        assertEquals(7.0, histogram.getMean(), 1e-9, "Mean should be exact");
+    }
+
+    @Test
+    @DisplayName("Reset should clear the histogram")
+    void testReset() {
+        // given
+        final Metric histogram = new DefaultHistogram(new Histogram.Config(CATEGORY, NAME));
+        ((Histogram) histogram).update(42L);
+
+        // when
+        histogram.reset();
+
+        // then
+        assertEquals(0L, ((Histogram) histogram).getCount(), "Reset should clear the histogram");
+        assertEquals(0.0, histogram.get(MAX), "Reset should clear the histogram");
+    }
+}
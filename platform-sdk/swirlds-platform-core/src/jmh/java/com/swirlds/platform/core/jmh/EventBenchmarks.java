@@ -21,6 +21,7 @@ import com.swirlds.common.constructable.ConstructableRegistryException;
 import com.swirlds.common.io.streams.MerkleDataInputStream;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
 import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.event.hashing.DefaultEventHasher;
 import com.swirlds.platform.event.hashing.EventHasher;
 import com.swirlds.platform.event.hashing.PbjBytesHasher;
 import com.swirlds.platform.event.hashing.PbjStreamHasher;
@@ -60,7 +61,7 @@ public class EventBenchmarks {
     @Param({"10"})
     public int numSys;
 
-    @Param({"PBJ_BYTES_DIGEST", "PBJ_STREAM_DIGEST"})
+    @Param({"PBJ_BYTES_DIGEST", "PBJ_STREAM_DIGEST", "DEFAULT"})
     public HasherType hasherType;
 
     private PlatformEvent event;
@@ -117,12 +118,14 @@ public class EventBenchmarks {
 
     public enum HasherType {
         PBJ_BYTES_DIGEST,
-        PBJ_STREAM_DIGEST;
+        PBJ_STREAM_DIGEST,
+        DEFAULT;
 
         public EventHasher newHasher() {
             return switch (this) {
                 case PBJ_BYTES_DIGEST -> new PbjBytesHasher();
                 case PBJ_STREAM_DIGEST -> new PbjStreamHasher();
+                case DEFAULT -> new DefaultEventHasher();
             };
         }
     }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.crypto.Signature;
+import com.swirlds.common.crypto.SignatureType;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.event.creation.tipset.TipsetEventCreator;
+import com.swirlds.platform.system.BasicSoftwareVersion;
+import com.swirlds.platform.system.address.AddressBook;
+import com.swirlds.platform.system.events.UnsignedEvent;
+import com.swirlds.platform.test.fixtures.addressbook.RandomAddressBookBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of tipset based event creation, i.e. choosing other parents and scoring them, for a network where
+ * every node creates events and every event is registered with every node.
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 10)
+public class EventCreationBenchmark {
+    @Param({"100", "200"})
+    public int numNodes;
+
+    @Param({"0"})
+    public long seed;
+
+    private Random random;
+    private List<TipsetEventCreator> eventCreators;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        random = new Random(seed);
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().build();
+        final AddressBook addressBook =
+                RandomAddressBookBuilder.create(random).withSize(numNodes).build();
+
+        final byte[] signatureBytes = new byte[SignatureType.RSA.signatureLength()];
+        eventCreators = new ArrayList<>(numNodes);
+        for (final NodeId nodeId : addressBook.getNodeIdSet()) {
+            eventCreators.add(new TipsetEventCreator(
+                    platformContext,
+                    new Random(random.nextLong()),
+                    data -> new Signature(SignatureType.RSA, signatureBytes),
+                    addressBook,
+                    nodeId,
+                    new BasicSoftwareVersion(1),
+                    List::of));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void createEvent(final Blackhole bh) {
+        final TipsetEventCreator eventCreator = eventCreators.get(random.nextInt(numNodes));
+        final UnsignedEvent event = eventCreator.maybeCreateEvent();
+        if (event == null) {
+            // this node is not permitted to create an event right now, another node will be picked next time
+            return;
+        }
+
+        final PlatformEvent platformEvent = new PlatformEvent(event, new byte[0]);
+        for (final TipsetEventCreator creator : eventCreators) {
+            creator.registerEvent(platformEvent);
+        }
+        bh.consume(platformEvent);
+    }
+}
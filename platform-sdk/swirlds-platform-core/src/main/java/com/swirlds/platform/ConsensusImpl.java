@@ -161,6 +161,8 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
     private final Time time;
     /** the only address book currently, until address book changes are implemented */
     private final AddressBook addressBook;
+    /** the weight of each member, indexed by its position in the address book */
+    private final long[] weights;
     /** metrics related to consensus */
     private final ConsensusMetrics consensusMetrics;
     /** used for searching the hashgraph */
@@ -237,6 +239,10 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
 
         // until we implement address book changes, we will just use the use this address book
         this.addressBook = addressBook;
+        this.weights = new long[addressBook.getSize()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = addressBook.getAddress(addressBook.getNodeId(i)).getWeight();
+        }
 
         this.rounds = new ConsensusRounds(config, getStorage(), addressBook);
         this.ancientMode = platformContext
@@ -993,9 +999,10 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
 
         op = otherParent(x);
         sp = selfParent(x);
+        final int xCreator = creatorIndex(x);
 
         for (int mm = 0; mm < numMembers; mm++) {
-            if (creatorIndexEquals(x, mm)) {
+            if (xCreator == mm) {
                 x.setLastSee(mm, x);
             } else if (sp == null && op == null) {
                 x.setLastSee(mm, null);
@@ -1018,19 +1025,23 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
      * The witness y created by m that is seen by event x through an event z created by m2 (function
      * from SWIRLDS-TR-2020-01). This result is not memoized.
      *
+     * <p>The creator index of x is passed in by the caller, since this is called for every pair of
+     * members and looking it up in the address book each time is expensive.
+     *
      * @param x the event being queried
+     * @param xCreator the index of the creator of x, or -1 if the creator is not in the address book
      * @param m the creator of y, the event seen
      * @param m2 the creator of z, the intermediate event through which x sees y
      * @return the event y that is created by m and seen by x through an event by m2
      */
-    private @Nullable EventImpl seeThru(@Nullable final EventImpl x, final int m, final int m2) {
+    private @Nullable EventImpl seeThru(@Nullable final EventImpl x, final int xCreator, final int m, final int m2) {
         if (x == null) {
             return null;
         }
         if (notRelevantForConsensus(x)) {
             return null;
         }
-        if (m == m2 && creatorIndexEquals(x, m2)) {
+        if (m == m2 && xCreator == m2) {
             return firstSelfWitnessS(selfParent(x));
         }
         return firstSee(lastSee(x, m2), m);
@@ -1068,6 +1079,7 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
         final long prx = parentRound(x); // parent round of x
         final long prsp = parentRound(sp); // parent round of self parent of x
         final long prop = parentRound(op); // parent round of other parent of x
+        final int xCreator = creatorIndex(x); // index of the creator of x
 
         x.initStronglySeeP(numMembers);
         for (int mm = 0; mm < numMembers; mm++) {
@@ -1077,22 +1089,29 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
                 x.setStronglySeeP(mm, stronglySeeP(op, mm));
             } else {
                 // the canonical witness by mm that is seen by x thru someone else
-                final EventImpl st = seeThru(x, mm, mm);
+                final EventImpl st = seeThru(x, xCreator, mm, mm);
                 if (round(st) != prx) { // ignore if the canonical is in the wrong round, or doesn't exist
                     x.setStronglySeeP(mm, null);
                 } else {
-                    long weight = 0;
+                    long weight = 0; // weight of intermediates that see the canonical witness
+                    long unchecked = totalWeight; // weight of intermediates not yet checked
+                    boolean supermajority = false;
                     for (int m3 = 0; m3 < numMembers; m3++) {
-                        if (seeThru(x, mm, m3) == st) { // only count intermediates that see the canonical witness
-                            weight += getWeight(m3);
+                        if (seeThru(x, xCreator, mm, m3) == st) { // only count intermediates that see the canonical
+                            weight += weights[m3];
+                        }
+                        unchecked -= weights[m3];
+                        // the threshold is monotonic, so stop as soon as the outcome can no longer change
+                        if (Threshold.SUPER_MAJORITY.isSatisfiedBy(weight, totalWeight)) {
+                            supermajority = true;
+                            break;
+                        }
+                        if (!Threshold.SUPER_MAJORITY.isSatisfiedBy(weight + unchecked, totalWeight)) {
+                            break;
                         }
                     }
-                    if (Threshold.SUPER_MAJORITY.isSatisfiedBy(weight, totalWeight)) { // strongly see supermajority of
-                        // intermediates
-                        x.setStronglySeeP(mm, st);
-                    } else {
-                        x.setStronglySeeP(mm, null);
-                    }
+                    // strongly see supermajority of intermediates
+                    x.setStronglySeeP(mm, supermajority ? st : null);
                 }
             }
         }
@@ -1185,7 +1204,7 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
         int numStronglySeen = 0;
         for (int m = 0; m < numMembers; m++) {
             if (timedStronglySeeP(x, m) != null) {
-                weight += getWeight(m);
+                weight += weights[m];
                 numStronglySeen++;
             }
         }
@@ -1296,24 +1315,14 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
     }
 
     /**
-     * Get the weight of a node by its index
-     * @param nodeIndex the index of the node
-     * @return the weight of the node
+     * Get the index in the address book of the creator of the event
+     * @param e the event whose creator to look up
+     * @return the index of the creator, or -1 if the creator is not in the address book
      */
-    private long getWeight(final int nodeIndex) {
-        return getWeight(addressBook.getNodeId(nodeIndex));
-    }
-
-    /**
-     * Check the index in the address book of the creator of the event
-     * @param e the event whose creator to check
-     * @param index the index
-     * @return true if this creator is in the address book and has the given index
-     */
-    private boolean creatorIndexEquals(@NonNull final EventImpl e, final int index) {
+    private int creatorIndex(@NonNull final EventImpl e) {
         if (!addressBook.contains(e.getCreatorId())) {
-            return false;
+            return -1;
         }
-        return addressBook.getIndexOfNodeId(e.getCreatorId()) == index;
+        return addressBook.getIndexOfNodeId(e.getCreatorId());
     }
 }
@@ -29,7 +29,7 @@ import com.swirlds.platform.components.appcomm.LatestCompleteStateNotifier;
 import com.swirlds.platform.components.consensus.ConsensusEngine;
 import com.swirlds.platform.components.consensus.DefaultConsensusEngine;
 import com.swirlds.platform.config.StateConfig;
-import com.swirlds.platform.crypto.CryptoStatic;
+import com.swirlds.platform.crypto.CachingSignatureVerifier;
 import com.swirlds.platform.crypto.PlatformSigner;
 import com.swirlds.platform.event.branching.BranchDetector;
 import com.swirlds.platform.event.branching.BranchReporter;
@@ -358,7 +358,7 @@ public class PlatformComponentBuilder {
         if (eventSignatureValidator == null) {
             eventSignatureValidator = new DefaultEventSignatureValidator(
                     blocks.platformContext(),
-                    CryptoStatic::verifySignature,
+                    new CachingSignatureVerifier(),
                     blocks.appVersion().getPbjSemanticVersion(),
                     blocks.initialState().get().getState().getPlatformState().getPreviousAddressBook(),
                     blocks.initialAddressBook(),
@@ -82,6 +82,8 @@ import java.time.Duration;
  *                                      resubmitted. Age is measured by taking the round number of the most recent round
  *                                      to reach consensus and subtracting the round that the signature transaction
  *                                      signs.
+ * @param snapshotParallelism           The maximum number of virtual maps that are written to or loaded from a saved
+ *                                      state in parallel. If 1, they are processed one after another.
  */
 @ConfigData("state")
 public record StateConfig(
@@ -104,7 +106,8 @@ public record StateConfig(
         @ConfigProperty(defaultValue = "emergencyRecovery.yaml") String emergencyStateFileName,
         @ConfigProperty(defaultValue = "false") boolean deleteInvalidStateFiles,
         @ConfigProperty(defaultValue = "true") boolean validateInitialState,
-        @ConfigProperty(defaultValue = "500") long maxSignatureResubmitAge) {
+        @ConfigProperty(defaultValue = "500") long maxSignatureResubmitAge,
+        @ConfigProperty(defaultValue = "8") int snapshotParallelism) {
 
     /**
      * Get the main class name that should be used for signed states.
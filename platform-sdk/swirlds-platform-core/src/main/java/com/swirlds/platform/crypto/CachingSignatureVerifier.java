@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.crypto;
+
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.crypto.CryptographyException;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A {@link SignatureVerifier} that amortizes the cost of key setup across many verifications. Each thread keeps one
+ * {@link Signature} instance per public key, already initialized for verification. Since a {@link Signature} returns
+ * to its initialized state after every call to {@link Signature#verify(byte[])}, a burst of events from the same
+ * creator only pays for the provider lookup and {@link Signature#initVerify(PublicKey)} once per thread.
+ * <p>
+ * This class is thread safe, it may be used from a concurrent scheduler.
+ */
+public class CachingSignatureVerifier implements SignatureVerifier {
+    private static final Logger logger = LogManager.getLogger(CachingSignatureVerifier.class);
+
+    /**
+     * The default maximum number of keys cached by each thread. Once exceeded, the cache of that thread is cleared.
+     * This bounds memory if keys are rotated over a long period of time.
+     */
+    public static final int DEFAULT_MAX_CACHED_KEYS = 1024;
+
+    private final int maxCachedKeys;
+
+    private final ThreadLocal<Map<PublicKey, Signature>> verifiers = ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * Create a verifier that caches up to {@link #DEFAULT_MAX_CACHED_KEYS} keys per thread.
+     */
+    public CachingSignatureVerifier() {
+        this(DEFAULT_MAX_CACHED_KEYS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param maxCachedKeys the maximum number of keys cached by each thread
+     */
+    public CachingSignatureVerifier(final int maxCachedKeys) {
+        if (maxCachedKeys < 1) {
+            throw new IllegalArgumentException("maxCachedKeys must be positive");
+        }
+        this.maxCachedKeys = maxCachedKeys;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean verifySignature(
+            @NonNull final Bytes data, @NonNull final Bytes signature, @NonNull final PublicKey publicKey) {
+        Objects.requireNonNull(data);
+        Objects.requireNonNull(signature);
+        Objects.requireNonNull(publicKey);
+
+        final Map<PublicKey, Signature> threadVerifiers = verifiers.get();
+        try {
+            Signature sig = threadVerifiers.get(publicKey);
+            if (sig == null) {
+                if (threadVerifiers.size() >= maxCachedKeys) {
+                    threadVerifiers.clear();
+                }
+                sig = Signature.getInstance(CryptoConstants.SIG_TYPE2, CryptoConstants.SIG_PROVIDER);
+                sig.initVerify(publicKey);
+                threadVerifiers.put(publicKey, sig);
+            }
+            data.updateSignature(sig);
+            return signature.verifySignature(sig);
+        } catch (final NoSuchAlgorithmException | NoSuchProviderException e) {
+            // should never happen
+            throw new CryptographyException("Exception occurred while validating a signature:", e, EXCEPTION);
+        } catch (final InvalidKeyException | SignatureException e) {
+            // do not trust the state of an instance that failed, it will be re-created on the next call
+            threadVerifiers.remove(publicKey);
+            logger.error(EXCEPTION.getMarker(), "Exception occurred while validating a signature:", e);
+            return false;
+        }
+    }
+}
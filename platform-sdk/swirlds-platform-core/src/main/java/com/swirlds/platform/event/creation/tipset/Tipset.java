@@ -111,6 +111,16 @@ public class Tipset {
         return tips[index];
     }
 
+    /**
+     * Get the tip generation for a given node index.
+     *
+     * @param index the index of the node in the address book
+     * @return the tip generation for the node
+     */
+    long getTipGenerationForIndex(final int index) {
+        return tips[index];
+    }
+
     /**
      * Get the number of tips currently being tracked.
      *
@@ -180,6 +190,46 @@ public class Tipset {
         return TipsetAdvancementWeight.of(nonZeroWeight, zeroWeightCount);
     }
 
+    /**
+     * Same as {@link #getTipAdvancementWeight(NodeId, Tipset)} where the other tipset is the merge of the given tipsets
+     * (see {@link #merge(List)}), but without building the merged tipset. Node weights are provided by the caller, so
+     * no address book lookups are needed. This method doesn't allocate any memory other than the result.
+     *
+     * @param selfIndex the index of the node to compute the advancement weight relative to
+     * @param weights   node weights, indexed by node index
+     * @param tipsets   the tipsets to compare to, must be non-empty, tipsets must be constructed from the same address
+     *                  book as this tipset
+     * @return the tipset advancement weight
+     */
+    @NonNull
+    TipsetAdvancementWeight getMergedTipAdvancementWeight(
+            final int selfIndex, @NonNull final long[] weights, @NonNull final List<Tipset> tipsets) {
+        long nonZeroWeight = 0;
+        long zeroWeightCount = 0;
+
+        final int tipsetCount = tipsets.size();
+        for (int index = 0; index < tips.length; index++) {
+            if (index == selfIndex) {
+                // We don't consider self advancement here, since self advancement does nothing to help consensus.
+                continue;
+            }
+
+            final long tip = tips[index];
+            for (int i = 0; i < tipsetCount; i++) {
+                if (tip < tipsets.get(i).tips[index]) {
+                    if (weights[index] == 0) {
+                        zeroWeightCount += 1;
+                    } else {
+                        nonZeroWeight += weights[index];
+                    }
+                    break;
+                }
+            }
+        }
+
+        return TipsetAdvancementWeight.of(nonZeroWeight, zeroWeightCount);
+    }
+
     /**
      * {@inheritDoc}
      */
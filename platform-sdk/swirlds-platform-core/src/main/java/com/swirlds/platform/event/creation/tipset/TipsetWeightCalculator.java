@@ -86,6 +86,22 @@ public class TipsetWeightCalculator {
      */
     private final long selfWeight;
 
+    /**
+     * The index of the node tracked by this object in the address book.
+     */
+    private final int selfIndex;
+
+    /**
+     * Node weights, indexed by node index in the address book. Looked up once, so that scoring candidate parents
+     * doesn't need any address book lookups.
+     */
+    private final long[] weights;
+
+    /**
+     * A reusable list of parent tipsets, used when computing theoretical advancement weights.
+     */
+    private final List<Tipset> parentTipsets = new ArrayList<>(2);
+
     /**
      * The maximum possible advancement weight for an event.
      */
@@ -129,6 +145,11 @@ public class TipsetWeightCalculator {
 
         totalWeight = addressBook.getTotalWeight();
         selfWeight = addressBook.getAddress(selfId).getWeight();
+        selfIndex = addressBook.getIndexOfNodeId(selfId);
+        weights = new long[addressBook.getSize()];
+        for (int index = 0; index < weights.length; index++) {
+            weights[index] = addressBook.getAddress(addressBook.getNodeId(index)).getWeight();
+        }
         maximumPossibleAdvancementWeight = totalWeight - selfWeight;
         maxSnapshotHistorySize = platformContext
                 .getConfiguration()
@@ -185,7 +206,10 @@ public class TipsetWeightCalculator {
             throw new IllegalArgumentException("event " + event + " is not in the tipset tracker");
         }
 
-        final TipsetAdvancementWeight advancementWeight = snapshot.getTipAdvancementWeight(selfId, eventTipset);
+        parentTipsets.clear();
+        parentTipsets.add(eventTipset);
+        final TipsetAdvancementWeight advancementWeight =
+                snapshot.getMergedTipAdvancementWeight(selfIndex, weights, parentTipsets);
         if (advancementWeight.advancementWeight() > maximumPossibleAdvancementWeight) {
             throw new IllegalStateException("advancement weight " + advancementWeight
                     + " is greater than the maximum possible weight " + maximumPossibleAdvancementWeight);
@@ -221,7 +245,7 @@ public class TipsetWeightCalculator {
             return ZERO_ADVANCEMENT_WEIGHT;
         }
 
-        final List<Tipset> parentTipsets = new ArrayList<>(parents.size());
+        parentTipsets.clear();
         for (final EventDescriptorWrapper parent : parents) {
             final Tipset parentTipset = tipsetTracker.getTipset(parent);
 
@@ -249,11 +273,11 @@ public class TipsetWeightCalculator {
             return ZERO_ADVANCEMENT_WEIGHT;
         }
 
-        // Don't bother advancing the self generation in this theoretical tipset,
-        // since self advancement doesn't contribute to tipset advancement weight.
-        final Tipset newTipset = Tipset.merge(parentTipsets);
-
-        return snapshot.getTipAdvancementWeight(selfId, newTipset).minus(previousAdvancementWeight);
+        // Compare against the merge of the parent tipsets without building it. Don't bother advancing the
+        // self generation in this theoretical tipset, since self advancement doesn't contribute to tipset
+        // advancement weight.
+        return snapshot.getMergedTipAdvancementWeight(selfIndex, weights, parentTipsets)
+                .minus(previousAdvancementWeight);
     }
 
     /**
@@ -290,8 +314,14 @@ public class TipsetWeightCalculator {
             return 0;
         }
 
-        if (latestSelfEventTipset.getTipGenerationForNode(nodeId)
-                > snapshotHistory.getLast().getTipGenerationForNode(nodeId)) {
+        final int index = addressBook.getIndexOfNodeId(nodeId);
+        if (index == AddressBook.NOT_IN_ADDRESS_BOOK_INDEX) {
+            // Tip generations of unknown nodes are always undefined, so they never advance.
+            return 0;
+        }
+
+        if (latestSelfEventTipset.getTipGenerationForIndex(index)
+                > snapshotHistory.getLast().getTipGenerationForIndex(index)) {
             // Special case: we have advanced this generation since the snapshot was taken.
             return 0;
         }
@@ -307,8 +337,8 @@ public class TipsetWeightCalculator {
             final Tipset currentTipset = previousTipset;
             previousTipset = iterator.next();
 
-            final long previousGeneration = previousTipset.getTipGenerationForNode(nodeId);
-            final long currentGeneration = currentTipset.getTipGenerationForNode(nodeId);
+            final long previousGeneration = previousTipset.getTipGenerationForIndex(index);
+            final long currentGeneration = currentTipset.getTipGenerationForIndex(index);
 
             if (currentGeneration == latestGeneration || previousGeneration < currentGeneration) {
                 // We stop increasing the selfishness score if we observe one of the two following events:
@@ -22,13 +22,19 @@ import java.util.Objects;
 
 /**
  * Default implementation of the {@link EventHasher}.
+ * <p>
+ * Events are hashed on a concurrent scheduler, so every thread reuses its own {@link PbjStreamHasher} rather than
+ * creating digests for every event.
  */
 public class DefaultEventHasher implements EventHasher {
+
+    private final ThreadLocal<PbjStreamHasher> hashers = ThreadLocal.withInitial(PbjStreamHasher::new);
+
     @Override
     @NonNull
     public PlatformEvent hashEvent(@NonNull final PlatformEvent event) {
         Objects.requireNonNull(event);
-        new PbjStreamHasher().hashEvent(event);
+        hashers.get().hashEvent(event);
         return event;
     }
 }
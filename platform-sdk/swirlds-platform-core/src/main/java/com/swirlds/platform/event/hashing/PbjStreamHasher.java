@@ -29,15 +29,22 @@ import com.swirlds.platform.system.events.UnsignedEvent;
 import com.swirlds.platform.system.transaction.TransactionWrapper;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
+import java.security.DigestException;
 import java.security.MessageDigest;
+import java.util.List;
 import java.util.Objects;
 
 /**
  * Hashes the PBJ representation of an event. This hasher double hashes each transaction in order to allow redaction of
  * transactions without invalidating the event hash.
+ * <p>
+ * An instance reuses its digests and streams for every event it hashes, so it is meant to be reused, but not shared
+ * between threads.
  */
 public class PbjStreamHasher implements EventHasher, UnsignedEventHasher {
 
+    private static final int HASH_LENGTH = DigestType.SHA_384.digestLength();
+
     /** The hashing stream for the event. */
     private final MessageDigest eventDigest = DigestType.SHA_384.buildDigest();
 
@@ -63,18 +70,30 @@ public class PbjStreamHasher implements EventHasher, UnsignedEventHasher {
      * @param event the event to hash
      */
     public void hashUnsignedEvent(@NonNull final UnsignedEvent event) {
+        // discard anything left over from an event that failed to hash
+        eventDigest.reset();
+        transactionDigest.reset();
+
+        final List<TransactionWrapper> transactions = event.getTransactions();
+        // the transaction hashes live as long as the event, so they share a single array
+        final byte[] transactionHashes = new byte[transactions.size() * HASH_LENGTH];
+        final byte[] eventHash = new byte[HASH_LENGTH];
         try {
             EventCore.PROTOBUF.write(event.getEventCore(), eventStream);
-            for (final TransactionWrapper transaction : event.getTransactions()) {
+            int offset = 0;
+            for (final TransactionWrapper transaction : transactions) {
+                // the payload is streamed into the digest straight from its bytes, without copying
                 EventTransaction.PROTOBUF.write(transaction.getTransaction(), transactionStream);
-                byte[] hash = transactionDigest.digest();
-                transaction.setHash(Bytes.wrap(hash));
-                eventStream.writeBytes(hash);
+                transactionDigest.digest(transactionHashes, offset, HASH_LENGTH);
+                transaction.setHash(Bytes.wrap(transactionHashes, offset, HASH_LENGTH));
+                eventStream.writeBytes(transactionHashes, offset, HASH_LENGTH);
+                offset += HASH_LENGTH;
             }
-        } catch (final IOException e) {
+            eventDigest.digest(eventHash, 0, HASH_LENGTH);
+        } catch (final IOException | DigestException e) {
             throw new RuntimeException("An exception occurred while trying to hash an event!", e);
         }
 
-        event.setHash(new Hash(eventDigest.digest(), DigestType.SHA_384));
+        event.setHash(new Hash(eventHash, DigestType.SHA_384));
     }
 }
@@ -25,6 +25,7 @@ import static com.swirlds.metrics.api.Metrics.PLATFORM_CATEGORY;
 import com.swirlds.base.units.UnitConstants;
 import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.extensions.CountPerSecond;
+import com.swirlds.metrics.api.Histogram;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.platform.consensus.EventWindow;
 import com.swirlds.platform.gossip.shadowgraph.ShadowgraphSynchronizer;
@@ -137,6 +138,12 @@ public class SyncMetrics {
             .withDescription("Number of times per second we do not sync because the intake counter is too high");
     private final CountPerSecond doNotSyncIntakeCounter;
 
+    private static final Histogram.Config SYNC_DURATION_CONFIG = new Histogram.Config(
+                    PLATFORM_CATEGORY, "syncDuration")
+            .withDescription("the distribution of the duration of successful syncs (in microseconds)")
+            .withUnit(UnitConstants.MICROSECOND_UNIT);
+    private final Histogram syncDuration;
+
     private final RunningAverageMetric tipsPerSync;
 
     private final AverageStat syncIndicatorDiff;
@@ -171,6 +178,7 @@ public class SyncMetrics {
         outgoingSyncRequestsPerSec = new CountPerSecond(metrics, OUTGOING_SYNC_REQUESTS_CONFIG);
         syncsPerSec = new CountPerSecond(metrics, SYNCS_PER_SECOND_CONFIG);
         syncFilterTime = metrics.getOrCreate(SYNC_FILTER_TIME_CONFIG);
+        syncDuration = metrics.getOrCreate(SYNC_DURATION_CONFIG);
 
         doNoSyncPlatformStatus = new CountPerSecond(metrics, DO_NOT_SYNC_PLATFORM_STATUS);
         doNotSyncCooldown = new CountPerSecond(metrics, DO_NOT_SYNC_COOLDOWN_CONFIG);
@@ -297,6 +305,7 @@ public class SyncMetrics {
         avgSyncDuration5.update(timing.getTimePoint(4), timing.getTimePoint(5));
 
         avgSyncDuration.update(timing.getTimePoint(0), timing.getTimePoint(5));
+        syncDuration.update((long) (timing.getPointDiff(5, 0) * UnitConstants.NANOSECONDS_TO_MICROSECONDS));
         final double syncDurationSec = timing.getPointDiff(5, 0) * UnitConstants.NANOSECONDS_TO_SECONDS;
         final double speed = Math.max(
                         conn.getDis().getSyncByteCounter().getCount(),
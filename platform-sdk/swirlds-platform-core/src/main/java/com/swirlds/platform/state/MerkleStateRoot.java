@@ -31,6 +31,7 @@ import com.hedera.hapi.block.stream.output.StateChanges;
 import com.hedera.hapi.node.base.SemanticVersion;
 import com.swirlds.common.constructable.ConstructableIgnored;
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.crypto.MerkleCryptography;
@@ -84,15 +85,19 @@ import com.swirlds.virtualmap.VirtualMap;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -1062,7 +1067,7 @@ public class MerkleStateRoot extends PartialNaryMerkleInternal
             return;
         }
         try {
-            merkleCryptography.digestTreeAsync(this).get();
+            computeHash(merkleCryptography, (serviceName, hashingTime) -> {});
         } catch (final ExecutionException e) {
             logger.error(EXCEPTION.getMarker(), "Exception occurred during hashing", e);
         } catch (final InterruptedException e) {
@@ -1070,4 +1075,77 @@ public class MerkleStateRoot extends PartialNaryMerkleInternal
             Thread.currentThread().interrupt();
         }
     }
+
+    /**
+     * Hashes this state. The states of each service are hashed by a separate task on the hashing executor of the given
+     * merkle cryptography, so that independent services are hashed at the same time. Singleton and queue states that
+     * were not modified since their previous copy was hashed reuse its hashes, so a service whose states are all
+     * unmodified singletons and queues is not hashed at all.
+     *
+     * @param merkleCryptography  the merkle cryptography to hash with
+     * @param hashingTimeObserver called on the calling thread with the time it took to hash the states of each service
+     *                            that had to be hashed
+     * @return the hash of this state
+     * @throws ExecutionException   if hashing the states of a service failed
+     * @throws InterruptedException if the calling thread was interrupted while waiting for the services to be hashed
+     */
+    @NonNull
+    public Hash computeHash(
+            @NonNull final MerkleCryptography merkleCryptography,
+            @NonNull final BiConsumer<String, Duration> hashingTimeObserver)
+            throws ExecutionException, InterruptedException {
+        requireNonNull(merkleCryptography);
+        requireNonNull(hashingTimeObserver);
+        if (getHash() != null) {
+            return getHash();
+        }
+
+        final Map<String, List<MerkleNode>> modifiedStates = new LinkedHashMap<>();
+        for (int i = 0, n = getNumberOfChildren(); i < n; i++) {
+            final MerkleNode child = getChild(i);
+            if (child == null || child.getHash() != null || reuseHashIfUnchanged(child)) {
+                continue;
+            }
+            modifiedStates
+                    .computeIfAbsent(serviceNameOf(child), k -> new ArrayList<>())
+                    .add(child);
+        }
+
+        final Map<String, CompletableFuture<Duration>> hashingTimes = new LinkedHashMap<>();
+        modifiedStates.forEach((serviceName, states) -> hashingTimes.put(
+                serviceName,
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            final long start = System.nanoTime();
+                            for (final MerkleNode state : states) {
+                                merkleCryptography.digestTreeSync(state);
+                            }
+                            return Duration.ofNanos(System.nanoTime() - start);
+                        },
+                        merkleCryptography.getHashingExecutor())));
+        for (final var entry : hashingTimes.entrySet()) {
+            hashingTimeObserver.accept(entry.getKey(), entry.getValue().get());
+        }
+
+        return merkleCryptography.digestSync(this);
+    }
+
+    private static boolean reuseHashIfUnchanged(@NonNull final MerkleNode state) {
+        if (state instanceof SingletonNode<?> singletonNode) {
+            return singletonNode.reuseHashIfUnchanged();
+        } else if (state instanceof QueueNode<?> queueNode) {
+            return queueNode.reuseHashIfUnchanged();
+        }
+        return false;
+    }
+
+    @NonNull
+    private static String serviceNameOf(@NonNull final MerkleNode state) {
+        if (state instanceof Labeled labeled && labeled.getLabel() != null) {
+            final String label = labeled.getLabel();
+            final int separator = label.indexOf('.');
+            return separator < 0 ? label : label.substring(0, separator);
+        }
+        return state.getClass().getSimpleName();
+    }
 }
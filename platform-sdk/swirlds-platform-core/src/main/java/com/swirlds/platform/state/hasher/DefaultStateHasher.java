@@ -20,6 +20,8 @@ import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.merkle.crypto.MerkleCryptoFactory;
+import com.swirlds.platform.state.MerkleRoot;
+import com.swirlds.platform.state.MerkleStateRoot;
 import com.swirlds.platform.wiring.components.StateAndRound;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -57,9 +59,13 @@ public class DefaultStateHasher implements StateHasher {
     public StateAndRound hashState(@NonNull final StateAndRound stateAndRound) {
         final Instant start = Instant.now();
         try {
-            MerkleCryptoFactory.getInstance()
-                    .digestTreeAsync(stateAndRound.reservedSignedState().get().getState())
-                    .get();
+            final MerkleRoot state = stateAndRound.reservedSignedState().get().getState();
+            if (state instanceof MerkleStateRoot merkleStateRoot) {
+                // hash the services in parallel, and only the ones that changed
+                merkleStateRoot.computeHash(MerkleCryptoFactory.getInstance(), metrics::reportServiceHashingTime);
+            } else {
+                MerkleCryptoFactory.getInstance().digestTreeAsync(state).get();
+            }
 
             metrics.reportHashingTime(Duration.between(start, Instant.now()));
 
@@ -20,6 +20,9 @@ import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Encapsulates metrics for state hashing.
@@ -30,14 +33,19 @@ public class StateHasherMetrics {
                     "platform", "sigStateHash")
             .withDescription("average time it takes to hash a SignedState (in milliseconds)")
             .withUnit("ms");
+    private static final String SERVICE_HASHING_TIME = "sigStateHash_";
     private final RunningAverageMetric stateHashingTime;
 
+    private final Metrics metrics;
+    private final Map<String, RunningAverageMetric> serviceHashingTimes = new HashMap<>();
+
     /**
      * Constructor.
      *
      * @param metrics the metrics object
      */
     public StateHasherMetrics(@NonNull final Metrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
         stateHashingTime = metrics.getOrCreate(STATE_HASHING_TIME_CONFIG);
     }
     /**
@@ -48,4 +56,23 @@ public class StateHasherMetrics {
     public void reportHashingTime(@NonNull final Duration hashingTime) {
         stateHashingTime.update(hashingTime.toMillis());
     }
+
+    /**
+     * Report the time taken to hash the states of a service. The metric for a service is created the first time its
+     * hashing time is reported.
+     *
+     * @param serviceName the name of the service
+     * @param hashingTime the time taken to hash the states of the service
+     */
+    public void reportServiceHashingTime(@NonNull final String serviceName, @NonNull final Duration hashingTime) {
+        serviceHashingTimes
+                .computeIfAbsent(
+                        serviceName,
+                        name -> metrics.getOrCreate(new RunningAverageMetric.Config(
+                                        "platform", SERVICE_HASHING_TIME + name)
+                                .withDescription("average time it takes to hash the states of " + name
+                                        + " in a SignedState (in milliseconds)")
+                                .withUnit("ms")))
+                .update(hashingTime.toNanos() / 1_000_000.0);
+    }
 }
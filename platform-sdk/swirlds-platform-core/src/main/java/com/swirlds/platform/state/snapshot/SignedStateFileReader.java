@@ -18,6 +18,7 @@ package com.swirlds.platform.state.snapshot;
 
 import static com.swirlds.common.io.streams.StreamDebugUtils.deserializeAndDebugOnFailure;
 import static com.swirlds.platform.state.snapshot.SignedStateFileUtils.VERSIONED_FILE_BYTE;
+import static com.swirlds.platform.state.snapshot.SignedStateFileUtils.createSnapshotExecutor;
 import static java.nio.file.Files.exists;
 
 import com.swirlds.base.function.CheckedBiFunction;
@@ -39,6 +40,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Utility methods for reading a signed state from disk.
@@ -90,22 +92,27 @@ public final class SignedStateFileReader {
 
         record StateFileData(MerkleRoot state, Hash hash, SigSet sigSet) {}
 
-        final StateFileData data = deserializeAndDebugOnFailure(
-                () -> new BufferedInputStream(new FileInputStream(stateFile.toFile())),
-                (final MerkleDataInputStream in) -> {
-                    readAndCheckVersion(in);
-
-                    final Path directory = stateFile.getParent();
-
-                    try {
-                        final MerkleRoot state = snapshotStateReader.apply(in, directory);
-                        final Hash hash = in.readSerializable();
-                        final SigSet sigSet = in.readSerializable();
-                        return new StateFileData(state, hash, sigSet);
-                    } catch (final IOException e) {
-                        throw new IOException("Failed to read snapshot file " + stateFile.toFile(), e);
-                    }
-                });
+        final StateFileData data;
+        try (final ExecutorService executor = createSnapshotExecutor(platformContext)) {
+            data = deserializeAndDebugOnFailure(
+                    () -> new BufferedInputStream(new FileInputStream(stateFile.toFile())),
+                    (final MerkleDataInputStream in) -> {
+                        readAndCheckVersion(in);
+
+                        final Path directory = stateFile.getParent();
+
+                        try {
+                            // virtual maps are loaded in parallel while the rest of the state is read
+                            in.setExternalNodeExecutor(executor);
+                            final MerkleRoot state = snapshotStateReader.apply(in, directory);
+                            final Hash hash = in.readSerializable();
+                            final SigSet sigSet = in.readSerializable();
+                            return new StateFileData(state, hash, sigSet);
+                        } catch (final IOException e) {
+                            throw new IOException("Failed to read snapshot file " + stateFile.toFile(), e);
+                        }
+                    });
+        }
 
         final SignedState newSignedState = new SignedState(
                 platformContext,
@@ -16,11 +16,19 @@
 
 package com.swirlds.platform.state.snapshot;
 
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+
+import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.io.streams.MerkleDataInputStream;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import com.swirlds.platform.config.StateConfig;
 import com.swirlds.platform.state.MerkleRoot;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Utility methods for dealing with signed states on disk.
@@ -53,6 +61,31 @@ public final class SignedStateFileUtils {
 
     private SignedStateFileUtils() {}
 
+    /**
+     * Create a thread pool that writes or loads the virtual maps of a state snapshot in parallel, as configured by
+     * {@link StateConfig#snapshotParallelism()}. The caller is responsible for closing it.
+     *
+     * @param platformContext the platform context
+     * @return the thread pool, or null if the virtual maps should be processed on the calling thread
+     */
+    @Nullable
+    static ExecutorService createSnapshotExecutor(@NonNull final PlatformContext platformContext) {
+        final int parallelism = platformContext
+                .getConfiguration()
+                .getConfigData(StateConfig.class)
+                .snapshotParallelism();
+        if (parallelism <= 1) {
+            return null;
+        }
+        return Executors.newFixedThreadPool(
+                parallelism,
+                new ThreadConfiguration(getStaticThreadManager())
+                        .setComponent("state")
+                        .setThreadName("snapshot-io")
+                        .setDaemon(true)
+                        .buildFactory());
+    }
+
     /**
      * A helper function to read state snapshots, assuming the merkle tree was serialized using
      * {@link com.swirlds.common.io.SelfSerializable} mechanism. Used in {@link
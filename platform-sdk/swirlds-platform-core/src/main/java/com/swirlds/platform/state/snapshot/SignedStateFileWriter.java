@@ -27,6 +27,7 @@ import static com.swirlds.platform.state.snapshot.SignedStateFileUtils.FILE_VERS
 import static com.swirlds.platform.state.snapshot.SignedStateFileUtils.HASH_INFO_FILE_NAME;
 import static com.swirlds.platform.state.snapshot.SignedStateFileUtils.SIGNED_STATE_FILE_NAME;
 import static com.swirlds.platform.state.snapshot.SignedStateFileUtils.VERSIONED_FILE_BYTE;
+import static com.swirlds.platform.state.snapshot.SignedStateFileUtils.createSnapshotExecutor;
 
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
@@ -46,6 +47,8 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -114,9 +117,15 @@ public final class SignedStateFileWriter {
      * @param out         the stream to write to
      * @param directory   the directory to write to
      * @param signedState the signed state to write
+     * @param executor    the executor that writes virtual maps in parallel, or null to write them on this thread
      */
     private static void writeStateFileToStream(
-            final MerkleDataOutputStream out, final Path directory, final SignedState signedState) throws IOException {
+            final MerkleDataOutputStream out,
+            final Path directory,
+            final SignedState signedState,
+            @Nullable final Executor executor)
+            throws IOException {
+        out.setExternalNodeExecutor(executor);
         out.write(VERSIONED_FILE_BYTE);
         out.writeInt(FILE_VERSION);
         out.writeProtocolVersion();
@@ -133,7 +142,28 @@ public final class SignedStateFileWriter {
      */
     public static void writeStateFile(final Path directory, final SignedState signedState) throws IOException {
         writeAndFlush(
-                directory.resolve(SIGNED_STATE_FILE_NAME), out -> writeStateFileToStream(out, directory, signedState));
+                directory.resolve(SIGNED_STATE_FILE_NAME),
+                out -> writeStateFileToStream(out, directory, signedState, null));
+    }
+
+    /**
+     * Write the signed state file. Virtual maps are written in parallel as configured by
+     * {@link StateConfig#snapshotParallelism()}.
+     *
+     * @param platformContext the platform context
+     * @param directory       the directory to write to
+     * @param signedState     the signed state to write
+     */
+    public static void writeStateFile(
+            @NonNull final PlatformContext platformContext,
+            @NonNull final Path directory,
+            @NonNull final SignedState signedState)
+            throws IOException {
+        try (final ExecutorService executor = createSnapshotExecutor(platformContext)) {
+            writeAndFlush(
+                    directory.resolve(SIGNED_STATE_FILE_NAME),
+                    out -> writeStateFileToStream(out, directory, signedState, executor));
+        }
     }
 
     /**
@@ -154,7 +184,7 @@ public final class SignedStateFileWriter {
         Objects.requireNonNull(directory);
         Objects.requireNonNull(signedState);
 
-        writeStateFile(directory, signedState);
+        writeStateFile(platformContext, directory, signedState);
         writeHashInfoFile(platformContext, directory, signedState.getState());
         writeMetadataFile(selfId, directory, signedState);
         writeEmergencyRecoveryFile(directory, signedState);
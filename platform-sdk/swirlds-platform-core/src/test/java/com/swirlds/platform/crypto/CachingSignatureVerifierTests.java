@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.crypto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.platform.system.address.AddressBook;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.security.PublicKey;
+import java.util.Map;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class CachingSignatureVerifierTests {
+
+    /**
+     * Verifies that the caching verifier gives the same answers as {@link CryptoStatic#verifySignature}, including
+     * after an invalid signature has been checked against a cached key.
+     */
+    @ParameterizedTest
+    @MethodSource({"com.swirlds.platform.crypto.CryptoArgsProvider#basicTestArgs"})
+    void matchesUncachedVerification(
+            @NonNull final AddressBook addressBook, @NonNull final Map<NodeId, KeysAndCerts> keysAndCerts) {
+        // a cache size smaller than the address book forces the cache to be cleared
+        final SignatureVerifier verifier = new CachingSignatureVerifier(3);
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < addressBook.getSize(); i++) {
+                final NodeId nodeId = addressBook.getNodeId(i);
+                final PublicKey publicKey = addressBook.getAddress(nodeId).getSigPublicKey();
+                final PublicKey otherKey = addressBook
+                        .getAddress(addressBook.getNodeId((i + 1) % addressBook.getSize()))
+                        .getSigPublicKey();
+                final PlatformSigner signer = new PlatformSigner(keysAndCerts.get(nodeId));
+
+                final Bytes data = Bytes.wrap(new byte[] {(byte) round, (byte) i, 42});
+                final Bytes signature = signer.sign(data.toByteArray()).getBytes();
+                final Bytes corrupted = Bytes.wrap(new byte[(int) signature.length()]);
+
+                assertTrue(verifier.verifySignature(data, signature, publicKey), "signature should be valid");
+                assertFalse(verifier.verifySignature(data, signature, otherKey), "wrong key should not verify");
+                assertFalse(verifier.verifySignature(data, corrupted, publicKey), "corrupted signature should fail");
+                assertTrue(
+                        verifier.verifySignature(data, signature, publicKey),
+                        "cached instance should still be usable after a failed verification");
+                assertEquals(
+                        CryptoStatic.verifySignature(data, corrupted, publicKey),
+                        verifier.verifySignature(data, corrupted, publicKey),
+                        "result should match uncached verification");
+            }
+        }
+    }
+}
@@ -18,10 +18,13 @@ package com.swirlds.platform.event.hashing;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.test.fixtures.Randotron;
 import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.system.transaction.TransactionWrapper;
 import com.swirlds.platform.test.fixtures.event.TestingEventBuilder;
+import java.util.List;
 import java.util.Random;
 import org.junit.jupiter.api.Test;
 
@@ -47,4 +50,40 @@ class EventHasherTest {
 
         assertEquals(bytesHash, event.getHash(), "PBJ bytes hasher and PBJ stream hasher should produce the same hash");
     }
+
+    /**
+     * Tests that a hasher reused for several events produces the same event and transaction hashes as a new hasher.
+     */
+    @Test
+    void reusedHasherEquivalenceTest() {
+        final Random random = Randotron.create();
+        final EventHasher reusedHasher = new DefaultEventHasher();
+
+        for (int i = 0; i < 5; i++) {
+            final PlatformEvent event = new TestingEventBuilder(random)
+                    .setAppTransactionCount(i)
+                    .setSystemTransactionCount(2)
+                    .setSelfParent(new TestingEventBuilder(random).build())
+                    .setOtherParent(new TestingEventBuilder(random).build())
+                    .build();
+
+            new PbjBytesHasher().hashEvent(event);
+            final Hash expectedHash = event.getHash();
+            final List<Bytes> expectedTransactionHashes = transactionHashes(event);
+            event.invalidateHash();
+            reusedHasher.hashEvent(event);
+
+            assertEquals(expectedHash, event.getHash(), "a reused hasher should produce the same event hash");
+            assertEquals(
+                    expectedTransactionHashes,
+                    transactionHashes(event),
+                    "a reused hasher should produce the same transaction hashes");
+        }
+    }
+
+    private static List<Bytes> transactionHashes(final PlatformEvent event) {
+        return event.getUnsignedEvent().getTransactions().stream()
+                .map(TransactionWrapper::getHash)
+                .toList();
+    }
 }
@@ -1151,5 +1151,38 @@ class MerkleStateRootTest extends MerkleTestBase {
             Hash hash2 = stateRoot.getHash();
             assertSame(hash1, hash2);
         }
+
+        @Test
+        @DisplayName("Unmodified singletons and queues reuse the hashes of their previous copy")
+        void unmodifiedStatesReuseHashes() throws Exception {
+            final MerkleStateRoot nextRound = stateRoot.copy();
+            stateRoot.computeHash();
+
+            // Only the singleton is modified in the next round
+            final WritableStates writableStates = nextRound.getWritableStates(FIRST_SERVICE);
+            writableStates.<String>getSingleton(COUNTRY_STATE_KEY).put(ESTONIA);
+            ((CommittableWritableStates) writableStates).commit();
+            final MerkleStateRoot reference = nextRound.copy();
+
+            final List<String> hashedServices = new ArrayList<>();
+            final Hash hash =
+                    nextRound.computeHash(merkleCryptography, (serviceName, time) -> hashedServices.add(serviceName));
+
+            assertThat(hashedServices).containsExactly(FIRST_SERVICE);
+            assertSame(queueHash(stateRoot), queueHash(nextRound));
+            assertThat(singletonHash(nextRound)).isNotNull().isNotEqualTo(singletonHash(stateRoot));
+            // the same state hashed from scratch has the same hash
+            assertEquals(merkleCryptography.digestTreeSync(reference), hash);
+        }
+
+        private Hash queueHash(@NonNull final MerkleStateRoot state) {
+            return state.getChild(state.findNodeIndex(FIRST_SERVICE, STEAM_STATE_KEY))
+                    .getHash();
+        }
+
+        private Hash singletonHash(@NonNull final MerkleStateRoot state) {
+            return state.getChild(state.findNodeIndex(FIRST_SERVICE, COUNTRY_STATE_KEY))
+                    .getHash();
+        }
     }
 }
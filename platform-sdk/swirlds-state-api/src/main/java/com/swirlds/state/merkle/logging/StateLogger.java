@@ -135,6 +135,29 @@ public class StateLogger {
         }
     }
 
+    /**
+     * Log the iteration over a queue that does not keep its values as {@link ValueLeaf}s.
+     *
+     * @param label The label of the queue
+     * @param size The size of the queue
+     * @param values The values of the queue, only iterated if debug logging is enabled
+     */
+    public static void logQueueIterate(@NonNull final String label, final int size, @NonNull final Iterable<?> values) {
+        if (logger.isDebugEnabled() && Thread.currentThread().getName().equals(TRANSACTION_HANDLING_THREAD_NAME)) {
+            if (size == 0) {
+                logger.debug("      ITERATE queue {} size 0 values:EMPTY", label);
+            } else {
+                logger.debug(
+                        "      ITERATE queue {} size {} values:\n{}",
+                        label,
+                        size,
+                        StreamSupport.stream(values.spliterator(), false)
+                                .map(value -> value == null ? "null" : value.toString())
+                                .collect(Collectors.joining(",\n")));
+            }
+        }
+    }
+
     /**
      * Log the put of an entry in to a map.
      *
@@ -23,22 +23,40 @@ import static com.swirlds.state.merkle.logging.StateLogger.logQueueRemove;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.pbj.runtime.Codec;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.impl.PartialBinaryMerkleInternal;
 import com.swirlds.common.merkle.utility.DebugIterationEndpoint;
 import com.swirlds.common.utility.Labeled;
 import com.swirlds.fcqueue.FCQueue;
+import com.swirlds.fcqueue.OffHeapFCQueue;
 import com.swirlds.state.merkle.StateUtils;
 import com.swirlds.state.merkle.singleton.StringLeaf;
 import com.swirlds.state.merkle.singleton.ValueLeaf;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A merkle node with a string (the label) as the left child, and the merkle node value as the right
  * child. We actually support a raw type (any type!) as the value, and we serialize it and put it
  * into a simple merkle node.
  *
+ * <p>The elements are either kept on the heap, as {@link ValueLeaf}s in an {@link FCQueue}; or off-heap, serialized
+ * in an {@link OffHeapFCQueue}. Both queues have the same hash for the same elements, so the choice does not affect
+ * the state hash. A node created to keep its elements off-heap migrates a heap queue it was deserialized with on the
+ * first modification.
+ *
+ * <p>Copies share the hashes recorded when any of them was hashed. Since a queue maintains its own hash, an unhashed
+ * copy whose queue still has the recorded hash can take over the hashes with {@link #reuseHashIfUnchanged()}.
+ *
  * @param <E> The element type
  */
 @DebugIterationEndpoint
@@ -46,6 +64,9 @@ public class QueueNode<E> extends PartialBinaryMerkleInternal implements Labeled
     private static final long CLASS_ID = 0x990FF87AD2691DCL;
     public static final int CLASS_VERSION = 1;
 
+    /** The size of the class id, version, and length that precede the element bytes in an off-heap record */
+    private static final int RECORD_HEADER_SIZE = Long.BYTES + Integer.BYTES + Integer.BYTES;
+
     /** Key codec. */
     private final Codec<E> codec;
 
@@ -54,6 +75,12 @@ public class QueueNode<E> extends PartialBinaryMerkleInternal implements Labeled
 
     private final Long leafClassId;
 
+    /** Whether this node keeps its elements off-heap */
+    private final boolean offHeap;
+
+    /** The hashes of the last hashed copy of this node, shared with all copies */
+    private final AtomicReference<HashedQueue> lastHashed;
+
     /**
      * @deprecated Only exists for constructable registry as it works today. Remove ASAP!
      */
@@ -64,10 +91,12 @@ public class QueueNode<E> extends PartialBinaryMerkleInternal implements Labeled
         this.codec = null;
         this.queueNodeClassId = CLASS_ID;
         this.leafClassId = ValueLeaf.CLASS_ID;
+        this.offHeap = false;
+        this.lastHashed = new AtomicReference<>();
     }
 
     /**
-     * Create a new instance.
+     * Create a new instance that keeps its elements on the heap.
      *
      *
      */
@@ -77,11 +106,28 @@ public class QueueNode<E> extends PartialBinaryMerkleInternal implements Labeled
             final long queueNodeClassId,
             final long leafClassId,
             @NonNull final Codec<E> codec) {
+        this(serviceName, stateKey, queueNodeClassId, leafClassId, codec, false);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param offHeap whether the elements are kept off-heap
+     */
+    public QueueNode(
+            @NonNull String serviceName,
+            @NonNull String stateKey,
+            final long queueNodeClassId,
+            final long leafClassId,
+            @NonNull final Codec<E> codec,
+            final boolean offHeap) {
         setLeft(new StringLeaf(StateUtils.computeLabel(serviceName, stateKey)));
-        setRight(new FCQueue<ValueLeaf<E>>());
+        setRight(offHeap ? new OffHeapFCQueue() : new FCQueue<ValueLeaf<E>>());
         this.codec = requireNonNull(codec);
         this.queueNodeClassId = queueNodeClassId;
         this.leafClassId = leafClassId;
+        this.offHeap = offHeap;
+        this.lastHashed = new AtomicReference<>();
     }
 
     /** Copy constructor */
@@ -91,6 +137,8 @@ public class QueueNode<E> extends PartialBinaryMerkleInternal implements Labeled
         this.codec = other.codec;
         this.queueNodeClassId = other.queueNodeClassId;
         this.leafClassId = other.leafClassId;
+        this.offHeap = other.offHeap;
+        this.lastHashed = other.lastHashed;
     }
 
     @Override
@@ -114,15 +162,60 @@ public class QueueNode<E> extends PartialBinaryMerkleInternal implements Labeled
         return left.getLabel();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setHash(@Nullable final Hash hash) {
+        super.setHash(hash);
+        final StringLeaf left = getLeft();
+        final MerkleNode right = getRight();
+        if (hash != null && left != null && left.getHash() != null && right != null && right.getHash() != null) {
+            lastHashed.set(new HashedQueue(left.getHash(), right.getHash(), hash));
+        }
+    }
+
+    /**
+     * If this node is not hashed, but its queue has the same hash as the queue of the last hashed copy of this node,
+     * sets the hashes of this node and its label to the hashes of that copy.
+     *
+     * @return true if this node is hashed after the call
+     */
+    public boolean reuseHashIfUnchanged() {
+        if (getHash() != null) {
+            return true;
+        }
+        final HashedQueue hashed = lastHashed.get();
+        final StringLeaf left = getLeft();
+        final MerkleNode right = getRight();
+        if (hashed == null || left == null || right == null || !hashed.queueHash().equals(right.getHash())) {
+            return false;
+        }
+        left.setHash(hashed.labelHash());
+        setHash(hashed.hash());
+        return true;
+    }
+
     /** Adds an element to this queue. */
     public void add(E element) {
-        getQueue().add(new ValueLeaf<>(leafClassId, codec, element));
+        final var offHeapQueue = getOffHeapQueue(true);
+        if (offHeapQueue != null) {
+            offHeapQueue.add(toRecord(element));
+        } else {
+            getQueue().add(new ValueLeaf<>(leafClassId, codec, element));
+        }
         // Log to transaction state log, what was added
         logQueueAdd(getLabel(), element);
     }
 
     /** Peek an element */
     public E peek() {
+        final var offHeapQueue = getOffHeapQueue(false);
+        if (offHeapQueue != null) {
+            final var element = fromRecord(offHeapQueue.peek());
+            logQueuePeek(getLabel(), element);
+            return element;
+        }
         final var valueLeaf = getQueue().peek();
         // Log to transaction state log, what was peeked
         logQueuePeek(getLabel(), valueLeaf);
@@ -131,6 +224,12 @@ public class QueueNode<E> extends PartialBinaryMerkleInternal implements Labeled
 
     /** Retrieve and remove an element */
     public E remove() {
+        final var offHeapQueue = getOffHeapQueue(true);
+        if (offHeapQueue != null) {
+            final var element = fromRecord(offHeapQueue.remove());
+            logQueueRemove(getLabel(), element);
+            return element;
+        }
         final var valueLeaf = getQueue().remove();
         // Log to transaction state log, what was added
         logQueueRemove(getLabel(), valueLeaf);
@@ -139,6 +238,12 @@ public class QueueNode<E> extends PartialBinaryMerkleInternal implements Labeled
 
     /** Iterate over all elements */
     public Iterator<E> iterator() {
+        final var offHeapQueue = getOffHeapQueue(false);
+        if (offHeapQueue != null) {
+            // Log to transaction state log, what was iterated
+            logQueueIterate(getLabel(), offHeapQueue.size(), () -> fromRecords(offHeapQueue.iterator()));
+            return fromRecords(offHeapQueue.iterator());
+        }
         // Log to transaction state log, what was iterated
         logQueueIterate(getLabel(), getRight());
         final var itr = getQueue().stream().iterator();
@@ -156,8 +261,78 @@ public class QueueNode<E> extends PartialBinaryMerkleInternal implements Labeled
         };
     }
 
+    /**
+     * Returns the off-heap queue, or {@code null} if the elements are kept on the heap.
+     *
+     * @param migrate whether a heap queue is migrated first if this node keeps its elements off-heap
+     */
+    @Nullable
+    private OffHeapFCQueue getOffHeapQueue(final boolean migrate) {
+        if (migrate && offHeap && getRight() instanceof FCQueue<?>) {
+            final var offHeapQueue = new OffHeapFCQueue();
+            for (final var valueLeaf : getQueue()) {
+                offHeapQueue.add(toRecord(valueLeaf.getValue()));
+            }
+            setRight(offHeapQueue);
+        }
+        return getRight() instanceof OffHeapFCQueue offHeapQueue ? offHeapQueue : null;
+    }
+
+    /**
+     * Serializes an element the way a {@link ValueLeaf} is self-serialized for hashing, which keeps the hash of an
+     * {@link OffHeapFCQueue} equal to the hash of an {@link FCQueue} with the same elements.
+     */
+    @NonNull
+    private Bytes toRecord(@NonNull final E element) {
+        final int length = codec.measureRecord(element);
+        final byte[] bytes = new byte[RECORD_HEADER_SIZE + length];
+        final var out = BufferedData.wrap(bytes);
+        out.writeLong(leafClassId);
+        out.writeInt(ValueLeaf.CLASS_VERSION);
+        out.writeInt(length);
+        try {
+            codec.write(element, out);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Bytes.wrap(bytes);
+    }
+
+    @NonNull
+    private Iterator<E> fromRecords(@NonNull final Iterator<Bytes> records) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return records.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return fromRecord(records.next());
+            }
+        };
+    }
+
+    @Nullable
+    private E fromRecord(@Nullable final Bytes record) {
+        if (record == null) {
+            return null;
+        }
+        try {
+            return codec.parse(record.slice(RECORD_HEADER_SIZE, record.length() - RECORD_HEADER_SIZE)
+                    .toReadableSequentialData());
+        } catch (final ParseException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     /** Utility shorthand to get the queue */
     private FCQueue<ValueLeaf<E>> getQueue() {
         return getRight();
     }
+
+    /**
+     * The hashes of a node and its children.
+     */
+    private record HashedQueue(@NonNull Hash labelHash, @NonNull Hash queueHash, @NonNull Hash hash) {}
 }
@@ -20,6 +20,7 @@ import static com.swirlds.state.merkle.logging.StateLogger.logSingletonRead;
 import static com.swirlds.state.merkle.logging.StateLogger.logSingletonWrite;
 
 import com.hedera.pbj.runtime.Codec;
+import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.impl.PartialBinaryMerkleInternal;
 import com.swirlds.common.merkle.utility.DebugIterationEndpoint;
@@ -27,12 +28,17 @@ import com.swirlds.common.utility.Labeled;
 import com.swirlds.state.merkle.StateUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A merkle node with a string (the label) as the left child, and the merkle node value as the right
  * child. We actually support a raw type (any type!) as the value, and we serialize it and put it
  * into a simple merkle node.
  *
+ * <p>Most singletons are not modified in most rounds. A copy shares the hashes recorded when its original was hashed
+ * until its value is set, so an unmodified copy can take over those hashes with {@link #reuseHashIfUnchanged()}
+ * instead of being hashed again.
+ *
  * @param <T> The value type
  */
 @DebugIterationEndpoint
@@ -40,6 +46,12 @@ public class SingletonNode<T> extends PartialBinaryMerkleInternal implements Lab
     static final long CLASS_ID = 0x3832CC837AB77BFL;
     public static final int CLASS_VERSION = 1;
 
+    /**
+     * The hashes of the last hashed node with the same value as this node. Shared with copies, and replaced when the
+     * value is set.
+     */
+    private AtomicReference<HashedValue> lastHashed = new AtomicReference<>();
+
     /**
      * @deprecated Only exists for constructable registry as it works today. Remove ASAP!
      */
@@ -62,6 +74,7 @@ public class SingletonNode<T> extends PartialBinaryMerkleInternal implements Lab
     private SingletonNode(@NonNull final SingletonNode<T> other) {
         this.setLeft(other.getLeft().copy());
         this.setRight(other.getRight().copy());
+        this.lastHashed = other.lastHashed;
     }
 
     @Override
@@ -97,7 +110,50 @@ public class SingletonNode<T> extends PartialBinaryMerkleInternal implements Lab
         right.setValue(value);
         right.invalidateHash();
         invalidateHash();
+        lastHashed = new AtomicReference<>();
         // Log to transaction state log, what was written
         logSingletonWrite(getLabel(), value);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setHash(@Nullable final Hash hash) {
+        super.setHash(hash);
+        final StringLeaf left = getLeft();
+        final ValueLeaf<T> right = getRight();
+        if (hash != null && left != null && left.getHash() != null && right != null && right.getHash() != null) {
+            lastHashed.set(new HashedValue(right.getValue(), left.getHash(), right.getHash(), hash));
+        }
+    }
+
+    /**
+     * If this node is not hashed, but has the same value as the last hashed node it shares its hashes with, sets the
+     * hashes of this node and its children to the hashes of that node.
+     *
+     * @return true if this node is hashed after the call
+     */
+    public boolean reuseHashIfUnchanged() {
+        if (getHash() != null) {
+            return true;
+        }
+        final HashedValue hashed = lastHashed.get();
+        final StringLeaf left = getLeft();
+        final ValueLeaf<T> right = getRight();
+        // values are immutable, so the same instance always has the same hash
+        if (hashed == null || left == null || right == null || right.getValue() != hashed.value()) {
+            return false;
+        }
+        left.setHash(hashed.labelHash());
+        right.setHash(hashed.valueHash());
+        setHash(hashed.hash());
+        return true;
+    }
+
+    /**
+     * The hashes of a node and its children, and the value they were computed for.
+     */
+    private record HashedValue(
+            @Nullable Object value, @NonNull Hash labelHash, @NonNull Hash valueHash, @NonNull Hash hash) {}
 }
@@ -40,6 +40,8 @@ public class ValueLeaf<T> extends PartialMerkleLeaf implements MerkleLeaf {
     @Deprecated(forRemoval = true)
     public static final long CLASS_ID = 0x65A48B28C563D72EL;
 
+    public static final int CLASS_VERSION = 1;
+
     private final long classId;
     private final Codec<T> codec;
     /** The actual value. For example, it could be an Account or SmartContract. */
@@ -98,7 +100,7 @@ public class ValueLeaf<T> extends PartialMerkleLeaf implements MerkleLeaf {
     /** {@inheritDoc} */
     @Override
     public int getVersion() {
-        return 1;
+        return CLASS_VERSION;
     }
 
     /** {@inheritDoc} */
@@ -71,6 +71,12 @@ public interface MigrationContext {
      */
     long newEntityNum();
 
+    /**
+     * Returns the next entity number without consuming it.
+     * @return the next entity number
+     */
+    long peekAtNewEntityNum();
+
     /**
      * Copies and releases the underlying on-disk state for the given key. If this is not called
      * periodically during a large migration, the underlying {@code VirtualMap} will grow too large
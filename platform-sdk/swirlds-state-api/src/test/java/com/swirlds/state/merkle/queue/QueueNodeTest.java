@@ -17,9 +17,16 @@
 package com.swirlds.state.merkle.queue;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.fcqueue.FCQueue;
+import com.swirlds.fcqueue.OffHeapFCQueue;
 import com.swirlds.state.test.fixtures.merkle.MerkleTestBase;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class QueueNodeTest extends MerkleTestBase {
@@ -39,4 +46,64 @@ class QueueNodeTest extends MerkleTestBase {
         final var node = new QueueNode<>();
         assertEquals(0x990FF87AD2691DCL, node.getClassId());
     }
+
+    @Test
+    void offHeapQueueHasSameElementsAndHashAsHeapQueue() {
+        final var heapNode = newQueueNode(false);
+        final var offHeapNode = newQueueNode(true);
+        assertInstanceOf(OffHeapFCQueue.class, offHeapNode.getRight());
+        for (final var fruit : List.of(APPLE, BANANA, CHERRY)) {
+            heapNode.add(fruit);
+            offHeapNode.add(fruit);
+        }
+        assertEquals(APPLE, offHeapNode.remove());
+        heapNode.remove();
+
+        assertEquals(BANANA, offHeapNode.peek());
+        assertEquals(List.of(BANANA, CHERRY), toList(offHeapNode));
+        assertEquals(queueHash(heapNode), queueHash(offHeapNode));
+    }
+
+    @Test
+    void heapQueueIsMigratedOnFirstModification() {
+        final var source = newQueueNode(false);
+        source.add(APPLE);
+        source.add(BANANA);
+        // simulates a node keeping queues off-heap that was deserialized from a state with a heap queue
+        final var node = newQueueNode(true);
+        node.setRight(source.getRight().copy());
+
+        assertEquals(APPLE, node.peek());
+        assertInstanceOf(FCQueue.class, node.getRight());
+        node.add(CHERRY);
+        node.remove();
+
+        assertInstanceOf(OffHeapFCQueue.class, node.getRight());
+        assertEquals(List.of(BANANA, CHERRY), toList(node));
+        final var expected = newQueueNode(false);
+        expected.add(BANANA);
+        expected.add(CHERRY);
+        assertEquals(queueHash(expected), queueHash(node));
+    }
+
+    private QueueNode<String> newQueueNode(final boolean offHeap) {
+        return new QueueNode<>(
+                FIRST_SERVICE,
+                FRUIT_STATE_KEY,
+                queueNodeClassId(FRUIT_STATE_KEY),
+                singletonClassId(FRUIT_STATE_KEY),
+                STRING_CODEC,
+                offHeap);
+    }
+
+    private static Hash queueHash(final QueueNode<String> node) {
+        final MerkleNode queue = node.getRight();
+        return queue.getHash();
+    }
+
+    private static List<String> toList(final QueueNode<String> node) {
+        final List<String> list = new ArrayList<>();
+        node.iterator().forEachRemaining(list::add);
+        return list;
+    }
 }
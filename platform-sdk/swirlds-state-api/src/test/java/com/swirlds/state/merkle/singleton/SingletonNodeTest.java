@@ -56,4 +56,34 @@ class SingletonNodeTest extends MerkleTestBase {
         assertEquals(newValue, node.getValue().value());
         assertNull(node.getRight().getHash());
     }
+
+    @Test
+    public void testUnmodifiedCopyReusesHash() {
+        final Hash hash = hashChildrenAndNode();
+        final SingletonNode<ProtoString> copy = node.copy();
+
+        assertTrue(copy.reuseHashIfUnchanged());
+        assertSame(hash, copy.getHash());
+        assertSame(node.getLeft().getHash(), copy.getLeft().getHash());
+        assertSame(node.getRight().getHash(), copy.getRight().getHash());
+    }
+
+    @Test
+    public void testModifiedCopyDoesNotReuseHash() {
+        hashChildrenAndNode();
+        final SingletonNode<ProtoString> copy = node.copy();
+        copy.setValue(ProtoString.newBuilder().value(randomString(7)).build());
+
+        assertFalse(copy.reuseHashIfUnchanged());
+        assertNull(copy.getHash());
+    }
+
+    private Hash hashChildrenAndNode() {
+        // emulate hashing the whole subtree
+        node.getLeft().setHash(new Hash(DigestType.SHA_384));
+        node.getRight().setHash(new Hash(DigestType.SHA_384));
+        final Hash hash = new Hash(DigestType.SHA_384);
+        node.setHash(hash);
+        return hash;
+    }
 }
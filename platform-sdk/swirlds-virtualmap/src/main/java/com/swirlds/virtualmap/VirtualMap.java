@@ -47,6 +47,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 
 /**
  * A {@link MerkleInternal} node that virtualizes all of its children, such that the child nodes
@@ -339,7 +340,39 @@ public final class VirtualMap<K extends VirtualKey, V extends VirtualValue> exte
     @Override
     public void deserialize(final SerializableDataInputStream in, final Path inputDirectory, final int version)
             throws IOException {
+        final Path inputFile = readInputFile(in, inputDirectory, version);
+        loadFromFile(inputFile);
+        if (version < ClassVersion.REHASH_LEAVES) {
+            root.fullLeafRehashIfNecessary();
+        }
+    }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The loader reads the {@code .vmap} file and restores the data source. The children are attached to this map by
+     * the returned action.
+     */
+    @Override
+    public Callable<Runnable> deserializeDeferred(
+            final SerializableDataInputStream in, final Path inputDirectory, final int version) throws IOException {
+        final Path inputFile = readInputFile(in, inputDirectory, version);
+        return () -> {
+            final LoadedChildren loaded = readFile(inputFile);
+            return () -> {
+                setLoadedChildren(loaded);
+                if (version < ClassVersion.REHASH_LEAVES) {
+                    root.fullLeafRehashIfNecessary();
+                }
+            };
+        };
+    }
+
+    /**
+     * Reads the name of the {@code .vmap} file from the stream.
+     */
+    private static Path readInputFile(
+            final SerializableDataInputStream in, final Path inputDirectory, final int version) throws IOException {
         if (version == ClassVersion.ORIGINAL) {
             // Read and discard the hash that is in the stream at this position
             in.readSerializable();
@@ -347,11 +380,7 @@ public final class VirtualMap<K extends VirtualKey, V extends VirtualValue> exte
 
         final int fileNameLengthInBytes = in.readInt();
         final String inputFileName = in.readNormalisedString(fileNameLengthInBytes);
-        final Path inputFile = inputDirectory.resolve(inputFileName);
-        loadFromFile(inputFile);
-        if (version < ClassVersion.REHASH_LEAVES) {
-            root.fullLeafRehashIfNecessary();
-        }
+        return inputDirectory.resolve(inputFileName);
     }
 
     /**
@@ -364,6 +393,19 @@ public final class VirtualMap<K extends VirtualKey, V extends VirtualValue> exte
      * 		For problems.
      */
     public void loadFromFile(final Path inputFile) throws IOException {
+        setLoadedChildren(readFile(inputFile));
+    }
+
+    /**
+     * The children of a virtual map read from a {@code .vmap} file, not yet attached to the map.
+     */
+    private record LoadedChildren<K extends VirtualKey, V extends VirtualValue>(
+            VirtualMapState state, VirtualRootNode<K, V> root) {}
+
+    /**
+     * Reads the children of this map from a {@code .vmap} file without modifying this map.
+     */
+    private LoadedChildren<K, V> readFile(final Path inputFile) throws IOException {
         final ValueReference<VirtualMapState> virtualMapState = new ValueReference<>();
         final ValueReference<VirtualRootNode<K, V>> virtualRootNode = new ValueReference<>();
 
@@ -376,8 +418,12 @@ public final class VirtualMap<K extends VirtualKey, V extends VirtualValue> exte
                     return null;
                 });
 
-        state = virtualMapState.getValue();
-        root = virtualRootNode.getValue();
+        return new LoadedChildren<>(virtualMapState.getValue(), virtualRootNode.getValue());
+    }
+
+    private void setLoadedChildren(final LoadedChildren<K, V> loaded) {
+        state = loaded.state();
+        root = loaded.root();
         addDeserializedChildren(List.of(state, root), getVersion());
     }
 
@@ -22,7 +22,9 @@ import static com.swirlds.virtualmap.internal.Path.ROOT_PATH;
 
 import com.swirlds.common.config.singleton.ConfigurationHolder;
 import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.CryptographyException;
 import com.swirlds.common.crypto.CryptographyHolder;
+import com.swirlds.common.crypto.DigestType;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.crypto.HashBuilder;
 import com.swirlds.common.wiring.tasks.AbstractTask;
@@ -34,6 +36,10 @@ import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
 import com.swirlds.virtualmap.internal.Path;
 import com.swirlds.virtualmap.internal.merkle.VirtualInternalNode;
 import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -63,10 +69,55 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
     private static final Logger logger = LogManager.getLogger(VirtualHasher.class);
 
     /**
-     * This thread-local gets a HashBuilder that can be used for hashing on a per-thread basis.
+     * Bytes hashed before child hashes for the root node: class ID and serialization version, in
+     * the same (little endian) order as {@link HashBuilder#update(long)} and {@link HashBuilder#update(int)}.
      */
-    private static final ThreadLocal<HashBuilder> HASH_BUILDER_THREAD_LOCAL =
-            ThreadLocal.withInitial(() -> new HashBuilder(Cryptography.DEFAULT_DIGEST_TYPE));
+    private static final byte[] ROOT_HASH_PREFIX =
+            hashPrefix(VirtualRootNode.CLASS_ID, VirtualRootNode.ClassVersion.CURRENT_VERSION);
+
+    /**
+     * Bytes hashed before child hashes for internal nodes, see {@link #ROOT_HASH_PREFIX}.
+     */
+    private static final byte[] INTERNAL_HASH_PREFIX =
+            hashPrefix(VirtualInternalNode.CLASS_ID, VirtualInternalNode.SERIALIZATION_VERSION);
+
+    /**
+     * This thread-local gets a message digest that can be used for hashing internal nodes on a per-thread basis.
+     */
+    private static final ThreadLocal<NodeDigest> NODE_DIGEST_THREAD_LOCAL =
+            ThreadLocal.withInitial(() -> new NodeDigest(Cryptography.DEFAULT_DIGEST_TYPE));
+
+    /**
+     * A per-thread message digest for internal node hashes. Each hash gets its own array of exactly
+     * the digest length, so a hash that is kept around does not retain any other memory.
+     */
+    private static final class NodeDigest {
+        private final DigestType digestType;
+        private final MessageDigest digest;
+
+        NodeDigest(final DigestType digestType) {
+            this.digestType = digestType;
+            try {
+                this.digest = MessageDigest.getInstance(digestType.algorithmName());
+            } catch (final NoSuchAlgorithmException e) {
+                throw new CryptographyException(e, EXCEPTION);
+            }
+        }
+
+        Hash hash(final byte[] prefix, final Hash left, final Hash right) {
+            digest.update(prefix);
+            left.getBytes().writeTo(digest);
+            right.getBytes().writeTo(digest);
+            return new Hash(digest.digest(), digestType);
+        }
+    }
+
+    private static byte[] hashPrefix(final long classId, final int version) {
+        final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putLong(classId);
+        buffer.putInt(version);
+        return buffer.array();
+    }
 
     /**
      * A function to look up clean hashes by path during hashing. This function is stored in
@@ -254,17 +305,8 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
         }
 
         static Hash hash(final long path, final Hash left, final Hash right) {
-            final long classId = path == ROOT_PATH ? VirtualRootNode.CLASS_ID : VirtualInternalNode.CLASS_ID;
-            final int serId = path == ROOT_PATH
-                    ? VirtualRootNode.ClassVersion.CURRENT_VERSION
-                    : VirtualInternalNode.SERIALIZATION_VERSION;
-            final HashBuilder builder = HASH_BUILDER_THREAD_LOCAL.get();
-            builder.reset();
-            builder.update(classId);
-            builder.update(serId);
-            builder.update(left);
-            builder.update(right);
-            return builder.build();
+            final byte[] prefix = path == ROOT_PATH ? ROOT_HASH_PREFIX : INTERNAL_HASH_PREFIX;
+            return NODE_DIGEST_THREAD_LOCAL.get().hash(prefix, left, right);
         }
 
         private int getIndexInOut() {
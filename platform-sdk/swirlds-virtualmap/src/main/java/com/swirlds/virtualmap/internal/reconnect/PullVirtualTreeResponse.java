@@ -18,9 +18,14 @@ package com.swirlds.virtualmap.internal.reconnect;
 
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.SelfSerializable;
+import com.swirlds.common.io.exceptions.MerkleSerializationException;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Used during the synchronization protocol to send data needed to reconstruct a single virtual node.
@@ -54,14 +59,24 @@ public class PullVirtualTreeResponse implements SelfSerializable {
     // in the old learner virtual tree
     private Hash learnerHash;
 
+    // Virtual node hash on the teacher side. Only used on the teacher side, may be loaded by
+    // a loader thread, see load()
     private Hash teacherHash;
 
+    // Leaf record to send, if the node is a dirty leaf and the record has been loaded ahead of
+    // serialization. Only used on the teacher side
+    private VirtualLeafRecord leafRecord;
+
+    // Completes when the teacher side data for this response is loaded. Only used on the teacher side
+    private final CompletableFuture<Void> loaded;
+
     /**
      * Zero-arg constructor for constructable registry.
      */
     public PullVirtualTreeResponse() {
         teacherView = null;
         learnerView = null;
+        loaded = null;
     }
 
     /**
@@ -79,6 +94,22 @@ public class PullVirtualTreeResponse implements SelfSerializable {
         assert learnerHash != null;
         this.teacherHash = teacherHash;
         // teacherHash may be null (in case the tree is empty)
+        this.loaded = CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * This constructor is used by the teacher to create new responses, which data is loaded later
+     * using {@link #load()}, possibly on a different thread. Such responses may be queued for
+     * serialization before they are loaded, serialization waits until loading is complete.
+     */
+    public PullVirtualTreeResponse(
+            final TeacherPullVirtualTreeView teacherView, final long path, final Hash learnerHash) {
+        this.teacherView = teacherView;
+        this.learnerView = null;
+        this.path = path;
+        this.learnerHash = learnerHash;
+        assert learnerHash != null;
+        this.loaded = new CompletableFuture<>();
     }
 
     /**
@@ -90,18 +121,59 @@ public class PullVirtualTreeResponse implements SelfSerializable {
     public PullVirtualTreeResponse(final LearnerPullVirtualTreeView learnerTreeView) {
         this.teacherView = null;
         this.learnerView = learnerTreeView;
+        this.loaded = null;
+    }
+
+    /**
+     * Loads the teacher hash for this response's path and, if the node is a dirty leaf, the leaf
+     * record to send. Used on the teacher side only, for responses created without a teacher hash.
+     * If loading fails, the error is rethrown when the response is serialized.
+     */
+    public void load() {
+        assert teacherView != null;
+        try {
+            final Hash hash = teacherView.loadHash(path);
+            // The only valid scenario, when teacherHash may be null, is the empty tree
+            if ((hash == null) && (path != 0)) {
+                throw new MerkleSerializationException(
+                        "Cannot load node hash (bad request from learner?), path = " + path);
+            }
+            teacherHash = hash;
+            if (teacherView.isLeafRecordNeeded(path, isClean())) {
+                leafRecord = teacherView.loadLeafRecord(path);
+            }
+            loaded.complete(null);
+        } catch (final Exception e) {
+            loaded.completeExceptionally(e);
+        }
+    }
+
+    private boolean isClean() {
+        return (teacherHash == null) || teacherHash.equals(learnerHash);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @SuppressWarnings("unchecked")
     public void serialize(final SerializableDataOutputStream out) throws IOException {
         assert teacherView != null;
+        try {
+            loaded.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for node data, path = " + path);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw new IOException("Failed to load node data, path = " + path, e.getCause());
+        }
         out.writeLong(path);
-        final boolean isClean = (teacherHash == null) || teacherHash.equals(learnerHash);
+        final boolean isClean = isClean();
         out.write(isClean ? 0 : 1);
-        teacherView.writeNode(out, path, isClean);
+        teacherView.writeNode(out, path, isClean, leafRecord);
     }
 
     /**
@@ -30,6 +30,8 @@ import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.common.utility.throttle.RateLimiter;
 import com.swirlds.virtualmap.internal.Path;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -39,6 +41,12 @@ import org.apache.logging.log4j.Logger;
  * streams serialize objects to the underlying output streams in a separate thread. This is
  * where the provided hash from the learner is compared with the corresponding hash on the
  * teacher.
+ *
+ * <p>If configured with more than one loader thread, node hashes and leaf records are loaded
+ * by a pool of loader tasks running in the same work group. Responses are still registered in
+ * the async output stream in request order, so the stream waits for each response to be loaded
+ * before serializing it. This way disk reads for many nodes are in flight at the same time,
+ * while the protocol stays the same.
  */
 public class TeacherPullVirtualTreeReceiveTask {
 
@@ -46,6 +54,13 @@ public class TeacherPullVirtualTreeReceiveTask {
 
     private static final String NAME = "reconnect-teacher-receiver";
 
+    private static final String LOADER_NAME = "reconnect-teacher-loader";
+
+    /**
+     * A marker put to the load queue to stop loader tasks.
+     */
+    private static final PullVirtualTreeResponse NO_MORE_RESPONSES = new PullVirtualTreeResponse();
+
     private final StandardWorkGroup workGroup;
     private final SerializableDataInputStream in;
     private final AsyncOutputStream<PullVirtualTreeResponse> out;
@@ -54,6 +69,12 @@ public class TeacherPullVirtualTreeReceiveTask {
     private final RateLimiter rateLimiter;
     private final int sleepNanos;
 
+    // Number of loader tasks, or zero if nodes are loaded on this task's thread
+    private final int loaderCount;
+
+    // Responses to load by loader tasks. Null if there are no loader tasks
+    private final BlockingQueue<PullVirtualTreeResponse> loadQueue;
+
     /**
      * Create new thread that will send data lessons and queries for a subtree.
      *
@@ -84,15 +105,46 @@ public class TeacherPullVirtualTreeReceiveTask {
             rateLimiter = null;
             sleepNanos = -1;
         }
+
+        final int loaderThreads = reconnectConfig.teacherPullLoaderThreads();
+        if (loaderThreads > 1) {
+            loaderCount = loaderThreads;
+            loadQueue = new LinkedBlockingQueue<>();
+        } else {
+            loaderCount = 0;
+            loadQueue = null;
+        }
     }
 
     /**
      * Start the thread that sends lessons and queries to the learner.
      */
     void exec() {
+        for (int i = 0; i < loaderCount; i++) {
+            workGroup.execute(LOADER_NAME, this::runLoader);
+        }
         workGroup.execute(NAME, this::run);
     }
 
+    /**
+     * Loader tasks take responses from the load queue and load their data, until {@link
+     * #NO_MORE_RESPONSES} is met.
+     */
+    private void runLoader() {
+        try {
+            while (true) {
+                final PullVirtualTreeResponse response = loadQueue.take();
+                if (response == NO_MORE_RESPONSES) {
+                    break;
+                }
+                response.load();
+            }
+        } catch (final InterruptedException ex) {
+            logger.warn(RECONNECT.getMarker(), "Teacher's loader task is interrupted");
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * Enforce the rate limit.
      *
@@ -122,14 +174,21 @@ public class TeacherPullVirtualTreeReceiveTask {
                 }
                 final long path = request.getPath();
                 final Hash learnerHash = request.getHash();
-                final Hash teacherHash = view.loadHash(path);
-                // The only valid scenario, when teacherHash may be null, is the empty tree
-                if ((teacherHash == null) && (path != 0)) {
-                    throw new MerkleSerializationException(
-                            "Cannot load node hash (bad request from learner?), path = " + path);
+                final PullVirtualTreeResponse response;
+                if (loadQueue != null) {
+                    // Node data is loaded by one of the loader tasks. The async output thread waits
+                    // for it before serializing the response
+                    response = new PullVirtualTreeResponse(view, path, learnerHash);
+                    loadQueue.put(response);
+                } else {
+                    final Hash teacherHash = view.loadHash(path);
+                    // The only valid scenario, when teacherHash may be null, is the empty tree
+                    if ((teacherHash == null) && (path != 0)) {
+                        throw new MerkleSerializationException(
+                                "Cannot load node hash (bad request from learner?), path = " + path);
+                    }
+                    response = new PullVirtualTreeResponse(view, path, learnerHash, teacherHash);
                 }
-                final PullVirtualTreeResponse response =
-                        new PullVirtualTreeResponse(view, path, learnerHash, teacherHash);
                 // All real work is done in the async output thread. This call just registers a response
                 // and returns immediately
                 out.sendAsync(response);
@@ -140,6 +199,10 @@ public class TeacherPullVirtualTreeReceiveTask {
             Thread.currentThread().interrupt();
         } catch (final Exception ex) {
             throw new MerkleSynchronizationException("Exception in the teacher's receiving task", ex);
+        } finally {
+            for (int i = 0; i < loaderCount; i++) {
+                loadQueue.add(NO_MORE_RESPONSES);
+            }
         }
     }
 }
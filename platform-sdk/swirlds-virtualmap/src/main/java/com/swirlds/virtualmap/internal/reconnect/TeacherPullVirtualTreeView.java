@@ -34,6 +34,7 @@ import com.swirlds.common.threading.manager.ThreadManager;
 import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.virtualmap.VirtualKey;
 import com.swirlds.virtualmap.VirtualValue;
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
 import com.swirlds.virtualmap.internal.RecordAccessor;
 import com.swirlds.virtualmap.internal.VirtualStateAccessor;
 import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
@@ -126,7 +127,7 @@ public final class TeacherPullVirtualTreeView<K extends VirtualKey, V extends Vi
         teacherReceiveTask.exec();
     }
 
-    private boolean isLeaf(final long path) {
+    boolean isLeaf(final long path) {
         return (path >= reconnectState.getFirstLeafPath()) && (path <= reconnectState.getLastLeafPath());
     }
 
@@ -142,20 +143,46 @@ public final class TeacherPullVirtualTreeView<K extends VirtualKey, V extends Vi
      * @param out the output stream
      * @param path the virtual path
      * @param isClean indicates if the virtual node on the learner side matches what's on the teacher
+     * @param leafRecord the leaf record at the path, if already loaded, or null to load it here if needed
      * @throws IOException if an I/O error occurs
      */
-    public void writeNode(final SerializableDataOutputStream out, final long path, final boolean isClean)
+    public void writeNode(
+            final SerializableDataOutputStream out,
+            final long path,
+            final boolean isClean,
+            final VirtualLeafRecord<K, V> leafRecord)
             throws IOException {
         checkValidNode(path, reconnectState);
         if (path == 0) {
             out.writeLong(reconnectState.getFirstLeafPath());
             out.writeLong(reconnectState.getLastLeafPath());
         }
-        if (!isClean && isLeaf(path) && (reconnectState.getFirstLeafPath() > 0)) {
-            out.writeSerializable(records.findLeafRecord(path, false), false);
+        if (isLeafRecordNeeded(path, isClean)) {
+            out.writeSerializable(leafRecord != null ? leafRecord : loadLeafRecord(path), false);
         }
     }
 
+    /**
+     * Checks if a leaf record needs to be sent for the given path.
+     *
+     * @param path the virtual path
+     * @param isClean indicates if the virtual node on the learner side matches what's on the teacher
+     * @return true if the node is a dirty leaf, and its record must be sent to the learner
+     */
+    boolean isLeafRecordNeeded(final long path, final boolean isClean) {
+        return !isClean && isLeaf(path) && (reconnectState.getFirstLeafPath() > 0);
+    }
+
+    /**
+     * Read the virtual leaf record identified by a given path.
+     *
+     * @param path the virtual path
+     * @return the virtual leaf record
+     */
+    VirtualLeafRecord<K, V> loadLeafRecord(final long path) {
+        return records.findLeafRecord(path, false);
+    }
+
     /**
      * Read the virtual node hash identified by a given path.
      *
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.swirlds.common.config.singleton.ConfigurationHolder;
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
+import com.swirlds.common.merkle.synchronization.config.ReconnectConfig_;
+import com.swirlds.common.test.fixtures.merkle.util.MerkleTestUtils;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.config.VirtualMapConfig_;
+import com.swirlds.virtualmap.config.VirtualMapReconnectMode;
+import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
+import com.swirlds.virtualmap.test.fixtures.InMemoryBuilder;
+import com.swirlds.virtualmap.test.fixtures.TestKey;
+import com.swirlds.virtualmap.test.fixtures.TestKeySerializer;
+import com.swirlds.virtualmap.test.fixtures.TestValue;
+import com.swirlds.virtualmap.test.fixtures.TestValueSerializer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@DisplayName("Virtual Map Pull Reconnect Test")
+class VirtualMapPullReconnectTest extends VirtualMapReconnectTestBase {
+
+    private static final int TEACHER_SIZE = 10_000;
+
+    @Override
+    protected VirtualDataSourceBuilder createBuilder() {
+        return new InMemoryBuilder();
+    }
+
+    @AfterEach
+    void resetConfiguration() {
+        ConfigurationHolder.getInstance().reset();
+    }
+
+    @ParameterizedTest
+    @MethodSource("providePullModes")
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Pull reconnect with parallel teacher loaders produces the teacher's tree")
+    void pullReconnectMatchesTeacher(final String reconnectMode, final int loaderThreads) throws Exception {
+        // Virtual root nodes read the reconnect mode when they are created
+        ConfigurationHolder.getInstance()
+                .setConfiguration(new TestConfigBuilder()
+                        .withValue(VirtualMapConfig_.RECONNECT_MODE, reconnectMode)
+                        .getOrCreateConfig());
+        final ReconnectConfig pullReconnectConfig = new TestConfigBuilder()
+                .withValue(ReconnectConfig_.ASYNC_STREAM_TIMEOUT, "5s")
+                .withValue(ReconnectConfig_.TEACHER_PULL_LOADER_THREADS, loaderThreads)
+                .getOrCreateConfig()
+                .getConfigData(ReconnectConfig.class);
+
+        final VirtualMap<TestKey, TestValue> teacher =
+                new VirtualMap<>("Teacher", TestKeySerializer.INSTANCE, TestValueSerializer.INSTANCE, createBuilder());
+        final VirtualMap<TestKey, TestValue> learner =
+                new VirtualMap<>("Learner", TestKeySerializer.INSTANCE, TestValueSerializer.INSTANCE, createBuilder());
+        for (int i = 0; i < TEACHER_SIZE; i++) {
+            teacher.put(new TestKey(i), new TestValue(i));
+        }
+        // The learner shares half of the teacher's keys, with different values, and has keys the teacher doesn't
+        for (int i = TEACHER_SIZE / 2; i < TEACHER_SIZE * 3 / 2; i++) {
+            learner.put(new TestKey(i), new TestValue(i + 1));
+        }
+
+        final MerkleInternal teacherTree = createTreeForMap(teacher);
+        final VirtualMap<TestKey, TestValue> copy = teacher.copy();
+        final MerkleInternal learnerTree = createTreeForMap(learner);
+        try {
+            final MerkleNode reconnected =
+                    MerkleTestUtils.hashAndTestSynchronization(learnerTree, teacherTree, pullReconnectConfig);
+            try {
+                assertEquals(teacherTree.getHash(), reconnected.getHash(), "Learner tree should match the teacher's");
+                final VirtualMap<TestKey, TestValue> reconnectedMap =
+                        MerkleTestUtils.getNodeInTree(reconnected, 1, 3).cast();
+                assertEquals(TEACHER_SIZE, reconnectedMap.size(), "Learner map should have the teacher's size");
+                for (int i = 0; i < TEACHER_SIZE; i++) {
+                    assertEquals(new TestValue(i), reconnectedMap.get(new TestKey(i)), "Wrong value for key " + i);
+                }
+            } finally {
+                reconnected.release();
+            }
+        } finally {
+            teacherTree.release();
+            learnerTree.release();
+            copy.release();
+        }
+    }
+
+    static Stream<Arguments> providePullModes() {
+        return Stream.of(
+                Arguments.of(VirtualMapReconnectMode.PULL_TOP_TO_BOTTOM, 1),
+                Arguments.of(VirtualMapReconnectMode.PULL_TOP_TO_BOTTOM, 4),
+                Arguments.of(VirtualMapReconnectMode.PULL_TWO_PHASE_PESSIMISTIC, 4));
+    }
+}